@@ -0,0 +1,175 @@
+package software.amazon.connect.common;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side token buckets, one per key (the invoker uses instance and API), whose rate adapts to the quota the
+ * service actually enforces: halved on a throttle and raised additively, by about {@value #INCREASE_PER_SECOND}
+ * requests per second for each second of successful calls. Throttles within a second of a decrease are ignored, as
+ * concurrent callers tend to be throttled together and one burst should halve the rate once.
+ *
+ * A bucket does not limit anything until its key is first throttled, so resources that never hit the quota pay
+ * nothing. From then on callers wait for a token, for at most {@link #MAX_WAIT_NANOS}, before calling. The limiter
+ * is meant to be held in a static field so it learns across the invocations a Lambda container serves.
+ */
+public final class AdaptiveRateLimiter {
+
+    static final double MIN_RATE = 0.5;
+    static final double MAX_RATE = 100;
+    static final double DECREASE_FACTOR = 0.5;
+    static final double INCREASE_PER_SECOND = 0.5;
+    static final long MAX_WAIT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+    private final LongConsumer sleeper;
+
+    public AdaptiveRateLimiter() {
+        this(System::nanoTime, AdaptiveRateLimiter::sleep);
+    }
+
+    AdaptiveRateLimiter(final LongSupplier nanoClock, final LongConsumer sleeper) {
+        this.nanoClock = nanoClock;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Blocks until a call for {@code key} may be made, or for {@link #MAX_WAIT_NANOS} if that comes first.
+     */
+    public void acquire(final String key) {
+        final long waitNanos = bucket(key).reserve(nanoClock.getAsLong());
+        if (waitNanos > 0) {
+            sleeper.accept(Math.min(waitNanos, MAX_WAIT_NANOS));
+        }
+    }
+
+    /**
+     * Takes a token for a call for {@code key} only if one is available now, for calls that are worth making only
+     * without waiting.
+     *
+     * @return whether the call may be made
+     */
+    public boolean tryAcquire(final String key) {
+        return bucket(key).tryTake(nanoClock.getAsLong());
+    }
+
+    public void onSuccess(final String key) {
+        bucket(key).increase();
+    }
+
+    public void onThrottle(final String key) {
+        bucket(key).decrease(nanoClock.getAsLong());
+    }
+
+    /**
+     * @return the current rate for {@code key} in requests per second, infinite until it is first throttled
+     */
+    public double getRate(final String key) {
+        return bucket(key).rate();
+    }
+
+    private Bucket bucket(final String key) {
+        return buckets.computeIfAbsent(key, k -> new Bucket(nanoClock.getAsLong()));
+    }
+
+    private static void sleep(final long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Bucket {
+
+        private boolean limiting;
+        private double rate = Double.POSITIVE_INFINITY;
+        private double tokens;
+        private long lastRefillNanos;
+        private long lastDecreaseNanos;
+        private long windowStartNanos;
+        private int windowCount;
+        private int previousWindowCount;
+
+        private Bucket(final long now) {
+            this.windowStartNanos = now;
+        }
+
+        /**
+         * Takes a token, going into debt when there is none, and returns how long the caller must wait for it.
+         */
+        private synchronized long reserve(final long now) {
+            count(now);
+            if (!limiting) {
+                return 0;
+            }
+            refill(now);
+            tokens -= 1;
+            return tokens >= 0 ? 0 : (long) (-tokens / rate * WINDOW_NANOS);
+        }
+
+        /**
+         * Takes a token if there is one, never going into debt.
+         */
+        private synchronized boolean tryTake(final long now) {
+            if (limiting) {
+                refill(now);
+                if (tokens < 1) {
+                    return false;
+                }
+                tokens -= 1;
+            }
+            count(now);
+            return true;
+        }
+
+        private synchronized void increase() {
+            if (limiting) {
+                rate = Math.min(MAX_RATE, rate + INCREASE_PER_SECOND / rate);
+            }
+        }
+
+        /**
+         * The first throttle starts limiting at half the rate calls were being made at, at most {@link #MAX_RATE}; later
+         * ones halve the rate.
+         */
+        private synchronized void decrease(final long now) {
+            if (limiting) {
+                if (now - lastDecreaseNanos >= WINDOW_NANOS) {
+                    rate = Math.max(MIN_RATE, rate * DECREASE_FACTOR);
+                    lastDecreaseNanos = now;
+                }
+            } else {
+                limiting = true;
+                rate = Math.min(MAX_RATE, Math.max(MIN_RATE, Math.max(windowCount, previousWindowCount) * DECREASE_FACTOR));
+                tokens = 0;
+                lastRefillNanos = now;
+                lastDecreaseNanos = now;
+            }
+        }
+
+        private synchronized double rate() {
+            return rate;
+        }
+
+        private void refill(final long now) {
+            tokens = Math.min(Math.max(1, rate), tokens + (now - lastRefillNanos) * rate / WINDOW_NANOS);
+            lastRefillNanos = now;
+        }
+
+        private void count(final long now) {
+            if (now - windowStartNanos >= WINDOW_NANOS) {
+                previousWindowCount = now - windowStartNanos < 2 * WINDOW_NANOS ? windowCount : 0;
+                windowCount = 0;
+                windowStartNanos = now;
+            }
+            windowCount++;
+        }
+    }
+}
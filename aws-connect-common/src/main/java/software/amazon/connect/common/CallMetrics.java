@@ -0,0 +1,221 @@
+package software.amazon.connect.common;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Latency and call counters of every Connect operation {@link ConnectInvoker} calls, keyed by call graph name such as
+ * {@code connect::describeUser}. Each {@link Invocation} has its own, which {@link ConnectInvoker#finishInvocation}
+ * flushes when the invocation ends, as one CloudWatch Embedded Metric Format document per operation written through
+ * the handler's {@link Logger}, and CloudWatch extracts the metrics from the log line.
+ *
+ * A call's latency runs from the first wait on the rate limiter to the response or the surfaced failure, so it
+ * includes throttled attempts and the time spent slowed down. Latencies are kept in an HdrHistogram and emitted as
+ * up to {@value #MAX_EMITTED_VALUES} values, the most EMF takes for one metric; beyond that the values are the
+ * histogram's evenly spaced percentiles, so the distribution CloudWatch sees keeps its shape.
+ *
+ * Reads that joined an identical read already in flight are counted as {@code Coalesced}, not as calls, and the
+ * second calls of hedged reads as {@code Hedged}. Describe calls answered from the {@link DescribeCache} are counted
+ * as {@code CacheHits}, not as calls, and those it could not answer as {@code CacheMisses}.
+ */
+public final class CallMetrics {
+
+    public static final String NAMESPACE = "Connect/ResourceProviders";
+    public static final String OPERATION_DIMENSION = "Operation";
+
+    static final int MAX_EMITTED_VALUES = 100;
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final String CALL_GRAPH_PREFIX = "connect::";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final ConcurrentMap<String, Operation> operations = new ConcurrentHashMap<>();
+    private final LongSupplier epochMillis;
+
+    public CallMetrics() {
+        this(System::currentTimeMillis);
+    }
+
+    CallMetrics(final LongSupplier epochMillis) {
+        this.epochMillis = epochMillis;
+    }
+
+    /**
+     * @return the call graph name of {@code operation}, {@code DescribeUser} becoming {@code connect::describeUser}
+     */
+    static String callGraphName(final String operation) {
+        return CALL_GRAPH_PREFIX + Character.toLowerCase(operation.charAt(0)) + operation.substring(1);
+    }
+
+    Operation operation(final String callGraphName) {
+        return operations.computeIfAbsent(callGraphName, name -> new Operation());
+    }
+
+    /**
+     * Writes the calls recorded since the last flush and starts over. Nothing is written for operations not called
+     * in between.
+     */
+    public void flush(final Logger logger) {
+        final long timestamp = epochMillis.getAsLong();
+        for (final Map.Entry<String, Operation> entry : operations.entrySet()) {
+            final String document = entry.getValue().drain(entry.getKey(), timestamp);
+            if (document != null) {
+                logger.log(document);
+            }
+        }
+    }
+
+    /**
+     * The counters of one operation; they are updated by concurrent steps, see {@link UpdateMode#PARALLEL}.
+     */
+    static final class Operation {
+
+        private final Recorder latencyMicros = new Recorder(SIGNIFICANT_DIGITS);
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder throttles = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder responseBytes = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+        private final LongAdder hedged = new LongAdder();
+        private final LongAdder cacheHits = new LongAdder();
+        private final LongAdder cacheMisses = new LongAdder();
+        private Histogram recycled;
+
+        void attempt() {
+            attempts.increment();
+        }
+
+        void throttle() {
+            throttles.increment();
+        }
+
+        void coalesced() {
+            coalesced.increment();
+        }
+
+        void hedge() {
+            hedged.increment();
+        }
+
+        void cacheHit() {
+            cacheHits.increment();
+        }
+
+        void cacheMiss() {
+            cacheMisses.increment();
+        }
+
+        void responseBytes(final long bytes) {
+            responseBytes.add(bytes);
+        }
+
+        void call(final long latencyNanos, final boolean failed) {
+            latencyMicros.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+            calls.increment();
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        private synchronized String drain(final String callGraphName, final long timestamp) {
+            recycled = latencyMicros.getIntervalHistogram(recycled);
+            final long callCount = calls.sumThenReset();
+            final long attemptCount = attempts.sumThenReset();
+            final long throttleCount = throttles.sumThenReset();
+            final long errorCount = errors.sumThenReset();
+            final long bytes = responseBytes.sumThenReset();
+            final long coalescedCount = coalesced.sumThenReset();
+            final long hedgedCount = hedged.sumThenReset();
+            final long cacheHitCount = cacheHits.sumThenReset();
+            final long cacheMissCount = cacheMisses.sumThenReset();
+            if (callCount == 0 && coalescedCount == 0 && cacheHitCount == 0) {
+                return null;
+            }
+            final StringWriter writer = new StringWriter();
+            try (JsonGenerator json = JSON_FACTORY.createGenerator(writer)) {
+                json.writeStartObject();
+                json.writeObjectFieldStart("_aws");
+                json.writeNumberField("Timestamp", timestamp);
+                json.writeArrayFieldStart("CloudWatchMetrics");
+                json.writeStartObject();
+                json.writeStringField("Namespace", NAMESPACE);
+                json.writeArrayFieldStart("Dimensions");
+                json.writeStartArray();
+                json.writeString(OPERATION_DIMENSION);
+                json.writeEndArray();
+                json.writeEndArray();
+                json.writeArrayFieldStart("Metrics");
+                writeDefinition(json, "Latency", "Milliseconds");
+                writeDefinition(json, "Calls", "Count");
+                writeDefinition(json, "Attempts", "Count");
+                writeDefinition(json, "Throttles", "Count");
+                writeDefinition(json, "Errors", "Count");
+                writeDefinition(json, "ResponseBytes", "Bytes");
+                writeDefinition(json, "Coalesced", "Count");
+                writeDefinition(json, "Hedged", "Count");
+                writeDefinition(json, "CacheHits", "Count");
+                writeDefinition(json, "CacheMisses", "Count");
+                json.writeEndArray();
+                json.writeEndObject();
+                json.writeEndArray();
+                json.writeEndObject();
+                json.writeStringField(OPERATION_DIMENSION, callGraphName);
+                json.writeArrayFieldStart("Latency");
+                for (final double millis : latencyMillis(recycled)) {
+                    json.writeNumber(millis);
+                }
+                json.writeEndArray();
+                json.writeNumberField("Calls", callCount);
+                json.writeNumberField("Attempts", attemptCount);
+                json.writeNumberField("Throttles", throttleCount);
+                json.writeNumberField("Errors", errorCount);
+                json.writeNumberField("ResponseBytes", bytes);
+                json.writeNumberField("Coalesced", coalescedCount);
+                json.writeNumberField("Hedged", hedgedCount);
+                json.writeNumberField("CacheHits", cacheHitCount);
+                json.writeNumberField("CacheMisses", cacheMissCount);
+                json.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return writer.toString();
+        }
+    }
+
+    /**
+     * @return every recorded latency if there are at most {@value #MAX_EMITTED_VALUES}, otherwise that many evenly
+     * spaced percentiles
+     */
+    static List<Double> latencyMillis(final Histogram micros) {
+        final int count = (int) Math.min(micros.getTotalCount(), MAX_EMITTED_VALUES);
+        final List<Double> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final double percentile = 100.0 * (i + 0.5) / count;
+            values.add(micros.getValueAtPercentile(percentile) / 1000.0);
+        }
+        return values;
+    }
+
+    private static void writeDefinition(final JsonGenerator json, final String name, final String unit) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("Name", name);
+        json.writeStringField("Unit", unit);
+        json.writeEndObject();
+    }
+}
@@ -0,0 +1,58 @@
+package software.amazon.connect.common;
+
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link SdkHttpClient} that answers every request with {@code 200 OK} and a fixed JSON body without touching the
+ * network. Used to exercise the full client request path (marshalling, signing, unmarshalling) during warm-up and
+ * in benchmarks.
+ */
+public final class CannedResponseHttpClient implements SdkHttpClient {
+
+    private static final int HTTP_OK = 200;
+
+    private final byte[] responseBody;
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    public CannedResponseHttpClient(final String responseBody) {
+        this.responseBody = responseBody.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(final HttpExecuteRequest request) {
+        return new ExecutableHttpRequest() {
+            @Override
+            public HttpExecuteResponse call() {
+                requestCount.incrementAndGet();
+                return HttpExecuteResponse.builder()
+                        .response(SdkHttpResponse.builder()
+                                .statusCode(HTTP_OK)
+                                .putHeader("Content-Length", String.valueOf(responseBody.length))
+                                .build())
+                        .responseBody(AbortableInputStream.create(new ByteArrayInputStream(responseBody)))
+                        .build();
+            }
+
+            @Override
+            public void abort() {
+            }
+        };
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,145 @@
+package software.amazon.connect.common;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breakers, one per key (the invoker uses instance and API), that stop calls to an API that keeps failing
+ * with server errors, such as during a regional Connect degradation. Like the {@link AdaptiveRateLimiter}, it is
+ * meant to be held in a static field so it learns across the invocations a Lambda container serves.
+ *
+ * A circuit is closed until, within one {@link #WINDOW_NANOS} window, at least {@value #MIN_FAILURES} calls failed
+ * with a server error and they were at least half of the calls. It then opens: calls are refused for
+ * {@link #OPEN_NANOS}. After that it is half-open and lets one call through as a probe. A probe that succeeds closes
+ * the circuit; one that fails opens it again. A probe that never reports back is replaced after another
+ * {@link #OPEN_NANOS}.
+ *
+ * Client errors such as a missing resource mean the service is answering, so they count as successes. Throttles and
+ * calls cut short by the invocation's {@link Deadline} are not counted.
+ */
+public final class CircuitBreaker {
+
+    static final int MIN_FAILURES = 5;
+    static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(30);
+    static final long OPEN_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final ConcurrentMap<String, Circuit> circuits = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    public CircuitBreaker() {
+        this(System::nanoTime);
+    }
+
+    CircuitBreaker(final LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return 0 if a call for {@code key} may be made, otherwise the nanoseconds until the circuit lets a probe through
+     */
+    public long tryAcquire(final String key) {
+        return circuit(key).tryAcquire(nanoClock.getAsLong());
+    }
+
+    public void onSuccess(final String key) {
+        circuit(key).onSuccess(nanoClock.getAsLong());
+    }
+
+    public void onFailure(final String key) {
+        circuit(key).onFailure(nanoClock.getAsLong());
+    }
+
+    public boolean isOpen(final String key) {
+        return circuit(key).isOpen();
+    }
+
+    private Circuit circuit(final String key) {
+        return circuits.computeIfAbsent(key, k -> new Circuit(nanoClock.getAsLong()));
+    }
+
+    private enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final class Circuit {
+
+        private State state = State.CLOSED;
+        private long windowStartNanos;
+        private int calls;
+        private int failures;
+        private long openedAtNanos;
+        private long probeStartedAtNanos;
+
+        private Circuit(final long now) {
+            this.windowStartNanos = now;
+        }
+
+        private synchronized long tryAcquire(final long now) {
+            switch (state) {
+                case OPEN:
+                    if (now - openedAtNanos < OPEN_NANOS) {
+                        return OPEN_NANOS - (now - openedAtNanos);
+                    }
+                    state = State.HALF_OPEN;
+                    probeStartedAtNanos = now;
+                    return 0;
+                case HALF_OPEN:
+                    if (now - probeStartedAtNanos < OPEN_NANOS) {
+                        return OPEN_NANOS - (now - probeStartedAtNanos);
+                    }
+                    probeStartedAtNanos = now;
+                    return 0;
+                default:
+                    return 0;
+            }
+        }
+
+        private synchronized void onSuccess(final long now) {
+            if (state == State.HALF_OPEN) {
+                close(now);
+                return;
+            }
+            roll(now);
+            calls++;
+        }
+
+        private synchronized void onFailure(final long now) {
+            if (state == State.HALF_OPEN) {
+                open(now);
+                return;
+            }
+            roll(now);
+            calls++;
+            failures++;
+            if (state == State.CLOSED && failures >= MIN_FAILURES && 2 * failures >= calls) {
+                open(now);
+            }
+        }
+
+        private synchronized boolean isOpen() {
+            return state != State.CLOSED;
+        }
+
+        private void open(final long now) {
+            state = State.OPEN;
+            openedAtNanos = now;
+        }
+
+        private void close(final long now) {
+            state = State.CLOSED;
+            windowStartNanos = now;
+            calls = 0;
+            failures = 0;
+        }
+
+        private void roll(final long now) {
+            if (now - windowStartNanos >= WINDOW_NANOS) {
+                windowStartNanos = now;
+                calls = 0;
+                failures = 0;
+            }
+        }
+    }
+}
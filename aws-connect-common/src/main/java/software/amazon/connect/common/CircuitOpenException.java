@@ -0,0 +1,25 @@
+package software.amazon.connect.common;
+
+import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+
+/**
+ * Thrown by the {@link ConnectInvoker} instead of calling an API whose {@link CircuitBreaker} is open. Outside a step
+ * it fails the handler with the same error code the server errors that opened the circuit would have;
+ * {@link ConnectCallbackContext#runOnce} turns it into an in-progress event that comes back once the circuit lets a
+ * probe through.
+ */
+public class CircuitOpenException extends CfnServiceInternalErrorException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int retryAfterSeconds;
+
+    public CircuitOpenException(final String operation, final int retryAfterSeconds) {
+        super(operation);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,270 @@
+package software.amazon.connect.common;
+
+import java.util.Objects;
+
+/**
+ * Hand-written scanner for Amazon Connect ARNs of the form
+ * {@code arn:aws[-a-z0-9]*:connect:[-a-z0-9]*:[0-9]{12}:instance/[-a-zA-Z0-9]*[/<resource-type>/[-a-zA-Z0-9]*]}.
+ *
+ * Validation walks the string once without compiling a regex or allocating; a parsed {@link ConnectArn} only keeps
+ * segment offsets into the original string and materializes a segment when it is asked for.
+ */
+public final class ConnectArn {
+
+    private static final String ARN_PARTITION_PREFIX = "arn:aws";
+    private static final String CONNECT_SERVICE = ":connect:";
+    private static final String INSTANCE = "instance/";
+    private static final int ACCOUNT_ID_LENGTH = 12;
+    private static final int PARTITION_START = 4;
+    private static final int ARN_RESOURCE_FIELD = 5;
+    private static final int NOT_FOUND = -1;
+
+    private final String arn;
+    private final int partitionEnd;
+    private final int regionStart;
+    private final int regionEnd;
+    private final int accountIdStart;
+    private final int instanceIdStart;
+    private final int instanceIdEnd;
+    private final int resourceTypeStart;
+    private final int resourceTypeEnd;
+
+    private ConnectArn(final String arn, final int partitionEnd, final int regionEnd, final int instanceIdEnd,
+                       final int resourceTypeEnd) {
+        this.arn = arn;
+        this.partitionEnd = partitionEnd;
+        this.regionStart = partitionEnd + CONNECT_SERVICE.length();
+        this.regionEnd = regionEnd;
+        this.accountIdStart = regionEnd + 1;
+        this.instanceIdStart = accountIdStart + ACCOUNT_ID_LENGTH + 1 + INSTANCE.length();
+        this.instanceIdEnd = instanceIdEnd;
+        this.resourceTypeStart = resourceTypeEnd == NOT_FOUND ? NOT_FOUND : instanceIdEnd + 1;
+        this.resourceTypeEnd = resourceTypeEnd;
+    }
+
+    /**
+     * Parses an instance ARN or an ARN of a resource directly under an instance.
+     *
+     * @return the parsed ARN, or null when the value is not a well-formed Connect ARN
+     */
+    public static ConnectArn parse(final String arn) {
+        if (Objects.isNull(arn)) {
+            return null;
+        }
+        final int partitionEnd = scanPartition(arn);
+        final int regionEnd = partitionEnd == NOT_FOUND ? NOT_FOUND : scanRegion(arn, partitionEnd);
+        final int instanceIdEnd = regionEnd == NOT_FOUND ? NOT_FOUND : scanInstance(arn, regionEnd);
+        if (instanceIdEnd == NOT_FOUND) {
+            return null;
+        }
+        if (instanceIdEnd == arn.length()) {
+            return new ConnectArn(arn, partitionEnd, regionEnd, instanceIdEnd, NOT_FOUND);
+        }
+        final int resourceTypeEnd = scanResourceType(arn, instanceIdEnd + 1);
+        if (resourceTypeEnd == NOT_FOUND || !isResourceId(arn, resourceTypeEnd + 1)) {
+            return null;
+        }
+        return new ConnectArn(arn, partitionEnd, regionEnd, instanceIdEnd, resourceTypeEnd);
+    }
+
+    /**
+     * Equivalent to matching the ARN against the resource ARN pattern the resource schemas declare, e.g.
+     * {@code ^arn:aws[-a-z0-9]*:connect:[-a-z0-9]*:[0-9]{12}:instance/[-a-zA-Z0-9]*}{@code /agent/[-a-zA-Z0-9]*$}
+     * for a resource type of {@code agent}, without allocating.
+     */
+    public static boolean isValidResourceArn(final String arn, final String resourceType) {
+        if (Objects.isNull(arn)) {
+            return false;
+        }
+        final int instanceIdEnd = scanInstanceArn(arn);
+        if (instanceIdEnd == NOT_FOUND || instanceIdEnd == arn.length()) {
+            return false;
+        }
+        final int resourceTypeStart = instanceIdEnd + 1;
+        final int resourceTypeEnd = resourceTypeStart + resourceType.length();
+        return resourceTypeEnd < arn.length()
+                && arn.regionMatches(resourceTypeStart, resourceType, 0, resourceType.length())
+                && arn.charAt(resourceTypeEnd) == '/'
+                && isResourceId(arn, resourceTypeEnd + 1);
+    }
+
+    /**
+     * Equivalent to matching the ARN against
+     * {@code ^arn:aws[-a-z0-9]*:connect:[-a-z0-9]*:[0-9]{12}:instance/[-a-zA-Z0-9]*$}, without allocating.
+     */
+    public static boolean isValidInstanceArn(final String arn) {
+        return Objects.nonNull(arn) && scanInstanceArn(arn) == arn.length();
+    }
+
+    /**
+     * Returns the instance ARN prefix of a Connect resource ARN by splitting on the ARN field separators rather than
+     * searching for the resource keyword, so an instance id that happens to contain the keyword is handled. The
+     * segments are not validated; use {@link #isValidResourceArn} for that.
+     *
+     * @throws IllegalArgumentException when the value has no {@code instance/} resource segment
+     */
+    public static String getInstanceArn(final String arn) {
+        int separator = Objects.isNull(arn) ? NOT_FOUND : arn.indexOf(':');
+        for (int field = 1; field < ARN_RESOURCE_FIELD && separator != NOT_FOUND; field++) {
+            separator = arn.indexOf(':', separator + 1);
+        }
+        if (separator == NOT_FOUND || !arn.startsWith(INSTANCE, separator + 1)) {
+            throw new IllegalArgumentException(String.format("%s is not a valid Connect Arn", arn));
+        }
+        final int instanceIdEnd = arn.indexOf('/', separator + 1 + INSTANCE.length());
+        return instanceIdEnd == NOT_FOUND ? arn : arn.substring(0, instanceIdEnd);
+    }
+
+    public String partition() {
+        return arn.substring(PARTITION_START, partitionEnd);
+    }
+
+    public String region() {
+        return arn.substring(regionStart, regionEnd);
+    }
+
+    public String accountId() {
+        return arn.substring(accountIdStart, accountIdStart + ACCOUNT_ID_LENGTH);
+    }
+
+    public String instanceId() {
+        return arn.substring(instanceIdStart, instanceIdEnd);
+    }
+
+    public String instanceArn() {
+        return arn.substring(0, instanceIdEnd);
+    }
+
+    /**
+     * @return the resource type segment (e.g. {@code agent}), or null for an instance ARN
+     */
+    public String resourceType() {
+        return isInstanceArn() ? null : arn.substring(resourceTypeStart, resourceTypeEnd);
+    }
+
+    /**
+     * @return the resource id segment, or null for an instance ARN
+     */
+    public String resourceId() {
+        return isInstanceArn() ? null : arn.substring(resourceTypeEnd + 1);
+    }
+
+    public boolean isInstanceArn() {
+        return resourceTypeEnd == NOT_FOUND;
+    }
+
+    public boolean isResourceType(final String resourceType) {
+        return !isInstanceArn()
+                && resourceTypeEnd - resourceTypeStart == resourceType.length()
+                && arn.regionMatches(resourceTypeStart, resourceType, 0, resourceType.length());
+    }
+
+    @Override
+    public String toString() {
+        return arn;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof ConnectArn && arn.equals(((ConnectArn) other).arn);
+    }
+
+    @Override
+    public int hashCode() {
+        return arn.hashCode();
+    }
+
+    private static int scanInstanceArn(final String arn) {
+        final int partitionEnd = scanPartition(arn);
+        if (partitionEnd == NOT_FOUND) {
+            return NOT_FOUND;
+        }
+        final int regionEnd = scanRegion(arn, partitionEnd);
+        return regionEnd == NOT_FOUND ? NOT_FOUND : scanInstance(arn, regionEnd);
+    }
+
+    /**
+     * Scans {@code arn:aws[-a-z0-9]*} and returns the offset of the colon that terminates the partition.
+     */
+    private static int scanPartition(final String arn) {
+        if (!arn.startsWith(ARN_PARTITION_PREFIX)) {
+            return NOT_FOUND;
+        }
+        int index = ARN_PARTITION_PREFIX.length();
+        while (index < arn.length() && isLowerAlphanumericOrDash(arn.charAt(index))) {
+            index++;
+        }
+        return arn.startsWith(CONNECT_SERVICE, index) ? index : NOT_FOUND;
+    }
+
+    /**
+     * Scans {@code :connect:[-a-z0-9]*} and returns the offset of the colon that terminates the region.
+     */
+    private static int scanRegion(final String arn, final int partitionEnd) {
+        int index = partitionEnd + CONNECT_SERVICE.length();
+        while (index < arn.length() && isLowerAlphanumericOrDash(arn.charAt(index))) {
+            index++;
+        }
+        return index < arn.length() && arn.charAt(index) == ':' ? index : NOT_FOUND;
+    }
+
+    /**
+     * Scans {@code :[0-9]{12}:instance/[-a-zA-Z0-9]*} and returns the offset just past the instance id.
+     */
+    private static int scanInstance(final String arn, final int regionEnd) {
+        int index = regionEnd + 1;
+        final int accountIdEnd = index + ACCOUNT_ID_LENGTH;
+        if (accountIdEnd >= arn.length()) {
+            return NOT_FOUND;
+        }
+        for (; index < accountIdEnd; index++) {
+            if (!isDigit(arn.charAt(index))) {
+                return NOT_FOUND;
+            }
+        }
+        if (arn.charAt(index) != ':' || !arn.startsWith(INSTANCE, index + 1)) {
+            return NOT_FOUND;
+        }
+        index += 1 + INSTANCE.length();
+        while (index < arn.length() && isAlphanumericOrDash(arn.charAt(index))) {
+            index++;
+        }
+        return index == arn.length() || arn.charAt(index) == '/' ? index : NOT_FOUND;
+    }
+
+    /**
+     * Scans a non-empty {@code [-a-z]+} resource type followed by a slash and returns the offset of that slash.
+     */
+    private static int scanResourceType(final String arn, final int resourceTypeStart) {
+        int index = resourceTypeStart;
+        while (index < arn.length() && isLowerAlphaOrDash(arn.charAt(index))) {
+            index++;
+        }
+        return index > resourceTypeStart && index < arn.length() && arn.charAt(index) == '/' ? index : NOT_FOUND;
+    }
+
+    private static boolean isResourceId(final String arn, final int resourceIdStart) {
+        for (int index = resourceIdStart; index < arn.length(); index++) {
+            if (!isAlphanumericOrDash(arn.charAt(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLowerAlphaOrDash(final char c) {
+        return (c >= 'a' && c <= 'z') || c == '-';
+    }
+
+    private static boolean isLowerAlphanumericOrDash(final char c) {
+        return isLowerAlphaOrDash(c) || isDigit(c);
+    }
+
+    private static boolean isAlphanumericOrDash(final char c) {
+        return isLowerAlphanumericOrDash(c) || (c >= 'A' && c <= 'Z');
+    }
+}
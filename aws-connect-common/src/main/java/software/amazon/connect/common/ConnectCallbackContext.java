@@ -0,0 +1,102 @@
+package software.amazon.connect.common;
+
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Callback context of the resource providers. On top of the call graphs kept by {@link StdCallbackContext}, it
+ * records which steps of a multi-call handler have completed, so that a handler CloudFormation invokes again with
+ * this context resumes at the first step that has not.
+ *
+ * A step still throttled after {@link ConnectInvoker}'s own attempts does not fail the handler: it returns an
+ * in-progress event carrying this context, and CloudFormation invokes the handler again after
+ * {@value #THROTTLED_CALLBACK_DELAY_SECONDS} seconds. Steps that completed before the throttle are not repeated.
+ *
+ * A step that would run past the invocation's {@link Deadline} is treated the same way, except that CloudFormation
+ * invokes the handler again after {@value #DEADLINE_CALLBACK_DELAY_SECONDS} second: nothing is waiting to recover.
+ *
+ * A step refused by an open {@link CircuitBreaker} comes back once the circuit lets a probe through.
+ *
+ * Steps may complete concurrently, see {@link UpdateMode#PARALLEL}; the markers are kept in a concurrent set.
+ *
+ * A create handler waiting for its resource to become visible counts its polls and the seconds it has waited here,
+ * see {@link Stabilization}.
+ */
+@lombok.ToString
+@lombok.EqualsAndHashCode(callSuper = true)
+public class ConnectCallbackContext extends StdCallbackContext {
+
+    public static final int THROTTLED_CALLBACK_DELAY_SECONDS = 5;
+    public static final int DEADLINE_CALLBACK_DELAY_SECONDS = 1;
+
+    private final Set<String> completedSteps = ConcurrentHashMap.newKeySet();
+    private int stabilizationAttempts;
+    private int stabilizationSeconds;
+
+    public Set<String> getCompletedSteps() {
+        return completedSteps;
+    }
+
+    public void setCompletedSteps(final Set<String> completedSteps) {
+        this.completedSteps.clear();
+        if (completedSteps != null) {
+            this.completedSteps.addAll(completedSteps);
+        }
+    }
+
+    public int getStabilizationAttempts() {
+        return stabilizationAttempts;
+    }
+
+    public void setStabilizationAttempts(final int stabilizationAttempts) {
+        this.stabilizationAttempts = stabilizationAttempts;
+    }
+
+    public int getStabilizationSeconds() {
+        return stabilizationSeconds;
+    }
+
+    public void setStabilizationSeconds(final int stabilizationSeconds) {
+        this.stabilizationSeconds = stabilizationSeconds;
+    }
+
+    public boolean isStepCompleted(final String step) {
+        return completedSteps.contains(step);
+    }
+
+    /**
+     * Runs {@code body} unless {@code step} has completed in an earlier invocation with {@code context}, in which case
+     * {@code progress} is returned as is, and marks it completed when {@code body} returns an event the handler can
+     * continue from.
+     *
+     * @param context the handler's callback context, which is returned to CloudFormation; not a per-step context
+     */
+    public static <ModelT, CallbackT extends ConnectCallbackContext> ProgressEvent<ModelT, CallbackT> runOnce(
+            final CallbackT context,
+            final String step,
+            final ProgressEvent<ModelT, CallbackT> progress,
+            final Supplier<ProgressEvent<ModelT, CallbackT>> body) {
+        if (context.isStepCompleted(step)) {
+            return progress;
+        }
+        final ProgressEvent<ModelT, CallbackT> result;
+        try {
+            result = body.get();
+        } catch (CfnThrottlingException e) {
+            return ProgressEvent.defaultInProgressHandler(context, THROTTLED_CALLBACK_DELAY_SECONDS, progress.getResourceModel());
+        } catch (DeadlineExceededException e) {
+            return ProgressEvent.defaultInProgressHandler(context, DEADLINE_CALLBACK_DELAY_SECONDS, progress.getResourceModel());
+        } catch (CircuitOpenException e) {
+            return ProgressEvent.defaultInProgressHandler(context, e.getRetryAfterSeconds(), progress.getResourceModel());
+        }
+        if (result.canContinueProgress()) {
+            context.getCompletedSteps().add(step);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,74 @@
+package software.amazon.connect.common;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.backoff.EqualJitterBackoffStrategy;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.services.connect.ConnectAsyncClient;
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.cloudformation.LambdaWrapper;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConnectClientFactory {
+
+    private static final int NUMBER_OF_RETRIES = 3;
+
+    private static final RetryPolicy RETRY_POLICY =
+            RetryPolicy.builder()
+                    .numRetries(NUMBER_OF_RETRIES)
+                    .retryCondition(RetryCondition.defaultRetryCondition())
+                    .backoffStrategy(EqualJitterBackoffStrategy.builder()
+                            .baseDelay(Duration.ofSeconds(1))
+                            .maxBackoffTime(Duration.ofSeconds(5))
+                            .build())
+                    .build();
+
+    public static ConnectClient getClient() {
+        return getClient(Collections.emptyMap());
+    }
+
+    /**
+     * Builds a client that additionally sends {@code headers} with every request.
+     */
+    public static ConnectClient getClient(final Map<String, String> headers) {
+        return ConnectClient.builder()
+                .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .overrideConfiguration(overrideConfiguration(headers))
+                .build();
+    }
+
+    public static ConnectAsyncClient getAsyncClient() {
+        return getAsyncClient(Collections.emptyMap());
+    }
+
+    /**
+     * Builds a non-blocking client with the same retry policy as {@link #getClient(Map)}. Every async client shares
+     * one Netty HTTP client, whose event loop is only started when the first of them is built.
+     */
+    public static ConnectAsyncClient getAsyncClient(final Map<String, String> headers) {
+        return ConnectAsyncClient.builder()
+                .httpClient(AsyncHttpClient.INSTANCE)
+                .overrideConfiguration(overrideConfiguration(headers))
+                .build();
+    }
+
+    private static ClientOverrideConfiguration overrideConfiguration(final Map<String, String> headers) {
+        final ClientOverrideConfiguration.Builder overrideConfiguration = ClientOverrideConfiguration.builder()
+                .retryPolicy(RETRY_POLICY);
+        headers.forEach(overrideConfiguration::putHeader);
+        return overrideConfiguration.build();
+    }
+
+    private static final class AsyncHttpClient {
+
+        private static final SdkAsyncHttpClient INSTANCE = NettyNioAsyncHttpClient.builder().build();
+    }
+}
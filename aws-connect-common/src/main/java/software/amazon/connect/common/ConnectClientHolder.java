@@ -0,0 +1,36 @@
+package software.amazon.connect.common;
+
+import java.util.function.Supplier;
+
+/**
+ * Lazily builds a client, such as a {@code ConnectClient} or {@code ConnectAsyncClient}, once and hands the same
+ * instance out afterwards.
+ *
+ * {@code ProxyClient.client()} calls its supplier on every service call, so passing a client factory straight to
+ * {@code proxy.newProxy} builds a new client (SDK metadata, endpoint resolution, retry policy) for each call. Holding
+ * the client for the lifetime of the Lambda container pays that cost once per cold start instead.
+ */
+public final class ConnectClientHolder<ClientT> implements Supplier<ClientT> {
+
+    private final Supplier<ClientT> clientFactory;
+    private volatile ClientT client;
+
+    public ConnectClientHolder(final Supplier<ClientT> clientFactory) {
+        this.clientFactory = clientFactory;
+    }
+
+    @Override
+    public ClientT get() {
+        ClientT result = client;
+        if (result == null) {
+            synchronized (this) {
+                result = client;
+                if (result == null) {
+                    result = clientFactory.get();
+                    client = result;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,95 @@
+package software.amazon.connect.common;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.connect.model.ConnectException;
+import software.amazon.awssdk.services.connect.model.DuplicateResourceException;
+import software.amazon.awssdk.services.connect.model.InternalServiceException;
+import software.amazon.awssdk.services.connect.model.InvalidParameterException;
+import software.amazon.awssdk.services.connect.model.InvalidRequestException;
+import software.amazon.awssdk.services.connect.model.LimitExceededException;
+import software.amazon.awssdk.services.connect.model.ResourceNotFoundException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Maps exceptions thrown by the Connect client to the CloudFormation exception the handler should fail with.
+ *
+ * The mapping is a table from exception class to CloudFormation exception built once per resource provider, so a
+ * failed call costs a few hash lookups up the thrown exception's class hierarchy instead of an {@code instanceof}
+ * chain. A plain {@link ConnectException} is further mapped on its error code, which is how throttling and access
+ * denied surface from the service. Anything unmapped becomes a {@link CfnGeneralServiceException}.
+ */
+public final class ConnectExceptionTranslator {
+
+    private static final String ACCESS_DENIED_ERROR_CODE = "AccessDeniedException";
+    private static final String THROTTLING_ERROR_CODE = "TooManyRequestsException";
+
+    private static final Map<String, Function<Exception, BaseHandlerException>> ERROR_CODE_TABLE;
+
+    static {
+        final Map<String, Function<Exception, BaseHandlerException>> errorCodeTable = new HashMap<>();
+        errorCodeTable.put(THROTTLING_ERROR_CODE, CfnThrottlingException::new);
+        errorCodeTable.put(ACCESS_DENIED_ERROR_CODE, CfnAccessDeniedException::new);
+        ERROR_CODE_TABLE = Collections.unmodifiableMap(errorCodeTable);
+    }
+
+    private final Map<Class<?>, Function<Exception, BaseHandlerException>> exceptionTable;
+
+    private ConnectExceptionTranslator(final Map<Class<?>, Function<Exception, BaseHandlerException>> exceptionTable) {
+        this.exceptionTable = Collections.unmodifiableMap(exceptionTable);
+    }
+
+    /**
+     * Builds a translator for the common Connect exceptions, additionally mapping the given resource specific
+     * exceptions (e.g. {@code InvalidContactFlowException}) to {@link CfnInvalidRequestException}.
+     */
+    @SafeVarargs
+    public static ConnectExceptionTranslator withInvalidRequestExceptions(final Class<? extends ConnectException>... invalidRequestExceptions) {
+        final Map<Class<?>, Function<Exception, BaseHandlerException>> exceptionTable = new HashMap<>();
+        exceptionTable.put(ResourceNotFoundException.class, CfnNotFoundException::new);
+        exceptionTable.put(InvalidParameterException.class, CfnInvalidRequestException::new);
+        exceptionTable.put(InvalidRequestException.class, CfnInvalidRequestException::new);
+        exceptionTable.put(InternalServiceException.class, CfnServiceInternalErrorException::new);
+        exceptionTable.put(DuplicateResourceException.class, CfnAlreadyExistsException::new);
+        exceptionTable.put(LimitExceededException.class, CfnServiceLimitExceededException::new);
+        for (final Class<? extends ConnectException> invalidRequestException : invalidRequestExceptions) {
+            exceptionTable.put(invalidRequestException, CfnInvalidRequestException::new);
+        }
+        return new ConnectExceptionTranslator(exceptionTable);
+    }
+
+    /**
+     * Returns the CloudFormation exception for {@code ex}; callers are expected to throw it.
+     */
+    public BaseHandlerException translate(final Exception ex, final Logger logger) {
+        for (Class<?> type = ex.getClass(); type != Object.class; type = type.getSuperclass()) {
+            final Function<Exception, BaseHandlerException> mapping = exceptionTable.get(type);
+            if (mapping != null) {
+                return mapping.apply(ex);
+            }
+        }
+        if (ex instanceof ConnectException) {
+            final AwsErrorDetails errorDetails = ((ConnectException) ex).awsErrorDetails();
+            final Function<Exception, BaseHandlerException> mapping =
+                    errorDetails == null ? null : ERROR_CODE_TABLE.get(errorDetails.errorCode());
+            if (mapping != null) {
+                return mapping.apply(ex);
+            }
+        }
+        logger.log(String.format("Exception in handler:%s", ex));
+        return new CfnGeneralServiceException(ex);
+    }
+}
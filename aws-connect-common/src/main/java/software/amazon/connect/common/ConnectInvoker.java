@@ -0,0 +1,506 @@
+package software.amazon.connect.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.services.connect.ConnectAsyncClient;
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.awssdk.services.connect.model.InternalServiceException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * The single path every handler takes to call Connect: wait for the {@link AdaptiveRateLimiter}, inject credentials,
+ * make the call, and translate a failure into the CloudFormation exception for the resource provider.
+ *
+ * Calls are rate limited per instance and API. A call that is still throttled after the client's own retries is
+ * tried again through the limiter, which has slowed down in the meantime, up to {@value #MAX_THROTTLED_ATTEMPTS}
+ * attempts in all before the throttle is surfaced.
+ *
+ * Calls also go through a {@link CircuitBreaker} per instance and API. While an API keeps failing with server errors
+ * its circuit is open, and calls fail at once with a {@link CircuitOpenException} instead of being retried.
+ *
+ * Describe calls made through {@link #describe} are answered from the container's {@link DescribeCache} when it is
+ * enabled, from responses read with the same credentials; every other call that is not a read empties it. The
+ * operation's {@code CacheHits} and {@code CacheMisses} metrics count the Describe calls the cache did and did not
+ * answer.
+ *
+ * Concurrent identical reads, such as many threads describing the same user during a drift scan run in-process,
+ * share one call through a {@link SingleFlight}; the operation's {@code Coalesced} metric counts the reads that did.
+ * Reads are only identical when made with the same credentials, so a caller never gets a response its own
+ * credentials might not have been allowed to read. A write makes reads arriving after it start a call of their own.
+ * Only responses and errors from Connect are shared; when the shared call failed before reaching it, such as on its
+ * caller's deadline or an open circuit, the waiting reads make the call themselves.
+ *
+ * Reads may also be hedged, see {@link HedgingPolicy}; the operation's {@code Hedged} metric counts the second calls.
+ *
+ * Every call's latency, attempts and throttles are recorded in the {@link CallMetrics} of the calling thread's
+ * {@link Invocation}.
+ *
+ * Between {@link #startInvocation} and {@link #finishInvocation}, every attempt is bounded by the {@link Deadline} of
+ * the calling thread's {@link Invocation}: an attempt the deadline cannot cover is not started, and fails with a
+ * {@link DeadlineExceededException} so the handler can resume it later. An attempt that was started and ran out of
+ * time fails like any other error, since Connect may already have made the change it asked for, and making it again,
+ * such as creating a second resource, is not safe. Outside an invocation calls are not bounded.
+ *
+ * {@link #invokeAsync} takes the same path on a {@link ConnectAsyncClient}, so handlers can overlap independent calls
+ * without a thread each. Its future completes with the response or the translated CloudFormation exception. The
+ * invoker builds its async client on the first such call.
+ */
+public final class ConnectInvoker {
+
+    static final int MAX_THROTTLED_ATTEMPTS = 3;
+
+    private static final String INSTANCE_ID_FIELD = "InstanceId";
+    private static final String RESOURCE_ARN_FIELD = "resourceArn";
+    private static final String REQUEST_SUFFIX = "Request";
+    private static final String CONTENT_LENGTH_HEADER = "Content-Length";
+    private static final String[] READ_PREFIXES = {"Describe", "List", "Search", "Get"};
+    private static final ClassValue<String> OPERATION_NAMES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(final Class<?> type) {
+            final String name = type.getSimpleName();
+            return name.endsWith(REQUEST_SUFFIX) ? name.substring(0, name.length() - REQUEST_SUFFIX.length()) : name;
+        }
+    };
+    private static final ClassValue<String> CALL_GRAPH_NAMES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(final Class<?> type) {
+            return CallMetrics.callGraphName(OPERATION_NAMES.get(type));
+        }
+    };
+    private static final ClassValue<Boolean> READ_OPERATIONS = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            final String operation = OPERATION_NAMES.get(type);
+            for (final String prefix : READ_PREFIXES) {
+                if (operation.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    };
+
+    private final ConnectExceptionTranslator exceptionTranslator;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final DescribeCache describeCache;
+    private final HedgingPolicy hedgingPolicy;
+    private final CircuitBreaker circuitBreaker;
+    private final SingleFlight reads = new SingleFlight();
+    private final ConnectClientHolder<ConnectAsyncClient> asyncClient;
+
+    public ConnectInvoker(final ConnectExceptionTranslator exceptionTranslator) {
+        this(exceptionTranslator, new AdaptiveRateLimiter());
+    }
+
+    /**
+     * @param asyncClientFactory builds the client of {@link #invokeAsync(AwsRequest, AmazonWebServicesClientProxy,
+     *                           BiFunction, Logger)}, such as one sending extra headers
+     */
+    public ConnectInvoker(final ConnectExceptionTranslator exceptionTranslator,
+                          final Supplier<ConnectAsyncClient> asyncClientFactory) {
+        this(exceptionTranslator, new AdaptiveRateLimiter(), DescribeCache.fromEnvironment(), HedgingPolicy.fromEnvironment(),
+                new CircuitBreaker(), asyncClientFactory);
+    }
+
+    public ConnectInvoker(final ConnectExceptionTranslator exceptionTranslator, final AdaptiveRateLimiter rateLimiter) {
+        this(exceptionTranslator, rateLimiter, DescribeCache.fromEnvironment());
+    }
+
+    public ConnectInvoker(final ConnectExceptionTranslator exceptionTranslator, final AdaptiveRateLimiter rateLimiter,
+                          final DescribeCache describeCache) {
+        this(exceptionTranslator, rateLimiter, describeCache, HedgingPolicy.fromEnvironment());
+    }
+
+    public ConnectInvoker(final ConnectExceptionTranslator exceptionTranslator, final AdaptiveRateLimiter rateLimiter,
+                          final DescribeCache describeCache, final HedgingPolicy hedgingPolicy) {
+        this(exceptionTranslator, rateLimiter, describeCache, hedgingPolicy, new CircuitBreaker());
+    }
+
+    public ConnectInvoker(final ConnectExceptionTranslator exceptionTranslator, final AdaptiveRateLimiter rateLimiter,
+                          final DescribeCache describeCache, final HedgingPolicy hedgingPolicy,
+                          final CircuitBreaker circuitBreaker) {
+        this(exceptionTranslator, rateLimiter, describeCache, hedgingPolicy, circuitBreaker, ConnectClientFactory::getAsyncClient);
+    }
+
+    public ConnectInvoker(final ConnectExceptionTranslator exceptionTranslator, final AdaptiveRateLimiter rateLimiter,
+                          final DescribeCache describeCache, final HedgingPolicy hedgingPolicy,
+                          final CircuitBreaker circuitBreaker, final Supplier<ConnectAsyncClient> asyncClientFactory) {
+        this.exceptionTranslator = exceptionTranslator;
+        this.rateLimiter = rateLimiter;
+        this.describeCache = describeCache;
+        this.hedgingPolicy = hedgingPolicy;
+        this.circuitBreaker = circuitBreaker;
+        this.asyncClient = new ConnectClientHolder<>(asyncClientFactory);
+    }
+
+    public DescribeCache getDescribeCache() {
+        return describeCache;
+    }
+
+    /**
+     * Starts an {@link Invocation} on the calling thread, bounding its calls by a deadline measured from now, see
+     * {@link Deadline#fromEnvironment}.
+     */
+    public Invocation startInvocation() {
+        return startInvocation(Deadline.fromEnvironment());
+    }
+
+    public Invocation startInvocation(final Deadline deadline) {
+        return Invocation.start(deadline);
+    }
+
+    /**
+     * Ends the calling thread's {@link Invocation} and flushes its {@link CallMetrics} to {@code logger}.
+     */
+    public void finishInvocation(final Logger logger) {
+        final Invocation invocation = Invocation.current();
+        Invocation.finish();
+        invocation.getMetrics().flush(logger);
+    }
+
+    /**
+     * {@link #invoke} for a Describe call on {@code resourceArn}, whose response is small enough to count
+     * {@value DescribeCache#ENTRY_WEIGHT} in the cache.
+     */
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT describe(final RequestT request,
+                                                                                           final String resourceArn,
+                                                                                           final ProxyClient<ConnectClient> proxyClient,
+                                                                                           final Function<RequestT, ResponseT> requestFunction,
+                                                                                           final Logger logger) {
+        return describe(request, resourceArn, proxyClient, requestFunction, response -> DescribeCache.ENTRY_WEIGHT, logger);
+    }
+
+    /**
+     * {@link #invoke} for a Describe call on {@code resourceArn}, answered from the {@link DescribeCache} when it
+     * holds a live response read with the caller's credentials.
+     *
+     * @param weigher the response's weight in the cache, see {@link DescribeCache#textWeight}
+     */
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT describe(final RequestT request,
+                                                                                           final String resourceArn,
+                                                                                           final ProxyClient<ConnectClient> proxyClient,
+                                                                                           final Function<RequestT, ResponseT> requestFunction,
+                                                                                           final ToLongFunction<ResponseT> weigher,
+                                                                                           final Logger logger) {
+        if (!describeCache.isEnabled()) {
+            return invoke(request, proxyClient, requestFunction, logger);
+        }
+        return proxyClient.injectCredentialsAndInvokeV2(request, injected -> {
+            final CallMetrics.Operation operation = Invocation.current().getMetrics().operation(CALL_GRAPH_NAMES.get(request.getClass()));
+            final String key = callerIdentity(injected) + "|" + OPERATION_NAMES.get(request.getClass()) + "|" + resourceArn;
+            final long generation = describeCache.generation();
+            @SuppressWarnings("unchecked") final ResponseT cached = (ResponseT) describeCache.get(key);
+            if (cached != null) {
+                operation.cacheHit();
+                return cached;
+            }
+            operation.cacheMiss();
+            final ResponseT response = coalescedRead(request, injected, requestFunction, logger);
+            describeCache.put(key, response, weigher.applyAsLong(response), generation);
+            return response;
+        });
+    }
+
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT invoke(final RequestT request,
+                                                                                         final ProxyClient<ConnectClient> proxyClient,
+                                                                                         final Function<RequestT, ResponseT> requestFunction,
+                                                                                         final Logger logger) {
+        if (READ_OPERATIONS.get(request.getClass())) {
+            return proxyClient.injectCredentialsAndInvokeV2(request, injected -> coalescedRead(request, injected, requestFunction, logger));
+        }
+        try {
+            return rateLimitedInvoke(request, requestFunction, proxyClient::injectCredentialsAndInvokeV2, logger);
+        } finally {
+            reads.forgetAll();
+            describeCache.invalidateAll();
+        }
+    }
+
+    /**
+     * Makes {@code request} as {@code injected}, which carries the caller's credentials, sharing the call with
+     * identical reads in flight under the same credentials.
+     */
+    private <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT coalescedRead(final RequestT request,
+                                                                                                 final RequestT injected,
+                                                                                                 final Function<RequestT, ResponseT> requestFunction,
+                                                                                                 final Logger logger) {
+        return reads.execute(new CallerRequest(callerIdentity(injected), request),
+                Invocation.current().getMetrics().operation(CALL_GRAPH_NAMES.get(injected.getClass()))::coalesced,
+                ConnectInvoker::isServiceOutcome,
+                () -> rateLimitedInvoke(injected, requestFunction, (r, function) -> function.apply(r), logger));
+    }
+
+    /**
+     * @return whether {@code e} is the service's answer, which holds for every caller, rather than a failure decided
+     * by the caller's own deadline or an open circuit
+     */
+    private static boolean isServiceOutcome(final RuntimeException e) {
+        return e instanceof AwsServiceException || e.getCause() instanceof AwsServiceException;
+    }
+
+    /**
+     * @param send makes one attempt of the call, applying the function it is given to the request
+     */
+    private <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT rateLimitedInvoke(final RequestT request,
+                                                                                                     final Function<RequestT, ResponseT> requestFunction,
+                                                                                                     final BiFunction<RequestT, Function<RequestT, ResponseT>, ResponseT> send,
+                                                                                                     final Logger logger) {
+        final String limiterKey = limiterKey(request);
+        final String callGraphName = CALL_GRAPH_NAMES.get(request.getClass());
+        final Invocation invocation = Invocation.current();
+        final CallMetrics.Operation operation = invocation.getMetrics().operation(callGraphName);
+        final Deadline deadline = invocation.getDeadline();
+        final Function<RequestT, ResponseT> boundedFunction = bounded(deadline, requestFunction);
+        final boolean hedgeable = hedgingPolicy.isEnabled() && READ_OPERATIONS.get(request.getClass());
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            for (int attempt = 1; ; attempt++) {
+                checkCircuit(limiterKey, logger);
+                rateLimiter.acquire(limiterKey);
+                checkDeadline(deadline, limiterKey, logger);
+                operation.attempt();
+                try {
+                    final ResponseT response = hedgeable && Double.isInfinite(rateLimiter.getRate(limiterKey))
+                            ? hedgingPolicy.call(callGraphName, () -> send.apply(request, boundedFunction),
+                                    () -> rateLimiter.tryAcquire(limiterKey), operation::hedge)
+                            : send.apply(request, boundedFunction);
+                    rateLimiter.onSuccess(limiterKey);
+                    circuitBreaker.onSuccess(limiterKey);
+                    operation.responseBytes(contentLength(response));
+                    failed = false;
+                    return response;
+                } catch (Exception e) {
+                    logDeadlineTimeout(deadline, limiterKey, e, logger);
+                    if (!isThrottle(e)) {
+                        onFailure(limiterKey, e);
+                        throw exceptionTranslator.translate(e, logger);
+                    }
+                    rateLimiter.onThrottle(limiterKey);
+                    operation.throttle();
+                    if (attempt == MAX_THROTTLED_ATTEMPTS) {
+                        throw exceptionTranslator.translate(e, logger);
+                    }
+                    logger.log(String.format("Throttled calling %s, retrying at %.2f requests per second", limiterKey, rateLimiter.getRate(limiterKey)));
+                }
+            }
+        } finally {
+            operation.call(System.nanoTime() - start, failed);
+        }
+    }
+
+    /**
+     * @return {@code requestFunction} applied to the request bounded by {@code deadline}; the function itself when the
+     * deadline is not bounded
+     */
+    private static <RequestT extends AwsRequest, ResultT> Function<RequestT, ResultT> bounded(final Deadline deadline,
+                                                                                          final Function<RequestT, ResultT> requestFunction) {
+        return deadline.isBounded() ? request -> requestFunction.apply(deadline.bound(request)) : requestFunction;
+    }
+
+    private void checkCircuit(final String limiterKey, final Logger logger) {
+        final long waitNanos = circuitBreaker.tryAcquire(limiterKey);
+        if (waitNanos > 0) {
+            final int retryAfterSeconds = (int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            logger.log(String.format("Not calling %s while its circuit is open, retrying in %d seconds", limiterKey, retryAfterSeconds));
+            throw new CircuitOpenException(limiterKey, retryAfterSeconds);
+        }
+    }
+
+    /**
+     * Server errors count against the circuit; any other answer from the service shows it is up.
+     */
+    private void onFailure(final String limiterKey, final Throwable e) {
+        if (isServerError(e)) {
+            circuitBreaker.onFailure(limiterKey);
+        } else if (e instanceof AwsServiceException) {
+            circuitBreaker.onSuccess(limiterKey);
+        }
+    }
+
+    private static void checkDeadline(final Deadline deadline, final String limiterKey, final Logger logger) {
+        if (!deadline.canStartCall()) {
+            logger.log(String.format("Not calling %s with %d ms left before the invocation's deadline", limiterKey, deadline.callBudgetMillis()));
+            throw new DeadlineExceededException(limiterKey);
+        }
+    }
+
+    private static void logDeadlineTimeout(final Deadline deadline, final String limiterKey, final Throwable e, final Logger logger) {
+        if (deadline.isBounded() && e instanceof ApiCallTimeoutException) {
+            logger.log(String.format("Calling %s ran out of the invocation's time after it was sent, so it may have taken effect", limiterKey));
+        }
+    }
+
+    /**
+     * @return the response's {@code Content-Length}, or 0 when the response did not come over HTTP or does not say
+     */
+    private static long contentLength(final AwsResponse response) {
+        if (response == null || response.sdkHttpResponse() == null) {
+            return 0;
+        }
+        return response.sdkHttpResponse().firstMatchingHeader(CONTENT_LENGTH_HEADER)
+                .map(ConnectInvoker::parseLength)
+                .orElse(0L);
+    }
+
+    private static long parseLength(final String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * {@link #invokeAsync(AwsRequest, ProxyClient, Function, Logger)} on the invoker's own {@link ConnectAsyncClient},
+     * with the caller's credentials from {@code proxy}. The client, and the Netty HTTP client under it, is only built
+     * by the first such call, so containers whose handlers never make one do not pay for it.
+     *
+     * @param call the call on the client, such as {@code ConnectAsyncClient::describeUser}
+     */
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> invokeAsync(
+            final RequestT request,
+            final AmazonWebServicesClientProxy proxy,
+            final BiFunction<ConnectAsyncClient, RequestT, CompletableFuture<ResponseT>> call,
+            final Logger logger) {
+        final ProxyClient<ConnectAsyncClient> proxyClient = proxy.newProxy(asyncClient);
+        return invokeAsync(request, proxyClient, injected -> call.apply(proxyClient.client(), injected), logger);
+    }
+
+    /**
+     * {@link #invoke} on a non-blocking client. The first attempt waits for the rate limiter on the calling thread,
+     * which only blocks once the API has been throttled; attempts after a throttle wait on the common pool, never on
+     * the HTTP client's event loop.
+     */
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> invokeAsync(
+            final RequestT request,
+            final ProxyClient<ConnectAsyncClient> proxyClient,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction,
+            final Logger logger) {
+        final String limiterKey = limiterKey(request);
+        final Invocation invocation = Invocation.current();
+        final CallMetrics.Operation operation = invocation.getMetrics().operation(CALL_GRAPH_NAMES.get(request.getClass()));
+        final Deadline deadline = invocation.getDeadline();
+        final long start = System.nanoTime();
+        return attemptAsync(request, proxyClient, bounded(deadline, requestFunction), logger, limiterKey, operation, deadline, 1)
+                .whenComplete((response, failure) -> {
+                    operation.call(System.nanoTime() - start, failure != null);
+                    if (!READ_OPERATIONS.get(request.getClass())) {
+                        reads.forgetAll();
+                        describeCache.invalidateAll();
+                    }
+                });
+    }
+
+    private <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> attemptAsync(
+            final RequestT request,
+            final ProxyClient<ConnectAsyncClient> proxyClient,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction,
+            final Logger logger,
+            final String limiterKey,
+            final CallMetrics.Operation operation,
+            final Deadline deadline,
+            final int attempt) {
+        CompletableFuture<ResponseT> call;
+        try {
+            checkCircuit(limiterKey, logger);
+            rateLimiter.acquire(limiterKey);
+            checkDeadline(deadline, limiterKey, logger);
+            operation.attempt();
+            call = proxyClient.injectCredentialsAndInvokeV2Async(request, requestFunction);
+        } catch (Exception e) {
+            call = new CompletableFuture<>();
+            call.completeExceptionally(e);
+        }
+        return call.handle((response, failure) -> {
+            if (failure == null) {
+                rateLimiter.onSuccess(limiterKey);
+                circuitBreaker.onSuccess(limiterKey);
+                operation.responseBytes(contentLength(response));
+                return CompletableFuture.completedFuture(response);
+            }
+            final Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+            if (!(cause instanceof Exception) || cause instanceof BaseHandlerException) {
+                throw new CompletionException(cause);
+            }
+            logDeadlineTimeout(deadline, limiterKey, cause, logger);
+            if (!isThrottle((Exception) cause)) {
+                onFailure(limiterKey, cause);
+                throw exceptionTranslator.translate((Exception) cause, logger);
+            }
+            rateLimiter.onThrottle(limiterKey);
+            operation.throttle();
+            if (attempt == MAX_THROTTLED_ATTEMPTS) {
+                throw exceptionTranslator.translate((Exception) cause, logger);
+            }
+            logger.log(String.format("Throttled calling %s, retrying at %.2f requests per second", limiterKey, rateLimiter.getRate(limiterKey)));
+            return CompletableFuture.completedFuture(attempt).thenComposeAsync(previous ->
+                    attemptAsync(request, proxyClient, requestFunction, logger, limiterKey, operation, deadline, previous + 1));
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * Connect quotas apply per account and API, and an account's handlers almost always work against one instance, so
+     * the instance stands in for the account. Tagging APIs carry the instance in the resource ARN.
+     */
+    static String limiterKey(final AwsRequest request) {
+        final String operation = OPERATION_NAMES.get(request.getClass());
+        final String instance = request.getValueForField(INSTANCE_ID_FIELD, String.class)
+                .orElseGet(() -> request.getValueForField(RESOURCE_ARN_FIELD, String.class)
+                        .map(ConnectInvoker::instanceArnOrSelf)
+                        .orElse(""));
+        return instance + "|" + operation;
+    }
+
+    /**
+     * @return the access key id of the credentials injected into {@code request}, or an empty string if none were
+     */
+    static String callerIdentity(final AwsRequest request) {
+        return request.overrideConfiguration()
+                .flatMap(AwsRequestOverrideConfiguration::credentialsProvider)
+                .map(credentialsProvider -> credentialsProvider.resolveCredentials().accessKeyId())
+                .orElse("");
+    }
+
+    private static String instanceArnOrSelf(final String resourceArn) {
+        try {
+            return ConnectArn.getInstanceArn(resourceArn);
+        } catch (IllegalArgumentException e) {
+            return resourceArn;
+        }
+    }
+
+    private static boolean isThrottle(final Exception e) {
+        return e instanceof AwsServiceException && ((AwsServiceException) e).isThrottlingException();
+    }
+
+    private static boolean isServerError(final Throwable e) {
+        return e instanceof InternalServiceException
+                || e instanceof AwsServiceException && ((AwsServiceException) e).statusCode() >= 500;
+    }
+
+    /**
+     * What identical reads are recognized by: the request as the handler built it, whose equality covers the
+     * operation, the instance and the resource id, and the credentials it is made with. The injected request cannot
+     * serve as the key, as it holds a credentials provider that differs between proxies even for the same caller.
+     */
+    @lombok.Value
+    private static class CallerRequest {
+        String callerIdentity;
+        AwsRequest request;
+    }
+}
@@ -0,0 +1,86 @@
+package software.amazon.connect.common;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.lang.reflect.Type;
+import java.util.function.Consumer;
+
+/**
+ * Opt-in warm-up run from the handlers' static initializer, i.e. during the Lambda init phase, when the
+ * {@value #WARMUP_ENVIRONMENT_VARIABLE} environment variable or the {@value #WARMUP_PROPERTY} system property is set
+ * to {@code true}.
+ *
+ * It builds the shared client, drives the given Connect calls through a client backed by
+ * {@link CannedResponseHttpClient} so the operation marshallers, signer and response unmarshallers are loaded without
+ * a network round trip, and round-trips a model through the same {@link Serializer} the wrapper uses so Jackson has
+ * built its (de)serializers for the model classes before the first request arrives.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConnectWarmup {
+
+    public static final String WARMUP_ENVIRONMENT_VARIABLE = "CONNECT_HANDLER_WARMUP";
+    public static final String WARMUP_PROPERTY = "connect.handler.warmup";
+    public static final String WARMUP_ID = "warmup";
+
+    private static final String EMPTY_RESPONSE = "{}";
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getenv(WARMUP_ENVIRONMENT_VARIABLE)) || Boolean.getBoolean(WARMUP_PROPERTY);
+    }
+
+    /**
+     * {@link #warmUp} if the warm-up {@link #isEnabled is enabled}. Each handler's static initializer calls this with
+     * the calls its handlers make and an empty model.
+     */
+    public static void warmUpIfEnabled(final ConnectClientHolder<ConnectClient> clientHolder,
+                                       final Consumer<ConnectClient> calls,
+                                       final Object model) {
+        if (isEnabled()) {
+            warmUp(clientHolder, calls, model);
+        }
+    }
+
+    /**
+     * Never throws: a failed warm-up only means the first request pays for whatever was not loaded.
+     *
+     * @return {@code true} if every step completed
+     */
+    public static boolean warmUp(final ConnectClientHolder<ConnectClient> clientHolder,
+                                 final Consumer<ConnectClient> calls,
+                                 final Object model) {
+        try {
+            clientHolder.get();
+            try (ConnectClient cannedClient = ConnectClient.builder()
+                    .httpClient(new CannedResponseHttpClient(EMPTY_RESPONSE))
+                    .region(Region.US_EAST_1)
+                    .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(WARMUP_ID, WARMUP_ID)))
+                    .build()) {
+                calls.accept(cannedClient);
+            }
+            final Serializer serializer = new Serializer();
+            serializer.deserialize(serializer.serialize(model), typeOf(model.getClass()));
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return the reference the wrapper would pass for {@code modelClass}, which is never generic
+     */
+    private static <ModelT> TypeReference<ModelT> typeOf(final Class<?> modelClass) {
+        return new TypeReference<ModelT>() {
+            @Override
+            public Type getType() {
+                return modelClass;
+            }
+        };
+    }
+}
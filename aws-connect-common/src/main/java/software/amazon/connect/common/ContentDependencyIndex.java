@@ -0,0 +1,146 @@
+package software.amazon.connect.common;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reverse index of the references between contact flows and modules and the resources their {@code Content} names,
+ * built from an instance export one flow or module at a time. {@link #referrersOf} answers "which flows reference
+ * queue X" with one hash lookup, {@link #dependentsOf} gives the blast radius of changing a resource, and
+ * {@link #deploymentOrder} the order to deploy the indexed flows and modules in.
+ *
+ * References are extracted by {@link ContentReferences} outside the index's lock, so an export can be indexed from
+ * several threads. Answers are copies and do not change as the index does.
+ */
+public final class ContentDependencyIndex {
+
+    private final Map<String, Set<String>> references = new LinkedHashMap<>();
+    private final Map<String, Set<String>> referrers = new HashMap<>();
+
+    /**
+     * Indexes the references in {@code content}, replacing those previously indexed for {@code resourceArn}.
+     *
+     * @return {@code false}, leaving the index unchanged, if {@code content} is not well-formed JSON
+     */
+    public boolean put(final String resourceArn, final String content) {
+        final Set<String> contentReferences = ContentReferences.of(content);
+        if (contentReferences == null) {
+            return false;
+        }
+        replace(resourceArn, contentReferences);
+        return true;
+    }
+
+    public synchronized void remove(final String resourceArn) {
+        unlink(resourceArn, references.remove(resourceArn));
+    }
+
+    /**
+     * @return the ARNs {@code resourceArn}'s content references, empty if it is not indexed
+     */
+    public synchronized Set<String> referencesOf(final String resourceArn) {
+        return copy(references.get(resourceArn));
+    }
+
+    /**
+     * @return the indexed flows and modules whose content references {@code arn} directly
+     */
+    public synchronized Set<String> referrersOf(final String arn) {
+        return copy(referrers.get(arn));
+    }
+
+    /**
+     * @return the indexed flows and modules that reference {@code arn} directly or through other flows and modules,
+     * nearest first; {@code arn} itself is only included if it is part of a reference cycle
+     */
+    public synchronized Set<String> dependentsOf(final String arn) {
+        final Set<String> dependents = new LinkedHashSet<>();
+        final Deque<String> pending = new ArrayDeque<>(referrers.getOrDefault(arn, Collections.emptySet()));
+        while (!pending.isEmpty()) {
+            final String dependent = pending.poll();
+            if (dependents.add(dependent)) {
+                pending.addAll(referrers.getOrDefault(dependent, Collections.emptySet()));
+            }
+        }
+        return Collections.unmodifiableSet(dependents);
+    }
+
+    /**
+     * Orders the indexed flows and modules so that each comes after every other indexed one its content references.
+     * Flows that reference each other, such as two that transfer to one another, cannot be ordered; they follow the
+     * rest in the order they were first indexed.
+     */
+    public synchronized List<String> deploymentOrder() {
+        final Map<String, Integer> unresolved = new LinkedHashMap<>();
+        final Deque<String> ready = new ArrayDeque<>();
+        for (final Map.Entry<String, Set<String>> resource : references.entrySet()) {
+            int count = 0;
+            for (final String reference : resource.getValue()) {
+                if (references.containsKey(reference) && !reference.equals(resource.getKey())) {
+                    count++;
+                }
+            }
+            if (count == 0) {
+                ready.add(resource.getKey());
+            } else {
+                unresolved.put(resource.getKey(), count);
+            }
+        }
+        final List<String> order = new ArrayList<>(references.size());
+        while (!ready.isEmpty()) {
+            final String resource = ready.poll();
+            order.add(resource);
+            for (final String referrer : referrers.getOrDefault(resource, Collections.emptySet())) {
+                final Integer count = unresolved.get(referrer);
+                if (count == null || referrer.equals(resource)) {
+                    continue;
+                }
+                if (count == 1) {
+                    unresolved.remove(referrer);
+                    ready.add(referrer);
+                } else {
+                    unresolved.put(referrer, count - 1);
+                }
+            }
+        }
+        order.addAll(unresolved.keySet());
+        return Collections.unmodifiableList(order);
+    }
+
+    public synchronized int size() {
+        return references.size();
+    }
+
+    private synchronized void replace(final String resourceArn, final Set<String> contentReferences) {
+        unlink(resourceArn, references.put(resourceArn, contentReferences));
+        for (final String reference : contentReferences) {
+            referrers.computeIfAbsent(reference, arn -> new HashSet<>()).add(resourceArn);
+        }
+    }
+
+    private void unlink(final String resourceArn, final Set<String> previousReferences) {
+        if (previousReferences == null) {
+            return;
+        }
+        for (final String reference : previousReferences) {
+            final Set<String> referencedBy = referrers.get(reference);
+            referencedBy.remove(resourceArn);
+            if (referencedBy.isEmpty()) {
+                referrers.remove(reference);
+            }
+        }
+    }
+
+    private static Set<String> copy(final Set<String> arns) {
+        return arns == null ? Collections.emptySet() : Collections.unmodifiableSet(new LinkedHashSet<>(arns));
+    }
+}
@@ -0,0 +1,177 @@
+package software.amazon.connect.common;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * SHA-256 fingerprint of a JSON document, such as contact flow or module {@code Content}, that ignores whitespace,
+ * the order of object members and the spelling of numbers ({@code 1}, {@code 1.0} and {@code 1E0} are equal). Array
+ * order is kept.
+ *
+ * The document is read as a token stream, never as a tree: scalars and arrays are fed straight into their parent's
+ * digest, and an object is represented by the sorted digests of its members, so only one digest per member of the
+ * objects currently open is held in memory. Every value is written with a type tag and a length or count, so
+ * different documents cannot produce the same byte stream.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ContentFingerprint {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String ALGORITHM = "SHA-256";
+
+    private static final byte OBJECT = '{';
+    private static final byte ARRAY = '[';
+    private static final byte ARRAY_END = ']';
+    private static final byte STRING = 's';
+    private static final byte NUMBER = 'n';
+    private static final byte TRUE = 't';
+    private static final byte FALSE = 'f';
+    private static final byte NULL = 'z';
+
+    /**
+     * @return {@code true} if both are {@code null}, identical, or well-formed JSON with the same fingerprint
+     */
+    public static boolean isEquivalent(final String content, final String otherContent) {
+        if (Objects.equals(content, otherContent)) {
+            return true;
+        }
+        if (content == null || otherContent == null) {
+            return false;
+        }
+        final byte[] fingerprint = of(content);
+        return fingerprint != null && Arrays.equals(fingerprint, of(otherContent));
+    }
+
+    /**
+     * @return the fingerprint, or {@code null} if {@code content} is not a single well-formed JSON value
+     */
+    public static byte[] of(final String content) {
+        try (JsonParser parser = JSON_FACTORY.createParser(content)) {
+            final JsonToken first = parser.nextToken();
+            if (first == null) {
+                return null;
+            }
+            final Digests digests = new Digests();
+            final MessageDigest digest = digests.acquire();
+            digests.value(parser, first, digest);
+            return parser.nextToken() == null ? digest.digest() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Recycles the per-member digests for the length of one document.
+     */
+    private static final class Digests {
+
+        private final Deque<MessageDigest> free = new ArrayDeque<>();
+        private final byte[] lengthBuffer = new byte[Integer.BYTES];
+
+        private MessageDigest acquire() {
+            final MessageDigest digest = free.poll();
+            if (digest != null) {
+                return digest;
+            }
+            try {
+                return MessageDigest.getInstance(ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(ALGORITHM + " is not available", e);
+            }
+        }
+
+        private void value(final JsonParser parser, final JsonToken token, final MessageDigest sink) throws IOException {
+            switch (token) {
+                case START_OBJECT:
+                    object(parser, sink);
+                    break;
+                case START_ARRAY:
+                    sink.update(ARRAY);
+                    for (JsonToken element = parser.nextToken(); element != JsonToken.END_ARRAY; element = parser.nextToken()) {
+                        value(parser, element, sink);
+                    }
+                    sink.update(ARRAY_END);
+                    break;
+                case VALUE_STRING:
+                    text(sink, STRING, parser.getText());
+                    break;
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    text(sink, NUMBER, canonicalNumber(parser.getDecimalValue()));
+                    break;
+                case VALUE_TRUE:
+                    sink.update(TRUE);
+                    break;
+                case VALUE_FALSE:
+                    sink.update(FALSE);
+                    break;
+                case VALUE_NULL:
+                    sink.update(NULL);
+                    break;
+                default:
+                    throw new IOException("Unexpected token " + token);
+            }
+        }
+
+        private void object(final JsonParser parser, final MessageDigest sink) throws IOException {
+            final List<byte[]> members = new ArrayList<>();
+            for (JsonToken field = parser.nextToken(); field != JsonToken.END_OBJECT; field = parser.nextToken()) {
+                final MessageDigest member = acquire();
+                text(member, STRING, parser.currentName());
+                value(parser, parser.nextToken(), member);
+                members.add(member.digest());
+                free.push(member);
+            }
+            members.sort(ContentFingerprint::compareUnsigned);
+            sink.update(OBJECT);
+            length(sink, members.size());
+            for (final byte[] member : members) {
+                sink.update(member);
+            }
+        }
+
+        private void text(final MessageDigest sink, final byte tag, final String text) {
+            final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            sink.update(tag);
+            length(sink, bytes.length);
+            sink.update(bytes);
+        }
+
+        private void length(final MessageDigest sink, final int length) {
+            lengthBuffer[0] = (byte) (length >>> 24);
+            lengthBuffer[1] = (byte) (length >>> 16);
+            lengthBuffer[2] = (byte) (length >>> 8);
+            lengthBuffer[3] = (byte) length;
+            sink.update(lengthBuffer);
+        }
+    }
+
+    private static String canonicalNumber(final BigDecimal number) {
+        return number.signum() == 0 ? "0" : number.stripTrailingZeros().toString();
+    }
+
+    private static int compareUnsigned(final byte[] left, final byte[] right) {
+        for (int i = 0; i < left.length; i++) {
+            final int compare = Integer.compare(left[i] & 0xff, right[i] & 0xff);
+            if (compare != 0) {
+                return compare;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,137 @@
+package software.amazon.connect.common;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+/**
+ * Extracts the resources a contact flow or module references from its {@code Content}: every string value that is
+ * the ARN of a Connect resource under an instance (queues, prompts, flows, modules, hours of operation and so on) or
+ * of a Lambda function, qualified or not.
+ *
+ * Like {@link ContentFingerprint}, the document is read as a token stream, never as a tree. A string value is only
+ * materialized when it starts with {@code arn:}, so the greeting text and action identifiers that make up most of a
+ * flow are skipped without allocating.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ContentReferences {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String ARN_PREFIX = "arn:";
+    private static final String ARN_PARTITION_PREFIX = "arn:aws";
+    private static final String LAMBDA_SERVICE = ":lambda:";
+    private static final String FUNCTION = ":function:";
+    private static final int ACCOUNT_ID_LENGTH = 12;
+
+    private static final IntPredicate LOWER_ALPHANUMERIC_OR_DASH = c -> (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-';
+    private static final IntPredicate DIGIT = c -> c >= '0' && c <= '9';
+    private static final IntPredicate FUNCTION_NAME = c -> LOWER_ALPHANUMERIC_OR_DASH.test(c) || (c >= 'A' && c <= 'Z') || c == '_';
+    private static final IntPredicate QUALIFIER = c -> FUNCTION_NAME.test(c) || c == '$';
+
+    /**
+     * @return the referenced ARNs in the order they first appear, or {@code null} if {@code content} is not a single
+     * well-formed JSON value
+     */
+    public static Set<String> of(final String content) {
+        if (content == null) {
+            return null;
+        }
+        final Set<String> references = new LinkedHashSet<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(content)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return null;
+            }
+            int depth = 0;
+            do {
+                if (token.isStructStart()) {
+                    depth++;
+                } else if (token.isStructEnd()) {
+                    depth--;
+                } else if (token == JsonToken.VALUE_STRING && startsWithArn(parser)) {
+                    final String value = parser.getText();
+                    if (isReference(value)) {
+                        references.add(value);
+                    }
+                }
+                token = parser.nextToken();
+            } while (depth > 0);
+            return token == null ? references : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return whether {@code value} is the ARN of a Connect resource under an instance or of a Lambda function
+     */
+    public static boolean isReference(final String value) {
+        final ConnectArn connectArn = ConnectArn.parse(value);
+        return connectArn != null ? !connectArn.isInstanceArn() : isLambdaFunctionArn(value);
+    }
+
+    private static boolean startsWithArn(final JsonParser parser) throws IOException {
+        if (parser.getTextLength() < ARN_PREFIX.length()) {
+            return false;
+        }
+        final char[] text = parser.getTextCharacters();
+        final int offset = parser.getTextOffset();
+        for (int i = 0; i < ARN_PREFIX.length(); i++) {
+            if (text[offset + i] != ARN_PREFIX.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Equivalent to matching
+     * {@code ^arn:aws[-a-z0-9]*:lambda:[-a-z0-9]+:[0-9]{12}:function:[-a-zA-Z0-9_]+(:[-a-zA-Z0-9_$]+)?$}.
+     */
+    private static boolean isLambdaFunctionArn(final String arn) {
+        if (!arn.startsWith(ARN_PARTITION_PREFIX)) {
+            return false;
+        }
+        final int partitionEnd = scan(arn, ARN_PARTITION_PREFIX.length(), LOWER_ALPHANUMERIC_OR_DASH);
+        if (!arn.startsWith(LAMBDA_SERVICE, partitionEnd)) {
+            return false;
+        }
+        final int regionStart = partitionEnd + LAMBDA_SERVICE.length();
+        final int regionEnd = scan(arn, regionStart, LOWER_ALPHANUMERIC_OR_DASH);
+        if (regionEnd == regionStart || regionEnd == arn.length() || arn.charAt(regionEnd) != ':') {
+            return false;
+        }
+        final int accountIdEnd = regionEnd + 1 + ACCOUNT_ID_LENGTH;
+        if (scan(arn, regionEnd + 1, DIGIT) != accountIdEnd || !arn.startsWith(FUNCTION, accountIdEnd)) {
+            return false;
+        }
+        final int nameStart = accountIdEnd + FUNCTION.length();
+        final int nameEnd = scan(arn, nameStart, FUNCTION_NAME);
+        if (nameEnd == nameStart) {
+            return false;
+        }
+        if (nameEnd == arn.length()) {
+            return true;
+        }
+        return arn.charAt(nameEnd) == ':' && nameEnd + 1 < arn.length() && scan(arn, nameEnd + 1, QUALIFIER) == arn.length();
+    }
+
+    /**
+     * @return the offset of the first character at or after {@code start} that does not match, or the length
+     */
+    private static int scan(final String arn, final int start, final IntPredicate matches) {
+        int index = start;
+        while (index < arn.length() && matches.test(arn.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+}
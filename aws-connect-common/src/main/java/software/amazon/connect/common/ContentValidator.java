@@ -0,0 +1,189 @@
+package software.amazon.connect.common;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Checks contact flow {@code Content} before it is sent to Connect, so a broken flow fails the handler at once
+ * instead of after a round trip and a write. The content must be at most {@value #MAX_LENGTH} characters, counted
+ * as code points the way the resource schema's {@code maxLength} counts them; a single well-formed JSON object with
+ * {@code Version}, {@code StartAction} and {@code Actions}; and the start action and every {@code NextAction} of an
+ * action's {@code Transitions}, {@code Errors} and {@code Conditions} must be the {@code Identifier} of an action.
+ *
+ * Like {@link ContentFingerprint}, the document is read in one pass as a token stream, never as a tree. Only the
+ * action identifiers and transition targets are kept; everything else is skipped.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ContentValidator {
+
+    public static final int MAX_LENGTH = 256000;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String VERSION = "Version";
+    private static final String START_ACTION = "StartAction";
+    private static final String ACTIONS = "Actions";
+    private static final String IDENTIFIER = "Identifier";
+    private static final String TRANSITIONS = "Transitions";
+    private static final String NEXT_ACTION = "NextAction";
+    private static final String ERRORS = "Errors";
+    private static final String CONDITIONS = "Conditions";
+
+    /**
+     * @throws CfnInvalidRequestException naming the first problem found
+     */
+    public static void validate(final String content) {
+        if (content == null || content.isEmpty()) {
+            throw invalid("it is empty");
+        }
+        if (content.length() > MAX_LENGTH && content.codePointCount(0, content.length()) > MAX_LENGTH) {
+            throw invalid(String.format("it is longer than %d characters", MAX_LENGTH));
+        }
+        final Flow flow = new Flow();
+        try (JsonParser parser = JSON_FACTORY.createParser(content)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw invalid("it is not a JSON object");
+            }
+            flow.read(parser);
+            if (parser.nextToken() != null) {
+                throw invalid("it has more than one JSON value");
+            }
+        } catch (IOException e) {
+            throw invalid(String.format("it is not well-formed JSON: %s", e.getMessage()));
+        }
+        flow.check();
+    }
+
+    private static CfnInvalidRequestException invalid(final String reason) {
+        return new CfnInvalidRequestException(String.format("Contact flow Content is invalid: %s", reason));
+    }
+
+    /**
+     * What one pass over the document collects: the top-level keys seen, the action identifiers and the transition
+     * targets, in the order they appear.
+     */
+    private static final class Flow {
+
+        private final Set<String> topLevelKeys = new HashSet<>();
+        private final Set<String> identifiers = new HashSet<>();
+        private final Set<String> targets = new LinkedHashSet<>();
+        private String startAction;
+
+        private void read(final JsonParser parser) throws IOException {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String key = parser.currentName();
+                final JsonToken value = parser.nextToken();
+                topLevelKeys.add(key);
+                if (START_ACTION.equals(key)) {
+                    startAction = text(parser, value, START_ACTION);
+                } else if (ACTIONS.equals(key)) {
+                    expect(value, JsonToken.START_ARRAY, ACTIONS);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        action(parser);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        private void action(final JsonParser parser) throws IOException {
+            expect(parser.currentToken(), JsonToken.START_OBJECT, "Each action");
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String key = parser.currentName();
+                final JsonToken value = parser.nextToken();
+                if (IDENTIFIER.equals(key)) {
+                    identifiers.add(text(parser, value, IDENTIFIER));
+                } else if (TRANSITIONS.equals(key)) {
+                    transitions(parser, value);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        private void transitions(final JsonParser parser, final JsonToken value) throws IOException {
+            expect(value, JsonToken.START_OBJECT, TRANSITIONS);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String key = parser.currentName();
+                final JsonToken member = parser.nextToken();
+                if (NEXT_ACTION.equals(key)) {
+                    targets.add(text(parser, member, NEXT_ACTION));
+                } else if (ERRORS.equals(key) || CONDITIONS.equals(key)) {
+                    expect(member, JsonToken.START_ARRAY, key);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        branch(parser, key);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        private void branch(final JsonParser parser, final String kind) throws IOException {
+            expect(parser.currentToken(), JsonToken.START_OBJECT, "Each of " + kind);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String key = parser.currentName();
+                final JsonToken value = parser.nextToken();
+                if (NEXT_ACTION.equals(key)) {
+                    targets.add(text(parser, value, NEXT_ACTION));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        private void check() {
+            for (final String key : new String[]{VERSION, START_ACTION, ACTIONS}) {
+                if (!topLevelKeys.contains(key)) {
+                    throw invalid(String.format("%s is missing", key));
+                }
+            }
+            if (!identifiers.contains(startAction)) {
+                throw invalid(String.format("%s %s is not the Identifier of an action", START_ACTION, startAction));
+            }
+            final List<String> dangling = new ArrayList<>();
+            for (final String target : targets) {
+                if (!identifiers.contains(target)) {
+                    dangling.add(target);
+                }
+            }
+            if (!dangling.isEmpty()) {
+                throw invalid(String.format("%s %s is not the Identifier of an action", NEXT_ACTION, String.join(", ", dangling)));
+            }
+        }
+
+        private static String text(final JsonParser parser, final JsonToken value, final String name) throws IOException {
+            expect(value, JsonToken.VALUE_STRING, name);
+            return parser.getText();
+        }
+
+        private static void expect(final JsonToken actual, final JsonToken expected, final String name) {
+            if (actual != expected) {
+                throw invalid(String.format("%s must be %s", name, describe(expected)));
+            }
+        }
+
+        private static String describe(final JsonToken token) {
+            switch (token) {
+                case START_OBJECT:
+                    return "an object";
+                case START_ARRAY:
+                    return "an array";
+                default:
+                    return "a string";
+            }
+        }
+    }
+}
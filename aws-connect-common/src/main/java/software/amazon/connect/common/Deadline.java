@@ -0,0 +1,112 @@
+package software.amazon.connect.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * The time a handler invocation has left. A Lambda that runs into its timeout is killed and everything the invocation
+ * did since it last returned is lost, so the {@link ConnectInvoker} does not start a call the invocation could not
+ * wait out, and bounds every call it starts by the time that is left.
+ *
+ * The plugin does not hand the Lambda's remaining time to the handler, so the deadline is measured from the start of
+ * the invocation: {@value #DEFAULT_BUDGET_SECONDS} seconds, or the number of seconds in the
+ * {@value #BUDGET_ENVIRONMENT_VARIABLE} environment variable or the {@value #BUDGET_PROPERTY} system property.
+ * {@value #RESERVE_MILLIS} milliseconds of it are kept for returning the handler's event.
+ */
+public final class Deadline {
+
+    public static final String BUDGET_ENVIRONMENT_VARIABLE = "CONNECT_INVOCATION_BUDGET_SECONDS";
+    public static final String BUDGET_PROPERTY = "connect.invocation.budget.seconds";
+
+    /**
+     * A deadline that never passes and leaves requests as they are, for calls made outside a handler invocation.
+     */
+    public static final Deadline NONE = new Deadline(false, 0, System::nanoTime);
+
+    static final long DEFAULT_BUDGET_SECONDS = 60;
+    static final long RESERVE_MILLIS = 5_000;
+    static final long MIN_CALL_MILLIS = 1_000;
+
+    private final boolean bounded;
+    private final long expiresAtNanos;
+    private final LongSupplier nanoClock;
+
+    private Deadline(final boolean bounded, final long expiresAtNanos, final LongSupplier nanoClock) {
+        this.bounded = bounded;
+        this.expiresAtNanos = expiresAtNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    public static Deadline after(final Duration budget) {
+        return after(budget, System::nanoTime);
+    }
+
+    static Deadline after(final Duration budget, final LongSupplier nanoClock) {
+        return new Deadline(true, nanoClock.getAsLong() + budget.toNanos(), nanoClock);
+    }
+
+    /**
+     * @return a deadline {@value #DEFAULT_BUDGET_SECONDS} seconds from now, or as configured
+     */
+    public static Deadline fromEnvironment() {
+        final String property = System.getProperty(BUDGET_PROPERTY);
+        final String seconds = property != null ? property : System.getenv(BUDGET_ENVIRONMENT_VARIABLE);
+        return after(Duration.ofSeconds(parseSeconds(seconds)));
+    }
+
+    private static long parseSeconds(final String seconds) {
+        if (seconds == null) {
+            return DEFAULT_BUDGET_SECONDS;
+        }
+        try {
+            final long parsed = Long.parseLong(seconds.trim());
+            return parsed > 0 ? parsed : DEFAULT_BUDGET_SECONDS;
+        } catch (NumberFormatException e) {
+            return DEFAULT_BUDGET_SECONDS;
+        }
+    }
+
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    /**
+     * @return the milliseconds a call started now may take, which is negative once the reserve has been reached
+     */
+    public long callBudgetMillis() {
+        if (!bounded) {
+            return Long.MAX_VALUE;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(expiresAtNanos - nanoClock.getAsLong()) - RESERVE_MILLIS;
+    }
+
+    /**
+     * @return whether a call started now has at least {@value #MIN_CALL_MILLIS} milliseconds before the reserve
+     */
+    public boolean canStartCall() {
+        return callBudgetMillis() >= MIN_CALL_MILLIS;
+    }
+
+    /**
+     * @return {@code request} with its API call timeout, which covers the client's retries and their backoff, set to
+     * {@link #callBudgetMillis}; the request itself if the deadline is not bounded
+     */
+    @SuppressWarnings("unchecked")
+    public <RequestT extends AwsRequest> RequestT bound(final RequestT request) {
+        if (!bounded) {
+            return request;
+        }
+        final AwsRequestOverrideConfiguration.Builder overrideConfiguration = request.overrideConfiguration()
+                .map(AwsRequestOverrideConfiguration::toBuilder)
+                .orElseGet(AwsRequestOverrideConfiguration::builder);
+        return (RequestT) request.toBuilder()
+                .overrideConfiguration(overrideConfiguration
+                        .apiCallTimeout(Duration.ofMillis(Math.max(callBudgetMillis(), MIN_CALL_MILLIS)))
+                        .build())
+                .build();
+    }
+}
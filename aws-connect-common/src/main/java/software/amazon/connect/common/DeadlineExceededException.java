@@ -0,0 +1,18 @@
+package software.amazon.connect.common;
+
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+
+/**
+ * Thrown by the {@link ConnectInvoker} instead of starting a call the invocation's {@link Deadline} cannot cover.
+ * {@link ConnectCallbackContext#runOnce} turns it into an in-progress event, so the handler resumes at the same step
+ * in a fresh invocation. A call that was started and then ran out of time is not resumed and fails the handler.
+ */
+public class DeadlineExceededException extends BaseHandlerException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DeadlineExceededException(final String operation) {
+        super(String.format("Not enough time left in this invocation to call %s", operation), null, HandlerErrorCode.InternalFailure);
+    }
+}
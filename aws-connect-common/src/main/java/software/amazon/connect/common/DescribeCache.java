@@ -0,0 +1,148 @@
+package software.amazon.connect.common;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Opt-in cache of Describe responses for the life of a Lambda container, enabled when the
+ * {@value #CACHE_ENVIRONMENT_VARIABLE} environment variable or the {@value #CACHE_PROPERTY} system property is set to
+ * {@code true}. Drift detection and the read that follows an update describe the same resource several times within
+ * seconds; with the cache on, only the first of those calls reaches Connect.
+ *
+ * Entries are keyed by the caller's access key, operation and resource ARN, so a response is only returned to callers
+ * using the credentials it was read with. They live for {@link #DEFAULT_TTL_NANOS} and are evicted least recently
+ * used first once their total weight passes {@link #DEFAULT_MAX_WEIGHT}. A weight is an estimate in bytes: a response
+ * counts {@value #ENTRY_WEIGHT}, plus the size of any large text it carries such as contact flow content, so a few
+ * large flows cannot hold the function's memory. Any write made in the container empties the cache, and a response
+ * read while a write was in flight is not stored.
+ */
+public final class DescribeCache {
+
+    public static final String CACHE_ENVIRONMENT_VARIABLE = "CONNECT_DESCRIBE_CACHE";
+    public static final String CACHE_PROPERTY = "connect.describe.cache";
+    public static final long ENTRY_WEIGHT = 1024;
+
+    static final long DEFAULT_TTL_NANOS = TimeUnit.SECONDS.toNanos(5);
+    static final long DEFAULT_MAX_WEIGHT = 16L * 1024 * 1024;
+    static final DescribeCache DISABLED = new DescribeCache(0, 0, System::nanoTime);
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long ttlNanos;
+    private final long maxWeight;
+    private final LongSupplier nanoClock;
+    private long weight;
+    private long generation;
+
+    DescribeCache(final long ttlNanos, final long maxWeight, final LongSupplier nanoClock) {
+        this.ttlNanos = ttlNanos;
+        this.maxWeight = maxWeight;
+        this.nanoClock = nanoClock;
+    }
+
+    public static DescribeCache fromEnvironment() {
+        final boolean enabled = Boolean.parseBoolean(System.getenv(CACHE_ENVIRONMENT_VARIABLE)) || Boolean.getBoolean(CACHE_PROPERTY);
+        return enabled ? new DescribeCache(DEFAULT_TTL_NANOS, DEFAULT_MAX_WEIGHT, System::nanoTime) : DISABLED;
+    }
+
+    /**
+     * @return the weight of a response carrying {@code text}, counting two bytes per character
+     */
+    public static long textWeight(final String text) {
+        return ENTRY_WEIGHT + (text == null ? 0 : 2L * text.length());
+    }
+
+    public boolean isEnabled() {
+        return maxWeight > 0;
+    }
+
+    /**
+     * @return the token to pass to {@link #put} for a response read from now on
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * @return the live response stored under {@code key}, or {@code null}
+     */
+    public Object get(final String key) {
+        if (!isEnabled()) {
+            return null;
+        }
+        synchronized (this) {
+            final Entry entry = entries.get(key);
+            if (entry != null && nanoClock.getAsLong() - entry.storedAt < ttlNanos) {
+                return entry.value;
+            }
+            if (entry != null) {
+                remove(key);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stores {@code value} unless the cache was invalidated since {@code generation} was taken, or {@code value} alone
+     * outweighs the whole cache.
+     */
+    public void put(final String key, final Object value, final long valueWeight, final long generation) {
+        if (valueWeight > maxWeight) {
+            return;
+        }
+        synchronized (this) {
+            if (generation != this.generation) {
+                return;
+            }
+            remove(key);
+            entries.put(key, new Entry(value, valueWeight, nanoClock.getAsLong()));
+            weight += valueWeight;
+            final Iterator<Entry> eldest = entries.values().iterator();
+            while (weight > maxWeight) {
+                weight -= eldest.next().weight;
+                eldest.remove();
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (this) {
+            generation++;
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    synchronized long getWeight() {
+        return weight;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void remove(final String key) {
+        final Entry removed = entries.remove(key);
+        if (removed != null) {
+            weight -= removed.weight;
+        }
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+        private final long weight;
+        private final long storedAt;
+
+        private Entry(final Object value, final long weight, final long storedAt) {
+            this.value = value;
+            this.weight = weight;
+            this.storedAt = storedAt;
+        }
+    }
+}
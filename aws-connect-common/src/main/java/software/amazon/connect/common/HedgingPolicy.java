@@ -0,0 +1,240 @@
+package software.amazon.connect.common;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Opt-in hedging of reads, enabled by setting the {@value #PERCENTILE_ENVIRONMENT_VARIABLE} environment variable or
+ * the {@value #PERCENTILE_PROPERTY} system property to a percentile such as {@code 95}. A read that has not returned
+ * once that percentile of the operation's recent latency has passed is sent a second time, and whichever call
+ * succeeds first answers; the read only fails if both calls do. The slower call is left to finish in the background.
+ * A read is only handed to another thread when it could be hedged; otherwise it is made on the caller's thread.
+ *
+ * Recent latency is the operation's previous window of {@link #WINDOW_NANOS}, kept in an HdrHistogram; until a window
+ * has seen {@value #MIN_SAMPLES} successful calls, the operation is not hedged. Every read earns
+ * {@value #MAX_EXTRA_LOAD} of a hedge, up to {@value #MAX_HEDGE_TOKENS} saved, so hedges add at most that fraction of
+ * extra reads however slow Connect gets.
+ *
+ * Only {@link ConnectInvoker} uses it, and only for read operations whose rate limiter has not been throttled: a
+ * write sent twice is not safe to repeat, and a throttled API has no spare quota for hedges. A second call also takes
+ * a token from the rate limiter, and is not sent when there is none.
+ */
+public final class HedgingPolicy {
+
+    public static final String PERCENTILE_ENVIRONMENT_VARIABLE = "CONNECT_HEDGE_PERCENTILE";
+    public static final String PERCENTILE_PROPERTY = "connect.hedge.percentile";
+
+    static final HedgingPolicy DISABLED = new HedgingPolicy(0, 0, System::nanoTime);
+    static final double MAX_EXTRA_LOAD = 0.05;
+    static final double MAX_HEDGE_TOKENS = 5;
+    static final long MIN_SAMPLES = 20;
+    static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(60);
+    static final int MAX_THREADS = 64;
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final double percentile;
+    private final double extraLoad;
+    private final LongSupplier nanoClock;
+    private double tokens;
+
+    HedgingPolicy(final double percentile, final double extraLoad, final LongSupplier nanoClock) {
+        this.percentile = percentile;
+        this.extraLoad = extraLoad;
+        this.nanoClock = nanoClock;
+    }
+
+    public static HedgingPolicy fromEnvironment() {
+        final String property = System.getProperty(PERCENTILE_PROPERTY);
+        final String percentile = property != null ? property : System.getenv(PERCENTILE_ENVIRONMENT_VARIABLE);
+        if (percentile == null) {
+            return DISABLED;
+        }
+        try {
+            final double parsed = Double.parseDouble(percentile.trim());
+            return parsed > 0 && parsed < 100 ? new HedgingPolicy(parsed, MAX_EXTRA_LOAD, System::nanoTime) : DISABLED;
+        } catch (NumberFormatException e) {
+            return DISABLED;
+        }
+    }
+
+    public boolean isEnabled() {
+        return percentile > 0;
+    }
+
+    /**
+     * Makes {@code call}, hedged by a second identical call if the first is slow and the budget allows.
+     *
+     * @param operation the call graph name the latency is kept under
+     * @param admit     asked, once the budget allows a hedge, whether the second call may be sent, such as whether the
+     *                  rate limiter has a token for it
+     * @param onHedge   run when the second call is sent
+     */
+    <T> T call(final String operation, final Supplier<T> call, final BooleanSupplier admit, final Runnable onHedge) {
+        final Window window = windows.computeIfAbsent(operation, name -> new Window(nanoClock.getAsLong()));
+        final long delayNanos = window.delayNanos(nanoClock.getAsLong(), percentile);
+        earnToken();
+        if (delayNanos < 0 || !hasToken()) {
+            return window.timed(call, nanoClock);
+        }
+        final CompletableFuture<T> primary;
+        try {
+            primary = CompletableFuture.supplyAsync(() -> window.timed(call, nanoClock), Pool.EXECUTOR);
+        } catch (RejectedExecutionException e) {
+            return window.timed(call, nanoClock);
+        }
+        try {
+            return primary.get(delayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // slower than the percentile: hedge below
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return join(primary);
+        }
+        if (!takeToken() || !admit.getAsBoolean()) {
+            return join(primary);
+        }
+        final CompletableFuture<T> hedge;
+        try {
+            hedge = CompletableFuture.supplyAsync(call, Pool.EXECUTOR);
+        } catch (RejectedExecutionException e) {
+            return join(primary);
+        }
+        onHedge.run();
+        return join(firstSuccess(primary, hedge));
+    }
+
+    /**
+     * @return the result of whichever of the calls succeeds first, or the primary call's failure once both failed
+     */
+    private static <T> CompletableFuture<T> firstSuccess(final CompletableFuture<T> primary, final CompletableFuture<T> hedge) {
+        final CompletableFuture<T> first = new CompletableFuture<>();
+        final AtomicInteger failures = new AtomicInteger();
+        final BiConsumer<T, Throwable> settle = (result, failure) -> {
+            if (failure == null) {
+                first.complete(result);
+            } else if (failures.incrementAndGet() == 2) {
+                primary.whenComplete((primaryResult, primaryFailure) -> first.completeExceptionally(primaryFailure));
+            }
+        };
+        primary.whenComplete(settle);
+        hedge.whenComplete(settle);
+        return first;
+    }
+
+    /**
+     * Records a successful call of {@code operation} that took {@code latencyNanos}.
+     */
+    void record(final String operation, final long latencyNanos) {
+        windows.computeIfAbsent(operation, name -> new Window(nanoClock.getAsLong())).record(latencyNanos);
+    }
+
+    private synchronized void earnToken() {
+        tokens = Math.min(MAX_HEDGE_TOKENS, tokens + extraLoad);
+    }
+
+    private synchronized boolean hasToken() {
+        return tokens >= 1;
+    }
+
+    private synchronized boolean takeToken() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw propagate(e.getCause());
+        }
+    }
+
+    private static RuntimeException propagate(final Throwable failure) {
+        final Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return cause instanceof RuntimeException ? (RuntimeException) cause : new CompletionException(cause);
+    }
+
+    /**
+     * The latencies of one operation: the window being recorded and the last one completed, which the hedge delay is
+     * read from.
+     */
+    private static final class Window {
+
+        private final Recorder latencyMicros = new Recorder(SIGNIFICANT_DIGITS);
+        private Histogram previous;
+        private long startedAt;
+
+        private Window(final long now) {
+            this.startedAt = now;
+        }
+
+        /**
+         * @return the hedge delay, or -1 while the last completed window has too few samples
+         */
+        private synchronized long delayNanos(final long now, final double percentile) {
+            if (now - startedAt >= WINDOW_NANOS) {
+                previous = latencyMicros.getIntervalHistogram(previous);
+                startedAt = now;
+            }
+            if (previous == null || previous.getTotalCount() < MIN_SAMPLES) {
+                return -1;
+            }
+            return TimeUnit.MICROSECONDS.toNanos(previous.getValueAtPercentile(percentile));
+        }
+
+        private <T> T timed(final Supplier<T> call, final LongSupplier nanoClock) {
+            final long start = nanoClock.getAsLong();
+            final T result = call.get();
+            record(nanoClock.getAsLong() - start);
+            return result;
+        }
+
+        private void record(final long latencyNanos) {
+            latencyMicros.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        }
+    }
+
+    /**
+     * Created on first hedged read. Threads are daemons and time out when idle; when every thread is busy the read is
+     * made on the caller's thread without a hedge.
+     */
+    private static final class Pool {
+
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+        private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(0, MAX_THREADS,
+                60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "connect-hedge-" + THREAD_COUNT.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
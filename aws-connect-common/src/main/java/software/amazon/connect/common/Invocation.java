@@ -0,0 +1,72 @@
+package software.amazon.connect.common;
+
+import java.util.concurrent.Callable;
+
+/**
+ * What the Connect calls of one handler invocation share: its {@link Deadline}, and the {@link CallMetrics} they are
+ * recorded in until {@link ConnectInvoker#finishInvocation} flushes them. The invocation is held by the thread
+ * that started it with {@link ConnectInvoker#startInvocation}, so tooling that runs several handlers at once in one
+ * process gives each its own. Work the handler hands to another thread carries the invocation along through
+ * {@link #wrap}; {@link UpdateMode#PARALLEL} does so for its steps.
+ *
+ * Calls made on a thread outside any invocation see {@link #NONE}, whose metrics are never written.
+ */
+public final class Invocation {
+
+    public static final Invocation NONE = new Invocation(Deadline.NONE, new CallMetrics());
+
+    private static final ThreadLocal<Invocation> CURRENT = ThreadLocal.withInitial(() -> NONE);
+
+    private final Deadline deadline;
+    private final CallMetrics metrics;
+
+    private Invocation(final Deadline deadline, final CallMetrics metrics) {
+        this.deadline = deadline;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return the invocation the calling thread is running, or {@link #NONE}
+     */
+    public static Invocation current() {
+        return CURRENT.get();
+    }
+
+    static Invocation start(final Deadline deadline) {
+        final Invocation invocation = new Invocation(deadline, new CallMetrics());
+        CURRENT.set(invocation);
+        return invocation;
+    }
+
+    static void finish() {
+        CURRENT.remove();
+    }
+
+    public Deadline getDeadline() {
+        return deadline;
+    }
+
+    public CallMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return {@code task} running within this invocation on whichever thread calls it, which then goes back to the
+     * invocation it was running before, if any
+     */
+    public <T> Callable<T> wrap(final Callable<T> task) {
+        return () -> {
+            final Invocation previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                return task.call();
+            } finally {
+                if (previous == NONE) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package software.amazon.connect.common;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.awssdk.services.connect.model.TagResourceRequest;
+import software.amazon.awssdk.services.connect.model.UntagResourceRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * Tag handling shared by the resource providers. Each provider has its own generated {@code Tag} and
+ * {@code ResourceModel} types, so these helpers are generic over them.
+ *
+ * Updates apply a {@link TagDiff} with one UntagResource and one TagResource call per chunk of
+ * {@value TagDiff#MAX_TAGS_PER_CALL} keys, and none at all when nothing but reserved keys changed.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ResourceTags {
+
+    public static <TagT> Set<TagT> convertResourceTagsToSet(final Map<String, String> resourceTags,
+                                                             final BiFunction<String, String, TagT> tagFactory) {
+        if (resourceTags == null) {
+            return new HashSet<>();
+        }
+        final Set<TagT> tags = new HashSet<>((int) (resourceTags.size() / 0.75f) + 1);
+        resourceTags.forEach((key, value) -> tags.add(tagFactory.apply(key, value)));
+        return tags;
+    }
+
+    public static <ModelT, CallbackT extends StdCallbackContext> ProgressEvent<ModelT, CallbackT> untagResource(final AmazonWebServicesClientProxy proxy,
+                                                                                                               final ProxyClient<ConnectClient> proxyClient,
+                                                                                                               final ModelT desiredStateModel,
+                                                                                                               final String resourceArn,
+                                                                                                               final TagDiff tagDiff,
+                                                                                                               final ProgressEvent<ModelT, CallbackT> progress,
+                                                                                                               final CallbackT context,
+                                                                                                               final ConnectInvoker invoker,
+                                                                                                               final Logger logger) {
+        if (!tagDiff.getTagKeysToRemove().isEmpty()) {
+            logger.log(String.format("Tags have been removed in the update operation, " +
+                    "Calling UnTagResource API for resource:%s", resourceArn));
+            final List<List<String>> chunks = tagDiff.getTagKeysToRemoveChunks();
+            ProgressEvent<ModelT, CallbackT> result = progress;
+            for (int i = 0; i < chunks.size(); i++) {
+                final List<String> tagKeys = chunks.get(i);
+                final String callGraph = chunkCallGraph("connect::untagResource", i);
+                result = result.then(chunkProgress -> proxy.initiate(callGraph, proxyClient, desiredStateModel, context)
+                        .translateToServiceRequest(desired -> UntagResourceRequest.builder()
+                                .resourceArn(resourceArn)
+                                .tagKeys(tagKeys)
+                                .build())
+                        .makeServiceCall((req, clientProxy) -> invoker.invoke(req, clientProxy, clientProxy.client()::untagResource, logger))
+                        .done(response -> ProgressEvent.progress(desiredStateModel, context)));
+            }
+            return result;
+        }
+        logger.log(String.format("No removal of tags in update operation, skipping UnTagResource API call " +
+                "for resource:%s", resourceArn));
+        return progress;
+    }
+
+    public static <ModelT, CallbackT extends StdCallbackContext> ProgressEvent<ModelT, CallbackT> tagResource(final AmazonWebServicesClientProxy proxy,
+                                                                                                             final ProxyClient<ConnectClient> proxyClient,
+                                                                                                             final ModelT desiredStateModel,
+                                                                                                             final String resourceArn,
+                                                                                                             final TagDiff tagDiff,
+                                                                                                             final ProgressEvent<ModelT, CallbackT> progress,
+                                                                                                             final CallbackT context,
+                                                                                                             final ConnectInvoker invoker,
+                                                                                                             final Logger logger) {
+        if (!tagDiff.getTagsToAdd().isEmpty()) {
+            logger.log(String.format("Tags have been modified(addition/TagValue updated) in the update operation, " +
+                    "Calling TagResource API for resource:%s", resourceArn));
+            final List<Map<String, String>> chunks = tagDiff.getTagsToAddChunks();
+            ProgressEvent<ModelT, CallbackT> result = progress;
+            for (int i = 0; i < chunks.size(); i++) {
+                final Map<String, String> tags = chunks.get(i);
+                final String callGraph = chunkCallGraph("connect::tagResource", i);
+                result = result.then(chunkProgress -> proxy.initiate(callGraph, proxyClient, desiredStateModel, context)
+                        .translateToServiceRequest(desired -> TagResourceRequest.builder()
+                                .resourceArn(resourceArn)
+                                .tags(tags)
+                                .build())
+                        .makeServiceCall((req, clientProxy) -> invoker.invoke(req, clientProxy, clientProxy.client()::tagResource, logger))
+                        .done(response -> ProgressEvent.progress(desiredStateModel, context)));
+            }
+            return result;
+        }
+        logger.log(String.format("No new tags or change in value for existing keys in update operation," +
+                " skipping TagResource API call for resource:%s", resourceArn));
+        return progress;
+    }
+
+    /**
+     * Each chunk needs its own call graph: the callback context records a call graph's response and answers later
+     * calls under the same name with it, so chunks sharing one would never be sent.
+     */
+    private static String chunkCallGraph(final String callGraph, final int chunk) {
+        return chunk == 0 ? callGraph : callGraph + "-" + (chunk + 1);
+    }
+}
@@ -0,0 +1,77 @@
+package software.amazon.connect.common;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent identical calls share one. The first caller for a key makes the call; callers arriving with the same
+ * key while it is in flight wait for it and get its result, or its exception if the exception may be shared. An
+ * exception that only says something about the first caller, such as that its own time ran out, is not handed on:
+ * the waiting callers go on to make the call themselves. Once the call returns, the next caller makes a call of its
+ * own, so a shared result is never older than the call it joined.
+ *
+ * Only {@link ConnectInvoker} uses it, for reads: it keys them by the request, whose equality covers the operation,
+ * the instance and the resource id, and by the credentials the read is made with.
+ */
+final class SingleFlight {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param onShared run before a caller waits for a call already in flight
+     * @param shared   whether an exception the call failed with is handed to the callers waiting for it
+     */
+    @SuppressWarnings("unchecked")
+    <T> T execute(final Object key, final Runnable onShared, final Predicate<RuntimeException> shared, final Supplier<T> call) {
+        final CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader;
+        while ((leader = inFlight.putIfAbsent(key, flight)) != null) {
+            onShared.run();
+            try {
+                return (T) await(leader);
+            } catch (RuntimeException e) {
+                if (shared.test(e)) {
+                    throw e;
+                }
+            }
+        }
+        final T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(key, flight);
+        flight.complete(result);
+        return result;
+    }
+
+    /**
+     * Makes callers arriving from now on start calls of their own, for example once a write has changed what a call in
+     * flight may return. Callers already waiting still get the result they waited for.
+     */
+    void forgetAll() {
+        inFlight.clear();
+    }
+
+    private static Object await(final CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package software.amazon.connect.common;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Waits after a create until the new resource can be described. Connect is eventually consistent, and the read
+ * CloudFormation makes right after a create can miss a resource created a moment before, which fails the stack.
+ *
+ * Nothing sleeps in the handler: while the resource is not visible, the handler returns an in-progress event and
+ * CloudFormation invokes it again after a delay. Delays back off exponentially from {@value #BASE_DELAY_SECONDS}
+ * seconds up to {@value #MAX_DELAY_SECONDS}, with equal jitter so resources created together do not poll together.
+ * Once the delays would pass {@value #BUDGET_SECONDS} seconds in all, the handler stops waiting and reports the
+ * create as done, as it did before it waited at all.
+ *
+ * Run it as a {@link ConnectCallbackContext#runOnce} step after the create step, so an invocation that resumes with
+ * the context does not create the resource again.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Stabilization {
+
+    public static final String STEP = "stabilize";
+
+    static final int BASE_DELAY_SECONDS = 2;
+    static final int MAX_DELAY_SECONDS = 30;
+    static final int BUDGET_SECONDS = 120;
+
+    /**
+     * @param isVisible whether the resource can be described yet, see {@link #exists}
+     * @return {@code progress} once the resource is visible or the budget is spent, otherwise an in-progress event
+     * with the next delay
+     */
+    public static <ModelT, CallbackT extends ConnectCallbackContext> ProgressEvent<ModelT, CallbackT> awaitVisible(
+            final CallbackT context,
+            final ProgressEvent<ModelT, CallbackT> progress,
+            final String resourceArn,
+            final BooleanSupplier isVisible,
+            final Logger logger) {
+        return awaitVisible(context, progress, resourceArn, isVisible, ThreadLocalRandom.current(), logger);
+    }
+
+    static <ModelT, CallbackT extends ConnectCallbackContext> ProgressEvent<ModelT, CallbackT> awaitVisible(
+            final CallbackT context,
+            final ProgressEvent<ModelT, CallbackT> progress,
+            final String resourceArn,
+            final BooleanSupplier isVisible,
+            final Random random,
+            final Logger logger) {
+        if (isVisible.getAsBoolean()) {
+            return progress;
+        }
+        final int attempt = context.getStabilizationAttempts() + 1;
+        final int delaySeconds = delaySeconds(attempt, random);
+        if (context.getStabilizationSeconds() + delaySeconds > BUDGET_SECONDS) {
+            logger.log(String.format("Resource:%s is still not visible after %d seconds, no longer waiting for it",
+                    resourceArn, context.getStabilizationSeconds()));
+            return progress;
+        }
+        context.setStabilizationAttempts(attempt);
+        context.setStabilizationSeconds(context.getStabilizationSeconds() + delaySeconds);
+        logger.log(String.format("Resource:%s is not visible yet, checking again in %d seconds", resourceArn, delaySeconds));
+        return ProgressEvent.defaultInProgressHandler(context, delaySeconds, progress.getResourceModel());
+    }
+
+    /**
+     * @return {@code false} if {@code describe} fails because the resource is not found; any other failure is thrown
+     */
+    public static boolean exists(final Runnable describe) {
+        try {
+            describe.run();
+            return true;
+        } catch (CfnNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return a delay between half of and the full backoff cap for {@code attempt}, starting at 1
+     */
+    static int delaySeconds(final int attempt, final Random random) {
+        final int cap = (int) Math.min(MAX_DELAY_SECONDS, (long) BASE_DELAY_SECONDS << Math.min(attempt - 1, 30));
+        final int half = cap / 2;
+        return cap - half + random.nextInt(half + 1);
+    }
+}
@@ -0,0 +1,95 @@
+package software.amazon.connect.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Difference between the previous and desired resource tags of an update.
+ *
+ * Tags whose value changed are only re-tagged: TagResource overwrites existing keys, so only keys that are gone from
+ * the desired tags need an UntagResource call. Keys with the reserved {@value #RESERVED_KEY_PREFIX} prefix are managed
+ * by AWS and cannot be tagged or untagged, so a difference in those alone needs no call.
+ *
+ * TagResource and UntagResource take at most {@value #MAX_TAGS_PER_CALL} keys each; the chunks hold the keys in
+ * sorted order, so the same diff always splits the same way.
+ */
+public final class TagDiff {
+
+    public static final String RESERVED_KEY_PREFIX = "aws:";
+    public static final int MAX_TAGS_PER_CALL = 50;
+
+    private final Map<String, String> tagsToAdd;
+    private final Set<String> tagKeysToRemove;
+
+    private TagDiff(final Map<String, String> tagsToAdd, final Set<String> tagKeysToRemove) {
+        this.tagsToAdd = Collections.unmodifiableMap(tagsToAdd);
+        this.tagKeysToRemove = Collections.unmodifiableSet(tagKeysToRemove);
+    }
+
+    public static TagDiff between(final Map<String, String> previousTags, final Map<String, String> desiredTags) {
+        final Map<String, String> previous = previousTags == null ? Collections.emptyMap() : previousTags;
+        final Map<String, String> desired = desiredTags == null ? Collections.emptyMap() : desiredTags;
+
+        final Map<String, String> tagsToAdd = new HashMap<>();
+        desired.forEach((key, value) -> {
+            if (!isReserved(key) && (!previous.containsKey(key) || !Objects.equals(previous.get(key), value))) {
+                tagsToAdd.put(key, value);
+            }
+        });
+        final Set<String> tagKeysToRemove = new HashSet<>();
+        for (final String key : previous.keySet()) {
+            if (!isReserved(key) && !desired.containsKey(key)) {
+                tagKeysToRemove.add(key);
+            }
+        }
+        return new TagDiff(tagsToAdd, tagKeysToRemove);
+    }
+
+    public Map<String, String> getTagsToAdd() {
+        return tagsToAdd;
+    }
+
+    public Set<String> getTagKeysToRemove() {
+        return tagKeysToRemove;
+    }
+
+    /**
+     * @return the tags to add, one map per TagResource call
+     */
+    public List<Map<String, String>> getTagsToAddChunks() {
+        final List<Map<String, String>> chunks = new ArrayList<>();
+        Map<String, String> chunk = null;
+        for (final Map.Entry<String, String> tag : new TreeMap<>(tagsToAdd).entrySet()) {
+            if (chunk == null || chunk.size() == MAX_TAGS_PER_CALL) {
+                chunk = new HashMap<>();
+                chunks.add(chunk);
+            }
+            chunk.put(tag.getKey(), tag.getValue());
+        }
+        return chunks;
+    }
+
+    /**
+     * @return the tag keys to remove, one list per UntagResource call
+     */
+    public List<List<String>> getTagKeysToRemoveChunks() {
+        final List<String> keys = new ArrayList<>(new TreeSet<>(tagKeysToRemove));
+        final List<List<String>> chunks = new ArrayList<>();
+        for (int start = 0; start < keys.size(); start += MAX_TAGS_PER_CALL) {
+            chunks.add(keys.subList(start, Math.min(start + MAX_TAGS_PER_CALL, keys.size())));
+        }
+        return chunks;
+    }
+
+    private static boolean isReserved(final String key) {
+        return key != null && key.startsWith(RESERVED_KEY_PREFIX);
+    }
+}
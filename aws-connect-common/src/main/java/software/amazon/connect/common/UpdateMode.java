@@ -0,0 +1,151 @@
+package software.amazon.connect.common;
+
+import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * How an update handler runs update steps that touch disjoint attributes of a resource and so do not depend on each
+ * other. Every step is given the same incoming event and the callback context to start its call chain with, and
+ * returns the event it was given or the one its call chain produced.
+ *
+ * {@link #SEQUENTIAL}, the default, chains the steps with {@link ProgressEvent#then} and stops at the first failure.
+ *
+ * {@link #PARALLEL} runs the steps together on a bounded pool shared by the container. It is chosen when the
+ * {@value #MODE_ENVIRONMENT_VARIABLE} environment variable or the {@value #MODE_PROPERTY} system property is set to
+ * {@code PARALLEL}. Steps run within the handler's {@link Invocation}, and when every pool thread is busy, the calling
+ * thread runs the step itself. Each step gets a fresh context from {@code newContext}:
+ * {@link software.amazon.cloudformation.proxy.StdCallbackContext} records a call's response under a lock it holds
+ * for the whole call, so steps sharing one context would still run one at a time. This suits handlers that finish
+ * in a single invocation; nothing a step records is needed once the steps are done. All steps are waited for even
+ * when one fails, so no call is still in flight when the handler returns. Failures are reported in step order, the
+ * same as a sequential run: the first step that threw has its exception rethrown; otherwise the first step that did
+ * not return an in-progress event decides the result.
+ */
+public enum UpdateMode {
+
+    SEQUENTIAL {
+        @Override
+        public <ModelT, CallbackT> ProgressEvent<ModelT, CallbackT> run(
+                final ProgressEvent<ModelT, CallbackT> progress,
+                final Supplier<CallbackT> newContext,
+                final List<Step<ModelT, CallbackT>> steps) {
+            ProgressEvent<ModelT, CallbackT> result = progress;
+            for (final Step<ModelT, CallbackT> step : steps) {
+                result = result.then(event -> step.apply(event, progress.getCallbackContext()));
+            }
+            return result;
+        }
+    },
+
+    PARALLEL {
+        @Override
+        public <ModelT, CallbackT> ProgressEvent<ModelT, CallbackT> run(
+                final ProgressEvent<ModelT, CallbackT> progress,
+                final Supplier<CallbackT> newContext,
+                final List<Step<ModelT, CallbackT>> steps) {
+            if (!progress.canContinueProgress() || steps.size() < 2) {
+                return SEQUENTIAL.run(progress, newContext, steps);
+            }
+            final Invocation invocation = Invocation.current();
+            final List<Future<ProgressEvent<ModelT, CallbackT>>> futures = new ArrayList<>(steps.size());
+            for (final Step<ModelT, CallbackT> step : steps) {
+                final CallbackT context = newContext.get();
+                futures.add(Pool.EXECUTOR.submit(invocation.wrap(() -> step.apply(progress, context))));
+            }
+
+            Throwable failure = null;
+            ProgressEvent<ModelT, CallbackT> stopped = null;
+            boolean interrupted = false;
+            for (final Future<ProgressEvent<ModelT, CallbackT>> future : futures) {
+                while (true) {
+                    try {
+                        final ProgressEvent<ModelT, CallbackT> result = future.get();
+                        if (stopped == null && !result.canContinueProgress()) {
+                            stopped = result;
+                        }
+                        break;
+                    } catch (ExecutionException e) {
+                        if (failure == null) {
+                            failure = e.getCause();
+                        }
+                        break;
+                    } catch (InterruptedException e) {
+                        // keep waiting: a step must not outlive the handler
+                        interrupted = true;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (failure != null) {
+                throw propagate(failure);
+            }
+            return stopped != null ? stopped : progress;
+        }
+    };
+
+    public static final String MODE_ENVIRONMENT_VARIABLE = "CONNECT_UPDATE_MODE";
+    public static final String MODE_PROPERTY = "connect.update.mode";
+
+    static final int MAX_THREADS = 64;
+
+    /**
+     * One update step: given the incoming event and the context to start its call chain with.
+     */
+    @FunctionalInterface
+    public interface Step<ModelT, CallbackT>
+            extends BiFunction<ProgressEvent<ModelT, CallbackT>, CallbackT, ProgressEvent<ModelT, CallbackT>> {
+    }
+
+    /**
+     * Runs {@code steps}, each given {@code progress}, and returns the event the handler continues with.
+     */
+    public abstract <ModelT, CallbackT> ProgressEvent<ModelT, CallbackT> run(
+            ProgressEvent<ModelT, CallbackT> progress,
+            Supplier<CallbackT> newContext,
+            List<Step<ModelT, CallbackT>> steps);
+
+    public static UpdateMode fromEnvironment() {
+        final String property = System.getProperty(MODE_PROPERTY);
+        final String mode = property != null ? property : System.getenv(MODE_ENVIRONMENT_VARIABLE);
+        return PARALLEL.name().equalsIgnoreCase(mode) ? PARALLEL : SEQUENTIAL;
+    }
+
+    private static RuntimeException propagate(final Throwable failure) {
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return failure instanceof RuntimeException ? (RuntimeException) failure : new CfnInternalFailureException(failure);
+    }
+
+    /**
+     * Created on first use, so providers running sequentially never start it. Threads are daemons and time out when
+     * idle; a saturated pool runs the step on the submitting thread instead of queueing it.
+     */
+    private static final class Pool {
+
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+        private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(0, MAX_THREADS,
+                60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "connect-update-" + THREAD_COUNT.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
@@ -0,0 +1,146 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class AdaptiveRateLimiterTest {
+
+    private static final String KEY = "instance|DescribeUser";
+    private static final String OTHER_KEY = "instance|UpdateUserPhoneConfig";
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private long now;
+    private List<Long> sleeps;
+    private AdaptiveRateLimiter limiter;
+
+    @BeforeEach
+    public void setup() {
+        now = TimeUnit.HOURS.toNanos(1);
+        sleeps = new ArrayList<>();
+        limiter = new AdaptiveRateLimiter(() -> now, sleeps::add);
+    }
+
+    @Test
+    public void testAcquire_NotLimitingBeforeThrottle() {
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire(KEY);
+            limiter.onSuccess(KEY);
+        }
+        assertThat(sleeps).isEmpty();
+        assertThat(limiter.getRate(KEY)).isEqualTo(Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    public void testOnThrottle_StartsAtHalfTheObservedRate() {
+        for (int i = 0; i < 8; i++) {
+            limiter.acquire(KEY);
+            now += 100 * MILLISECOND;
+        }
+        limiter.onThrottle(KEY);
+        assertThat(limiter.getRate(KEY)).isEqualTo(4.0);
+    }
+
+    @Test
+    public void testOnThrottle_StartsAtMostAtMaxRateAfterBurst() {
+        for (int i = 0; i < 1_000; i++) {
+            limiter.acquire(KEY);
+        }
+        limiter.onThrottle(KEY);
+        assertThat(limiter.getRate(KEY)).isEqualTo(AdaptiveRateLimiter.MAX_RATE);
+
+        limiter.onSuccess(KEY);
+        assertThat(limiter.getRate(KEY)).isEqualTo(AdaptiveRateLimiter.MAX_RATE);
+    }
+
+    @Test
+    public void testAcquire_WaitsForTokenAfterThrottle() {
+        limiter.acquire(KEY);
+        limiter.onThrottle(KEY);
+        assertThat(limiter.getRate(KEY)).isEqualTo(AdaptiveRateLimiter.MIN_RATE);
+
+        limiter.acquire(KEY);
+        assertThat(sleeps).containsExactly(TimeUnit.SECONDS.toNanos(2));
+
+        now += TimeUnit.SECONDS.toNanos(4);
+        limiter.acquire(KEY);
+        assertThat(sleeps).hasSize(1);
+    }
+
+    @Test
+    public void testTryAcquire_TakesTokenOnlyWithoutWaiting() {
+        assertThat(limiter.tryAcquire(KEY)).isTrue();
+        limiter.onThrottle(KEY);
+        assertThat(limiter.tryAcquire(KEY)).isFalse();
+
+        now += TimeUnit.SECONDS.toNanos(2);
+        assertThat(limiter.tryAcquire(KEY)).isTrue();
+        assertThat(limiter.tryAcquire(KEY)).isFalse();
+
+        limiter.acquire(KEY);
+        assertThat(sleeps).containsExactly(TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    public void testAcquire_WaitIsCapped() {
+        limiter.acquire(KEY);
+        limiter.onThrottle(KEY);
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire(KEY);
+        }
+        assertThat(sleeps).allMatch(sleep -> sleep <= AdaptiveRateLimiter.MAX_WAIT_NANOS);
+        assertThat(sleeps.get(sleeps.size() - 1)).isEqualTo(AdaptiveRateLimiter.MAX_WAIT_NANOS);
+    }
+
+    @Test
+    public void testRate_MultiplicativeDecreaseAdditiveIncrease() {
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire(KEY);
+        }
+        limiter.onThrottle(KEY);
+        assertThat(limiter.getRate(KEY)).isEqualTo(10.0);
+        now += TimeUnit.SECONDS.toNanos(1);
+        limiter.onThrottle(KEY);
+        assertThat(limiter.getRate(KEY)).isEqualTo(5.0);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.onSuccess(KEY);
+        }
+        assertThat(limiter.getRate(KEY)).isCloseTo(5.0 + AdaptiveRateLimiter.INCREASE_PER_SECOND, within(0.05));
+
+        for (int i = 0; i < 20; i++) {
+            now += TimeUnit.SECONDS.toNanos(1);
+            limiter.onThrottle(KEY);
+        }
+        assertThat(limiter.getRate(KEY)).isEqualTo(AdaptiveRateLimiter.MIN_RATE);
+    }
+
+    @Test
+    public void testOnThrottle_DecreasesOncePerBurst() {
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire(KEY);
+        }
+        limiter.onThrottle(KEY);
+        now += TimeUnit.SECONDS.toNanos(1);
+        for (int i = 0; i < 50; i++) {
+            limiter.onThrottle(KEY);
+        }
+        assertThat(limiter.getRate(KEY)).isEqualTo(5.0);
+    }
+
+    @Test
+    public void testKeysAreIndependent() {
+        limiter.acquire(KEY);
+        limiter.onThrottle(KEY);
+        limiter.acquire(OTHER_KEY);
+        limiter.acquire(OTHER_KEY);
+        assertThat(sleeps).isEmpty();
+        assertThat(limiter.getRate(OTHER_KEY)).isEqualTo(Double.POSITIVE_INFINITY);
+    }
+}
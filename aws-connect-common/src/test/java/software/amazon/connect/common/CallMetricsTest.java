@@ -0,0 +1,107 @@
+package software.amazon.connect.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CallMetricsTest {
+
+    private static final long TIMESTAMP = 1_700_000_000_000L;
+    private static final String OPERATION = "connect::describeUser";
+
+    private final List<String> lines = new ArrayList<>();
+    private final Logger logger = lines::add;
+
+    @Test
+    public void testCallGraphName() {
+        assertThat(CallMetrics.callGraphName("DescribeUser")).isEqualTo(OPERATION);
+        assertThat(CallMetrics.callGraphName("UpdateContactFlowContent")).isEqualTo("connect::updateContactFlowContent");
+    }
+
+    @Test
+    public void testFlush_WritesEmbeddedMetricDocumentPerOperation() throws Exception {
+        final CallMetrics metrics = new CallMetrics(() -> TIMESTAMP);
+        final CallMetrics.Operation operation = metrics.operation(OPERATION);
+        operation.attempt();
+        operation.throttle();
+        operation.attempt();
+        operation.responseBytes(512);
+        operation.call(TimeUnit.MILLISECONDS.toNanos(20), false);
+        operation.attempt();
+        operation.call(TimeUnit.MILLISECONDS.toNanos(4), true);
+        operation.coalesced();
+        operation.hedge();
+        operation.cacheHit();
+        operation.cacheMiss();
+        operation.cacheMiss();
+        metrics.operation("connect::tagResource");
+
+        metrics.flush(logger);
+
+        assertThat(lines).hasSize(1);
+        final JsonNode document = new ObjectMapper().readTree(lines.get(0));
+        final JsonNode directive = document.get("_aws").get("CloudWatchMetrics").get(0);
+        assertThat(document.get("_aws").get("Timestamp").asLong()).isEqualTo(TIMESTAMP);
+        assertThat(directive.get("Namespace").asText()).isEqualTo(CallMetrics.NAMESPACE);
+        assertThat(directive.get("Dimensions").get(0).get(0).asText()).isEqualTo(CallMetrics.OPERATION_DIMENSION);
+        assertThat(directive.get("Metrics")).hasSize(10);
+        assertThat(document.get(CallMetrics.OPERATION_DIMENSION).asText()).isEqualTo(OPERATION);
+        assertThat(document.get("Calls").asLong()).isEqualTo(2);
+        assertThat(document.get("Attempts").asLong()).isEqualTo(3);
+        assertThat(document.get("Throttles").asLong()).isEqualTo(1);
+        assertThat(document.get("Errors").asLong()).isEqualTo(1);
+        assertThat(document.get("ResponseBytes").asLong()).isEqualTo(512);
+        assertThat(document.get("Coalesced").asLong()).isEqualTo(1);
+        assertThat(document.get("Hedged").asLong()).isEqualTo(1);
+        assertThat(document.get("CacheHits").asLong()).isEqualTo(1);
+        assertThat(document.get("CacheMisses").asLong()).isEqualTo(2);
+        assertThat(document.get("Latency")).hasSize(2);
+        assertThat(document.get("Latency").get(0).asDouble()).isBetween(3.9, 4.1);
+        assertThat(document.get("Latency").get(1).asDouble()).isBetween(19.9, 20.1);
+    }
+
+    @Test
+    public void testFlush_StartsOver() {
+        final CallMetrics metrics = new CallMetrics(() -> TIMESTAMP);
+        metrics.operation(OPERATION).call(1_000, false);
+
+        metrics.flush(logger);
+        metrics.flush(logger);
+
+        assertThat(lines).hasSize(1);
+    }
+
+    @Test
+    public void testFlush_WritesOperationsAnsweredOnlyFromCache() {
+        final CallMetrics metrics = new CallMetrics(() -> TIMESTAMP);
+        metrics.operation(OPERATION).cacheHit();
+
+        metrics.flush(logger);
+
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0)).contains("\"CacheHits\":1").contains("\"Calls\":0");
+    }
+
+    @Test
+    public void testLatencyMillis_SamplesPercentilesPastMaxValues() {
+        final Histogram micros = new Histogram(2);
+        for (int i = 1; i <= 1_000; i++) {
+            micros.recordValue(i * 1_000L);
+        }
+
+        final List<Double> values = CallMetrics.latencyMillis(micros);
+
+        assertThat(values).hasSize(CallMetrics.MAX_EMITTED_VALUES);
+        assertThat(values).isSorted();
+        assertThat(values.get(0)).isBetween(4.9, 5.1);
+        assertThat(values.get(CallMetrics.MAX_EMITTED_VALUES - 1)).isBetween(990.0, 1_000.0);
+    }
+}
@@ -0,0 +1,33 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.awssdk.services.connect.model.DescribeUserRequest;
+import software.amazon.awssdk.services.connect.model.DescribeUserResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CannedResponseHttpClientTest {
+
+    private static final String USERNAME = "username";
+
+    @Test
+    public void testCannedResponse() {
+        final CannedResponseHttpClient httpClient = new CannedResponseHttpClient("{\"User\":{\"Username\":\"" + USERNAME + "\"}}");
+        final ConnectClient client = ConnectClient.builder()
+                .httpClient(httpClient)
+                .region(Region.US_WEST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("accessKey", "secretKey")))
+                .build();
+
+        final DescribeUserResponse response = client.describeUser(DescribeUserRequest.builder().instanceId("instanceId").userId("userId").build());
+        client.describeUser(DescribeUserRequest.builder().instanceId("instanceId").userId("userId").build());
+
+        assertThat(response.user().username()).isEqualTo(USERNAME);
+        assertThat(httpClient.getRequestCount()).isEqualTo(2);
+        client.close();
+    }
+}
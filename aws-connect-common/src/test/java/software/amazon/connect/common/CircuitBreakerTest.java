@@ -0,0 +1,86 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CircuitBreakerTest {
+
+    private static final String KEY = "instanceId|connect::describeUser";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(nanos::get);
+
+    @Test
+    public void testTryAcquire_OpensAfterBurstOfFailures() {
+        fail(CircuitBreaker.MIN_FAILURES - 1);
+        assertThat(circuitBreaker.tryAcquire(KEY)).isZero();
+
+        fail(1);
+        assertThat(circuitBreaker.isOpen(KEY)).isTrue();
+        assertThat(circuitBreaker.tryAcquire(KEY)).isEqualTo(CircuitBreaker.OPEN_NANOS);
+        assertThat(circuitBreaker.tryAcquire("instanceId|connect::describeQueue")).isZero();
+    }
+
+    @Test
+    public void testTryAcquire_StaysClosedWhileMostCallsSucceed() {
+        for (int i = 0; i < CircuitBreaker.MIN_FAILURES + 1; i++) {
+            circuitBreaker.onSuccess(KEY);
+        }
+        fail(CircuitBreaker.MIN_FAILURES);
+
+        assertThat(circuitBreaker.isOpen(KEY)).isFalse();
+        assertThat(circuitBreaker.tryAcquire(KEY)).isZero();
+    }
+
+    @Test
+    public void testTryAcquire_FailuresInEarlierWindowForgotten() {
+        fail(CircuitBreaker.MIN_FAILURES - 1);
+        nanos.addAndGet(CircuitBreaker.WINDOW_NANOS);
+        fail(1);
+
+        assertThat(circuitBreaker.isOpen(KEY)).isFalse();
+    }
+
+    @Test
+    public void testTryAcquire_ProbeSuccessCloses() {
+        fail(CircuitBreaker.MIN_FAILURES);
+        nanos.addAndGet(CircuitBreaker.OPEN_NANOS);
+
+        assertThat(circuitBreaker.tryAcquire(KEY)).isZero();
+        assertThat(circuitBreaker.tryAcquire(KEY)).isEqualTo(CircuitBreaker.OPEN_NANOS);
+
+        circuitBreaker.onSuccess(KEY);
+        assertThat(circuitBreaker.isOpen(KEY)).isFalse();
+        assertThat(circuitBreaker.tryAcquire(KEY)).isZero();
+    }
+
+    @Test
+    public void testTryAcquire_ProbeFailureReopens() {
+        fail(CircuitBreaker.MIN_FAILURES);
+        nanos.addAndGet(CircuitBreaker.OPEN_NANOS);
+        assertThat(circuitBreaker.tryAcquire(KEY)).isZero();
+
+        fail(1);
+        assertThat(circuitBreaker.isOpen(KEY)).isTrue();
+        assertThat(circuitBreaker.tryAcquire(KEY)).isEqualTo(CircuitBreaker.OPEN_NANOS);
+    }
+
+    @Test
+    public void testTryAcquire_LostProbeReplaced() {
+        fail(CircuitBreaker.MIN_FAILURES);
+        nanos.addAndGet(CircuitBreaker.OPEN_NANOS);
+        assertThat(circuitBreaker.tryAcquire(KEY)).isZero();
+
+        nanos.addAndGet(CircuitBreaker.OPEN_NANOS);
+        assertThat(circuitBreaker.tryAcquire(KEY)).isZero();
+    }
+
+    private void fail(final int times) {
+        for (int i = 0; i < times; i++) {
+            circuitBreaker.onFailure(KEY);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConnectArnTest {
+
+    private static final String INSTANCE_ARN = "arn:aws:connect:us-west-2:111111111111:instance/instanceId";
+    private static final String USER_ARN = INSTANCE_ARN + "/agent/userId";
+    private static final String AGENT = "agent";
+    private static final String AGENT_GROUP = "agent-group";
+    private static final String RESOURCE_ARN_PATTERN = "^arn:aws[-a-z0-9]*:connect:[-a-z0-9]*:[0-9]{12}:instance/[-a-zA-Z0-9]*/%s/[-a-zA-Z0-9]*$";
+    private static final String INSTANCE_ARN_PATTERN = "^arn:aws[-a-z0-9]*:connect:[-a-z0-9]*:[0-9]{12}:instance/[-a-zA-Z0-9]*$";
+
+    private static final List<String> CANDIDATE_ARNS = Arrays.asList(
+            USER_ARN,
+            INSTANCE_ARN,
+            INSTANCE_ARN + "/agent/",
+            INSTANCE_ARN + "/agent",
+            INSTANCE_ARN + "/agent-group/groupId",
+            INSTANCE_ARN + "/agent/user/Id",
+            INSTANCE_ARN + "/agent/user_Id",
+            INSTANCE_ARN + "/",
+            "arn:aws-us-gov:connect:us-gov-west-1:111111111111:instance/instanceId/agent/userId",
+            "arn:aws-cn:connect::111111111111:instance//agent/",
+            "arn:aws:connect:us-west-2:11111111111:instance/instanceId/agent/userId",
+            "arn:aws:connect:us-west-2:1111111111111:instance/instanceId/agent/userId",
+            "arn:aws:connect:us-west-2:11111111111a:instance/instanceId/agent/userId",
+            "arn:aws:connect:us-West-2:111111111111:instance/instanceId/agent/userId",
+            "arn:aws:connects:us-west-2:111111111111:instance/instanceId/agent/userId",
+            "arn:awz:connect:us-west-2:111111111111:instance/instanceId/agent/userId",
+            "arn:aws:connect:us-west-2:111111111111:instances/instanceId/agent/userId",
+            "arn:aws:connect:us-west-2:111111111111:instance/instance_Id/agent/userId",
+            "arn:aws:connect:us-west-2:111111111111",
+            "arn:aws:connect:us-west-2:111111111111:",
+            "arn:aws:connect:us-west-2",
+            "arn:aws",
+            "invalidArn",
+            "");
+
+    @Test
+    public void testIsValidResourceArn_MatchesRegex() {
+        for (final String arn : CANDIDATE_ARNS) {
+            for (final String resourceType : Arrays.asList(AGENT, AGENT_GROUP)) {
+                assertThat(ConnectArn.isValidResourceArn(arn, resourceType))
+                        .as("%s as %s", arn, resourceType)
+                        .isEqualTo(arn.matches(String.format(RESOURCE_ARN_PATTERN, resourceType)));
+            }
+        }
+    }
+
+    @Test
+    public void testIsValidInstanceArn_MatchesRegex() {
+        for (final String arn : CANDIDATE_ARNS) {
+            assertThat(ConnectArn.isValidInstanceArn(arn)).as(arn).isEqualTo(arn.matches(INSTANCE_ARN_PATTERN));
+        }
+    }
+
+    @Test
+    public void testIsValid_Null() {
+        assertFalse(ConnectArn.isValidResourceArn(null, AGENT));
+        assertFalse(ConnectArn.isValidInstanceArn(null));
+    }
+
+    @Test
+    public void testGetInstanceArn() {
+        assertThat(ConnectArn.getInstanceArn(USER_ARN)).isEqualTo(INSTANCE_ARN);
+        assertThat(ConnectArn.getInstanceArn(INSTANCE_ARN)).isEqualTo(INSTANCE_ARN);
+    }
+
+    @Test
+    public void testGetInstanceArn_InstanceIdContainsResourceKeyword() {
+        final String instanceArn = "arn:aws:connect:us-west-2:111111111111:instance/agent-1234";
+        assertThat(ConnectArn.getInstanceArn(instanceArn + "/agent/userId")).isEqualTo(instanceArn);
+        assertTrue(ConnectArn.isValidResourceArn(instanceArn + "/agent/userId", AGENT));
+    }
+
+    @Test
+    public void testGetInstanceArn_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> ConnectArn.getInstanceArn("invalidArn"));
+        assertThrows(IllegalArgumentException.class, () -> ConnectArn.getInstanceArn(null));
+    }
+
+    @Test
+    public void testParse_ResourceArn() {
+        final ConnectArn arn = ConnectArn.parse("arn:aws-us-gov:connect:us-gov-west-1:111111111111:instance/instanceId/agent-group/groupId");
+
+        assertThat(arn).isNotNull();
+        assertThat(arn.partition()).isEqualTo("aws-us-gov");
+        assertThat(arn.region()).isEqualTo("us-gov-west-1");
+        assertThat(arn.accountId()).isEqualTo("111111111111");
+        assertThat(arn.instanceId()).isEqualTo("instanceId");
+        assertThat(arn.instanceArn()).isEqualTo("arn:aws-us-gov:connect:us-gov-west-1:111111111111:instance/instanceId");
+        assertThat(arn.resourceType()).isEqualTo(AGENT_GROUP);
+        assertThat(arn.resourceId()).isEqualTo("groupId");
+        assertFalse(arn.isInstanceArn());
+        assertTrue(arn.isResourceType(AGENT_GROUP));
+        assertFalse(arn.isResourceType(AGENT));
+    }
+
+    @Test
+    public void testParse_InstanceArn() {
+        final ConnectArn arn = ConnectArn.parse(INSTANCE_ARN);
+
+        assertThat(arn).isNotNull();
+        assertThat(arn.partition()).isEqualTo("aws");
+        assertThat(arn.instanceId()).isEqualTo("instanceId");
+        assertThat(arn.instanceArn()).isEqualTo(INSTANCE_ARN);
+        assertTrue(arn.isInstanceArn());
+        assertNull(arn.resourceType());
+        assertNull(arn.resourceId());
+        assertFalse(arn.isResourceType(AGENT));
+    }
+
+    @Test
+    public void testParse_Invalid() {
+        assertNull(ConnectArn.parse(null));
+        assertNull(ConnectArn.parse("invalidArn"));
+        assertNull(ConnectArn.parse(INSTANCE_ARN + "/"));
+        assertNull(ConnectArn.parse(INSTANCE_ARN + "/agent"));
+        assertNull(ConnectArn.parse(INSTANCE_ARN + "/agent/user/Id"));
+        assertNull(ConnectArn.parse(INSTANCE_ARN + "/Agent/userId"));
+    }
+
+    @Test
+    public void testEqualsHashCodeToString() {
+        final ConnectArn arn = ConnectArn.parse(USER_ARN);
+
+        assertThat(arn).isEqualTo(ConnectArn.parse(USER_ARN));
+        assertThat(arn).isNotEqualTo(ConnectArn.parse(INSTANCE_ARN));
+        assertThat(arn).isNotEqualTo(USER_ARN);
+        assertThat(arn.hashCode()).isEqualTo(USER_ARN.hashCode());
+        assertThat(arn.toString()).isEqualTo(USER_ARN);
+    }
+}
@@ -0,0 +1,114 @@
+package software.amazon.connect.common;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static software.amazon.connect.common.ConnectCallbackContext.runOnce;
+
+public class ConnectCallbackContextTest {
+
+    private static final String MODEL = "model";
+    private static final String STEP = "updateName";
+
+    @Test
+    public void testRunOnce_MarksStepCompletedAndSkipsItAfterwards() {
+        final ConnectCallbackContext context = new ConnectCallbackContext();
+        final ProgressEvent<String, ConnectCallbackContext> progress = ProgressEvent.progress(MODEL, context);
+        final AtomicInteger calls = new AtomicInteger();
+
+        runOnce(context, STEP, progress, () -> {
+            calls.incrementAndGet();
+            return progress;
+        });
+        final ProgressEvent<String, ConnectCallbackContext> resumed = runOnce(context, STEP, progress, () -> {
+            calls.incrementAndGet();
+            return progress;
+        });
+
+        assertThat(resumed).isSameAs(progress);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(context.isStepCompleted(STEP)).isTrue();
+    }
+
+    @Test
+    public void testRunOnce_FailedStepIsNotMarked() {
+        final ConnectCallbackContext context = new ConnectCallbackContext();
+        final ProgressEvent<String, ConnectCallbackContext> progress = ProgressEvent.progress(MODEL, context);
+
+        runOnce(context, STEP, progress, () -> ProgressEvent.failed(MODEL, context, HandlerErrorCode.NotFound, "gone"));
+        assertThrows(CfnGeneralServiceException.class, () -> runOnce(context, STEP, progress, () -> {
+            throw new CfnGeneralServiceException(STEP);
+        }));
+
+        assertThat(context.isStepCompleted(STEP)).isFalse();
+    }
+
+    @Test
+    public void testRunOnce_ThrottledStepReturnsInProgressWithContext() {
+        final ConnectCallbackContext context = new ConnectCallbackContext();
+        context.getCompletedSteps().add("updateDescription");
+
+        final ProgressEvent<String, ConnectCallbackContext> result = runOnce(context, STEP, ProgressEvent.progress(MODEL, context), () -> {
+            throw new CfnThrottlingException(STEP, new RuntimeException());
+        });
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(result.getCallbackDelaySeconds()).isEqualTo(ConnectCallbackContext.THROTTLED_CALLBACK_DELAY_SECONDS);
+        assertThat(result.getCallbackContext()).isSameAs(context);
+        assertThat(result.getResourceModel()).isEqualTo(MODEL);
+        assertThat(result.canContinueProgress()).isFalse();
+        assertThat(context.getCompletedSteps()).containsExactly("updateDescription");
+    }
+
+    @Test
+    public void testRunOnce_StepPastDeadlineReturnsInProgressWithContext() {
+        final ConnectCallbackContext context = new ConnectCallbackContext();
+
+        final ProgressEvent<String, ConnectCallbackContext> result = runOnce(context, STEP, ProgressEvent.progress(MODEL, context), () -> {
+            throw new DeadlineExceededException("UpdateContactFlowContent");
+        });
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(result.getCallbackDelaySeconds()).isEqualTo(ConnectCallbackContext.DEADLINE_CALLBACK_DELAY_SECONDS);
+        assertThat(result.getCallbackContext()).isSameAs(context);
+        assertThat(result.canContinueProgress()).isFalse();
+        assertThat(context.isStepCompleted(STEP)).isFalse();
+    }
+
+    @Test
+    public void testRunOnce_CircuitOpenReturnsInProgressUntilProbe() {
+        final ConnectCallbackContext context = new ConnectCallbackContext();
+
+        final ProgressEvent<String, ConnectCallbackContext> result = runOnce(context, STEP, ProgressEvent.progress(MODEL, context), () -> {
+            throw new CircuitOpenException("UpdateContactFlowContent", 12);
+        });
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(result.getCallbackDelaySeconds()).isEqualTo(12);
+        assertThat(result.getCallbackContext()).isSameAs(context);
+        assertThat(context.isStepCompleted(STEP)).isFalse();
+    }
+
+    @Test
+    public void testCompletedSteps_SurviveSerialization() throws Exception {
+        final Serializer serializer = new Serializer();
+        final ConnectCallbackContext context = new ConnectCallbackContext();
+        runOnce(context, STEP, ProgressEvent.progress(MODEL, context), () -> ProgressEvent.progress(MODEL, context));
+
+        final ConnectCallbackContext resumed = serializer.deserialize(serializer.serialize(context),
+                new TypeReference<ConnectCallbackContext>() {});
+
+        assertThat(resumed.getCompletedSteps()).containsExactly(STEP);
+        assertThat(resumed).isEqualTo(context);
+    }
+}
@@ -0,0 +1,36 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.connect.ConnectAsyncClient;
+import software.amazon.awssdk.services.connect.ConnectClient;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConnectClientFactoryTest {
+
+    private static final String CONNECT_CLIENT = "ConnectClient";
+
+    @Test
+    public void testCreateConnectClient() {
+        ConnectClient client = ConnectClientFactory.getClient();
+        assertThat(client).isNotNull();
+        assertThat(client.toString().contains(CONNECT_CLIENT)).isTrue();
+    }
+
+    @Test
+    public void testCreateConnectClient_WithHeaders() {
+        ConnectClient client = ConnectClientFactory.getClient(Collections.singletonMap("Content-type", "application/json"));
+        assertThat(client).isNotNull();
+        assertThat(client.toString().contains(CONNECT_CLIENT)).isTrue();
+    }
+
+    @Test
+    public void testCreateConnectAsyncClient() {
+        try (ConnectAsyncClient client = ConnectClientFactory.getAsyncClient()) {
+            assertThat(client).isNotNull();
+            assertThat(client.toString().contains("ConnectAsyncClient")).isTrue();
+        }
+    }
+}
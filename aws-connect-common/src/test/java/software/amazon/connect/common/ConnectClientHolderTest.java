@@ -0,0 +1,27 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.connect.ConnectClient;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class ConnectClientHolderTest {
+
+    @Test
+    public void testGet_BuildsClientOnce() {
+        final AtomicInteger builds = new AtomicInteger();
+        final ConnectClientHolder<ConnectClient> holder = new ConnectClientHolder<>(() -> {
+            builds.incrementAndGet();
+            return mock(ConnectClient.class);
+        });
+        assertThat(builds.get()).isEqualTo(0);
+
+        final ConnectClient client = holder.get();
+
+        assertThat(holder.get()).isSameAs(client);
+        assertThat(builds.get()).isEqualTo(1);
+    }
+}
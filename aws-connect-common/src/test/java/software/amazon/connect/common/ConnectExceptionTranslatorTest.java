@@ -0,0 +1,99 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.connect.model.ConnectException;
+import software.amazon.awssdk.services.connect.model.DuplicateResourceException;
+import software.amazon.awssdk.services.connect.model.InternalServiceException;
+import software.amazon.awssdk.services.connect.model.InvalidContactFlowException;
+import software.amazon.awssdk.services.connect.model.InvalidParameterException;
+import software.amazon.awssdk.services.connect.model.InvalidRequestException;
+import software.amazon.awssdk.services.connect.model.LimitExceededException;
+import software.amazon.awssdk.services.connect.model.ResourceInUseException;
+import software.amazon.awssdk.services.connect.model.ResourceNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ConnectExceptionTranslatorTest {
+
+    private static final ConnectExceptionTranslator TRANSLATOR =
+            ConnectExceptionTranslator.withInvalidRequestExceptions(InvalidContactFlowException.class);
+
+    @Mock
+    private Logger logger;
+
+    @Test
+    public void testTranslate_ExceptionTable() {
+        assertThat(TRANSLATOR.translate(ResourceNotFoundException.builder().build(), logger)).isInstanceOf(CfnNotFoundException.class);
+        assertThat(TRANSLATOR.translate(InvalidParameterException.builder().build(), logger)).isInstanceOf(CfnInvalidRequestException.class);
+        assertThat(TRANSLATOR.translate(InvalidRequestException.builder().build(), logger)).isInstanceOf(CfnInvalidRequestException.class);
+        assertThat(TRANSLATOR.translate(InternalServiceException.builder().build(), logger)).isInstanceOf(CfnServiceInternalErrorException.class);
+        assertThat(TRANSLATOR.translate(DuplicateResourceException.builder().build(), logger)).isInstanceOf(CfnAlreadyExistsException.class);
+        assertThat(TRANSLATOR.translate(LimitExceededException.builder().build(), logger)).isInstanceOf(CfnServiceLimitExceededException.class);
+        verify(logger, never()).log(anyString());
+    }
+
+    @Test
+    public void testTranslate_AdditionalInvalidRequestException() {
+        assertThat(TRANSLATOR.translate(InvalidContactFlowException.builder().build(), logger)).isInstanceOf(CfnInvalidRequestException.class);
+        assertThat(ConnectExceptionTranslator.withInvalidRequestExceptions().translate(InvalidContactFlowException.builder().build(), logger))
+                .isInstanceOf(CfnGeneralServiceException.class);
+    }
+
+    @Test
+    public void testTranslate_KeepsCause() {
+        final Exception ex = ResourceInUseException.builder().message("in use").build();
+        assertThat(TRANSLATOR.translate(ex, logger)).isInstanceOf(CfnGeneralServiceException.class).hasCause(ex);
+        verify(logger).log(anyString());
+    }
+
+    @Test
+    public void testTranslate_ThrottlingErrorCode() {
+        assertThat(TRANSLATOR.translate(connectException("TooManyRequestsException", 429), logger)).isInstanceOf(CfnThrottlingException.class);
+    }
+
+    @Test
+    public void testTranslate_AccessDeniedErrorCode() {
+        assertThat(TRANSLATOR.translate(connectException("AccessDeniedException", 403), logger)).isInstanceOf(CfnAccessDeniedException.class);
+    }
+
+    @Test
+    public void testTranslate_UnknownErrorCode() {
+        assertThat(TRANSLATOR.translate(connectException("ConnectException", 403), logger)).isInstanceOf(CfnGeneralServiceException.class);
+    }
+
+    @Test
+    public void testTranslate_NoErrorDetails() {
+        assertThat(TRANSLATOR.translate(ConnectException.builder().build(), logger)).isInstanceOf(CfnGeneralServiceException.class);
+    }
+
+    @Test
+    public void testTranslate_RuntimeException() {
+        assertThat(TRANSLATOR.translate(new RuntimeException(), logger)).isInstanceOf(CfnGeneralServiceException.class);
+    }
+
+    private static Exception connectException(final String errorCode, final int statusCode) {
+        return ConnectException.builder()
+                .statusCode(statusCode)
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .errorCode(errorCode)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,611 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.services.connect.model.ConnectException;
+import software.amazon.awssdk.services.connect.model.DescribeUserRequest;
+import software.amazon.awssdk.services.connect.model.DescribeUserResponse;
+import software.amazon.awssdk.services.connect.model.InternalServiceException;
+import software.amazon.awssdk.services.connect.model.TagResourceRequest;
+import software.amazon.awssdk.services.connect.model.TagResourceResponse;
+import software.amazon.awssdk.services.connect.model.User;
+import software.amazon.awssdk.services.connect.ConnectAsyncClient;
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.awssdk.services.connect.model.ResourceNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ConnectInvokerTest {
+
+    private static final ConnectInvoker INVOKER = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions());
+    private static final String INSTANCE_ARN = "arn:aws:connect:us-west-2:111111111111:instance/instanceId";
+    private static final String ACCESS_KEY_ID = "accessKeyId";
+
+    @Mock
+    private ProxyClient<ConnectClient> proxyClient;
+    @Mock
+    private ProxyClient<ConnectClient> otherProxyClient;
+    @Mock
+    private Function<AwsRequest, AwsResponse> function;
+    @Mock
+    private ProxyClient<ConnectAsyncClient> asyncProxyClient;
+    @Mock
+    private Function<AwsRequest, CompletableFuture<AwsResponse>> asyncFunction;
+    @Mock
+    private Logger logger;
+
+    @Test
+    public void testInvoke() {
+        final AwsRequest request = mock(AwsRequest.class);
+        final AwsResponse response = mock(AwsResponse.class);
+        when(proxyClient.injectCredentialsAndInvokeV2(request, function)).thenReturn(response);
+        assertThat(INVOKER.invoke(request, proxyClient, function, logger)).isEqualTo(response);
+    }
+
+    @Test
+    public void testInvoke_TranslatesException() {
+        final AwsRequest request = mock(AwsRequest.class);
+        when(proxyClient.injectCredentialsAndInvokeV2(request, function)).thenThrow(ResourceNotFoundException.builder().build());
+        assertThrows(CfnNotFoundException.class, () -> INVOKER.invoke(request, proxyClient, function, logger));
+    }
+
+    @Test
+    public void testInvoke_RetriesThrottleThroughLimiter() {
+        final List<Long> sleeps = new ArrayList<>();
+        final AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(() -> 0L, sleeps::add);
+        final ConnectInvoker invoker = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions(), limiter);
+        final AwsRequest request = mock(AwsRequest.class);
+        final AwsResponse response = mock(AwsResponse.class);
+        when(proxyClient.injectCredentialsAndInvokeV2(request, function)).thenThrow(throttle()).thenReturn(response);
+
+        assertThat(invoker.invoke(request, proxyClient, function, logger)).isEqualTo(response);
+        assertThat(sleeps).hasSize(1);
+        verify(proxyClient, times(2)).injectCredentialsAndInvokeV2(request, function);
+    }
+
+    @Test
+    public void testInvoke_SurfacesThrottleAfterMaxAttempts() {
+        final ConnectInvoker invoker = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions(),
+                new AdaptiveRateLimiter(() -> 0L, nanos -> { }));
+        final AwsRequest request = mock(AwsRequest.class);
+        when(proxyClient.injectCredentialsAndInvokeV2(request, function)).thenThrow(throttle());
+
+        assertThrows(CfnThrottlingException.class, () -> invoker.invoke(request, proxyClient, function, logger));
+        verify(proxyClient, times(ConnectInvoker.MAX_THROTTLED_ATTEMPTS)).injectCredentialsAndInvokeV2(request, function);
+    }
+
+    @Test
+    public void testInvoke_RecordsAttemptsAndThrottlesPerCallGraph() {
+        final ConnectInvoker invoker = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions(),
+                new AdaptiveRateLimiter(() -> 0L, nanos -> { }), DescribeCache.DISABLED);
+        final DescribeUserRequest request = DescribeUserRequest.builder().instanceId(INSTANCE_ARN).userId("userId").build();
+        final DescribeUserResponse response = DescribeUserResponse.builder().build();
+        when(proxyClient.injectCredentialsAndInvokeV2(any(DescribeUserRequest.class), any())).thenAnswer(injecting(ACCESS_KEY_ID));
+        when(function.apply(any(DescribeUserRequest.class))).thenThrow(throttle()).thenReturn(response);
+        final List<String> lines = new ArrayList<>();
+
+        invoker.startInvocation(Deadline.NONE);
+        try {
+            invoker.invoke(request, proxyClient, function, logger);
+        } finally {
+            invoker.finishInvocation(lines::add);
+        }
+
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0))
+                .contains("\"Operation\":\"connect::describeUser\"")
+                .contains("\"Calls\":1")
+                .contains("\"Attempts\":2")
+                .contains("\"Throttles\":1")
+                .contains("\"Errors\":0");
+    }
+
+    @Test
+    public void testInvoke_DoesNotRetryOtherFailures() {
+        final AwsRequest request = mock(AwsRequest.class);
+        when(proxyClient.injectCredentialsAndInvokeV2(request, function)).thenThrow(ResourceNotFoundException.builder().build());
+
+        assertThrows(CfnNotFoundException.class, () -> INVOKER.invoke(request, proxyClient, function, logger));
+        verify(proxyClient, times(1)).injectCredentialsAndInvokeV2(request, function);
+    }
+
+    @Test
+    public void testInvoke_FailsFastWhileCircuitOpen() {
+        final ConnectInvoker invoker = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions(),
+                new AdaptiveRateLimiter(() -> 0L, nanos -> { }), DescribeCache.DISABLED, HedgingPolicy.DISABLED,
+                new CircuitBreaker(() -> 0L));
+        final AwsRequest request = mock(AwsRequest.class);
+        when(proxyClient.injectCredentialsAndInvokeV2(request, function))
+                .thenThrow(InternalServiceException.builder().statusCode(500).build());
+
+        for (int i = 0; i < CircuitBreaker.MIN_FAILURES; i++) {
+            assertThrows(CfnServiceInternalErrorException.class, () -> invoker.invoke(request, proxyClient, function, logger));
+        }
+        final CircuitOpenException thrown = assertThrows(CircuitOpenException.class,
+                () -> invoker.invoke(request, proxyClient, function, logger));
+
+        assertThat(thrown.getRetryAfterSeconds()).isEqualTo((int) TimeUnit.NANOSECONDS.toSeconds(CircuitBreaker.OPEN_NANOS));
+        verify(proxyClient, times(CircuitBreaker.MIN_FAILURES)).injectCredentialsAndInvokeV2(request, function);
+    }
+
+    @Test
+    public void testInvoke_ClientErrorsDoNotOpenCircuit() {
+        final CircuitBreaker circuitBreaker = new CircuitBreaker(() -> 0L);
+        final ConnectInvoker invoker = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions(),
+                new AdaptiveRateLimiter(() -> 0L, nanos -> { }), DescribeCache.DISABLED, HedgingPolicy.DISABLED,
+                circuitBreaker);
+        final AwsRequest request = mock(AwsRequest.class);
+        when(proxyClient.injectCredentialsAndInvokeV2(request, function)).thenThrow(ResourceNotFoundException.builder().build());
+
+        for (int i = 0; i < CircuitBreaker.MIN_FAILURES * 2; i++) {
+            assertThrows(CfnNotFoundException.class, () -> invoker.invoke(request, proxyClient, function, logger));
+        }
+        verify(proxyClient, times(CircuitBreaker.MIN_FAILURES * 2)).injectCredentialsAndInvokeV2(request, function);
+    }
+
+    @Test
+    public void testInvoke_DoesNotStartCallPastDeadline() {
+        final ConnectInvoker invoker = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions());
+        final AwsRequest request = mock(AwsRequest.class);
+        invoker.startInvocation(Deadline.after(Duration.ofSeconds(1)));
+
+        assertThrows(DeadlineExceededException.class, () -> invoker.invoke(request, proxyClient, function, logger));
+        verify(proxyClient, never()).injectCredentialsAndInvokeV2(any(), any());
+
+        invoker.finishInvocation(logger);
+        assertThat(Invocation.current()).isSameAs(Invocation.NONE);
+    }
+
+    @Test
+    public void testInvoke_DeadlineBelongsToInvocationsThread() throws Exception {
+        final ConnectInvoker invoker = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions());
+        final AwsRequest request = mock(AwsRequest.class);
+        final AwsResponse response = mock(AwsResponse.class);
+        when(proxyClient.injectCredentialsAndInvokeV2(request, function)).thenReturn(response);
+        invoker.startInvocation(Deadline.after(Duration.ofSeconds(1)));
+        try {
+            final CompletableFuture<AwsResponse> otherInvocation = CompletableFuture.supplyAsync(() -> {
+                invoker.startInvocation(Deadline.NONE);
+                try {
+                    return invoker.invoke(request, proxyClient, function, logger);
+                } finally {
+                    invoker.finishInvocation(logger);
+                }
+            });
+
+            assertThat(otherInvocation.get(10, TimeUnit.SECONDS)).isEqualTo(response);
+            assertThrows(DeadlineExceededException.class, () -> invoker.invoke(request, proxyClient, function, logger));
+        } finally {
+            invoker.finishInvocation(logger);
+        }
+    }
+
+    @Test
+    public void testInvoke_BoundsCallByDeadline() {
+        final ConnectInvoker invoker = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions());
+        final DescribeUserRequest request = DescribeUserRequest.builder().instanceId(INSTANCE_ARN).userId("userId").build();
+        final List<DescribeUserRequest> sent = new ArrayList<>();
+        final Function<DescribeUserRequest, DescribeUserResponse> describeUser = r -> {
+            sent.add(r);
+            return DescribeUserResponse.builder().build();
+        };
+        when(proxyClient.injectCredentialsAndInvokeV2(any(DescribeUserRequest.class), any()))
+                .thenAnswer(invocation -> invocation.<Function<DescribeUserRequest, DescribeUserResponse>>getArgument(1).apply(invocation.getArgument(0)));
+        invoker.startInvocation(Deadline.after(Duration.ofSeconds(30)));
+        try {
+            invoker.invoke(request, proxyClient, describeUser, logger);
+        } finally {
+            invoker.finishInvocation(logger);
+        }
+
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0).overrideConfiguration().get().apiCallTimeout().get())
+                .isBetween(Duration.ofSeconds(20), Duration.ofSeconds(30).minusMillis(Deadline.RESERVE_MILLIS));
+    }
+
+    @Test
+    public void testInvoke_StartedCallTimedOutByDeadlineFails() {
+        final ConnectInvoker invoker = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions());
+        final AwsRequest request = mock(AwsRequest.class);
+        when(proxyClient.injectCredentialsAndInvokeV2(any(AwsRequest.class), any())).thenThrow(ApiCallTimeoutException.create(1_000));
+        invoker.startInvocation(Deadline.after(Duration.ofSeconds(30)));
+        try {
+            assertThrows(CfnGeneralServiceException.class, () -> invoker.invoke(request, proxyClient, function, logger));
+        } finally {
+            invoker.finishInvocation(logger);
+        }
+        verify(proxyClient, times(1)).injectCredentialsAndInvokeV2(any(AwsRequest.class), any());
+    }
+
+    @Test
+    public void testInvoke_ConcurrentIdenticalReadsShareOneCall() throws Exception {
+        final ConnectInvoker invoker = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions(),
+                new AdaptiveRateLimiter(), DescribeCache.DISABLED);
+        final DescribeUserResponse response = DescribeUserResponse.builder().build();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(proxyClient.injectCredentialsAndInvokeV2(any(DescribeUserRequest.class), any())).thenAnswer(injecting(ACCESS_KEY_ID));
+        when(function.apply(any(DescribeUserRequest.class))).thenAnswer(invocation -> {
+            started.countDown();
+            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            return response;
+        });
+
+        final AtomicReference<AwsResponse> leaderResponse = new AtomicReference<>();
+        final List<String> leaderLines = new ArrayList<>();
+        final Thread leader = new Thread(() -> {
+            invoker.startInvocation(Deadline.NONE);
+            try {
+                leaderResponse.set(invoker.invoke(describeUserRequest(), proxyClient, function, logger));
+            } finally {
+                invoker.finishInvocation(leaderLines::add);
+            }
+        });
+        leader.start();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        final AtomicReference<AwsResponse> followerResponse = new AtomicReference<>();
+        final List<String> followerLines = new ArrayList<>();
+        final Thread follower = new Thread(() -> {
+            invoker.startInvocation(Deadline.NONE);
+            try {
+                followerResponse.set(invoker.invoke(describeUserRequest(), proxyClient, function, logger));
+            } finally {
+                invoker.finishInvocation(followerLines::add);
+            }
+        });
+        follower.start();
+        final long giveUpAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (follower.getState() != Thread.State.WAITING && System.nanoTime() < giveUpAt) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+        leader.join(5_000);
+        follower.join(5_000);
+
+        assertThat(leaderResponse.get()).isSameAs(response);
+        assertThat(followerResponse.get()).isSameAs(response);
+        verify(proxyClient, times(2)).injectCredentialsAndInvokeV2(any(DescribeUserRequest.class), any());
+        verify(function, times(1)).apply(any(DescribeUserRequest.class));
+        assertThat(leaderLines).hasSize(1);
+        assertThat(leaderLines.get(0)).contains("\"Calls\":1").contains("\"Coalesced\":0");
+        assertThat(followerLines).hasSize(1);
+        assertThat(followerLines.get(0)).contains("\"Calls\":0").contains("\"Coalesced\":1");
+    }
+
+    @Test
+    public void testInvoke_ReadsUnderOtherCredentialsDoNotShareCall() throws Exception {
+        final ConnectInvoker invoker = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions(),
+                new AdaptiveRateLimiter(), DescribeCache.DISABLED);
+        final DescribeUserResponse response = DescribeUserResponse.builder().build();
+        final CountDownLatch started = new CountDownLatch(2);
+        when(proxyClient.injectCredentialsAndInvokeV2(any(DescribeUserRequest.class), any())).thenAnswer(injecting(ACCESS_KEY_ID));
+        when(otherProxyClient.injectCredentialsAndInvokeV2(any(DescribeUserRequest.class), any())).thenAnswer(injecting("otherAccessKeyId"));
+        when(function.apply(any(DescribeUserRequest.class))).thenAnswer(invocation -> {
+            // returns only once both reads are in flight, so neither can have joined the other
+            started.countDown();
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            return response;
+        });
+
+        final CompletableFuture<AwsResponse> first = CompletableFuture.supplyAsync(() -> invoker.invoke(describeUserRequest(), proxyClient, function, logger));
+        final CompletableFuture<AwsResponse> second = CompletableFuture.supplyAsync(() -> invoker.invoke(describeUserRequest(), otherProxyClient, function, logger));
+
+        assertThat(first.get(10, TimeUnit.SECONDS)).isSameAs(response);
+        assertThat(second.get(10, TimeUnit.SECONDS)).isSameAs(response);
+        verify(function, times(2)).apply(any(DescribeUserRequest.class));
+    }
+
+    @Test
+    public void testInvoke_HedgesReadsButNotWrites() {
+        final AtomicLong nanos = new AtomicLong();
+        final HedgingPolicy hedgingPolicy = new HedgingPolicy(50, 1, nanos::get);
+        for (int i = 0; i < HedgingPolicy.MIN_SAMPLES; i++) {
+            hedgingPolicy.record("connect::describeUser", 0);
+            hedgingPolicy.record("connect::tagResource", 0);
+        }
+        nanos.addAndGet(HedgingPolicy.WINDOW_NANOS);
+        final ConnectInvoker invoker = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions(),
+                new AdaptiveRateLimiter(), DescribeCache.DISABLED, hedgingPolicy);
+        final TagResourceRequest tagRequest = TagResourceRequest.builder().resourceArn(INSTANCE_ARN + "/agent/userId").build();
+        when(proxyClient.injectCredentialsAndInvokeV2(any(AwsRequest.class), any())).thenAnswer(injecting(ACCESS_KEY_ID));
+        when(function.apply(any(AwsRequest.class))).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(50);
+            return invocation.getArgument(0) instanceof TagResourceRequest
+                    ? TagResourceResponse.builder().build()
+                    : DescribeUserResponse.builder().build();
+        });
+
+        final List<String> lines = new ArrayList<>();
+        invoker.startInvocation(Deadline.NONE);
+        try {
+            invoker.invoke(describeUserRequest(), proxyClient, function, logger);
+            invoker.invoke(tagRequest, proxyClient, function, logger);
+        } finally {
+            invoker.finishInvocation(lines::add);
+        }
+
+        verify(function, times(2)).apply(any(DescribeUserRequest.class));
+        verify(function, times(1)).apply(any(TagResourceRequest.class));
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains("connect::describeUser").contains("\"Hedged\":1"));
+    }
+
+    @Test
+    public void testInvoke_HedgeNeedsRateLimiterToken() {
+        final AtomicLong nanos = new AtomicLong();
+        final HedgingPolicy hedgingPolicy = new HedgingPolicy(50, 1, nanos::get);
+        for (int i = 0; i < HedgingPolicy.MIN_SAMPLES; i++) {
+            hedgingPolicy.record("connect::describeUser", TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        nanos.addAndGet(HedgingPolicy.WINDOW_NANOS);
+        final AdaptiveRateLimiter limiter = new AdaptiveRateLimiter();
+        final ConnectInvoker invoker = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions(),
+                limiter, DescribeCache.DISABLED, hedgingPolicy);
+        when(proxyClient.injectCredentialsAndInvokeV2(any(DescribeUserRequest.class), any())).thenAnswer(injecting(ACCESS_KEY_ID));
+        when(function.apply(any(DescribeUserRequest.class))).thenAnswer(invocation -> {
+            // another caller is throttled while this read is in flight, leaving no token for a hedge
+            limiter.onThrottle(ConnectInvoker.limiterKey(invocation.getArgument(0)));
+            TimeUnit.MILLISECONDS.sleep(300);
+            return DescribeUserResponse.builder().build();
+        });
+
+        invoker.invoke(describeUserRequest(), proxyClient, function, logger);
+
+        verify(function, times(1)).apply(any(DescribeUserRequest.class));
+    }
+
+    @Test
+    public void testDescribe_CachedUntilWrite() {
+        final ConnectInvoker invoker = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions(),
+                new AdaptiveRateLimiter(), new DescribeCache(DescribeCache.DEFAULT_TTL_NANOS, DescribeCache.DEFAULT_MAX_WEIGHT, System::nanoTime));
+        final String userArn = INSTANCE_ARN + "/agent/userId";
+        final DescribeUserRequest describeRequest = DescribeUserRequest.builder().instanceId(INSTANCE_ARN).userId(userArn).build();
+        final DescribeUserResponse first = DescribeUserResponse.builder().user(User.builder().username("first").build()).build();
+        final DescribeUserResponse second = DescribeUserResponse.builder().user(User.builder().username("second").build()).build();
+        when(proxyClient.injectCredentialsAndInvokeV2(any(DescribeUserRequest.class), any())).thenAnswer(injecting(ACCESS_KEY_ID));
+        when(function.apply(any(DescribeUserRequest.class))).thenReturn(first).thenReturn(second);
+        final TagResourceRequest tagRequest = TagResourceRequest.builder().resourceArn(userArn).build();
+        final Function<TagResourceRequest, TagResourceResponse> tagResource = request -> null;
+        when(proxyClient.injectCredentialsAndInvokeV2(tagRequest, tagResource)).thenReturn(TagResourceResponse.builder().build());
+
+        final List<String> lines = new ArrayList<>();
+
+        invoker.startInvocation(Deadline.NONE);
+        try {
+            assertThat(invoker.describe(describeRequest, userArn, proxyClient, function, logger)).isSameAs(first);
+            assertThat(invoker.describe(describeRequest, userArn, proxyClient, function, logger)).isSameAs(first);
+            invoker.invoke(tagRequest, proxyClient, tagResource, logger);
+            assertThat(invoker.describe(describeRequest, userArn, proxyClient, function, logger)).isSameAs(second);
+        } finally {
+            invoker.finishInvocation(lines::add);
+        }
+
+        verify(function, times(2)).apply(any(DescribeUserRequest.class));
+        assertThat(lines).filteredOn(line -> line.contains("\"Operation\":\"connect::describeUser\"")).hasSize(1);
+        assertThat(lines).filteredOn(line -> line.contains("\"Operation\":\"connect::describeUser\"")).first()
+                .asString()
+                .contains("\"Calls\":2")
+                .contains("\"CacheHits\":1")
+                .contains("\"CacheMisses\":2");
+    }
+
+    @Test
+    public void testDescribe_NotSharedAcrossCredentials() {
+        final ConnectInvoker invoker = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions(),
+                new AdaptiveRateLimiter(), new DescribeCache(DescribeCache.DEFAULT_TTL_NANOS, DescribeCache.DEFAULT_MAX_WEIGHT, System::nanoTime));
+        final String userArn = INSTANCE_ARN + "/agent/userId";
+        final DescribeUserRequest describeRequest = DescribeUserRequest.builder().instanceId(INSTANCE_ARN).userId(userArn).build();
+        final DescribeUserResponse first = DescribeUserResponse.builder().user(User.builder().username("first").build()).build();
+        final DescribeUserResponse second = DescribeUserResponse.builder().user(User.builder().username("second").build()).build();
+        when(proxyClient.injectCredentialsAndInvokeV2(any(DescribeUserRequest.class), any())).thenAnswer(injecting(ACCESS_KEY_ID));
+        when(otherProxyClient.injectCredentialsAndInvokeV2(any(DescribeUserRequest.class), any())).thenAnswer(injecting("otherAccessKeyId"));
+        when(function.apply(any(DescribeUserRequest.class))).thenReturn(first).thenReturn(second);
+
+        final List<String> lines = new ArrayList<>();
+
+        invoker.startInvocation(Deadline.NONE);
+        try {
+            assertThat(invoker.describe(describeRequest, userArn, proxyClient, function, logger)).isSameAs(first);
+            assertThat(invoker.describe(describeRequest, userArn, otherProxyClient, function, logger)).isSameAs(second);
+            assertThat(invoker.describe(describeRequest, userArn, otherProxyClient, function, logger)).isSameAs(second);
+        } finally {
+            invoker.finishInvocation(lines::add);
+        }
+
+        verify(function, times(2)).apply(any(DescribeUserRequest.class));
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0))
+                .contains("\"CacheHits\":1")
+                .contains("\"CacheMisses\":2");
+    }
+
+    @Test
+    public void testDescribe_DisabledByDefault() {
+        final DescribeUserRequest describeRequest = DescribeUserRequest.builder().instanceId(INSTANCE_ARN).userId("userId").build();
+        when(proxyClient.injectCredentialsAndInvokeV2(any(DescribeUserRequest.class), any())).thenAnswer(injecting(ACCESS_KEY_ID));
+        when(function.apply(any(DescribeUserRequest.class))).thenReturn(DescribeUserResponse.builder().build());
+
+        INVOKER.describe(describeRequest, "userId", proxyClient, function, logger);
+        INVOKER.describe(describeRequest, "userId", proxyClient, function, logger);
+
+        assertThat(INVOKER.getDescribeCache().isEnabled()).isFalse();
+        verify(function, times(2)).apply(any(DescribeUserRequest.class));
+    }
+
+    @Test
+    public void testInvokeAsync() {
+        final AwsRequest request = mock(AwsRequest.class);
+        final AwsResponse response = mock(AwsResponse.class);
+        when(asyncProxyClient.injectCredentialsAndInvokeV2Async(request, asyncFunction)).thenReturn(CompletableFuture.completedFuture(response));
+
+        assertThat(INVOKER.invokeAsync(request, asyncProxyClient, asyncFunction, logger).join()).isEqualTo(response);
+    }
+
+    @Test
+    public void testInvokeAsync_BuildsClientOnFirstCall() {
+        final ConnectAsyncClient asyncClient = mock(ConnectAsyncClient.class);
+        final AtomicInteger built = new AtomicInteger();
+        final ConnectInvoker invoker = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions(), () -> {
+            built.incrementAndGet();
+            return asyncClient;
+        });
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("accessKeyId", "secretAccessKey", "sessionToken"), () -> TimeUnit.MINUTES.toMillis(10));
+        final DescribeUserResponse response = DescribeUserResponse.builder().build();
+        final List<ConnectAsyncClient> clients = new ArrayList<>();
+        assertThat(built).hasValue(0);
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(invoker.invokeAsync(describeUserRequest(), proxy, (client, request) -> {
+                clients.add(client);
+                return CompletableFuture.completedFuture(response);
+            }, logger).join()).isSameAs(response);
+        }
+
+        assertThat(built).hasValue(1);
+        assertThat(clients).containsExactly(asyncClient, asyncClient);
+    }
+
+    @Test
+    public void testInvokeAsync_RetriesThrottleThroughLimiter() {
+        final List<Long> sleeps = new ArrayList<>();
+        final ConnectInvoker invoker = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions(),
+                new AdaptiveRateLimiter(() -> 0L, sleeps::add));
+        final AwsRequest request = mock(AwsRequest.class);
+        final AwsResponse response = mock(AwsResponse.class);
+        when(asyncProxyClient.injectCredentialsAndInvokeV2Async(request, asyncFunction))
+                .thenReturn(failedFuture(throttle()))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        assertThat(invoker.invokeAsync(request, asyncProxyClient, asyncFunction, logger).join()).isEqualTo(response);
+        assertThat(sleeps).hasSize(1);
+        verify(asyncProxyClient, times(2)).injectCredentialsAndInvokeV2Async(request, asyncFunction);
+    }
+
+    @Test
+    public void testInvokeAsync_SurfacesThrottleAfterMaxAttempts() {
+        final ConnectInvoker invoker = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions(),
+                new AdaptiveRateLimiter(() -> 0L, nanos -> { }));
+        final AwsRequest request = mock(AwsRequest.class);
+        when(asyncProxyClient.injectCredentialsAndInvokeV2Async(request, asyncFunction)).thenAnswer(invocation -> failedFuture(throttle()));
+
+        final CompletionException thrown = assertThrows(CompletionException.class,
+                () -> invoker.invokeAsync(request, asyncProxyClient, asyncFunction, logger).join());
+        assertThat(thrown).hasCauseInstanceOf(CfnThrottlingException.class);
+        verify(asyncProxyClient, times(ConnectInvoker.MAX_THROTTLED_ATTEMPTS)).injectCredentialsAndInvokeV2Async(request, asyncFunction);
+    }
+
+    @Test
+    public void testInvokeAsync_TranslatesException() {
+        final AwsRequest request = mock(AwsRequest.class);
+        when(asyncProxyClient.injectCredentialsAndInvokeV2Async(request, asyncFunction))
+                .thenReturn(failedFuture(ResourceNotFoundException.builder().build()));
+
+        final CompletionException thrown = assertThrows(CompletionException.class,
+                () -> INVOKER.invokeAsync(request, asyncProxyClient, asyncFunction, logger).join());
+        assertThat(thrown).hasCauseInstanceOf(CfnNotFoundException.class);
+        verify(asyncProxyClient, times(1)).injectCredentialsAndInvokeV2Async(request, asyncFunction);
+    }
+
+    @Test
+    public void testInvokeAsync_DoesNotStartCallPastDeadline() {
+        final ConnectInvoker invoker = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions());
+        final AwsRequest request = mock(AwsRequest.class);
+        invoker.startInvocation(Deadline.after(Duration.ofSeconds(1)));
+
+        final CompletionException thrown;
+        try {
+            thrown = assertThrows(CompletionException.class,
+                    () -> invoker.invokeAsync(request, asyncProxyClient, asyncFunction, logger).join());
+        } finally {
+            invoker.finishInvocation(logger);
+        }
+        assertThat(thrown).hasCauseInstanceOf(DeadlineExceededException.class);
+        verify(asyncProxyClient, never()).injectCredentialsAndInvokeV2Async(any(), any());
+    }
+
+    @Test
+    public void testLimiterKey_InstanceAndOperation() {
+        assertThat(ConnectInvoker.limiterKey(DescribeUserRequest.builder().instanceId(INSTANCE_ARN).userId("userId").build()))
+                .isEqualTo(INSTANCE_ARN + "|DescribeUser");
+    }
+
+    @Test
+    public void testLimiterKey_InstanceFromResourceArn() {
+        assertThat(ConnectInvoker.limiterKey(TagResourceRequest.builder().resourceArn(INSTANCE_ARN + "/agent/userId").build()))
+                .isEqualTo(INSTANCE_ARN + "|TagResource");
+        assertThat(ConnectInvoker.limiterKey(TagResourceRequest.builder().resourceArn("invalidArn").build()))
+                .isEqualTo("invalidArn|TagResource");
+    }
+
+    /**
+     * @return an answer that, like the proxy, applies the function to the request carrying the credentials of
+     * {@code accessKeyId}
+     */
+    private static Answer<AwsResponse> injecting(final String accessKeyId) {
+        return invocation -> {
+            final AwsRequest request = invocation.getArgument(0);
+            final AwsRequest injected = request.toBuilder()
+                    .overrideConfiguration(AwsRequestOverrideConfiguration.builder()
+                            .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKeyId, "secretKey")))
+                            .build())
+                    .build();
+            return invocation.<Function<AwsRequest, AwsResponse>>getArgument(1).apply(injected);
+        };
+    }
+
+    private static DescribeUserRequest describeUserRequest() {
+        return DescribeUserRequest.builder().instanceId(INSTANCE_ARN).userId("userId").build();
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(final Throwable failure) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(failure);
+        return future;
+    }
+
+    private static ConnectException throttle() {
+        return (ConnectException) ConnectException.builder()
+                .statusCode(429)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("TooManyRequestsException").build())
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.awssdk.services.connect.model.DescribeUserRequest;
+import software.amazon.awssdk.services.connect.model.DescribeUserResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class ConnectWarmupTest {
+
+    @Test
+    public void testIsEnabled_DefaultsToFalse() {
+        assertThat(ConnectWarmup.isEnabled()).isFalse();
+    }
+
+    @Test
+    public void testIsEnabled_SystemProperty() {
+        System.setProperty(ConnectWarmup.WARMUP_PROPERTY, "true");
+        try {
+            assertThat(ConnectWarmup.isEnabled()).isTrue();
+        } finally {
+            System.clearProperty(ConnectWarmup.WARMUP_PROPERTY);
+        }
+    }
+
+    @Test
+    public void testWarmUp() {
+        final ConnectClient sharedClient = mock(ConnectClient.class);
+        final ConnectClientHolder<ConnectClient> holder = new ConnectClientHolder<>(() -> sharedClient);
+        final AtomicReference<DescribeUserResponse> response = new AtomicReference<>();
+
+        final boolean warmedUp = ConnectWarmup.warmUp(holder,
+                client -> response.set(client.describeUser(DescribeUserRequest.builder()
+                        .instanceId(ConnectWarmup.WARMUP_ID)
+                        .userId(ConnectWarmup.WARMUP_ID)
+                        .build())),
+                model());
+
+        assertThat(warmedUp).isTrue();
+        assertThat(response.get()).isNotNull();
+        assertThat(response.get().user()).isNull();
+        assertThat(holder.get()).isSameAs(sharedClient);
+    }
+
+    @Test
+    public void testWarmUp_SwallowsFailures() {
+        final ConnectClientHolder<ConnectClient> holder = new ConnectClientHolder<>(() -> mock(ConnectClient.class));
+
+        final boolean warmedUp = ConnectWarmup.warmUp(holder, client -> {
+            throw new IllegalStateException();
+        }, model());
+
+        assertThat(warmedUp).isFalse();
+    }
+
+    @Test
+    public void testWarmUpIfEnabled_DoesNothingByDefault() {
+        final ConnectClientHolder<ConnectClient> holder = new ConnectClientHolder<>(() -> mock(ConnectClient.class));
+        final AtomicReference<ConnectClient> called = new AtomicReference<>();
+
+        ConnectWarmup.warmUpIfEnabled(holder, called::set, model());
+
+        assertThat(called.get()).isNull();
+    }
+
+    private static Map<String, String> model() {
+        final Map<String, String> model = new HashMap<>();
+        model.put("Name", "value");
+        return model;
+    }
+}
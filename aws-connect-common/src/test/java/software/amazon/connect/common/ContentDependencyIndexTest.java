@@ -0,0 +1,106 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ContentDependencyIndexTest {
+
+    private static final String INSTANCE_ARN = "arn:aws:connect:us-west-2:111111111111:instance/instanceId";
+    private static final String QUEUE_ARN = INSTANCE_ARN + "/queue/queueId";
+    private static final String HOURS_ARN = INSTANCE_ARN + "/operating-hours/hoursId";
+    private static final String MODULE_ARN = INSTANCE_ARN + "/flow-module/moduleId";
+    private static final String MAIN_FLOW_ARN = INSTANCE_ARN + "/contact-flow/mainId";
+    private static final String SALES_FLOW_ARN = INSTANCE_ARN + "/contact-flow/salesId";
+    private static final String SUPPORT_FLOW_ARN = INSTANCE_ARN + "/contact-flow/supportId";
+
+    private final ContentDependencyIndex index = new ContentDependencyIndex();
+
+    @Test
+    public void testReferrersOf() {
+        index.put(SALES_FLOW_ARN, content(QUEUE_ARN, HOURS_ARN));
+        index.put(SUPPORT_FLOW_ARN, content(QUEUE_ARN));
+
+        assertThat(index.referrersOf(QUEUE_ARN)).containsExactlyInAnyOrder(SALES_FLOW_ARN, SUPPORT_FLOW_ARN);
+        assertThat(index.referrersOf(HOURS_ARN)).containsExactly(SALES_FLOW_ARN);
+        assertThat(index.referrersOf(MODULE_ARN)).isEmpty();
+        assertThat(index.referencesOf(SALES_FLOW_ARN)).containsExactly(QUEUE_ARN, HOURS_ARN);
+    }
+
+    @Test
+    public void testPut_ReplacesPreviousReferences() {
+        index.put(SALES_FLOW_ARN, content(QUEUE_ARN, HOURS_ARN));
+        index.put(SALES_FLOW_ARN, content(HOURS_ARN));
+
+        assertThat(index.referrersOf(QUEUE_ARN)).isEmpty();
+        assertThat(index.referrersOf(HOURS_ARN)).containsExactly(SALES_FLOW_ARN);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPut_MalformedContentLeavesIndexUnchanged() {
+        index.put(SALES_FLOW_ARN, content(QUEUE_ARN));
+
+        assertThat(index.put(SALES_FLOW_ARN, "{\"Actions\":[")).isFalse();
+        assertThat(index.referrersOf(QUEUE_ARN)).containsExactly(SALES_FLOW_ARN);
+    }
+
+    @Test
+    public void testRemove() {
+        index.put(SALES_FLOW_ARN, content(QUEUE_ARN));
+        index.remove(SALES_FLOW_ARN);
+        index.remove(SUPPORT_FLOW_ARN);
+
+        assertThat(index.referrersOf(QUEUE_ARN)).isEmpty();
+        assertThat(index.referencesOf(SALES_FLOW_ARN)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    public void testDependentsOf_FollowsFlowsAndModules() {
+        index.put(MAIN_FLOW_ARN, content(SALES_FLOW_ARN));
+        index.put(SALES_FLOW_ARN, content(MODULE_ARN));
+        index.put(MODULE_ARN, content(QUEUE_ARN));
+        index.put(SUPPORT_FLOW_ARN, content(HOURS_ARN));
+
+        assertThat(index.dependentsOf(QUEUE_ARN)).containsExactly(MODULE_ARN, SALES_FLOW_ARN, MAIN_FLOW_ARN);
+        assertThat(index.dependentsOf(MAIN_FLOW_ARN)).isEmpty();
+    }
+
+    @Test
+    public void testDependentsOf_Cycle() {
+        index.put(SALES_FLOW_ARN, content(SUPPORT_FLOW_ARN));
+        index.put(SUPPORT_FLOW_ARN, content(SALES_FLOW_ARN));
+
+        assertThat(index.dependentsOf(SALES_FLOW_ARN)).containsExactly(SUPPORT_FLOW_ARN, SALES_FLOW_ARN);
+    }
+
+    @Test
+    public void testDeploymentOrder_ReferencedFirst() {
+        index.put(MAIN_FLOW_ARN, content(SALES_FLOW_ARN, SUPPORT_FLOW_ARN));
+        index.put(SALES_FLOW_ARN, content(MODULE_ARN, QUEUE_ARN, SALES_FLOW_ARN));
+        index.put(SUPPORT_FLOW_ARN, content(QUEUE_ARN));
+        index.put(MODULE_ARN, content(HOURS_ARN));
+
+        assertThat(index.deploymentOrder()).containsExactly(SUPPORT_FLOW_ARN, MODULE_ARN, SALES_FLOW_ARN, MAIN_FLOW_ARN);
+    }
+
+    @Test
+    public void testDeploymentOrder_CyclesLast() {
+        index.put(MAIN_FLOW_ARN, content(SALES_FLOW_ARN));
+        index.put(SALES_FLOW_ARN, content(SUPPORT_FLOW_ARN));
+        index.put(SUPPORT_FLOW_ARN, content(SALES_FLOW_ARN));
+        index.put(MODULE_ARN, content(QUEUE_ARN));
+
+        assertThat(index.deploymentOrder()).containsExactly(MODULE_ARN, MAIN_FLOW_ARN, SALES_FLOW_ARN, SUPPORT_FLOW_ARN);
+    }
+
+    private static String content(final String... arns) {
+        final StringBuilder actions = new StringBuilder();
+        for (int i = 0; i < arns.length; i++) {
+            actions.append(i == 0 ? "" : ",")
+                    .append(String.format("{\"Identifier\":\"%d\",\"Parameters\":{\"Id\":\"%s\"}}", i, arns[i]));
+        }
+        return "{\"Version\":\"2019-10-30\",\"Actions\":[" + actions + "]}";
+    }
+}
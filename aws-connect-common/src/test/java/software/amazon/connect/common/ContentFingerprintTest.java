@@ -0,0 +1,58 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ContentFingerprintTest {
+
+    private static final String FLOW = "{\"Version\":\"2019-10-30\",\"StartAction\":\"a\",\"Actions\":[" +
+            "{\"Identifier\":\"a\",\"Type\":\"MessageParticipant\",\"Parameters\":{\"Text\":\"Hello\"},\"Transitions\":{\"NextAction\":\"b\"}}," +
+            "{\"Identifier\":\"b\",\"Type\":\"DisconnectParticipant\",\"Parameters\":{},\"Transitions\":{}}]," +
+            "\"Metadata\":{\"entryPointPosition\":{\"x\":40,\"y\":40.0}}}";
+
+    private static final String FLOW_REORDERED = "{\n" +
+            "  \"Metadata\": { \"entryPointPosition\": { \"y\": 40, \"x\": 4.0E1 } },\n" +
+            "  \"Actions\": [\n" +
+            "    { \"Type\": \"MessageParticipant\", \"Identifier\": \"a\", \"Transitions\": { \"NextAction\": \"b\" }, \"Parameters\": { \"Text\": \"Hello\" } },\n" +
+            "    { \"Transitions\": {}, \"Parameters\": {}, \"Type\": \"DisconnectParticipant\", \"Identifier\": \"b\" }\n" +
+            "  ],\n" +
+            "  \"StartAction\": \"a\",\n" +
+            "  \"Version\": \"2019-10-30\"\n" +
+            "}";
+
+    @Test
+    public void testIsEquivalent_IgnoresWhitespaceMemberOrderAndNumberSpelling() {
+        assertThat(ContentFingerprint.isEquivalent(FLOW, FLOW_REORDERED)).isTrue();
+        assertThat(ContentFingerprint.of(FLOW)).isEqualTo(ContentFingerprint.of(FLOW_REORDERED)).hasSize(32);
+    }
+
+    @Test
+    public void testIsEquivalent_ValueChanged() {
+        assertThat(ContentFingerprint.isEquivalent(FLOW, FLOW.replace("Hello", "Hello!"))).isFalse();
+        assertThat(ContentFingerprint.isEquivalent(FLOW, FLOW.replace("\"x\":40", "\"x\":41"))).isFalse();
+    }
+
+    @Test
+    public void testIsEquivalent_ArrayOrderMatters() {
+        assertThat(ContentFingerprint.isEquivalent("[1,2]", "[2,1]")).isFalse();
+        assertThat(ContentFingerprint.isEquivalent("[[1],2]", "[[1,2]]")).isFalse();
+    }
+
+    @Test
+    public void testIsEquivalent_TypesAreDistinct() {
+        assertThat(ContentFingerprint.isEquivalent("{\"a\":\"1\"}", "{\"a\":1}")).isFalse();
+        assertThat(ContentFingerprint.isEquivalent("{\"a\":null}", "{}")).isFalse();
+        assertThat(ContentFingerprint.isEquivalent("{\"a\":{\"b\":1}}", "{\"a\":{},\"b\":1}")).isFalse();
+    }
+
+    @Test
+    public void testIsEquivalent_NullAndMalformed() {
+        assertThat(ContentFingerprint.isEquivalent(null, null)).isTrue();
+        assertThat(ContentFingerprint.isEquivalent(FLOW, null)).isFalse();
+        assertThat(ContentFingerprint.isEquivalent("not-json", "not-json")).isTrue();
+        assertThat(ContentFingerprint.isEquivalent("{\"a\":1", "{\"a\":1}")).isFalse();
+        assertThat(ContentFingerprint.of("{\"a\":1} {}")).isNull();
+        assertThat(ContentFingerprint.of("")).isNull();
+    }
+}
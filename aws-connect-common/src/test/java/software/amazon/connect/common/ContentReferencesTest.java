@@ -0,0 +1,58 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ContentReferencesTest {
+
+    private static final String INSTANCE_ARN = "arn:aws:connect:us-west-2:111111111111:instance/instanceId";
+    private static final String QUEUE_ARN = INSTANCE_ARN + "/queue/queueId";
+    private static final String PROMPT_ARN = INSTANCE_ARN + "/prompt/promptId";
+    private static final String MODULE_ARN = INSTANCE_ARN + "/flow-module/moduleId";
+    private static final String FUNCTION_ARN = "arn:aws:lambda:us-west-2:111111111111:function:lookup-customer";
+
+    private static final String FLOW = "{\"Version\":\"2019-10-30\",\"StartAction\":\"a\",\"Actions\":[" +
+            "{\"Identifier\":\"a\",\"Type\":\"MessageParticipant\",\"Parameters\":{\"PromptId\":\"" + PROMPT_ARN + "\"},\"Transitions\":{\"NextAction\":\"b\"}}," +
+            "{\"Identifier\":\"b\",\"Type\":\"InvokeLambdaFunction\",\"Parameters\":{\"LambdaFunctionARN\":\"" + FUNCTION_ARN + ":live\"},\"Transitions\":{\"NextAction\":\"c\"}}," +
+            "{\"Identifier\":\"c\",\"Type\":\"InvokeFlowModule\",\"Parameters\":{\"FlowModuleId\":\"" + MODULE_ARN + "\"},\"Transitions\":{\"NextAction\":\"d\"}}," +
+            "{\"Identifier\":\"d\",\"Type\":\"UpdateContactTargetQueue\",\"Parameters\":{\"QueueId\":\"" + QUEUE_ARN.replace("/", "\\/") + "\"},\"Transitions\":{\"NextAction\":\"e\"}}," +
+            "{\"Identifier\":\"e\",\"Type\":\"TransferContactToQueue\",\"Parameters\":{\"QueueId\":\"" + QUEUE_ARN + "\"},\"Transitions\":{}}]," +
+            "\"Metadata\":{\"entryPointPosition\":{\"x\":40,\"y\":40},\"ActionMetadata\":{\"a\":{\"arn:note\":\"" + INSTANCE_ARN + "\"}}}}";
+
+    @Test
+    public void testOf_ExtractsReferencesInOrder() {
+        assertThat(ContentReferences.of(FLOW)).containsExactly(PROMPT_ARN, FUNCTION_ARN + ":live", MODULE_ARN, QUEUE_ARN);
+    }
+
+    @Test
+    public void testOf_NoReferences() {
+        assertThat(ContentReferences.of("{\"Actions\":[],\"Text\":\"arn: not a reference\"}")).isEmpty();
+        assertThat(ContentReferences.of("\"" + QUEUE_ARN + "\"")).containsExactly(QUEUE_ARN);
+    }
+
+    @Test
+    public void testOf_Malformed() {
+        assertThat(ContentReferences.of(null)).isNull();
+        assertThat(ContentReferences.of("")).isNull();
+        assertThat(ContentReferences.of("{\"QueueId\":\"" + QUEUE_ARN + "\"")).isNull();
+        assertThat(ContentReferences.of("{} {}")).isNull();
+    }
+
+    @Test
+    public void testIsReference() {
+        assertThat(ContentReferences.isReference(QUEUE_ARN)).isTrue();
+        assertThat(ContentReferences.isReference(FUNCTION_ARN)).isTrue();
+        assertThat(ContentReferences.isReference(FUNCTION_ARN + ":$LATEST")).isTrue();
+        assertThat(ContentReferences.isReference("arn:aws-cn:lambda:cn-north-1:111111111111:function:Lookup_Customer")).isTrue();
+        assertThat(ContentReferences.isReference(INSTANCE_ARN)).isFalse();
+        assertThat(ContentReferences.isReference(FUNCTION_ARN + ":")).isFalse();
+        assertThat(ContentReferences.isReference(FUNCTION_ARN + "/live")).isFalse();
+        assertThat(ContentReferences.isReference("arn:aws:lambda:us-west-2:111111111111:function:")).isFalse();
+        assertThat(ContentReferences.isReference("arn:aws:lambda::111111111111:function:lookup")).isFalse();
+        assertThat(ContentReferences.isReference("arn:aws:lambda:us-west-2:11111111111:function:lookup")).isFalse();
+        assertThat(ContentReferences.isReference("arn:aws:lambda:us-west-2:111111111111:layer:lookup")).isFalse();
+        assertThat(ContentReferences.isReference("arn:aws:lex:us-west-2:111111111111:bot-alias/botId/aliasId")).isFalse();
+        assertThat(ContentReferences.isReference("arn:aws")).isFalse();
+    }
+}
@@ -0,0 +1,70 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ContentValidatorTest {
+
+    private static final String FLOW = "{\"Version\":\"2019-10-30\",\"StartAction\":\"a\",\"Metadata\":{\"entryPointPosition\":{\"x\":40,\"y\":40}},\"Actions\":[" +
+            "{\"Identifier\":\"a\",\"Type\":\"MessageParticipant\",\"Parameters\":{\"Text\":\"Hello\"}," +
+            "\"Transitions\":{\"NextAction\":\"b\",\"Errors\":[{\"NextAction\":\"c\",\"ErrorType\":\"NoMatchingError\"}],\"Conditions\":[]}}," +
+            "{\"Identifier\":\"b\",\"Type\":\"Compare\",\"Parameters\":{\"ComparisonValue\":\"$.Channel\"}," +
+            "\"Transitions\":{\"NextAction\":\"c\",\"Conditions\":[{\"NextAction\":\"c\",\"Condition\":{\"Operator\":\"Equals\",\"Operands\":[\"VOICE\"]}}]}}," +
+            "{\"Identifier\":\"c\",\"Type\":\"DisconnectParticipant\",\"Parameters\":{},\"Transitions\":{}}]}";
+
+    @Test
+    public void testValidate_WellFormedFlow() {
+        ContentValidator.validate(FLOW);
+    }
+
+    @Test
+    public void testValidate_LengthCountedInCharacters() {
+        final String padding = "{\"Version\":\"2019-10-30\",\"StartAction\":\"a\",\"Actions\":[{\"Identifier\":\"a\",\"Parameters\":{\"Text\":\"%s\"}}]}";
+        final int paddingLength = String.format(padding, "").length();
+        final String emoji = new String(Character.toChars(0x1F600));
+
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < ContentValidator.MAX_LENGTH - paddingLength; i++) {
+            text.append(emoji);
+        }
+        final String atLimit = String.format(padding, text);
+        assertThat(atLimit.length()).isGreaterThan(ContentValidator.MAX_LENGTH);
+        ContentValidator.validate(atLimit);
+
+        assertInvalid(String.format(padding, text.append('!')), "longer than 256000 characters");
+    }
+
+    @Test
+    public void testValidate_Malformed() {
+        assertInvalid(null, "empty");
+        assertInvalid("", "empty");
+        assertInvalid("[]", "not a JSON object");
+        assertInvalid(FLOW.substring(0, FLOW.length() - 1), "not well-formed JSON");
+        assertInvalid(FLOW + " {}", "more than one JSON value");
+        assertInvalid(FLOW.replace("\"Actions\":[", "\"Actions\":{\"a\":["), "Actions must be an array");
+        assertInvalid(FLOW.replace("\"Identifier\":\"c\"", "\"Identifier\":3"), "Identifier must be a string");
+    }
+
+    @Test
+    public void testValidate_RequiredKeys() {
+        assertInvalid(FLOW.replace("\"Version\":\"2019-10-30\",", ""), "Version is missing");
+        assertInvalid(FLOW.replace("\"StartAction\":\"a\",", ""), "StartAction is missing");
+        assertInvalid("{\"Version\":\"2019-10-30\",\"StartAction\":\"a\"}", "Actions is missing");
+    }
+
+    @Test
+    public void testValidate_DanglingTargets() {
+        assertInvalid(FLOW.replace("\"StartAction\":\"a\"", "\"StartAction\":\"z\""), "StartAction z is not the Identifier");
+        assertInvalid(FLOW.replace("\"Identifier\":\"c\"", "\"Identifier\":\"d\""), "NextAction c is not the Identifier");
+        assertInvalid(FLOW.replace("{\"NextAction\":\"c\",\"ErrorType\"", "{\"NextAction\":\"e\",\"ErrorType\"")
+                .replace("{\"NextAction\":\"c\",\"Condition\"", "{\"NextAction\":\"f\",\"Condition\""), "NextAction e, f is not the Identifier");
+    }
+
+    private static void assertInvalid(final String content, final String reason) {
+        final CfnInvalidRequestException thrown = assertThrows(CfnInvalidRequestException.class, () -> ContentValidator.validate(content));
+        assertThat(thrown.getMessage()).contains(reason);
+    }
+}
@@ -0,0 +1,67 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.services.connect.model.DescribeUserRequest;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeadlineTest {
+
+    private static final DescribeUserRequest REQUEST = DescribeUserRequest.builder().instanceId("instanceId").userId("userId").build();
+
+    private final AtomicLong nanos = new AtomicLong(-TimeUnit.SECONDS.toNanos(100));
+
+    @Test
+    public void testCallBudget_LeavesReserve() {
+        final Deadline deadline = Deadline.after(Duration.ofSeconds(60), nanos::get);
+
+        assertThat(deadline.callBudgetMillis()).isEqualTo(60_000 - Deadline.RESERVE_MILLIS);
+        assertThat(deadline.canStartCall()).isTrue();
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(60_000 - Deadline.RESERVE_MILLIS - Deadline.MIN_CALL_MILLIS));
+        assertThat(deadline.canStartCall()).isTrue();
+
+        nanos.incrementAndGet();
+        assertThat(deadline.canStartCall()).isFalse();
+    }
+
+    @Test
+    public void testBound_SetsApiCallTimeoutAndKeepsOverrides() {
+        final Deadline deadline = Deadline.after(Duration.ofSeconds(20), nanos::get);
+        final DescribeUserRequest request = REQUEST.toBuilder()
+                .overrideConfiguration(AwsRequestOverrideConfiguration.builder().putHeader("header", "value").build())
+                .build();
+
+        final DescribeUserRequest bounded = deadline.bound(request);
+
+        assertThat(bounded.userId()).isEqualTo("userId");
+        assertThat(bounded.overrideConfiguration().get().apiCallTimeout()).contains(Duration.ofMillis(20_000 - Deadline.RESERVE_MILLIS));
+        assertThat(bounded.overrideConfiguration().get().headers()).containsKey("header");
+    }
+
+    @Test
+    public void testNone_NeverPassesAndLeavesRequest() {
+        assertThat(Deadline.NONE.isBounded()).isFalse();
+        assertThat(Deadline.NONE.canStartCall()).isTrue();
+        assertThat(Deadline.NONE.bound(REQUEST)).isSameAs(REQUEST);
+    }
+
+    @Test
+    public void testFromEnvironment_ReadsBudgetProperty() {
+        try {
+            System.setProperty(Deadline.BUDGET_PROPERTY, "10");
+            assertThat(Deadline.fromEnvironment().callBudgetMillis()).isBetween(0L, 10_000 - Deadline.RESERVE_MILLIS);
+
+            System.setProperty(Deadline.BUDGET_PROPERTY, "soon");
+            assertThat(Deadline.fromEnvironment().callBudgetMillis())
+                    .isGreaterThan(TimeUnit.SECONDS.toMillis(Deadline.DEFAULT_BUDGET_SECONDS) - Deadline.RESERVE_MILLIS - 1_000);
+        } finally {
+            System.clearProperty(Deadline.BUDGET_PROPERTY);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DescribeCacheTest {
+
+    private static final long TTL = 100;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void testGet_HitUntilTtlExpires() {
+        final DescribeCache cache = new DescribeCache(TTL, 10_000, clock::get);
+        cache.put("a", "response", 1, cache.generation());
+
+        clock.set(TTL - 1);
+        assertThat(cache.get("a")).isEqualTo("response");
+        clock.set(TTL);
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isNull();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getWeight()).isZero();
+    }
+
+    @Test
+    public void testPut_EvictsLeastRecentlyUsedByWeight() {
+        final DescribeCache cache = new DescribeCache(TTL, 10, clock::get);
+        cache.put("a", "a", 4, cache.generation());
+        cache.put("b", "b", 4, cache.generation());
+        cache.get("a");
+        cache.put("c", "c", 4, cache.generation());
+
+        assertThat(cache.get("a")).isEqualTo("a");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo("c");
+        assertThat(cache.getWeight()).isEqualTo(8);
+    }
+
+    @Test
+    public void testPut_IgnoresValueHeavierThanCache() {
+        final DescribeCache cache = new DescribeCache(TTL, 10, clock::get);
+        cache.put("a", "a", 4, cache.generation());
+        cache.put("big", "big", 11, cache.generation());
+
+        assertThat(cache.get("big")).isNull();
+        assertThat(cache.get("a")).isEqualTo("a");
+    }
+
+    @Test
+    public void testPut_ReplacingKeepsWeight() {
+        final DescribeCache cache = new DescribeCache(TTL, 10, clock::get);
+        cache.put("a", "first", 4, cache.generation());
+        cache.put("a", "second", 6, cache.generation());
+
+        assertThat(cache.get("a")).isEqualTo("second");
+        assertThat(cache.getWeight()).isEqualTo(6);
+    }
+
+    @Test
+    public void testInvalidateAll_DropsEntriesAndReadsStartedBefore() {
+        final DescribeCache cache = new DescribeCache(TTL, 10_000, clock::get);
+        cache.put("a", "a", 1, cache.generation());
+        final long inFlight = cache.generation();
+
+        cache.invalidateAll();
+        cache.put("b", "b", 1, inFlight);
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void testDisabled() {
+        final DescribeCache cache = DescribeCache.DISABLED;
+        cache.put("a", "a", DescribeCache.ENTRY_WEIGHT, cache.generation());
+
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    public void testTextWeight() {
+        assertThat(DescribeCache.textWeight(null)).isEqualTo(DescribeCache.ENTRY_WEIGHT);
+        assertThat(DescribeCache.textWeight("abc")).isEqualTo(DescribeCache.ENTRY_WEIGHT + 6);
+    }
+}
@@ -0,0 +1,164 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HedgingPolicyTest {
+
+    private static final String OPERATION = "connect::describeUser";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger hedges = new AtomicInteger();
+
+    @Test
+    public void testFromEnvironment_DisabledUnlessPercentileSet() {
+        assertThat(HedgingPolicy.fromEnvironment().isEnabled()).isFalse();
+        try {
+            System.setProperty(HedgingPolicy.PERCENTILE_PROPERTY, "95");
+            assertThat(HedgingPolicy.fromEnvironment().isEnabled()).isTrue();
+            System.setProperty(HedgingPolicy.PERCENTILE_PROPERTY, "100");
+            assertThat(HedgingPolicy.fromEnvironment().isEnabled()).isFalse();
+        } finally {
+            System.clearProperty(HedgingPolicy.PERCENTILE_PROPERTY);
+        }
+    }
+
+    @Test
+    public void testCall_NotHedgedUntilWindowHasSamples() {
+        final HedgingPolicy policy = new HedgingPolicy(95, 1, nanos::get);
+
+        assertThat(policy.call(OPERATION, slowFirstCall(), () -> true, hedges::incrementAndGet)).isEqualTo("primary");
+        assertThat(calls).hasValue(1);
+        assertThat(hedges).hasValue(0);
+    }
+
+    @Test
+    public void testCall_SlowCallIsHedged() {
+        final HedgingPolicy policy = warmedUp(1);
+
+        assertThat(policy.call(OPERATION, slowFirstCall(), () -> true, hedges::incrementAndGet)).isEqualTo("hedge");
+        assertThat(calls).hasValue(2);
+        assertThat(hedges).hasValue(1);
+    }
+
+    @Test
+    public void testCall_FastCallIsNotHedged() {
+        final HedgingPolicy policy = warmedUp(1);
+        for (int i = 0; i < HedgingPolicy.MIN_SAMPLES; i++) {
+            policy.record(OPERATION, TimeUnit.SECONDS.toNanos(10));
+        }
+        nanos.addAndGet(HedgingPolicy.WINDOW_NANOS);
+
+        assertThat(policy.call(OPERATION, () -> "primary", () -> true, hedges::incrementAndGet)).isEqualTo("primary");
+        assertThat(hedges).hasValue(0);
+    }
+
+    @Test
+    public void testCall_HedgesBoundedByBudget() {
+        final HedgingPolicy policy = warmedUp(0.5);
+
+        assertThat(policy.call(OPERATION, slowFirstCall(), () -> true, hedges::incrementAndGet)).isEqualTo("primary");
+        assertThat(hedges).hasValue(0);
+
+        calls.set(0);
+        assertThat(policy.call(OPERATION, slowFirstCall(), () -> true, hedges::incrementAndGet)).isEqualTo("hedge");
+        assertThat(hedges).hasValue(1);
+    }
+
+    @Test
+    public void testCall_NotHedgedWhenNotAdmitted() {
+        final HedgingPolicy policy = warmedUp(1);
+
+        assertThat(policy.call(OPERATION, slowFirstCall(), () -> false, hedges::incrementAndGet)).isEqualTo("primary");
+        assertThat(calls).hasValue(1);
+        assertThat(hedges).hasValue(0);
+    }
+
+    @Test
+    public void testCall_FailureSurfaces() {
+        final HedgingPolicy policy = warmedUp(1);
+
+        assertThrows(CfnNotFoundException.class, () -> policy.call(OPERATION, () -> {
+            throw new CfnNotFoundException("User", "userArn");
+        }, () -> true, hedges::incrementAndGet));
+    }
+
+    @Test
+    public void testCall_FailedHedgeDoesNotFailRead() {
+        final HedgingPolicy policy = warmedUp(1);
+        final Supplier<String> slowFirstCall = slowFirstCall();
+
+        assertThat(policy.call(OPERATION, () -> {
+            if (calls.get() > 0) {
+                calls.incrementAndGet();
+                throw new CfnThrottlingException("DescribeUser", null);
+            }
+            return slowFirstCall.get();
+        }, () -> true, hedges::incrementAndGet)).isEqualTo("primary");
+        assertThat(calls).hasValue(2);
+        assertThat(hedges).hasValue(1);
+    }
+
+    @Test
+    public void testCall_FailsOnceBothCallsFail() {
+        final HedgingPolicy policy = warmedUp(1);
+        final Supplier<String> slowFirstCall = slowFirstCall();
+
+        assertThrows(CfnNotFoundException.class, () -> policy.call(OPERATION, () -> {
+            if (calls.get() > 0) {
+                calls.incrementAndGet();
+                throw new CfnThrottlingException("DescribeUser", null);
+            }
+            slowFirstCall.get();
+            throw new CfnNotFoundException("User", "userArn");
+        }, () -> true, hedges::incrementAndGet));
+        assertThat(hedges).hasValue(1);
+    }
+
+    @Test
+    public void testCall_MadeOnCallersThreadWithoutHedgeBudget() {
+        final HedgingPolicy policy = warmedUp(0.5);
+        final Thread caller = Thread.currentThread();
+
+        assertThat(policy.call(OPERATION, () -> Thread.currentThread(), () -> true, hedges::incrementAndGet)).isSameAs(caller);
+    }
+
+    /**
+     * @return a policy whose last window saw calls of one millisecond
+     */
+    private HedgingPolicy warmedUp(final double extraLoad) {
+        final HedgingPolicy policy = new HedgingPolicy(95, extraLoad, nanos::get);
+        for (int i = 0; i < HedgingPolicy.MIN_SAMPLES; i++) {
+            policy.record(OPERATION, TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        nanos.addAndGet(HedgingPolicy.WINDOW_NANOS);
+        return policy;
+    }
+
+    /**
+     * @return a call that takes half a second the first time it is made and answers at once the second time
+     */
+    private Supplier<String> slowFirstCall() {
+        return () -> {
+            if (calls.incrementAndGet() > 1) {
+                return "hedge";
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "primary";
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InvocationTest {
+
+    @Test
+    public void testCurrent_NoneOutsideInvocation() {
+        assertThat(Invocation.current()).isSameAs(Invocation.NONE);
+        assertThat(Invocation.current().getDeadline()).isSameAs(Deadline.NONE);
+    }
+
+    @Test
+    public void testCurrent_HeldPerThread() throws Exception {
+        final Invocation invocation = Invocation.start(Deadline.after(Duration.ofSeconds(30)));
+        try {
+            assertThat(Invocation.current()).isSameAs(invocation);
+            assertThat(CompletableFuture.supplyAsync(Invocation::current).get(10, TimeUnit.SECONDS)).isSameAs(Invocation.NONE);
+        } finally {
+            Invocation.finish();
+        }
+        assertThat(Invocation.current()).isSameAs(Invocation.NONE);
+    }
+
+    @Test
+    public void testWrap_RunsWithinInvocationOnAnotherThread() throws Exception {
+        final Invocation invocation = Invocation.start(Deadline.after(Duration.ofSeconds(30)));
+        try {
+            assertThat(CompletableFuture.supplyAsync(() -> call(invocation)).get(10, TimeUnit.SECONDS)).isSameAs(invocation);
+        } finally {
+            Invocation.finish();
+        }
+    }
+
+    @Test
+    public void testWrap_RestoresRunningInvocation() {
+        final Invocation other = Invocation.start(Deadline.after(Duration.ofSeconds(10)));
+        Invocation.finish();
+        final Invocation running = Invocation.start(Deadline.after(Duration.ofSeconds(30)));
+        try {
+            assertThat(call(other)).isSameAs(other);
+            assertThat(Invocation.current()).isSameAs(running);
+        } finally {
+            Invocation.finish();
+        }
+        assertThat(call(other)).isSameAs(other);
+        assertThat(Invocation.current()).isSameAs(Invocation.NONE);
+    }
+
+    private static Invocation call(final Invocation invocation) {
+        try {
+            return invocation.wrap(Invocation::current).call();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.awssdk.services.connect.model.TagResourceRequest;
+import software.amazon.awssdk.services.connect.model.TagResourceResponse;
+import software.amazon.awssdk.services.connect.model.UntagResourceRequest;
+import software.amazon.awssdk.services.connect.model.UntagResourceResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ResourceTagsTest {
+
+    private static final String RESOURCE_ARN = "arn:aws:connect:us-west-2:111111111111:instance/instanceId/agent/userId";
+    private static final ConnectInvoker INVOKER = new ConnectInvoker(ConnectExceptionTranslator.withInvalidRequestExceptions());
+    private static final String MODEL = "model";
+
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<ConnectClient> proxyClient;
+    private LoggerProxy logger;
+
+    @Mock
+    private ConnectClient connectClient;
+
+    @BeforeEach
+    public void setup() {
+        final Credentials MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+        logger = new LoggerProxy();
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = proxy.newProxy(() -> connectClient);
+    }
+
+    @AfterEach
+    public void post_execute() {
+        verifyNoMoreInteractions(proxyClient.client());
+    }
+
+    @Test
+    public void testConvertResourceTagsToSet() {
+        final Set<Map.Entry<String, String>> tags = ResourceTags.convertResourceTagsToSet(
+                Collections.singletonMap("key", "value"), AbstractMap.SimpleImmutableEntry::new);
+        assertThat(tags).containsExactly(new AbstractMap.SimpleImmutableEntry<>("key", "value"));
+        assertThat(ResourceTags.convertResourceTagsToSet(null, AbstractMap.SimpleImmutableEntry::new)).isEmpty();
+    }
+
+    @Test
+    public void testTagAndUntagResource() {
+        final ArgumentCaptor<TagResourceRequest> tagResourceRequestArgumentCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
+        final ArgumentCaptor<UntagResourceRequest> untagResourceRequestArgumentCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
+        when(proxyClient.client().tagResource(tagResourceRequestArgumentCaptor.capture())).thenReturn(TagResourceResponse.builder().build());
+        when(proxyClient.client().untagResource(untagResourceRequestArgumentCaptor.capture())).thenReturn(UntagResourceResponse.builder().build());
+        final TagDiff tagDiff = TagDiff.between(Collections.singletonMap("removed", "A"), Collections.singletonMap("added", "B"));
+        final StdCallbackContext context = new StdCallbackContext();
+
+        final ProgressEvent<String, StdCallbackContext> response = ProgressEvent.progress(MODEL, context)
+                .then(progress -> ResourceTags.untagResource(proxy, proxyClient, MODEL, RESOURCE_ARN, tagDiff, progress, context, INVOKER, logger))
+                .then(progress -> ResourceTags.tagResource(proxy, proxyClient, MODEL, RESOURCE_ARN, tagDiff, progress, context, INVOKER, logger));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getResourceModel()).isEqualTo(MODEL);
+
+        verify(proxyClient.client()).untagResource(untagResourceRequestArgumentCaptor.capture());
+        assertThat(untagResourceRequestArgumentCaptor.getValue().resourceArn()).isEqualTo(RESOURCE_ARN);
+        assertThat(untagResourceRequestArgumentCaptor.getValue().tagKeys()).containsExactly("removed");
+        verify(proxyClient.client()).tagResource(tagResourceRequestArgumentCaptor.capture());
+        assertThat(tagResourceRequestArgumentCaptor.getValue().resourceArn()).isEqualTo(RESOURCE_ARN);
+        assertThat(tagResourceRequestArgumentCaptor.getValue().tags()).isEqualTo(Collections.singletonMap("added", "B"));
+
+        verify(connectClient, times(2)).serviceName();
+    }
+
+    @Test
+    public void testTagAndUntagResource_OneCallPerChunk() {
+        final ArgumentCaptor<TagResourceRequest> tagResourceRequestArgumentCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
+        final ArgumentCaptor<UntagResourceRequest> untagResourceRequestArgumentCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
+        when(proxyClient.client().tagResource(any(TagResourceRequest.class))).thenReturn(TagResourceResponse.builder().build());
+        when(proxyClient.client().untagResource(any(UntagResourceRequest.class))).thenReturn(UntagResourceResponse.builder().build());
+        final Map<String, String> previousTags = new HashMap<>();
+        final Map<String, String> desiredTags = new HashMap<>();
+        for (int i = 0; i < TagDiff.MAX_TAGS_PER_CALL + 1; i++) {
+            previousTags.put("removed" + i, "A");
+            desiredTags.put("added" + i, "B");
+        }
+        final TagDiff tagDiff = TagDiff.between(previousTags, desiredTags);
+        final StdCallbackContext context = new StdCallbackContext();
+
+        final ProgressEvent<String, StdCallbackContext> response = ProgressEvent.progress(MODEL, context)
+                .then(progress -> ResourceTags.untagResource(proxy, proxyClient, MODEL, RESOURCE_ARN, tagDiff, progress, context, INVOKER, logger))
+                .then(progress -> ResourceTags.tagResource(proxy, proxyClient, MODEL, RESOURCE_ARN, tagDiff, progress, context, INVOKER, logger));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        verify(proxyClient.client(), times(2)).untagResource(untagResourceRequestArgumentCaptor.capture());
+        assertThat(untagResourceRequestArgumentCaptor.getAllValues()).extracting(request -> request.tagKeys().size())
+                .containsExactly(TagDiff.MAX_TAGS_PER_CALL, 1);
+        verify(proxyClient.client(), times(2)).tagResource(tagResourceRequestArgumentCaptor.capture());
+        assertThat(tagResourceRequestArgumentCaptor.getAllValues()).extracting(request -> request.tags().size())
+                .containsExactly(TagDiff.MAX_TAGS_PER_CALL, 1);
+
+        verify(connectClient, times(4)).serviceName();
+    }
+
+    @Test
+    public void testTagAndUntagResource_NoChanges() {
+        final TagDiff tagDiff = TagDiff.between(Collections.singletonMap("key", "A"), Collections.singletonMap("key", "A"));
+        final StdCallbackContext context = new StdCallbackContext();
+        final ProgressEvent<String, StdCallbackContext> progress = ProgressEvent.progress(MODEL, context);
+
+        assertThat(ResourceTags.untagResource(proxy, proxyClient, MODEL, RESOURCE_ARN, tagDiff, progress, context, INVOKER, logger)).isSameAs(progress);
+        assertThat(ResourceTags.tagResource(proxy, proxyClient, MODEL, RESOURCE_ARN, tagDiff, progress, context, INVOKER, logger)).isSameAs(progress);
+    }
+}
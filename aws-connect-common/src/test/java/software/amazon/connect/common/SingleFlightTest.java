@@ -0,0 +1,137 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SingleFlightTest {
+
+    private static final String KEY = "DescribeUser|userArn";
+    private static final int FOLLOWERS = 3;
+
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+    private final AtomicInteger calls = new AtomicInteger();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch joined = new CountDownLatch(FOLLOWERS);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testExecute_ConcurrentCallersShareOneCall() throws Exception {
+        final List<Future<String>> results = runConcurrently(() -> "user");
+
+        for (final Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("user");
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    public void testExecute_ConcurrentCallersShareFailure() throws Exception {
+        final CfnNotFoundException notFound = new CfnNotFoundException("User", "userArn");
+        final List<Future<String>> results = runConcurrently(() -> {
+            throw notFound;
+        });
+
+        for (final Future<String> result : results) {
+            final ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertThat(thrown.getCause()).isSameAs(notFound);
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    public void testExecute_FailureNotSharedMakesFollowersCall() throws Exception {
+        final DeadlineExceededException deadlineExceeded = new DeadlineExceededException("DescribeUser");
+        final List<Future<String>> results = runConcurrently(() -> {
+            throw deadlineExceeded;
+        }, e -> !(e instanceof DeadlineExceededException));
+
+        final ExecutionException thrown = assertThrows(ExecutionException.class, () -> results.get(0).get(5, TimeUnit.SECONDS));
+        assertThat(thrown.getCause()).isSameAs(deadlineExceeded);
+        for (final Future<String> result : results.subList(1, results.size())) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("own");
+        }
+        assertThat(calls.get()).isGreaterThan(1);
+    }
+
+    @Test
+    public void testExecute_CallsAgainOnceCallReturned() {
+        assertThat(singleFlight.<Integer>execute(KEY, () -> { }, e -> true, calls::incrementAndGet)).isEqualTo(1);
+        assertThat(singleFlight.<Integer>execute(KEY, () -> { }, e -> true, calls::incrementAndGet)).isEqualTo(2);
+        assertThat(singleFlight.<Integer>execute("DescribeUser|otherArn", () -> { }, e -> true, calls::incrementAndGet)).isEqualTo(3);
+    }
+
+    @Test
+    public void testForgetAll_LaterCallersDoNotJoin() throws Exception {
+        final Future<String> leader = executor.submit(() -> singleFlight.execute(KEY, () -> { }, e -> true, () -> {
+            started.countDown();
+            await(release);
+            return "before";
+        }));
+        await(started);
+
+        singleFlight.forgetAll();
+        assertThat(singleFlight.<String>execute(KEY, () -> { }, e -> true, () -> "after")).isEqualTo("after");
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("before");
+    }
+
+    /**
+     * Starts a leader whose call blocks until {@link #FOLLOWERS} callers have joined it.
+     */
+    private List<Future<String>> runConcurrently(final Supplier<String> call) throws InterruptedException {
+        return runConcurrently(call, e -> true);
+    }
+
+    private List<Future<String>> runConcurrently(final Supplier<String> call, final Predicate<RuntimeException> shared)
+            throws InterruptedException {
+        final List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute(KEY, () -> { }, shared, () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return call.get();
+        })));
+        await(started);
+        for (int i = 0; i < FOLLOWERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(KEY, joined::countDown, shared, () -> {
+                calls.incrementAndGet();
+                return "own";
+            })));
+        }
+        assertThat(joined.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+        return results;
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
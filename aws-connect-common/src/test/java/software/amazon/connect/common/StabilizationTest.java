@@ -0,0 +1,81 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StabilizationTest {
+
+    private static final String MODEL = "model";
+    private static final String RESOURCE_ARN = "arn:aws:connect:us-west-2:111111111111:instance/instanceId/agent/userId";
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void testAwaitVisible_Visible() {
+        final ConnectCallbackContext context = new ConnectCallbackContext();
+        final ProgressEvent<String, ConnectCallbackContext> progress = ProgressEvent.progress(MODEL, context);
+
+        assertThat(Stabilization.awaitVisible(context, progress, RESOURCE_ARN, () -> true, random, message -> { })).isSameAs(progress);
+        assertThat(context.getStabilizationAttempts()).isZero();
+    }
+
+    @Test
+    public void testAwaitVisible_NotVisibleReturnsInProgressWithDelay() {
+        final ConnectCallbackContext context = new ConnectCallbackContext();
+
+        final ProgressEvent<String, ConnectCallbackContext> result = Stabilization.awaitVisible(context,
+                ProgressEvent.progress(MODEL, context), RESOURCE_ARN, () -> false, random, message -> { });
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(result.getCallbackDelaySeconds()).isBetween(1, Stabilization.BASE_DELAY_SECONDS);
+        assertThat(result.getCallbackContext()).isSameAs(context);
+        assertThat(result.getResourceModel()).isEqualTo(MODEL);
+        assertThat(context.getStabilizationAttempts()).isEqualTo(1);
+        assertThat(context.getStabilizationSeconds()).isEqualTo(result.getCallbackDelaySeconds());
+    }
+
+    @Test
+    public void testAwaitVisible_StopsWaitingOnceBudgetIsSpent() {
+        final ConnectCallbackContext context = new ConnectCallbackContext();
+        final ProgressEvent<String, ConnectCallbackContext> progress = ProgressEvent.progress(MODEL, context);
+
+        ProgressEvent<String, ConnectCallbackContext> result;
+        int polls = 0;
+        do {
+            result = Stabilization.awaitVisible(context, progress, RESOURCE_ARN, () -> false, random, message -> { });
+            polls++;
+        } while (result != progress);
+
+        assertThat(polls).isGreaterThan(1);
+        assertThat(context.getStabilizationSeconds()).isLessThanOrEqualTo(Stabilization.BUDGET_SECONDS);
+        assertThat(context.getStabilizationAttempts()).isEqualTo(polls - 1);
+    }
+
+    @Test
+    public void testDelaySeconds_BacksOffWithJitterUpToCap() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(Stabilization.delaySeconds(1, random)).isBetween(1, 2);
+            assertThat(Stabilization.delaySeconds(3, random)).isBetween(4, 8);
+            assertThat(Stabilization.delaySeconds(40, random)).isBetween(Stabilization.MAX_DELAY_SECONDS / 2, Stabilization.MAX_DELAY_SECONDS);
+        }
+    }
+
+    @Test
+    public void testExists() {
+        assertThat(Stabilization.exists(() -> { })).isTrue();
+        assertThat(Stabilization.exists(() -> {
+            throw new CfnNotFoundException("User", RESOURCE_ARN);
+        })).isFalse();
+        assertThrows(CfnInvalidRequestException.class, () -> Stabilization.exists(() -> {
+            throw new CfnInvalidRequestException("invalid");
+        }));
+    }
+}
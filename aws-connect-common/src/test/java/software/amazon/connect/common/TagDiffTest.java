@@ -0,0 +1,75 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TagDiffTest {
+
+    @Test
+    public void testBetween() {
+        final Map<String, String> previousTags = new HashMap<>();
+        previousTags.put("unchanged", "A");
+        previousTags.put("changed", "B");
+        previousTags.put("removed", "C");
+        final Map<String, String> desiredTags = new HashMap<>();
+        desiredTags.put("unchanged", "A");
+        desiredTags.put("changed", "D");
+        desiredTags.put("added", "E");
+
+        final TagDiff tagDiff = TagDiff.between(previousTags, desiredTags);
+
+        assertThat(tagDiff.getTagsToAdd()).hasSize(2).containsEntry("changed", "D").containsEntry("added", "E");
+        assertThat(tagDiff.getTagKeysToRemove()).containsExactly("removed");
+    }
+
+    @Test
+    public void testBetween_NullTags() {
+        assertThat(TagDiff.between(null, null).getTagsToAdd()).isEmpty();
+        assertThat(TagDiff.between(null, null).getTagKeysToRemove()).isEmpty();
+        assertThat(TagDiff.between(null, Collections.singletonMap("added", "A")).getTagsToAdd()).containsOnlyKeys("added");
+        assertThat(TagDiff.between(Collections.singletonMap("removed", "A"), null).getTagKeysToRemove()).containsExactly("removed");
+    }
+
+    @Test
+    public void testBetween_IgnoresReservedKeys() {
+        final Map<String, String> previousTags = new HashMap<>();
+        previousTags.put("aws:cloudformation:stack-name", "old");
+        previousTags.put("aws:removed", "A");
+        final Map<String, String> desiredTags = Collections.singletonMap("aws:cloudformation:stack-name", "new");
+
+        final TagDiff tagDiff = TagDiff.between(previousTags, desiredTags);
+
+        assertThat(tagDiff.getTagsToAdd()).isEmpty();
+        assertThat(tagDiff.getTagKeysToRemove()).isEmpty();
+        assertThat(tagDiff.getTagsToAddChunks()).isEmpty();
+        assertThat(tagDiff.getTagKeysToRemoveChunks()).isEmpty();
+    }
+
+    @Test
+    public void testChunks() {
+        final Map<String, String> previousTags = new HashMap<>();
+        final Map<String, String> desiredTags = new HashMap<>();
+        for (int i = 0; i < TagDiff.MAX_TAGS_PER_CALL + 10; i++) {
+            previousTags.put(String.format("removed%03d", i), "A");
+        }
+        for (int i = 0; i < 2 * TagDiff.MAX_TAGS_PER_CALL + 1; i++) {
+            desiredTags.put(String.format("added%03d", i), "B");
+        }
+
+        final TagDiff tagDiff = TagDiff.between(previousTags, desiredTags);
+        final List<Map<String, String>> tagsToAddChunks = tagDiff.getTagsToAddChunks();
+        final List<List<String>> tagKeysToRemoveChunks = tagDiff.getTagKeysToRemoveChunks();
+
+        assertThat(tagsToAddChunks).extracting(Map::size).containsExactly(TagDiff.MAX_TAGS_PER_CALL, TagDiff.MAX_TAGS_PER_CALL, 1);
+        assertThat(tagsToAddChunks.get(0)).containsKey("added000");
+        assertThat(tagsToAddChunks.get(2)).containsOnlyKeys(String.format("added%03d", 2 * TagDiff.MAX_TAGS_PER_CALL));
+        assertThat(tagKeysToRemoveChunks).extracting(List::size).containsExactly(TagDiff.MAX_TAGS_PER_CALL, 10);
+        assertThat(tagKeysToRemoveChunks.get(1)).startsWith(String.format("removed%03d", TagDiff.MAX_TAGS_PER_CALL));
+    }
+}
@@ -0,0 +1,152 @@
+package software.amazon.connect.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class UpdateModeTest {
+
+    private static final String MODEL = "model";
+
+    @Test
+    public void testFromEnvironment_DefaultsToSequential() {
+        assertThat(UpdateMode.fromEnvironment()).isEqualTo(UpdateMode.SEQUENTIAL);
+    }
+
+    @Test
+    public void testFromEnvironment_SystemProperty() {
+        System.setProperty(UpdateMode.MODE_PROPERTY, "parallel");
+        try {
+            assertThat(UpdateMode.fromEnvironment()).isEqualTo(UpdateMode.PARALLEL);
+        } finally {
+            System.clearProperty(UpdateMode.MODE_PROPERTY);
+        }
+    }
+
+    @Test
+    public void testParallel_RunsStepsConcurrently() {
+        final CountDownLatch started = new CountDownLatch(3);
+        final UpdateMode.Step<String, Void> step = (progress, context) -> {
+            started.countDown();
+            try {
+                assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return progress;
+        };
+        final ProgressEvent<String, Void> progress = ProgressEvent.progress(MODEL, null);
+
+        final ProgressEvent<String, Void> result = UpdateMode.PARALLEL.run(progress, () -> null, Arrays.asList(step, step, step));
+
+        assertThat(result).isSameAs(progress);
+    }
+
+    @Test
+    public void testParallel_GivesEachStepItsOwnContext() {
+        final AtomicInteger contexts = new AtomicInteger();
+        final Set<Integer> seen = ConcurrentHashMap.newKeySet();
+        final UpdateMode.Step<String, Integer> step = (progress, context) -> {
+            seen.add(context);
+            return progress;
+        };
+
+        UpdateMode.PARALLEL.run(ProgressEvent.progress(MODEL, 0), contexts::incrementAndGet, Arrays.asList(step, step, step));
+
+        assertThat(seen).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test
+    public void testParallel_RunsStepsWithinCallersInvocation() {
+        final Invocation invocation = Invocation.start(Deadline.after(Duration.ofSeconds(30)));
+        final Set<Invocation> seen = ConcurrentHashMap.newKeySet();
+        final UpdateMode.Step<String, Void> step = (progress, context) -> {
+            seen.add(Invocation.current());
+            return progress;
+        };
+        try {
+            UpdateMode.PARALLEL.run(ProgressEvent.progress(MODEL, null), () -> null, Arrays.asList(step, step, step));
+        } finally {
+            Invocation.finish();
+        }
+
+        assertThat(seen).containsExactly(invocation);
+    }
+
+    @Test
+    public void testParallel_WaitsForEveryStepAndRethrowsFirstFailure() {
+        final AtomicInteger completed = new AtomicInteger();
+        final List<UpdateMode.Step<String, Void>> steps = Arrays.asList(
+                (progress, context) -> {
+                    completed.incrementAndGet();
+                    return progress;
+                },
+                (progress, context) -> {
+                    throw new CfnNotFoundException("User", "first");
+                },
+                (progress, context) -> {
+                    sleep(100);
+                    completed.incrementAndGet();
+                    throw new CfnGeneralServiceException("second");
+                },
+                (progress, context) -> {
+                    sleep(100);
+                    completed.incrementAndGet();
+                    return progress;
+                });
+
+        assertThrows(CfnNotFoundException.class, () -> UpdateMode.PARALLEL.run(ProgressEvent.progress(MODEL, null), () -> null, steps));
+        assertThat(completed.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testParallel_ReturnsFirstStoppedEvent() {
+        final ProgressEvent<String, Void> failed = ProgressEvent.failed(MODEL, null, HandlerErrorCode.NotFound, "gone");
+        final List<UpdateMode.Step<String, Void>> steps = Arrays.asList(
+                (progress, context) -> progress,
+                (progress, context) -> failed,
+                (progress, context) -> ProgressEvent.defaultFailureHandler(new IllegalStateException(), HandlerErrorCode.InternalFailure));
+
+        assertThat(UpdateMode.PARALLEL.run(ProgressEvent.progress(MODEL, null), () -> null, steps)).isSameAs(failed);
+    }
+
+    @Test
+    public void testSequential_StopsAtFirstFailure() {
+        final AtomicInteger calls = new AtomicInteger();
+        final ProgressEvent<String, Void> failed = ProgressEvent.failed(MODEL, null, HandlerErrorCode.NotFound, "gone");
+        final List<UpdateMode.Step<String, Void>> steps = Arrays.asList(
+                (progress, context) -> {
+                    calls.incrementAndGet();
+                    return failed;
+                },
+                (progress, context) -> {
+                    calls.incrementAndGet();
+                    return progress;
+                });
+
+        assertThat(UpdateMode.SEQUENTIAL.run(ProgressEvent.progress(MODEL, null), () -> null, steps)).isSameAs(failed);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
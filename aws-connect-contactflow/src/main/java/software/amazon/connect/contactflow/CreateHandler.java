@@ -5,14 +5,19 @@ import software.amazon.awssdk.services.connect.model.ContactFlowType;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.awssdk.services.connect.model.CreateContactFlowRequest;
 import software.amazon.awssdk.services.connect.model.CreateContactFlowResponse;
+import software.amazon.awssdk.services.connect.model.DescribeContactFlowRequest;
 
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.connect.common.ContentValidator;
+import software.amazon.connect.common.Stabilization;
 
 import java.util.Map;
 
+import static software.amazon.connect.common.ConnectCallbackContext.runOnce;
+
 public class CreateHandler extends BaseHandlerStd {
 
     @Override
@@ -29,11 +34,16 @@ public class CreateHandler extends BaseHandlerStd {
         logger.log(String.format("Invoked CreateContactFlowHandler with Instance:%s, ContactFlowName:%s "
                 , model.getInstanceArn(), model.getName()));
 
-        return proxy.initiate("connect::createContactFlow", proxyClient, model, callbackContext)
-                .translateToServiceRequest(resourceModel -> translateToCreateContactFlowRequest(resourceModel, tags, logger))
-                .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::createContactFlow, logger))
-                .done(response -> ProgressEvent.defaultSuccessHandler(setContactFlowIdentifier(model, response)));
+        ContentValidator.validate(model.getContent());
 
+        return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> runOnce(callbackContext, "createContactFlow", progress, () -> proxy.initiate("connect::createContactFlow", proxyClient, model, callbackContext)
+                        .translateToServiceRequest(resourceModel -> translateToCreateContactFlowRequest(resourceModel, tags, logger))
+                        .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::createContactFlow, logger))
+                        .done(response -> ProgressEvent.progress(setContactFlowIdentifier(model, response), callbackContext))))
+                .then(progress -> runOnce(callbackContext, Stabilization.STEP, progress, () -> Stabilization.awaitVisible(callbackContext, progress, model.getContactFlowArn(),
+                        () -> Stabilization.exists(() -> invoke(translateToDescribeContactFlowRequest(model), proxyClient, proxyClient.client()::describeContactFlow, logger)), logger)))
+                .then(progress -> ProgressEvent.defaultSuccessHandler(model));
     }
 
     private CreateContactFlowRequest translateToCreateContactFlowRequest(final ResourceModel model, final Map<String, String> tags, Logger logger) {
@@ -48,6 +58,14 @@ public class CreateHandler extends BaseHandlerStd {
                 .build();
     }
 
+    private static DescribeContactFlowRequest translateToDescribeContactFlowRequest(final ResourceModel model) {
+        return DescribeContactFlowRequest
+                .builder()
+                .instanceId(model.getInstanceArn())
+                .contactFlowId(model.getContactFlowArn())
+                .build();
+    }
+
     private ResourceModel setContactFlowIdentifier(final ResourceModel model,
                                                   final CreateContactFlowResponse createContactFlowResponse) {
         model.setContactFlowArn(createContactFlowResponse.contactFlowArn());
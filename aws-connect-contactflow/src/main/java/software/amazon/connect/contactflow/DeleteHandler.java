@@ -8,6 +8,8 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import static software.amazon.connect.common.ConnectCallbackContext.runOnce;
+
 public class DeleteHandler extends BaseHandlerStd {
 
     @Override
@@ -22,10 +24,11 @@ public class DeleteHandler extends BaseHandlerStd {
 
         logger.log(String.format("Invoked DeleteContactFlowHandler with ContactFlow:%s", model.getContactFlowArn()));
 
-        return proxy.initiate("connect::deleteContactFlow", proxyClient, model, callbackContext)
-                .translateToServiceRequest(this::translateToDeleteContactFlowRequest)
-                .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::deleteContactFlow, logger))
-                .done(response -> ProgressEvent.defaultSuccessHandler(null));
+        return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> runOnce(callbackContext, "deleteContactFlow", progress, () -> proxy.initiate("connect::deleteContactFlow", proxyClient, model, callbackContext)
+                        .translateToServiceRequest(this::translateToDeleteContactFlowRequest)
+                        .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::deleteContactFlow, logger))
+                        .done(response -> ProgressEvent.defaultSuccessHandler(null))));
     }
 
     private DeleteContactFlowRequest translateToDeleteContactFlowRequest(final ResourceModel model) {
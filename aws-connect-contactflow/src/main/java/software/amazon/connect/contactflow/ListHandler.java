@@ -0,0 +1,87 @@
+package software.amazon.connect.contactflow;
+
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.awssdk.services.connect.model.ContactFlowSummary;
+import software.amazon.awssdk.services.connect.model.ListContactFlowsRequest;
+import software.amazon.awssdk.services.connect.model.ListContactFlowsResponse;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.common.ConnectArn;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+public class ListHandler extends BaseHandlerStd {
+
+    /**
+     * Each invocation returns a single ListContactFlows page and hands the service token back to CloudFormation.
+     * Summaries never carry Content, so a page stays small no matter how large the flows themselves are.
+     */
+    static final int MAX_RESULTS = 100;
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
+                                                                          final ResourceHandlerRequest<ResourceModel> request,
+                                                                          final CallbackContext callbackContext,
+                                                                          final ProxyClient<ConnectClient> proxyClient,
+                                                                          final Logger logger) {
+
+        final ResourceModel model = request.getDesiredResourceState();
+        final String instanceArn = model.getInstanceArn();
+        final String nextToken = request.getNextToken();
+
+        logger.log(String.format("Invoked new ListContactFlowHandler with InstanceArn:%s", instanceArn));
+
+        if (!ConnectArn.isValidInstanceArn(instanceArn)) {
+            throw new CfnInvalidRequestException(String.format("%s is not a valid Instance Arn", instanceArn));
+        }
+        return proxy.initiate("connect::listContactFlows", proxyClient, model, callbackContext)
+                .translateToServiceRequest(resourceModel -> translateToListContactFlowsRequest(resourceModel, nextToken))
+                .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::listContactFlows, logger))
+                .done(response -> ProgressEvent.<ResourceModel, CallbackContext>builder()
+                        .resourceModels(translateToResourceModels(model, response))
+                        .nextToken(response.nextToken())
+                        .status(OperationStatus.SUCCESS)
+                        .build());
+    }
+
+    private ListContactFlowsRequest translateToListContactFlowsRequest(final ResourceModel model, final String nextToken) {
+        final ListContactFlowsRequest.Builder builder = ListContactFlowsRequest
+                .builder()
+                .instanceId(model.getInstanceArn())
+                .maxResults(MAX_RESULTS)
+                .nextToken(nextToken);
+        if (model.getType() != null) {
+            builder.contactFlowTypesWithStrings(model.getType());
+        }
+        return builder.build();
+    }
+
+    /**
+     * ListContactFlows only filters by type, so a requested State is applied to the returned summaries. A page may
+     * therefore come back empty while still carrying a token for the next one.
+     */
+    private List<ResourceModel> translateToResourceModels(final ResourceModel model, final ListContactFlowsResponse listContactFlowsResponse) {
+        final String state = model.getState();
+        return listContactFlowsResponse.contactFlowSummaryList().stream()
+                .filter(contactFlowSummary -> state == null || state.equals(contactFlowSummary.contactFlowStateAsString()))
+                .map(contactFlowSummary -> translateToResourceModel(model.getInstanceArn(), contactFlowSummary))
+                .collect(toList());
+    }
+
+    private ResourceModel translateToResourceModel(final String instanceArn, final ContactFlowSummary contactFlowSummary) {
+        return ResourceModel.builder()
+                .instanceArn(instanceArn)
+                .contactFlowArn(contactFlowSummary.arn())
+                .name(contactFlowSummary.name())
+                .type(contactFlowSummary.contactFlowTypeAsString())
+                .state(contactFlowSummary.contactFlowStateAsString())
+                .build();
+    }
+}
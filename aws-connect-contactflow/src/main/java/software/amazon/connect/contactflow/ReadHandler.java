@@ -11,6 +11,7 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.common.DescribeCache;
 
 public class ReadHandler extends BaseHandlerStd {
 
@@ -31,7 +32,8 @@ public class ReadHandler extends BaseHandlerStd {
         }
         return proxy.initiate("connect::describeContactFlow", proxyClient, model, callbackContext)
                 .translateToServiceRequest(this::translateToDescribeContactFlowRequest)
-                .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::describeContactFlow, logger))
+                .makeServiceCall((req, clientProxy) -> INVOKER.describe(req, contactFlowArn, clientProxy, clientProxy.client()::describeContactFlow,
+                        response -> DescribeCache.textWeight(response.contactFlow().content()), logger))
                 .done(response -> ProgressEvent.defaultSuccessHandler(setContactFlowProperties(model, response.contactFlow())));
     }
 
@@ -16,7 +16,8 @@ public class ContactFlowTestDataProvider {
     protected static final String INSTANCE_ARN = "arn:aws:connect:us-west-2:111111111111:instance/instanceId";
     protected static final String VALID_TAG_KEY_ONE = "TagKeyOne";
     protected static final String VALID_TAG_VALUE_ONE = "A";
-    protected static final String FLOW_CONTENT = "test-flow-content";
+    protected static final String FLOW_CONTENT = "{\"Version\":\"2019-10-30\",\"StartAction\":\"a\",\"Actions\":[" +
+            "{\"Identifier\":\"a\",\"Type\":\"DisconnectParticipant\",\"Parameters\":{},\"Transitions\":{}}]}";
     protected static final String FLOW_STATE_ACTIVE= "Active";
     protected static final String FLOW_STATUS_PUBLISHED= "Published";
     protected static final String FLOW_TYPE= "ContactFlow";
@@ -30,7 +31,8 @@ public class ContactFlowTestDataProvider {
     protected static final Map<String, String> TAGS_TWO = ImmutableMap.of(VALID_TAG_KEY_THREE, VALID_TAG_VALUE_THREE);
     protected static final String CONTACT_FLOW_NAME_TWO = "contactFlowNameTwo";
     protected static final String CONTACT_FLOW_DESCRIPTION_TWO = "contactFlowDescriptionTwo";
-    protected static final String FLOW_CONTENT_TWO = "test-flow-content-two";
+    protected static final String FLOW_CONTENT_TWO = "{\"Version\":\"2019-10-30\",\"StartAction\":\"b\",\"Actions\":[" +
+            "{\"Identifier\":\"b\",\"Type\":\"DisconnectParticipant\",\"Parameters\":{},\"Transitions\":{}}]}";
     protected static final String CONTACT_FLOW_NAME_THREE = "contactFlowNameThree";
     protected static final String CONTACT_FLOW_DESCRIPTION_THREE = "contactFlowDescriptionThree";
     protected static final Map<String, String> TAGS_THREE = ImmutableMap.of(VALID_TAG_KEY_ONE, VALID_TAG_VALUE_ONE,
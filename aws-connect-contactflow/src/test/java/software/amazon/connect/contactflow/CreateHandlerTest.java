@@ -11,8 +11,11 @@ import software.amazon.awssdk.services.connect.ConnectClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.awssdk.services.connect.model.CreateContactFlowRequest;
 import software.amazon.awssdk.services.connect.model.CreateContactFlowResponse;
+import software.amazon.awssdk.services.connect.model.DescribeContactFlowRequest;
+import software.amazon.awssdk.services.connect.model.DescribeContactFlowResponse;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -72,6 +75,7 @@ public class CreateHandlerTest {
                 .build();
         when(proxyClient.client().createContactFlow(createContactFlowRequestArgumentCaptor.capture()))
                 .thenReturn(createContactFlowResponse);
+        when(proxyClient.client().describeContactFlow(any(DescribeContactFlowRequest.class))).thenReturn(DescribeContactFlowResponse.builder().build());
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(buildContactFlowDesiredStateResourceModel())
@@ -89,6 +93,7 @@ public class CreateHandlerTest {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client()).createContactFlow(createContactFlowRequestArgumentCaptor.capture());
+        verify(proxyClient.client()).describeContactFlow(any(DescribeContactFlowRequest.class));
 
         assertThat(createContactFlowRequestArgumentCaptor.getValue().instanceId()).isEqualTo(INSTANCE_ARN);
         assertThat(createContactFlowRequestArgumentCaptor.getValue().name()).isEqualTo(CONTACT_FLOW_NAME);
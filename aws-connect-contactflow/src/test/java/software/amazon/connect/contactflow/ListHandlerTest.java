@@ -0,0 +1,155 @@
+package software.amazon.connect.contactflow;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.awssdk.services.connect.model.*;
+
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.*;
+import software.amazon.cloudformation.proxy.Credentials;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+import static software.amazon.connect.contactflow.ContactFlowTestDataProvider.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ListHandlerTest {
+    private static final String NEXT_TOKEN = "nextToken";
+    private static final String NEXT_TOKEN_TWO = "nextTokenTwo";
+    private static final String ARCHIVED_CONTACT_FLOW_ARN = "arn:aws:connect:us-west-2:111111111111:instance/instanceId/contact-flow/archivedId";
+
+    private ListHandler handler;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<ConnectClient> proxyClient;
+    private LoggerProxy logger;
+
+    @Mock
+    private ConnectClient connectClient;
+
+    @BeforeEach
+    public void setup() {
+        final Credentials MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+        logger = new LoggerProxy();
+        handler = new ListHandler();
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = proxy.newProxy(() -> connectClient);
+    }
+
+    @AfterEach
+    public void post_execute() {
+        verifyNoMoreInteractions(proxyClient.client());
+    }
+
+    @Test
+    public void testHandleRequest_Success() {
+        final ArgumentCaptor<ListContactFlowsRequest> listContactFlowsRequestArgumentCaptor = ArgumentCaptor.forClass(ListContactFlowsRequest.class);
+        final ListContactFlowsResponse listContactFlowsResponse = ListContactFlowsResponse.builder()
+                .contactFlowSummaryList(getContactFlowSummary(CONTACT_FLOW_ARN, ContactFlowState.ACTIVE))
+                .nextToken(NEXT_TOKEN_TWO)
+                .build();
+        when(proxyClient.client().listContactFlows(listContactFlowsRequestArgumentCaptor.capture())).thenReturn(listContactFlowsResponse);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().instanceArn(INSTANCE_ARN).build())
+                .nextToken(NEXT_TOKEN)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackContext()).isNull();
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel()).isNull();
+        assertThat(response.getNextToken()).isEqualTo(NEXT_TOKEN_TWO);
+        assertThat(response.getResourceModels().size()).isEqualTo(1);
+        assertThat(response.getResourceModels().get(0).getInstanceArn()).isEqualTo(INSTANCE_ARN);
+        assertThat(response.getResourceModels().get(0).getContactFlowArn()).isEqualTo(CONTACT_FLOW_ARN);
+        assertThat(response.getResourceModels().get(0).getName()).isEqualTo(CONTACT_FLOW_NAME);
+        assertThat(response.getResourceModels().get(0).getType()).isEqualTo(ContactFlowType.CONTACT_FLOW.toString());
+        assertThat(response.getResourceModels().get(0).getState()).isEqualTo(ContactFlowState.ACTIVE.toString());
+        assertThat(response.getResourceModels().get(0).getContent()).isNull();
+        assertThat(response.getMessage()).isNull();
+        assertThat(response.getErrorCode()).isNull();
+
+        verify(proxyClient.client()).listContactFlows(listContactFlowsRequestArgumentCaptor.capture());
+        assertThat(listContactFlowsRequestArgumentCaptor.getValue().instanceId()).isEqualTo(INSTANCE_ARN);
+        assertThat(listContactFlowsRequestArgumentCaptor.getValue().nextToken()).isEqualTo(NEXT_TOKEN);
+        assertThat(listContactFlowsRequestArgumentCaptor.getValue().maxResults()).isEqualTo(ListHandler.MAX_RESULTS);
+        assertThat(listContactFlowsRequestArgumentCaptor.getValue().hasContactFlowTypes()).isFalse();
+
+        verify(connectClient, times(1)).serviceName();
+    }
+
+    @Test
+    public void testHandleRequest_Success_TypeAndStateFilter() {
+        final ArgumentCaptor<ListContactFlowsRequest> listContactFlowsRequestArgumentCaptor = ArgumentCaptor.forClass(ListContactFlowsRequest.class);
+        final ListContactFlowsResponse listContactFlowsResponse = ListContactFlowsResponse.builder()
+                .contactFlowSummaryList(getContactFlowSummary(CONTACT_FLOW_ARN, ContactFlowState.ACTIVE),
+                        getContactFlowSummary(ARCHIVED_CONTACT_FLOW_ARN, ContactFlowState.ARCHIVED))
+                .build();
+        when(proxyClient.client().listContactFlows(listContactFlowsRequestArgumentCaptor.capture())).thenReturn(listContactFlowsResponse);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .instanceArn(INSTANCE_ARN)
+                        .type(ContactFlowType.CONTACT_FLOW.toString())
+                        .state(ContactFlowState.ARCHIVED.toString())
+                        .build())
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isNull();
+        assertThat(response.getResourceModels().size()).isEqualTo(1);
+        assertThat(response.getResourceModels().get(0).getContactFlowArn()).isEqualTo(ARCHIVED_CONTACT_FLOW_ARN);
+
+        verify(proxyClient.client()).listContactFlows(listContactFlowsRequestArgumentCaptor.capture());
+        assertThat(listContactFlowsRequestArgumentCaptor.getValue().contactFlowTypesAsStrings())
+                .containsExactly(ContactFlowType.CONTACT_FLOW.toString());
+        assertThat(listContactFlowsRequestArgumentCaptor.getValue().nextToken()).isNull();
+
+        verify(connectClient, times(1)).serviceName();
+    }
+
+    @Test
+    public void testHandleRequest_CfnInvalidRequestException_InvalidInstanceArn() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().instanceArn(CONTACT_FLOW_ARN).build())
+                .build();
+        assertThrows(CfnInvalidRequestException.class, () ->
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+
+        verify(connectClient, never()).serviceName();
+    }
+
+    @Test
+    public void testHandleRequest_Exception() {
+        final ArgumentCaptor<ListContactFlowsRequest> listContactFlowsRequestArgumentCaptor = ArgumentCaptor.forClass(ListContactFlowsRequest.class);
+        when(proxyClient.client().listContactFlows(listContactFlowsRequestArgumentCaptor.capture())).thenThrow(new RuntimeException());
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().instanceArn(INSTANCE_ARN).build())
+                .build();
+        assertThrows(CfnGeneralServiceException.class, () ->
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+
+        verify(proxyClient.client()).listContactFlows(listContactFlowsRequestArgumentCaptor.capture());
+        assertThat(listContactFlowsRequestArgumentCaptor.getValue().instanceId()).isEqualTo(INSTANCE_ARN);
+
+        verify(connectClient, times(1)).serviceName();
+    }
+
+    private static ContactFlowSummary getContactFlowSummary(final String contactFlowArn, final ContactFlowState state) {
+        return ContactFlowSummary.builder()
+                .arn(contactFlowArn)
+                .name(CONTACT_FLOW_NAME)
+                .contactFlowType(ContactFlowType.CONTACT_FLOW)
+                .contactFlowState(state)
+                .build();
+    }
+}
@@ -27,6 +27,7 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.common.Deadline;
 
 import java.time.Duration;
 import java.util.List;
@@ -34,6 +35,8 @@ import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -134,6 +137,48 @@ public class UpdateHandlerTest {
         verify(connectClient, times(4)).serviceName();
     }
 
+    @Test
+    public void testHandleRequest_ResumesAfterDeadline() {
+        when(proxyClient.client().updateContactFlowMetadata(any(UpdateContactFlowMetadataRequest.class))).thenAnswer(invocation -> {
+            // the invocation runs out of time while the first call is in flight
+            BaseHandlerStd.INVOKER.startInvocation(Deadline.after(Duration.ZERO));
+            return UpdateContactFlowMetadataResponse.builder().build();
+        });
+        when(proxyClient.client().updateContactFlowContent(any(UpdateContactFlowContentRequest.class))).thenReturn(UpdateContactFlowContentResponse.builder().build());
+        when(proxyClient.client().untagResource(any(UntagResourceRequest.class))).thenReturn(UntagResourceResponse.builder().build());
+        when(proxyClient.client().tagResource(any(TagResourceRequest.class))).thenReturn(TagResourceResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(buildContactFlowDesiredStateResourceModel())
+                .previousResourceState(buildContactFlowPreviousStateResourceModel())
+                .desiredResourceTags(TAGS_ONE)
+                .previousResourceTags(TAGS_TWO)
+                .build();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        final ProgressEvent<ResourceModel, CallbackContext> stopped;
+        try {
+            stopped = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        } finally {
+            BaseHandlerStd.INVOKER.finishInvocation(logger);
+        }
+
+        assertThat(stopped.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(stopped.getCallbackDelaySeconds()).isEqualTo(CallbackContext.DEADLINE_CALLBACK_DELAY_SECONDS);
+        assertThat(stopped.getCallbackContext()).isSameAs(callbackContext);
+        assertThat(callbackContext.getCompletedSteps()).containsExactly("updateContactFlowMetadata");
+        verify(proxyClient.client(), never()).updateContactFlowContent(any(UpdateContactFlowContentRequest.class));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), times(1)).updateContactFlowMetadata(any(UpdateContactFlowMetadataRequest.class));
+        verify(proxyClient.client()).updateContactFlowContent(any(UpdateContactFlowContentRequest.class));
+        verify(proxyClient.client()).untagResource(any(UntagResourceRequest.class));
+        verify(proxyClient.client()).tagResource(any(TagResourceRequest.class));
+        verify(connectClient, atLeastOnce()).serviceName();
+    }
+
     @Test
     public void testHandleRequest_Success_UpdateDescriptionNull() {
         final ResourceModel desiredResourceModel = ResourceModel.builder()
@@ -181,4 +226,82 @@ public class UpdateHandlerTest {
 
         verify(connectClient, times(2)).serviceName();
     }
+
+    @Test
+    public void testHandleRequest_Success_TagsOnlySkipsMetadataAndContent() {
+        final ArgumentCaptor<UntagResourceRequest> untagResourceRequestArgumentCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
+
+        final UntagResourceResponse untagResourceResponse = UntagResourceResponse.builder().build();
+        when(proxyClient.client().untagResource(untagResourceRequestArgumentCaptor.capture())).thenReturn(untagResourceResponse);
+
+        final ResourceModel desiredResourceModel = buildContactFlowDesiredStateResourceModel();
+        desiredResourceModel.setContent("{\"Version\":\"2019-10-30\",\"Actions\":[{\"Identifier\":\"a\",\"Parameters\":{}}]}");
+        final ResourceModel previousResourceModel = buildContactFlowDesiredStateResourceModel();
+        previousResourceModel.setContent("{\n  \"Actions\": [ { \"Parameters\": { }, \"Identifier\": \"a\" } ],\n  \"Version\": \"2019-10-30\"\n}");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desiredResourceModel)
+                .previousResourceState(previousResourceModel)
+                .desiredResourceTags(ImmutableMap.of())
+                .previousResourceTags(TAGS_TWO)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+
+        verify(proxyClient.client(), never()).updateContactFlowMetadata(any(UpdateContactFlowMetadataRequest.class));
+        verify(proxyClient.client(), never()).updateContactFlowContent(any(UpdateContactFlowContentRequest.class));
+        verify(proxyClient.client()).untagResource(untagResourceRequestArgumentCaptor.capture());
+        assertThat(untagResourceRequestArgumentCaptor.getValue().resourceArn()).isEqualTo(CONTACT_FLOW_ARN);
+
+        verify(connectClient, times(1)).serviceName();
+    }
+
+    @Test
+    public void testHandleRequest_Success_ContentOnly() {
+        final ArgumentCaptor<UpdateContactFlowContentRequest> updateContactFlowContentRequestArgumentCaptor = ArgumentCaptor.forClass(UpdateContactFlowContentRequest.class);
+
+        final UpdateContactFlowContentResponse updateContactFlowContentResponse = UpdateContactFlowContentResponse.builder().build();
+        when(proxyClient.client().updateContactFlowContent(updateContactFlowContentRequestArgumentCaptor.capture())).thenReturn(updateContactFlowContentResponse);
+
+        final ResourceModel desiredResourceModel = buildContactFlowDesiredStateResourceModel();
+        desiredResourceModel.setContent("{\"Version\":\"2019-10-30\",\"StartAction\":\"a\",\"Actions\":[{\"Identifier\":\"a\"}]}");
+        final ResourceModel previousResourceModel = buildContactFlowDesiredStateResourceModel();
+        previousResourceModel.setContent("{\"Version\":\"2019-10-30\",\"Actions\":[{}]}");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desiredResourceModel)
+                .previousResourceState(previousResourceModel)
+                .desiredResourceTags(TAGS_ONE)
+                .previousResourceTags(TAGS_ONE)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        verify(proxyClient.client(), never()).updateContactFlowMetadata(any(UpdateContactFlowMetadataRequest.class));
+        verify(proxyClient.client()).updateContactFlowContent(updateContactFlowContentRequestArgumentCaptor.capture());
+        assertThat(updateContactFlowContentRequestArgumentCaptor.getValue().content()).isEqualTo(desiredResourceModel.getContent());
+
+        verify(connectClient, times(1)).serviceName();
+    }
+
+    @Test
+    public void testHandleRequest_InvalidContentRejectedBeforeAnyCall() {
+        final ResourceModel desiredResourceModel = buildContactFlowDesiredStateResourceModel();
+        desiredResourceModel.setContent("{\"Version\":\"2019-10-30\",\"StartAction\":\"a\",\"Actions\":[{\"Identifier\":\"a\",\"Transitions\":{\"NextAction\":\"b\"}}]}");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desiredResourceModel)
+                .previousResourceState(buildContactFlowPreviousStateResourceModel())
+                .desiredResourceTags(TAGS_ONE)
+                .previousResourceTags(TAGS_ONE)
+                .build();
+
+        final CfnInvalidRequestException thrown = assertThrows(CfnInvalidRequestException.class, () ->
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+        assertThat(thrown.getMessage()).contains("NextAction b");
+    }
 }
@@ -1,42 +1,48 @@
 package software.amazon.connect.contactflowmodule;
 
-import com.google.common.collect.Sets;
-import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.connect.ConnectAsyncClient;
 import software.amazon.awssdk.services.connect.ConnectClient;
-import software.amazon.awssdk.services.connect.model.ConnectException;
-import software.amazon.awssdk.services.connect.model.DuplicateResourceException;
-import software.amazon.awssdk.services.connect.model.InternalServiceException;
-import software.amazon.awssdk.services.connect.model.InvalidParameterException;
-import software.amazon.awssdk.services.connect.model.InvalidRequestException;
-import software.amazon.awssdk.services.connect.model.LimitExceededException;
-import software.amazon.awssdk.services.connect.model.ResourceNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
-import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.awssdk.services.connect.model.InvalidContactFlowModuleException;
+import software.amazon.awssdk.services.connect.model.DescribeContactFlowModuleRequest;
+import software.amazon.awssdk.services.connect.model.CreateContactFlowModuleRequest;
+import software.amazon.connect.common.ConnectClientFactory;
+import software.amazon.connect.common.ConnectClientHolder;
+import software.amazon.connect.common.ConnectExceptionTranslator;
+import software.amazon.connect.common.ConnectInvoker;
+import software.amazon.connect.common.ConnectWarmup;
+import software.amazon.connect.common.ResourceTags;
 
+import java.util.Collections;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+
+import static software.amazon.connect.common.ConnectWarmup.WARMUP_ID;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
-    private static final String ACCESS_DENIED_ERROR_CODE = "AccessDeniedException";
-    private static final String THROTTLING_ERROR_CODE = "TooManyRequestsException";
+    private static final ConnectExceptionTranslator EXCEPTION_TRANSLATOR =
+            ConnectExceptionTranslator.withInvalidRequestExceptions(InvalidContactFlowModuleException.class);
+    private static final Map<String, String> CLIENT_HEADERS = Collections.singletonMap("Content-type", "application/json");
+    protected static final ConnectInvoker INVOKER =
+            new ConnectInvoker(EXCEPTION_TRANSLATOR, () -> ConnectClientFactory.getAsyncClient(CLIENT_HEADERS));
+    private static final ConnectClientHolder<ConnectClient> CLIENT = new ConnectClientHolder<>(() -> ConnectClientFactory.getClient(CLIENT_HEADERS));
+
+    static {
+        ConnectWarmup.warmUpIfEnabled(CLIENT, client -> {
+            client.describeContactFlowModule(DescribeContactFlowModuleRequest.builder().instanceId(WARMUP_ID).contactFlowModuleId(WARMUP_ID).build());
+            client.createContactFlowModule(CreateContactFlowModuleRequest.builder().instanceId(WARMUP_ID).name(WARMUP_ID).content(WARMUP_ID).build());
+        }, ResourceModel.builder().build());
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -44,12 +50,17 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
-                logger);
+        INVOKER.startInvocation();
+        try {
+            return handleRequest(
+                    proxy,
+                    request,
+                    callbackContext != null ? callbackContext : new CallbackContext(),
+                    proxy.newProxy(CLIENT),
+                    logger);
+        } finally {
+            INVOKER.finishInvocation(logger);
+        }
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -60,43 +71,27 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final Logger logger);
 
     protected static void handleCommonExceptions(final Exception ex, final Logger logger) {
-        if (ex instanceof ResourceNotFoundException) {
-            throw new CfnNotFoundException(ex);
-        } else if (ex instanceof InvalidParameterException || ex instanceof InvalidRequestException || ex instanceof  InvalidContactFlowModuleException) {
-            throw new CfnInvalidRequestException(ex);
-        } else if (ex instanceof InternalServiceException) {
-            throw new CfnServiceInternalErrorException(ex);
-        } else if (ex instanceof DuplicateResourceException) {
-            throw new CfnAlreadyExistsException(ex);
-        } else if (ex instanceof LimitExceededException) {
-            throw new CfnServiceLimitExceededException(ex);
-        } else if (ex instanceof ConnectException && StringUtils.equals(THROTTLING_ERROR_CODE, ((ConnectException) ex).awsErrorDetails().errorCode())) {
-            throw new CfnThrottlingException(ex);
-        } else if (ex instanceof ConnectException && StringUtils.equals(ACCESS_DENIED_ERROR_CODE, ((ConnectException) ex).awsErrorDetails().errorCode())) {
-            throw new CfnAccessDeniedException(ex);
-        }
-        logger.log(String.format("Exception in handler:%s", ex));
-        throw new CfnGeneralServiceException(ex);
+        throw EXCEPTION_TRANSLATOR.translate(ex, logger);
     }
 
     protected static <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT invoke(final RequestT request,
                                                                                                    final ProxyClient<ConnectClient> proxyClient,
                                                                                                    final Function<RequestT, ResponseT> requestFunction,
                                                                                                    final Logger logger) {
-        ResponseT response = null;
-        try {
-            response = proxyClient.injectCredentialsAndInvokeV2(request, requestFunction);
-        } catch (Exception e) {
-            handleCommonExceptions(e, logger);
-        }
-        return response;
+        return INVOKER.invoke(request, proxyClient, requestFunction, logger);
+    }
+
+    /**
+     * {@link #invoke} on the invoker's non-blocking client, built on first use, for calls a handler overlaps.
+     */
+    protected static <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> invokeAsync(final RequestT request,
+                                                                                                                          final AmazonWebServicesClientProxy proxy,
+                                                                                                                          final BiFunction<ConnectAsyncClient, RequestT, CompletableFuture<ResponseT>> call,
+                                                                                                                          final Logger logger) {
+        return INVOKER.invokeAsync(request, proxy, call, logger);
     }
 
     protected static Set<Tag> convertResourceTagsToSet(final Map<String, String> resourceTags) {
-        return Optional.ofNullable(resourceTags)
-                .map(tags -> tags.keySet().stream()
-                        .map(key -> Tag.builder().key(key).value(resourceTags.get(key)).build())
-                        .collect(Collectors.toSet()))
-                .orElse(Sets.newHashSet());
+        return ResourceTags.convertResourceTagsToSet(resourceTags, (key, value) -> Tag.builder().key(key).value(value).build());
     }
 }
@@ -4,14 +4,18 @@ import software.amazon.awssdk.services.connect.ConnectClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.awssdk.services.connect.model.CreateContactFlowModuleRequest;
 import software.amazon.awssdk.services.connect.model.CreateContactFlowModuleResponse;
+import software.amazon.awssdk.services.connect.model.DescribeContactFlowModuleRequest;
 
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.connect.common.Stabilization;
 
 import java.util.Map;
 
+import static software.amazon.connect.common.ConnectCallbackContext.runOnce;
+
 public class CreateHandler extends BaseHandlerStd {
 
     @Override
@@ -28,11 +32,14 @@ public class CreateHandler extends BaseHandlerStd {
         logger.log(String.format("Invoked CreateCreateContactFlowModuleHandler with Instance:%s, ModuleName:%s "
                 , model.getInstanceArn(), model.getName()));
 
-        return proxy.initiate("connect::createContactFlowModule", proxyClient, model, callbackContext)
-                .translateToServiceRequest(resourceModel -> translateToCreateContactFlowModuleRequest(resourceModel, tags))
-                .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::createContactFlowModule, logger))
-                .done(response -> ProgressEvent.defaultSuccessHandler(setContactFlowModuleIdentifier(model, response)));
-
+        return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> runOnce(callbackContext, "createContactFlowModule", progress, () -> proxy.initiate("connect::createContactFlowModule", proxyClient, model, callbackContext)
+                        .translateToServiceRequest(resourceModel -> translateToCreateContactFlowModuleRequest(resourceModel, tags))
+                        .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::createContactFlowModule, logger))
+                        .done(response -> ProgressEvent.progress(setContactFlowModuleIdentifier(model, response), callbackContext))))
+                .then(progress -> runOnce(callbackContext, Stabilization.STEP, progress, () -> Stabilization.awaitVisible(callbackContext, progress, model.getContactFlowModuleArn(),
+                        () -> Stabilization.exists(() -> invoke(translateToDescribeContactFlowModuleRequest(model), proxyClient, proxyClient.client()::describeContactFlowModule, logger)), logger)))
+                .then(progress -> ProgressEvent.defaultSuccessHandler(model));
     }
 
     private CreateContactFlowModuleRequest translateToCreateContactFlowModuleRequest(final ResourceModel model, final Map<String, String> tags) {
@@ -46,6 +53,14 @@ public class CreateHandler extends BaseHandlerStd {
                 .build();
     }
 
+    private static DescribeContactFlowModuleRequest translateToDescribeContactFlowModuleRequest(final ResourceModel model) {
+        return DescribeContactFlowModuleRequest
+                .builder()
+                .instanceId(model.getInstanceArn())
+                .contactFlowModuleId(model.getContactFlowModuleArn())
+                .build();
+    }
+
     private ResourceModel setContactFlowModuleIdentifier(final ResourceModel model, final CreateContactFlowModuleResponse createContactFlowModuleResponse) {
         model.setContactFlowModuleArn(createContactFlowModuleResponse.arn());
         return model;
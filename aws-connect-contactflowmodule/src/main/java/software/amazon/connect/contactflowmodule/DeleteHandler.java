@@ -8,6 +8,8 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import static software.amazon.connect.common.ConnectCallbackContext.runOnce;
+
 public class DeleteHandler extends BaseHandlerStd {
 
     @Override
@@ -22,10 +24,11 @@ public class DeleteHandler extends BaseHandlerStd {
 
         logger.log(String.format("Invoked DeleteContactFlowModuleHandler with Module:%s", model.getContactFlowModuleArn()));
 
-        return proxy.initiate("connect::deleteContactFlowModule", proxyClient, model, callbackContext)
-                .translateToServiceRequest(this::translateToDeleteContactFlowModuleRequest)
-                .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::deleteContactFlowModule, logger))
-                .done(response -> ProgressEvent.defaultSuccessHandler(null));
+        return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> runOnce(callbackContext, "deleteContactFlowModule", progress, () -> proxy.initiate("connect::deleteContactFlowModule", proxyClient, model, callbackContext)
+                        .translateToServiceRequest(this::translateToDeleteContactFlowModuleRequest)
+                        .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::deleteContactFlowModule, logger))
+                        .done(response -> ProgressEvent.defaultSuccessHandler(null))));
     }
 
     private DeleteContactFlowModuleRequest translateToDeleteContactFlowModuleRequest(final ResourceModel model) {
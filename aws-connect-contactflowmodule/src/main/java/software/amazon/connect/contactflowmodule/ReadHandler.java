@@ -10,6 +10,7 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.common.DescribeCache;
 
 public class ReadHandler extends BaseHandlerStd {
 
@@ -30,7 +31,8 @@ public class ReadHandler extends BaseHandlerStd {
         }
         return proxy.initiate("connect::describeContactFlowModule", proxyClient, model, callbackContext)
                 .translateToServiceRequest(this::translateToDescribeContactFlowModuleRequest)
-                .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::describeContactFlowModule, logger))
+                .makeServiceCall((req, clientProxy) -> INVOKER.describe(req, contactFlowModuleArn, clientProxy, clientProxy.client()::describeContactFlowModule,
+                        response -> DescribeCache.textWeight(response.contactFlowModule().content()), logger))
                 .done(response -> ProgressEvent.defaultSuccessHandler(setContactFlowModuleProperties(model, response.contactFlowModule())));
     }
 
@@ -12,8 +12,11 @@ import software.amazon.awssdk.services.connect.ConnectClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.awssdk.services.connect.model.CreateContactFlowModuleRequest;
 import software.amazon.awssdk.services.connect.model.CreateContactFlowModuleResponse;
+import software.amazon.awssdk.services.connect.model.DescribeContactFlowModuleRequest;
+import software.amazon.awssdk.services.connect.model.DescribeContactFlowModuleResponse;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -73,6 +76,7 @@ public class CreateHandlerTest {
                 .build();
         when(proxyClient.client().createContactFlowModule(createContactFlowModuleRequestArgumentCaptor.capture()))
                 .thenReturn(createContactFlowModuleResponse);
+        when(proxyClient.client().describeContactFlowModule(any(DescribeContactFlowModuleRequest.class))).thenReturn(DescribeContactFlowModuleResponse.builder().build());
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(buildContactFlowModuleDesiredStateResourceModel())
@@ -90,6 +94,7 @@ public class CreateHandlerTest {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client()).createContactFlowModule(createContactFlowModuleRequestArgumentCaptor.capture());
+        verify(proxyClient.client()).describeContactFlowModule(any(DescribeContactFlowModuleRequest.class));
 
         assertThat(createContactFlowModuleRequestArgumentCaptor.getValue().instanceId()).isEqualTo(INSTANCE_ARN);
         assertThat(createContactFlowModuleRequestArgumentCaptor.getValue().name()).isEqualTo(CONTACT_FLOW_MODULE_NAME);
@@ -34,6 +34,7 @@ import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -180,4 +181,65 @@ public class UpdateHandlerTest {
 
         verify(connectClient, times(2)).serviceName();
     }
+
+    @Test
+    public void testHandleRequest_Success_TagsOnlySkipsMetadataAndContent() {
+        final ArgumentCaptor<UntagResourceRequest> untagResourceRequestArgumentCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
+
+        final UntagResourceResponse untagResourceResponse = UntagResourceResponse.builder().build();
+        when(proxyClient.client().untagResource(untagResourceRequestArgumentCaptor.capture())).thenReturn(untagResourceResponse);
+
+        final ResourceModel desiredResourceModel = buildContactFlowModuleDesiredStateResourceModel();
+        desiredResourceModel.setContent("{\"Version\":\"2019-10-30\",\"Actions\":[{\"Identifier\":\"a\",\"Parameters\":{}}]}");
+        final ResourceModel previousResourceModel = buildContactFlowModuleDesiredStateResourceModel();
+        previousResourceModel.setContent("{\n  \"Actions\": [ { \"Parameters\": { }, \"Identifier\": \"a\" } ],\n  \"Version\": \"2019-10-30\"\n}");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desiredResourceModel)
+                .previousResourceState(previousResourceModel)
+                .desiredResourceTags(ImmutableMap.of())
+                .previousResourceTags(TAGS_TWO)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+
+        verify(proxyClient.client(), never()).updateContactFlowModuleMetadata(any(UpdateContactFlowModuleMetadataRequest.class));
+        verify(proxyClient.client(), never()).updateContactFlowModuleContent(any(UpdateContactFlowModuleContentRequest.class));
+        verify(proxyClient.client()).untagResource(untagResourceRequestArgumentCaptor.capture());
+        assertThat(untagResourceRequestArgumentCaptor.getValue().resourceArn()).isEqualTo(CONTACT_FLOW_MODULE_ARN);
+
+        verify(connectClient, times(1)).serviceName();
+    }
+
+    @Test
+    public void testHandleRequest_Success_ContentOnly() {
+        final ArgumentCaptor<UpdateContactFlowModuleContentRequest> updateContactFlowModuleContentRequestArgumentCaptor = ArgumentCaptor.forClass(UpdateContactFlowModuleContentRequest.class);
+
+        final UpdateContactFlowModuleContentResponse updateContactFlowModuleContentResponse = UpdateContactFlowModuleContentResponse.builder().build();
+        when(proxyClient.client().updateContactFlowModuleContent(updateContactFlowModuleContentRequestArgumentCaptor.capture())).thenReturn(updateContactFlowModuleContentResponse);
+
+        final ResourceModel desiredResourceModel = buildContactFlowModuleDesiredStateResourceModel();
+        desiredResourceModel.setContent("{\"Version\":\"2019-10-30\",\"Actions\":[]}");
+        final ResourceModel previousResourceModel = buildContactFlowModuleDesiredStateResourceModel();
+        previousResourceModel.setContent("{\"Version\":\"2019-10-30\",\"Actions\":[{}]}");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desiredResourceModel)
+                .previousResourceState(previousResourceModel)
+                .desiredResourceTags(TAGS_ONE)
+                .previousResourceTags(TAGS_ONE)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        verify(proxyClient.client(), never()).updateContactFlowModuleMetadata(any(UpdateContactFlowModuleMetadataRequest.class));
+        verify(proxyClient.client()).updateContactFlowModuleContent(updateContactFlowModuleContentRequestArgumentCaptor.capture());
+        assertThat(updateContactFlowModuleContentRequestArgumentCaptor.getValue().content()).isEqualTo(desiredResourceModel.getContent());
+
+        verify(connectClient, times(1)).serviceName();
+    }
 }
@@ -3,14 +3,18 @@ package software.amazon.connect.hoursofoperation;
 import software.amazon.awssdk.services.connect.ConnectClient;
 import software.amazon.awssdk.services.connect.model.CreateHoursOfOperationRequest;
 import software.amazon.awssdk.services.connect.model.CreateHoursOfOperationResponse;
+import software.amazon.awssdk.services.connect.model.DescribeHoursOfOperationRequest;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.connect.common.Stabilization;
 
 import java.util.Map;
 
+import static software.amazon.connect.common.ConnectCallbackContext.runOnce;
+
 public class CreateHandler extends BaseHandlerStd {
 
     @Override
@@ -26,11 +30,14 @@ public class CreateHandler extends BaseHandlerStd {
 
         logger.log(String.format("Invoked CreateHoursOfOperationHandler with InstanceArn:%s ", model.getInstanceArn()));
 
-        return proxy.initiate("connect::createHoursOfOperation", proxyClient, model, callbackContext)
-                .translateToServiceRequest(resourceModel -> translateToCreateHoursOfOperationRequest(resourceModel, tags))
-                .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::createHoursOfOperation, logger))
-                .done(response -> ProgressEvent.defaultSuccessHandler(setHoursOfOperationIdentifier(model, response)));
-
+        return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> runOnce(callbackContext, "createHoursOfOperation", progress, () -> proxy.initiate("connect::createHoursOfOperation", proxyClient, model, callbackContext)
+                        .translateToServiceRequest(resourceModel -> translateToCreateHoursOfOperationRequest(resourceModel, tags))
+                        .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::createHoursOfOperation, logger))
+                        .done(response -> ProgressEvent.progress(setHoursOfOperationIdentifier(model, response), callbackContext))))
+                .then(progress -> runOnce(callbackContext, Stabilization.STEP, progress, () -> Stabilization.awaitVisible(callbackContext, progress, model.getHoursOfOperationArn(),
+                        () -> Stabilization.exists(() -> invoke(translateToDescribeHoursOfOperationRequest(model), proxyClient, proxyClient.client()::describeHoursOfOperation, logger)), logger)))
+                .then(progress -> ProgressEvent.defaultSuccessHandler(model));
     }
 
     private CreateHoursOfOperationRequest translateToCreateHoursOfOperationRequest(final ResourceModel model, final Map<String, String> tags) {
@@ -45,6 +52,14 @@ public class CreateHandler extends BaseHandlerStd {
                 .build();
     }
 
+    private static DescribeHoursOfOperationRequest translateToDescribeHoursOfOperationRequest(final ResourceModel model) {
+        return DescribeHoursOfOperationRequest
+                .builder()
+                .instanceId(model.getInstanceArn())
+                .hoursOfOperationId(model.getHoursOfOperationArn())
+                .build();
+    }
+
     private ResourceModel setHoursOfOperationIdentifier(final ResourceModel model, final CreateHoursOfOperationResponse createHoursOfOperationResponse) {
         model.setHoursOfOperationArn(createHoursOfOperationResponse.hoursOfOperationArn());
         return model;
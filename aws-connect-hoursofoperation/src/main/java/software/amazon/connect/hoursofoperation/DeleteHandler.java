@@ -10,6 +10,8 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import static software.amazon.connect.common.ConnectCallbackContext.runOnce;
+
 public class DeleteHandler extends BaseHandlerStd {
 
     @Override
@@ -29,10 +31,11 @@ public class DeleteHandler extends BaseHandlerStd {
             throw new CfnNotFoundException(new CfnInvalidRequestException(String.format("%s is not a valid Hours Of Operation Arn", hoursOfOperationArn)));
         }
 
-        return proxy.initiate("connect::deleteHoursOfOperation", proxyClient, model, callbackContext)
-                .translateToServiceRequest(this::translateToDeleteHoursOfOperationRequest)
-                .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::deleteHoursOfOperation, logger))
-                .done(response -> ProgressEvent.defaultSuccessHandler(null));
+        return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> runOnce(callbackContext, "deleteHoursOfOperation", progress, () -> proxy.initiate("connect::deleteHoursOfOperation", proxyClient, model, callbackContext)
+                        .translateToServiceRequest(this::translateToDeleteHoursOfOperationRequest)
+                        .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::deleteHoursOfOperation, logger))
+                        .done(response -> ProgressEvent.defaultSuccessHandler(null))));
     }
 
     private DeleteHoursOfOperationRequest translateToDeleteHoursOfOperationRequest(final ResourceModel model) {
@@ -36,7 +36,7 @@ public class ReadHandler extends BaseHandlerStd {
 
         return proxy.initiate("connect::describeHoursOfOperation", proxyClient, model, callbackContext)
                 .translateToServiceRequest(this::translateToDescribeHoursOfOperationRequest)
-                .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::describeHoursOfOperation, logger))
+                .makeServiceCall((req, clientProxy) -> INVOKER.describe(req, hoursOfOperationArn, clientProxy, clientProxy.client()::describeHoursOfOperation, logger))
                 .done(response -> ProgressEvent.defaultSuccessHandler(setHoursOfOperationProperties(model, response.hoursOfOperation())));
     }
 
@@ -1,10 +1,8 @@
 package software.amazon.connect.hoursofoperation;
 
-import com.google.common.collect.Sets;
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.services.connect.ConnectClient;
-import software.amazon.awssdk.services.connect.model.TagResourceRequest;
-import software.amazon.awssdk.services.connect.model.UntagResourceRequest;
+import software.amazon.awssdk.services.connect.model.HoursOfOperationDays;
 import software.amazon.awssdk.services.connect.model.UpdateHoursOfOperationRequest;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -12,16 +10,19 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.common.ResourceTags;
+import software.amazon.connect.common.TagDiff;
 
-import java.util.Collection;
-import java.util.Map;
-import java.util.Optional;
+import java.util.Arrays;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+
+import static software.amazon.connect.common.ConnectCallbackContext.runOnce;
 
 public class UpdateHandler extends BaseHandlerStd {
 
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -32,10 +33,7 @@ public class UpdateHandler extends BaseHandlerStd {
 
         final ResourceModel desiredStateModel = request.getDesiredResourceState();
         final ResourceModel previousStateModel = request.getPreviousResourceState();
-        final Set<Tag> previousResourceTags = convertResourceTagsToSet(request.getPreviousResourceTags());
-        final Set<Tag> desiredResourceTags = convertResourceTagsToSet(request.getDesiredResourceTags());
-        final Set<Tag> tagsToRemove = Sets.difference(previousResourceTags, desiredResourceTags);
-        final Set<Tag> tagsToAdd = Sets.difference(desiredResourceTags, previousResourceTags);
+        final TagDiff tagDiff = TagDiff.between(request.getPreviousResourceTags(), request.getDesiredResourceTags());
 
         logger.log(String.format("Invoked UpdateHoursOfOperationHandler with HoursOfOperation:%s", desiredStateModel.getHoursOfOperationArn()));
 
@@ -44,17 +42,24 @@ public class UpdateHandler extends BaseHandlerStd {
         }
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> updateHoursOfOperation(proxy, proxyClient, desiredStateModel, callbackContext, logger))
-                .then(progress -> unTagResource(proxy, proxyClient, desiredStateModel, tagsToRemove, progress, callbackContext, logger))
-                .then(progress -> tagResource(proxy, proxyClient, desiredStateModel, tagsToAdd, progress, callbackContext, logger))
+                .then(progress -> runOnce(callbackContext, "updateHoursOfOperation", progress, () -> updateHoursOfOperation(proxy, proxyClient, desiredStateModel, previousStateModel, progress, callbackContext, logger)))
+                .then(progress -> runOnce(callbackContext, "untagResource", progress, () -> ResourceTags.untagResource(proxy, proxyClient, desiredStateModel, desiredStateModel.getHoursOfOperationArn(), tagDiff, progress, callbackContext, INVOKER, logger)))
+                .then(progress -> runOnce(callbackContext, "tagResource", progress, () -> ResourceTags.tagResource(proxy, proxyClient, desiredStateModel, desiredStateModel.getHoursOfOperationArn(), tagDiff, progress, callbackContext, INVOKER, logger)))
                 .then(progress -> ProgressEvent.defaultSuccessHandler(desiredStateModel));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> updateHoursOfOperation(final AmazonWebServicesClientProxy proxy,
                                                                                  final ProxyClient<ConnectClient> proxyClient,
                                                                                  final ResourceModel desiredStateModel,
+                                                                                 final ResourceModel previousStateModel,
+                                                                                 final ProgressEvent<ResourceModel, CallbackContext> progress,
                                                                                  final CallbackContext context,
                                                                                  final Logger logger) {
+        if (!isHoursOfOperationUpdated(desiredStateModel, previousStateModel)) {
+            logger.log(String.format("HoursOfOperation Name, Description, TimeZone and Config are unchanged in the update operation, " +
+                    "skipping UpdateHoursOfOperation API call for HoursOfOperation:%s", desiredStateModel.getHoursOfOperationArn()));
+            return progress;
+        }
 
         logger.log(String.format("Calling UpdateHoursOfOperation API for HoursOfOperation:%s", desiredStateModel.getHoursOfOperationArn()));
         return proxy.initiate("connect::updateHoursOfOperation", proxyClient, desiredStateModel, context)
@@ -63,54 +68,49 @@ public class UpdateHandler extends BaseHandlerStd {
                 .done(response -> ProgressEvent.progress(desiredStateModel, context));
     }
 
-    private ProgressEvent<ResourceModel, CallbackContext> unTagResource(final AmazonWebServicesClientProxy proxy,
-                                                                        final ProxyClient<ConnectClient> proxyClient,
-                                                                        final ResourceModel desiredStateModel,
-                                                                        final Set<Tag> tagsToRemove,
-                                                                        final ProgressEvent<ResourceModel, CallbackContext> progress,
-                                                                        final CallbackContext context,
-                                                                        final Logger logger) {
-        final String hoursOfOperationArn = desiredStateModel.getHoursOfOperationArn();
-
-        if (tagsToRemove.size() > 0) {
-            logger.log(String.format("Tags have been removed in the update operation, " +
-                    "Calling UnTagResource API for HoursOfOperation:%s", hoursOfOperationArn));
-            return proxy.initiate("connect::untagResource", proxyClient, desiredStateModel, context)
-                    .translateToServiceRequest(desired -> translateToUntagRequest(hoursOfOperationArn, tagsToRemove))
-                    .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::untagResource, logger))
-                    .done(response -> ProgressEvent.progress(desiredStateModel, context));
-        }
-        logger.log(String.format("No removal of tags in update operation, skipping UnTagResource API call " +
-                "for HoursOfOperation:%s", hoursOfOperationArn));
-        return progress;
+    private static boolean isHoursOfOperationUpdated(final ResourceModel desiredStateModel, final ResourceModel previousStateModel) {
+        return !StringUtils.equals(desiredStateModel.getName(), previousStateModel.getName()) ||
+                !StringUtils.equals(StringUtils.defaultString(desiredStateModel.getDescription()), StringUtils.defaultString(previousStateModel.getDescription())) ||
+                !StringUtils.equals(desiredStateModel.getTimeZone(), previousStateModel.getTimeZone()) ||
+                isConfigUpdated(desiredStateModel.getConfig(), previousStateModel.getConfig());
     }
 
-    private ProgressEvent<ResourceModel, CallbackContext> tagResource(final AmazonWebServicesClientProxy proxy,
-                                                                      final ProxyClient<ConnectClient> proxyClient,
-                                                                      final ResourceModel desiredStateModel,
-                                                                      final Set<Tag> tagsToAdd,
-                                                                      final ProgressEvent<ResourceModel, CallbackContext> progress,
-                                                                      final CallbackContext context,
-                                                                      final Logger logger) {
-        final String hoursOfOperationArn = desiredStateModel.getHoursOfOperationArn();
-
-        if (tagsToAdd.size() > 0) {
-            logger.log(String.format("Tags have been modified(addition/TagValue updated) in the update operation, " +
-                    "Calling TagResource API for HoursOfOperation:%s", hoursOfOperationArn));
-            return proxy.initiate("connect::tagResource", proxyClient, desiredStateModel, context)
-                    .translateToServiceRequest(desired -> translateToTagRequest(hoursOfOperationArn, tagsToAdd))
-                    .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::tagResource, logger))
-                    .done(response -> ProgressEvent.progress(desiredStateModel, context));
+    /**
+     * Compares the configs as sets of intervals, ignoring order. Each config is packed into one long, the start and
+     * end minute of the week in the high and low halves, and the sorted arrays are compared. A config that cannot be
+     * packed (an unknown day or a missing time) counts as an update so the service validates it.
+     */
+    static boolean isConfigUpdated(final Set<HoursOfOperationConfig> desiredConfig, final Set<HoursOfOperationConfig> previousConfig) {
+        final long[] desiredIntervals = toWeekIntervals(desiredConfig);
+        final long[] previousIntervals = toWeekIntervals(previousConfig);
+        return desiredIntervals == null || previousIntervals == null || !Arrays.equals(desiredIntervals, previousIntervals);
+    }
+
+    private static long[] toWeekIntervals(final Set<HoursOfOperationConfig> config) {
+        if (config == null) {
+            return new long[0];
+        }
+        final long[] intervals = new long[config.size()];
+        int index = 0;
+        for (final HoursOfOperationConfig hoursOfOperationConfig : config) {
+            final HoursOfOperationDays day = HoursOfOperationDays.fromValue(hoursOfOperationConfig.getDay());
+            final int startMinute = toMinuteOfDay(hoursOfOperationConfig.getStartTime());
+            final int endMinute = toMinuteOfDay(hoursOfOperationConfig.getEndTime());
+            if (day == null || day == HoursOfOperationDays.UNKNOWN_TO_SDK_VERSION || startMinute < 0 || endMinute < 0) {
+                return null;
+            }
+            final long dayStart = (long) day.ordinal() * MINUTES_PER_DAY;
+            intervals[index++] = (dayStart + startMinute) << Integer.SIZE | (dayStart + endMinute);
         }
-        logger.log(String.format("No new tags or change in value for existing keys in update operation," +
-                " skipping TagResource API call for HoursOfOperation:%s", hoursOfOperationArn));
-        return progress;
+        Arrays.sort(intervals);
+        return intervals;
     }
 
-    private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
-        return Optional.ofNullable(collection)
-                .map(Collection::stream)
-                .orElseGet(Stream::empty);
+    private static int toMinuteOfDay(final HoursOfOperationTimeSlice time) {
+        if (time == null || time.getHours() == null || time.getMinutes() == null) {
+            return -1;
+        }
+        return time.getHours() * MINUTES_PER_HOUR + time.getMinutes();
     }
 
     private UpdateHoursOfOperationRequest translateToUpdateHoursOfOperationRequest(final ResourceModel model) {
@@ -125,25 +125,4 @@ public class UpdateHandler extends BaseHandlerStd {
                 .timeZone(model.getTimeZone())
                 .build();
     }
-
-    private UntagResourceRequest translateToUntagRequest(final String hoursOfOperationArn, final Set<Tag> tags) {
-        final Set<String> tagKeys = streamOfOrEmpty(tags).map(Tag::getKey).collect(Collectors.toSet());
-
-        return UntagResourceRequest.builder()
-                .resourceArn(hoursOfOperationArn)
-                .tagKeys(tagKeys)
-                .build();
-    }
-
-    private TagResourceRequest translateToTagRequest(final String hoursOfOperationArn, final Set<Tag> tags) {
-        return TagResourceRequest.builder()
-                .resourceArn(hoursOfOperationArn)
-                .tags(translateTagsToSdk(tags))
-                .build();
-    }
-
-    private Map<String, String> translateTagsToSdk(final Set<Tag> tags) {
-        return tags.stream().collect(Collectors.toMap(Tag::getKey,
-                Tag::getValue));
-    }
 }
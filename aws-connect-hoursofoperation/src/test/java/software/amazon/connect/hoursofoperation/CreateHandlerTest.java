@@ -6,6 +6,8 @@ import org.mockito.ArgumentCaptor;
 import software.amazon.awssdk.services.connect.ConnectClient;
 import software.amazon.awssdk.services.connect.model.CreateHoursOfOperationRequest;
 import software.amazon.awssdk.services.connect.model.CreateHoursOfOperationResponse;
+import software.amazon.awssdk.services.connect.model.DescribeHoursOfOperationRequest;
+import software.amazon.awssdk.services.connect.model.DescribeHoursOfOperationResponse;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +25,7 @@ import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -75,6 +78,7 @@ public class CreateHandlerTest {
                 .build();
 
         when(proxyClient.client().createHoursOfOperation(createHoursOfOperationRequestArgumentCaptor.capture())).thenReturn(createHoursOfOperationResponse);
+        when(proxyClient.client().describeHoursOfOperation(any(DescribeHoursOfOperationRequest.class))).thenReturn(DescribeHoursOfOperationResponse.builder().build());
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(buildHoursOfOperationDesiredStateResourceModel())
@@ -92,6 +96,7 @@ public class CreateHandlerTest {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client()).createHoursOfOperation(createHoursOfOperationRequestArgumentCaptor.capture());
+        verify(proxyClient.client()).describeHoursOfOperation(any(DescribeHoursOfOperationRequest.class));
         assertThat(createHoursOfOperationRequestArgumentCaptor.getValue().instanceId()).isEqualTo(INSTANCE_ARN);
         assertThat(createHoursOfOperationRequestArgumentCaptor.getValue().name()).isEqualTo(HOURS_OF_OPERATION_NAME_ONE);
         assertThat(createHoursOfOperationRequestArgumentCaptor.getValue().description()).isEqualTo(HOURS_OF_OPERATION_DESCRIPTION_ONE);
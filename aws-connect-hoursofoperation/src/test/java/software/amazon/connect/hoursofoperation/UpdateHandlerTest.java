@@ -27,11 +27,13 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -301,4 +303,84 @@ public class UpdateHandlerTest {
 
         verify(connectClient, times(2)).serviceName();
     }
+
+    @Test
+    public void testHandleRequest_Success_TagsOnlySkipsUpdateHoursOfOperation() {
+        final ArgumentCaptor<TagResourceRequest> tagResourceRequestArgumentCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
+        final Map<String, String> tagsAdded = ImmutableMap.of(VALID_TAG_KEY_THREE, VALID_TAG_VALUE_THREE);
+
+        final TagResourceResponse tagResourceResponse = TagResourceResponse.builder().build();
+        when(proxyClient.client().tagResource(tagResourceRequestArgumentCaptor.capture())).thenReturn(tagResourceResponse);
+
+        final ResourceModel previousResourceModel = buildHoursOfOperationDesiredStateResourceModel();
+        previousResourceModel.setConfig(getConfig(HOURS_OF_OPERATION_CONFIG_TWO, copyOf(HOURS_OF_OPERATION_CONFIG_ONE)));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(buildHoursOfOperationDesiredStateResourceModel())
+                .previousResourceState(previousResourceModel)
+                .desiredResourceTags(TAGS_THREE)
+                .previousResourceTags(TAGS_ONE)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+
+        verify(proxyClient.client(), never()).updateHoursOfOperation(any(UpdateHoursOfOperationRequest.class));
+        verify(proxyClient.client()).tagResource(tagResourceRequestArgumentCaptor.capture());
+        assertThat(tagResourceRequestArgumentCaptor.getValue().tags()).isEqualTo(tagsAdded);
+
+        verify(connectClient, times(1)).serviceName();
+    }
+
+    @Test
+    public void testHandleRequest_Success_DescriptionNullAndEmptySkipsUpdateHoursOfOperation() {
+        final ResourceModel desiredResourceModel = buildHoursOfOperationDesiredStateResourceModel();
+        desiredResourceModel.setDescription(null);
+        final ResourceModel previousResourceModel = buildHoursOfOperationDesiredStateResourceModel();
+        previousResourceModel.setDescription("");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desiredResourceModel)
+                .previousResourceState(previousResourceModel)
+                .desiredResourceTags(TAGS_ONE)
+                .previousResourceTags(TAGS_ONE)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), never()).updateHoursOfOperation(any(UpdateHoursOfOperationRequest.class));
+    }
+
+    @Test
+    public void testIsConfigUpdated() {
+        final HoursOfOperationConfig laterEnd = copyOf(HOURS_OF_OPERATION_CONFIG_ONE);
+        laterEnd.setEndTime(HoursOfOperationTimeSlice.builder().hours(23).minutes(0).build());
+        final HoursOfOperationConfig otherDay = copyOf(HOURS_OF_OPERATION_CONFIG_ONE);
+        otherDay.setDay(HOURS_OF_OPERATION_CONFIG_TWO.getDay());
+        final HoursOfOperationConfig unknownDay = copyOf(HOURS_OF_OPERATION_CONFIG_ONE);
+        unknownDay.setDay("SOMEDAY");
+
+        assertThat(UpdateHandler.isConfigUpdated(getConfig(HOURS_OF_OPERATION_CONFIG_ONE, HOURS_OF_OPERATION_CONFIG_TWO),
+                getConfig(HOURS_OF_OPERATION_CONFIG_TWO, HOURS_OF_OPERATION_CONFIG_ONE))).isFalse();
+        assertThat(UpdateHandler.isConfigUpdated(null, Collections.emptySet())).isFalse();
+        assertThat(UpdateHandler.isConfigUpdated(getConfig(HOURS_OF_OPERATION_CONFIG_ONE, HOURS_OF_OPERATION_CONFIG_TWO),
+                getConfig(laterEnd, HOURS_OF_OPERATION_CONFIG_TWO))).isTrue();
+        assertThat(UpdateHandler.isConfigUpdated(getConfig(HOURS_OF_OPERATION_CONFIG_ONE, HOURS_OF_OPERATION_CONFIG_TWO),
+                getConfig(otherDay, HOURS_OF_OPERATION_CONFIG_TWO))).isTrue();
+        assertThat(UpdateHandler.isConfigUpdated(getConfig(HOURS_OF_OPERATION_CONFIG_ONE, HOURS_OF_OPERATION_CONFIG_TWO),
+                Collections.singleton(HOURS_OF_OPERATION_CONFIG_ONE))).isTrue();
+        assertThat(UpdateHandler.isConfigUpdated(Collections.singleton(unknownDay), Collections.singleton(unknownDay))).isTrue();
+    }
+
+    private static HoursOfOperationConfig copyOf(final HoursOfOperationConfig config) {
+        return HoursOfOperationConfig.builder()
+                .day(config.getDay())
+                .startTime(config.getStartTime())
+                .endTime(config.getEndTime())
+                .build();
+    }
 }
@@ -1,10 +1,10 @@
 package software.amazon.connect.quickconnect;
 
-import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.connect.common.ConnectCallbackContext;
 
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
-public class CallbackContext extends StdCallbackContext {
+public class CallbackContext extends ConnectCallbackContext {
 }
@@ -3,14 +3,18 @@ package software.amazon.connect.quickconnect;
 import software.amazon.awssdk.services.connect.ConnectClient;
 import software.amazon.awssdk.services.connect.model.CreateQuickConnectRequest;
 import software.amazon.awssdk.services.connect.model.CreateQuickConnectResponse;
+import software.amazon.awssdk.services.connect.model.DescribeQuickConnectRequest;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.common.Stabilization;
 
 import java.util.Map;
 
+import static software.amazon.connect.common.ConnectCallbackContext.runOnce;
+
 public class CreateHandler extends BaseHandlerStd {
 
     @Override
@@ -27,10 +31,14 @@ public class CreateHandler extends BaseHandlerStd {
         logger.log(String.format("Invoked CreateQuickConnectHandler with InstanceId:%s ,QuickConnectName:%s, " +
                 "QuickConnectType:%s", model.getInstanceArn(), model.getName(), model.getQuickConnectConfig().getQuickConnectType()));
 
-        return proxy.initiate("connect::createQuickConnect", proxyClient, model, callbackContext)
-                .translateToServiceRequest(resourceModel -> translateToCreateQuickConnectRequest(resourceModel, tags))
-                .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::createQuickConnect, logger))
-                .done(response -> ProgressEvent.defaultSuccessHandler(setQuickConnectIdentifier(model, response)));
+        return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> runOnce(callbackContext, "createQuickConnect", progress, () -> proxy.initiate("connect::createQuickConnect", proxyClient, model, callbackContext)
+                        .translateToServiceRequest(resourceModel -> translateToCreateQuickConnectRequest(resourceModel, tags))
+                        .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::createQuickConnect, logger))
+                        .done(response -> ProgressEvent.progress(setQuickConnectIdentifier(model, response), callbackContext))))
+                .then(progress -> runOnce(callbackContext, Stabilization.STEP, progress, () -> Stabilization.awaitVisible(callbackContext, progress, model.getQuickConnectArn(),
+                        () -> Stabilization.exists(() -> invoke(translateToDescribeQuickConnectRequest(model), proxyClient, proxyClient.client()::describeQuickConnect, logger)), logger)))
+                .then(progress -> ProgressEvent.defaultSuccessHandler(model));
     }
 
     private CreateQuickConnectRequest translateToCreateQuickConnectRequest(final ResourceModel model, final Map<String, String> tags) {
@@ -44,6 +52,14 @@ public class CreateHandler extends BaseHandlerStd {
                 .build();
     }
 
+    private static DescribeQuickConnectRequest translateToDescribeQuickConnectRequest(final ResourceModel model) {
+        return DescribeQuickConnectRequest
+                .builder()
+                .instanceId(model.getInstanceArn())
+                .quickConnectId(model.getQuickConnectArn())
+                .build();
+    }
+
     private ResourceModel setQuickConnectIdentifier(final ResourceModel model, final CreateQuickConnectResponse createQuickConnectResponse) {
         model.setQuickConnectArn(createQuickConnectResponse.quickConnectARN());
         return model;
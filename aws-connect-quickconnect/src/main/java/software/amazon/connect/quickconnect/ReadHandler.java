@@ -33,7 +33,7 @@ public class ReadHandler extends BaseHandlerStd {
 
         return proxy.initiate("connect::describeQuickConnect", proxyClient, model, callbackContext)
                 .translateToServiceRequest(this::translateToDescribeQuickConnectRequest)
-                .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::describeQuickConnect, logger))
+                .makeServiceCall((req, clientProxy) -> INVOKER.describe(req, quickConnectArn, clientProxy, clientProxy.client()::describeQuickConnect, logger))
                 .done(response -> ProgressEvent.defaultSuccessHandler(setQuickConnectProperties(model, response.quickConnect())));
     }
 
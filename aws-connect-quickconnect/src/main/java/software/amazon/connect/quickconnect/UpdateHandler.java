@@ -1,11 +1,8 @@
 package software.amazon.connect.quickconnect;
 
-import com.google.common.collect.Sets;
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.services.connect.ConnectClient;
 import software.amazon.awssdk.services.connect.model.QuickConnectType;
-import software.amazon.awssdk.services.connect.model.TagResourceRequest;
-import software.amazon.awssdk.services.connect.model.UntagResourceRequest;
 import software.amazon.awssdk.services.connect.model.UpdateQuickConnectConfigRequest;
 import software.amazon.awssdk.services.connect.model.UpdateQuickConnectNameRequest;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -14,13 +11,10 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.common.ResourceTags;
+import software.amazon.connect.common.TagDiff;
 
-import java.util.Collection;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import static software.amazon.connect.common.ConnectCallbackContext.runOnce;
 
 public class UpdateHandler extends BaseHandlerStd {
 
@@ -32,13 +26,9 @@ public class UpdateHandler extends BaseHandlerStd {
             final ProxyClient<ConnectClient> proxyClient,
             final Logger logger) {
 
-
         final ResourceModel desiredStateModel = request.getDesiredResourceState();
         final ResourceModel previousStateModel = request.getPreviousResourceState();
-        final Set<Tag> previousResourceTags = convertResourceTagsToSet(request.getPreviousResourceTags());
-        final Set<Tag> desiredResourceTags = convertResourceTagsToSet(request.getDesiredResourceTags());
-        final Set<Tag> tagsToRemove = Sets.difference(previousResourceTags, desiredResourceTags);
-        final Set<Tag> tagsToAdd = Sets.difference(desiredResourceTags, previousResourceTags);
+        final TagDiff tagDiff = TagDiff.between(request.getPreviousResourceTags(), request.getDesiredResourceTags());
 
         logger.log(String.format("Invoked UpdateQuickConnectHandler with QuickConnect:%s", desiredStateModel.getQuickConnectArn()));
 
@@ -47,10 +37,10 @@ public class UpdateHandler extends BaseHandlerStd {
         }
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> updateQuickConnectName(proxy, proxyClient, desiredStateModel, previousStateModel, progress, callbackContext, logger))
-                .then(progress -> updateQuickConnectConfig(proxy, proxyClient, desiredStateModel, previousStateModel, progress, callbackContext, logger))
-                .then(progress -> unTagResource(proxy, proxyClient, desiredStateModel, tagsToRemove, progress, callbackContext, logger))
-                .then(progress -> tagResource(proxy, proxyClient, desiredStateModel, tagsToAdd, progress, callbackContext, logger))
+                .then(progress -> runOnce(callbackContext, "updateQuickConnectName", progress, () -> updateQuickConnectName(proxy, proxyClient, desiredStateModel, previousStateModel, progress, callbackContext, logger)))
+                .then(progress -> runOnce(callbackContext, "updateQuickConnectConfig", progress, () -> updateQuickConnectConfig(proxy, proxyClient, desiredStateModel, previousStateModel, progress, callbackContext, logger)))
+                .then(progress -> runOnce(callbackContext, "untagResource", progress, () -> ResourceTags.untagResource(proxy, proxyClient, desiredStateModel, desiredStateModel.getQuickConnectArn(), tagDiff, progress, callbackContext, INVOKER, logger)))
+                .then(progress -> runOnce(callbackContext, "tagResource", progress, () -> ResourceTags.tagResource(proxy, proxyClient, desiredStateModel, desiredStateModel.getQuickConnectArn(), tagDiff, progress, callbackContext, INVOKER, logger)))
                 .then(progress -> ProgressEvent.defaultSuccessHandler(desiredStateModel));
     }
 
@@ -146,75 +136,4 @@ public class UpdateHandler extends BaseHandlerStd {
                 "UpdateQuickConnectConfig API call for QuickConnect:%s", desiredStateModel.getQuickConnectArn()));
         return progress;
     }
-
-    private ProgressEvent<ResourceModel, CallbackContext> tagResource(final AmazonWebServicesClientProxy proxy,
-                                                                      final ProxyClient<ConnectClient> proxyClient,
-                                                                      final ResourceModel desiredStateModel,
-                                                                      final Set<Tag> tagsToAdd,
-                                                                      final ProgressEvent<ResourceModel, CallbackContext> progress,
-                                                                      final CallbackContext context,
-                                                                      final Logger logger) {
-        final String quickConnectArn = desiredStateModel.getQuickConnectArn();
-
-        if (tagsToAdd.size() > 0) {
-            logger.log(String.format("Tags have been modified(addition/TagValue updated) in the update operation, " +
-                    "Calling TagResource API for QuickConnect:%s", quickConnectArn));
-            return proxy.initiate("connect::tagResource", proxyClient, desiredStateModel, context)
-                    .translateToServiceRequest(desired -> translateToTagRequest(quickConnectArn, tagsToAdd))
-                    .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::tagResource, logger))
-                    .done(response -> ProgressEvent.progress(desiredStateModel, context));
-        }
-        logger.log(String.format("No new tags or change in value for existing keys in update operation," +
-                " skipping TagResource API call for QuickConnect:%s", quickConnectArn));
-        return progress;
-    }
-
-    private ProgressEvent<ResourceModel, CallbackContext> unTagResource(final AmazonWebServicesClientProxy proxy,
-                                                                        final ProxyClient<ConnectClient> proxyClient,
-                                                                        final ResourceModel desiredStateModel,
-                                                                        final Set<Tag> tagsToRemove,
-                                                                        final ProgressEvent<ResourceModel, CallbackContext> progress,
-                                                                        final CallbackContext context,
-                                                                        final Logger logger) {
-        final String quickConnectArn = desiredStateModel.getQuickConnectArn();
-
-        if (tagsToRemove.size() > 0) {
-            logger.log(String.format("Tags have been removed in the update operation, " +
-                    "Calling UnTagResource API for QuickConnect:%s", quickConnectArn));
-            return proxy.initiate("connect::untagResource", proxyClient, desiredStateModel, context)
-                    .translateToServiceRequest(desired -> translateToUntagRequest(quickConnectArn, tagsToRemove))
-                    .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::untagResource, logger))
-                    .done(response -> ProgressEvent.progress(desiredStateModel, context));
-        }
-        logger.log(String.format("No removal of tags in update operation, skipping UnTagResource API call " +
-                "for QuickConnect:%s", quickConnectArn));
-        return progress;
-    }
-
-    private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
-        return Optional.ofNullable(collection)
-                .map(Collection::stream)
-                .orElseGet(Stream::empty);
-    }
-
-    private UntagResourceRequest translateToUntagRequest(final String quickConnectArn, final Set<Tag> tags) {
-        final Set<String> tagKeys = streamOfOrEmpty(tags).map(Tag::getKey).collect(Collectors.toSet());
-
-        return UntagResourceRequest.builder()
-                .resourceArn(quickConnectArn)
-                .tagKeys(tagKeys)
-                .build();
-    }
-
-    private TagResourceRequest translateToTagRequest(final String quickConnectArn, final Set<Tag> tags) {
-        return TagResourceRequest.builder()
-                .resourceArn(quickConnectArn)
-                .tags(translateTagsToSdk(tags))
-                .build();
-    }
-
-    private Map<String, String> translateTagsToSdk(final Set<Tag> tags) {
-        return tags.stream().collect(Collectors.toMap(Tag::getKey,
-                Tag::getValue));
-    }
 }
@@ -6,6 +6,8 @@ import org.mockito.ArgumentCaptor;
 import software.amazon.awssdk.services.connect.ConnectClient;
 import software.amazon.awssdk.services.connect.model.CreateQuickConnectRequest;
 import software.amazon.awssdk.services.connect.model.CreateQuickConnectResponse;
+import software.amazon.awssdk.services.connect.model.DescribeQuickConnectRequest;
+import software.amazon.awssdk.services.connect.model.DescribeQuickConnectResponse;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +25,7 @@ import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -82,6 +85,7 @@ public class CreateHandlerTest {
                 .quickConnectARN(QUICK_CONNECT_ARN)
                 .build();
         when(proxyClient.client().createQuickConnect(createQuickConnectRequestArgumentCaptor.capture())).thenReturn(createQuickConnectResponse);
+        when(proxyClient.client().describeQuickConnect(any(DescribeQuickConnectRequest.class))).thenReturn(DescribeQuickConnectResponse.builder().build());
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(buildQuickConnectResourceModelWithQuickConnectTypeUser())
@@ -99,6 +103,7 @@ public class CreateHandlerTest {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client()).createQuickConnect(createQuickConnectRequestArgumentCaptor.capture());
+        verify(proxyClient.client()).describeQuickConnect(any(DescribeQuickConnectRequest.class));
         assertThat(createQuickConnectRequestArgumentCaptor.getValue().instanceId()).isEqualTo(INSTANCE_ARN);
         assertThat(createQuickConnectRequestArgumentCaptor.getValue().name()).isEqualTo(QUICK_CONNECT_NAME_ONE);
         assertThat(createQuickConnectRequestArgumentCaptor.getValue().description()).isEqualTo(QUICK_CONNECT_DESCRIPTION_ONE);
@@ -119,6 +124,7 @@ public class CreateHandlerTest {
                 .quickConnectARN(QUICK_CONNECT_ARN)
                 .build();
         when(proxyClient.client().createQuickConnect(createQuickConnectRequestArgumentCaptor.capture())).thenReturn(createQuickConnectResponse);
+        when(proxyClient.client().describeQuickConnect(any(DescribeQuickConnectRequest.class))).thenReturn(DescribeQuickConnectResponse.builder().build());
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(buildQuickConnectResourceModelWithQuickConnectTypeQueue())
@@ -136,6 +142,7 @@ public class CreateHandlerTest {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client()).createQuickConnect(createQuickConnectRequestArgumentCaptor.capture());
+        verify(proxyClient.client()).describeQuickConnect(any(DescribeQuickConnectRequest.class));
         assertThat(createQuickConnectRequestArgumentCaptor.getValue().instanceId()).isEqualTo(INSTANCE_ARN);
         assertThat(createQuickConnectRequestArgumentCaptor.getValue().name()).isEqualTo(QUICK_CONNECT_NAME_TWO);
         assertThat(createQuickConnectRequestArgumentCaptor.getValue().description()).isEqualTo(QUICK_CONNECT_DESCRIPTION_TWO);
@@ -156,6 +163,7 @@ public class CreateHandlerTest {
                 .quickConnectARN(QUICK_CONNECT_ARN)
                 .build();
         when(proxyClient.client().createQuickConnect(createQuickConnectRequestArgumentCaptor.capture())).thenReturn(createQuickConnectResponse);
+        when(proxyClient.client().describeQuickConnect(any(DescribeQuickConnectRequest.class))).thenReturn(DescribeQuickConnectResponse.builder().build());
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(buildQuickConnectResourceModelWithQuickConnectTypePhoneNumber())
@@ -173,6 +181,7 @@ public class CreateHandlerTest {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client()).createQuickConnect(createQuickConnectRequestArgumentCaptor.capture());
+        verify(proxyClient.client()).describeQuickConnect(any(DescribeQuickConnectRequest.class));
         assertThat(createQuickConnectRequestArgumentCaptor.getValue().instanceId()).isEqualTo(INSTANCE_ARN);
         assertThat(createQuickConnectRequestArgumentCaptor.getValue().name()).isEqualTo(QUICK_CONNECT_NAME_THREE);
         assertThat(createQuickConnectRequestArgumentCaptor.getValue().description()).isEqualTo(QUICK_CONNECT_DESCRIPTION_THREE);
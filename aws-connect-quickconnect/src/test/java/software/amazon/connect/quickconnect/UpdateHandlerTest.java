@@ -1,6 +1,7 @@
 package software.amazon.connect.quickconnect;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import org.junit.jupiter.api.AfterEach;
 import org.mockito.ArgumentCaptor;
@@ -890,6 +891,33 @@ public class UpdateHandlerTest {
 
     }
 
+    @Test
+    public void testHandleRequest_Success_ResumesAtFirstIncompleteStep() {
+        final ArgumentCaptor<TagResourceRequest> tagResourceRequestArgumentCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
+
+        final TagResourceResponse tagResourceResponse = TagResourceResponse.builder().build();
+        when(proxyClient.client().tagResource(tagResourceRequestArgumentCaptor.capture())).thenReturn(tagResourceResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(buildQuickConnectResourceModelWithQuickConnectTypeUser())
+                .previousResourceState(buildQuickConnectResourceModelWithQuickConnectTypeQueue())
+                .desiredResourceTags(TAGS_ONE)
+                .previousResourceTags(TAGS_TWO)
+                .build();
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setCompletedSteps(ImmutableSet.of("updateQuickConnectName", "updateQuickConnectConfig", "untagResource"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getCompletedSteps()).contains("tagResource");
+
+        verify(proxyClient.client()).tagResource(tagResourceRequestArgumentCaptor.capture());
+        assertThat(tagResourceRequestArgumentCaptor.getValue().resourceArn()).isEqualTo(QUICK_CONNECT_ARN);
+        assertThat(tagResourceRequestArgumentCaptor.getValue().tags()).isEqualTo(TAGS_ONE);
+    }
+
     @Test
     public void testHandleRequest_Exception_UpdateQuickConnectName() {
         final QuickConnectConfig quickConnectConfigTypePhoneNumber = QuickConnectConfig
@@ -3,14 +3,18 @@ package software.amazon.connect.user;
 import software.amazon.awssdk.services.connect.ConnectClient;
 import software.amazon.awssdk.services.connect.model.CreateUserRequest;
 import software.amazon.awssdk.services.connect.model.CreateUserResponse;
+import software.amazon.awssdk.services.connect.model.DescribeUserRequest;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.common.Stabilization;
 
 import java.util.Map;
 
+import static software.amazon.connect.common.ConnectCallbackContext.runOnce;
+
 public class CreateHandler extends BaseHandlerStd {
 
     @Override
@@ -26,11 +30,14 @@ public class CreateHandler extends BaseHandlerStd {
 
         logger.log(String.format("Invoked CreateUserHandler with InstanceId:%s ", model.getInstanceArn()));
 
-        return proxy.initiate("connect::createUser", proxyClient, model, callbackContext)
-                .translateToServiceRequest(resourceModel -> translateToCreateUserRequest(resourceModel, tags))
-                .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::createUser, logger))
-                .done(response -> ProgressEvent.defaultSuccessHandler(setUserIdentifier(model, response)));
-
+        return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> runOnce(callbackContext, "createUser", progress, () -> proxy.initiate("connect::createUser", proxyClient, model, callbackContext)
+                        .translateToServiceRequest(resourceModel -> translateToCreateUserRequest(resourceModel, tags))
+                        .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::createUser, logger))
+                        .done(response -> ProgressEvent.progress(setUserIdentifier(model, response), callbackContext))))
+                .then(progress -> runOnce(callbackContext, Stabilization.STEP, progress, () -> Stabilization.awaitVisible(callbackContext, progress, model.getUserArn(),
+                        () -> Stabilization.exists(() -> invoke(translateToDescribeUserRequest(model), proxyClient, proxyClient.client()::describeUser, logger)), logger)))
+                .then(progress -> ProgressEvent.defaultSuccessHandler(model));
     }
 
     private CreateUserRequest translateToCreateUserRequest(final ResourceModel model, final Map<String, String> tags) {
@@ -49,6 +56,14 @@ public class CreateHandler extends BaseHandlerStd {
                 .build();
     }
 
+    private static DescribeUserRequest translateToDescribeUserRequest(final ResourceModel model) {
+        return DescribeUserRequest
+                .builder()
+                .instanceId(model.getInstanceArn())
+                .userId(model.getUserArn())
+                .build();
+    }
+
     private ResourceModel setUserIdentifier(final ResourceModel model, final CreateUserResponse createUserResponse) {
         model.setUserArn(createUserResponse.userArn());
         return model;
@@ -10,6 +10,8 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import static software.amazon.connect.common.ConnectCallbackContext.runOnce;
+
 public class DeleteHandler extends BaseHandlerStd {
 
     @Override
@@ -29,10 +31,11 @@ public class DeleteHandler extends BaseHandlerStd {
             throw new CfnNotFoundException(new CfnInvalidRequestException(String.format("%s is not a valid User Arn", userArn)));
         }
 
-        return proxy.initiate("connect::deleteUser", proxyClient, model, callbackContext)
-                .translateToServiceRequest(this::translateToDeleteUserRequest)
-                .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::deleteUser, logger))
-                .done(response -> ProgressEvent.defaultSuccessHandler(null));
+        return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> runOnce(callbackContext, "deleteUser", progress, () -> proxy.initiate("connect::deleteUser", proxyClient, model, callbackContext)
+                        .translateToServiceRequest(this::translateToDeleteUserRequest)
+                        .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::deleteUser, logger))
+                        .done(response -> ProgressEvent.defaultSuccessHandler(null))));
     }
 
     private DeleteUserRequest translateToDeleteUserRequest(final ResourceModel model) {
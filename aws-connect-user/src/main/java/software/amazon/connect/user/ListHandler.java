@@ -0,0 +1,78 @@
+package software.amazon.connect.user;
+
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.awssdk.services.connect.model.ListUsersRequest;
+import software.amazon.awssdk.services.connect.model.ListUsersResponse;
+import software.amazon.awssdk.services.connect.model.UserSummary;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.common.ConnectArn;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+public class ListHandler extends BaseHandlerStd {
+
+    /**
+     * Each invocation returns a single ListUsers page and hands the service token back to CloudFormation, so the
+     * page size bounds the work done per invocation regardless of how many users the instance holds.
+     */
+    static final int MAX_RESULTS = 100;
+
+    @Override
+    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<ConnectClient> proxyClient,
+            final Logger logger) {
+
+        final ResourceModel model = request.getDesiredResourceState();
+        final String instanceArn = model.getInstanceArn();
+        final String nextToken = request.getNextToken();
+
+        logger.log(String.format("Invoked ListUserHandler with InstanceArn:%s", instanceArn));
+
+        if (!ConnectArn.isValidInstanceArn(instanceArn)) {
+            throw new CfnInvalidRequestException(String.format("%s is not a valid Instance Arn", instanceArn));
+        }
+
+        return proxy.initiate("connect::listUsers", proxyClient, model, callbackContext)
+                .translateToServiceRequest(resourceModel -> translateToListUsersRequest(instanceArn, nextToken))
+                .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::listUsers, logger))
+                .done(response -> ProgressEvent.<ResourceModel, CallbackContext>builder()
+                        .resourceModels(translateToResourceModels(instanceArn, response))
+                        .nextToken(response.nextToken())
+                        .status(OperationStatus.SUCCESS)
+                        .build());
+    }
+
+    private ListUsersRequest translateToListUsersRequest(final String instanceArn, final String nextToken) {
+        return ListUsersRequest
+                .builder()
+                .instanceId(instanceArn)
+                .maxResults(MAX_RESULTS)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    private List<ResourceModel> translateToResourceModels(final String instanceArn, final ListUsersResponse listUsersResponse) {
+        return listUsersResponse.userSummaryList().stream()
+                .map(userSummary -> translateToResourceModel(instanceArn, userSummary))
+                .collect(toList());
+    }
+
+    private ResourceModel translateToResourceModel(final String instanceArn, final UserSummary userSummary) {
+        return ResourceModel.builder()
+                .instanceArn(instanceArn)
+                .userArn(userSummary.arn())
+                .username(userSummary.username())
+                .build();
+    }
+}
@@ -37,7 +37,7 @@ public class ReadHandler extends BaseHandlerStd {
 
         return proxy.initiate("connect::describeUser", proxyClient, model, callbackContext)
                 .translateToServiceRequest(this::translateToDescribeUserRequest)
-                .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::describeUser, logger))
+                .makeServiceCall((req, clientProxy) -> INVOKER.describe(req, userArn, clientProxy, clientProxy.client()::describeUser, logger))
                 .done(response -> ProgressEvent.defaultSuccessHandler(setUserProperties(model, response.user())));
 
     }
@@ -1,6 +1,5 @@
 package software.amazon.connect.user;
 
-import com.google.common.collect.Sets;
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.services.connect.ConnectClient;
 import software.amazon.awssdk.services.connect.model.UpdateUserSecurityProfilesRequest;
@@ -8,21 +7,22 @@ import software.amazon.awssdk.services.connect.model.UpdateUserRoutingProfileReq
 import software.amazon.awssdk.services.connect.model.UpdateUserHierarchyRequest;
 import software.amazon.awssdk.services.connect.model.UpdateUserIdentityInfoRequest;
 import software.amazon.awssdk.services.connect.model.UpdateUserPhoneConfigRequest;
-import software.amazon.awssdk.services.connect.model.TagResourceRequest;
-import software.amazon.awssdk.services.connect.model.UntagResourceRequest;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.common.ResourceTags;
+import software.amazon.connect.common.TagDiff;
 
-import java.util.Set;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Optional;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static software.amazon.connect.common.ConnectCallbackContext.runOnce;
 
 public class UpdateHandler extends BaseHandlerStd {
 
@@ -35,10 +35,7 @@ public class UpdateHandler extends BaseHandlerStd {
             final Logger logger) {
         final ResourceModel desiredStateModel = request.getDesiredResourceState();
         final ResourceModel previousStateModel = request.getPreviousResourceState();
-        final Set<Tag> previousResourceTags = convertResourceTagsToSet(request.getPreviousResourceTags());
-        final Set<Tag> desiredResourceTags = convertResourceTagsToSet(request.getDesiredResourceTags());
-        final Set<Tag> tagsToRemove = Sets.difference(previousResourceTags, desiredResourceTags);
-        final Set<Tag> tagsToAdd = Sets.difference(desiredResourceTags, previousResourceTags);
+        final TagDiff tagDiff = TagDiff.between(request.getPreviousResourceTags(), request.getDesiredResourceTags());
 
         logger.log(String.format("Invoked UpdateUserHandler with user:%s", desiredStateModel.getUserArn()));
 
@@ -58,14 +55,15 @@ public class UpdateHandler extends BaseHandlerStd {
             throw new CfnInvalidRequestException("Username cannot be updated.");
         }
 
-        return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> updateUserIdentityInfo(proxy, proxyClient, desiredStateModel, previousStateModel, progress, callbackContext, logger))
-                .then(progress -> updateUserPhoneConfig(proxy, proxyClient, desiredStateModel, previousStateModel, progress, callbackContext, logger))
-                .then(progress -> updateUserRoutingProfile(proxy, proxyClient, desiredStateModel, previousStateModel, progress, callbackContext, logger))
-                .then(progress -> updateUserHierarchy(proxy, proxyClient, desiredStateModel, previousStateModel, progress, callbackContext, logger))
-                .then(progress -> updateUserSecurityProfiles(proxy, proxyClient, desiredStateModel, previousStateModel, progress, callbackContext, logger))
-                .then(progress -> unTagResource(proxy, proxyClient, desiredStateModel, tagsToRemove, progress, callbackContext, logger))
-                .then(progress -> tagResource(proxy, proxyClient, desiredStateModel, tagsToAdd, progress, callbackContext, logger))
+        return UPDATE_MODE.run(ProgressEvent.progress(request.getDesiredResourceState(), callbackContext), CallbackContext::new, Arrays.asList(
+                (progress, context) -> runOnce(callbackContext, "updateUserIdentityInfo", progress, () -> updateUserIdentityInfo(proxy, proxyClient, desiredStateModel, previousStateModel, progress, context, logger)),
+                (progress, context) -> runOnce(callbackContext, "updateUserPhoneConfig", progress, () -> updateUserPhoneConfig(proxy, proxyClient, desiredStateModel, previousStateModel, progress, context, logger)),
+                (progress, context) -> runOnce(callbackContext, "updateUserRoutingProfile", progress, () -> updateUserRoutingProfile(proxy, proxyClient, desiredStateModel, previousStateModel, progress, context, logger)),
+                (progress, context) -> runOnce(callbackContext, "updateUserHierarchy", progress, () -> updateUserHierarchy(proxy, proxyClient, desiredStateModel, previousStateModel, progress, context, logger)),
+                (progress, context) -> runOnce(callbackContext, "updateUserSecurityProfiles", progress, () -> updateUserSecurityProfiles(proxy, proxyClient, desiredStateModel, previousStateModel, progress, context, logger)),
+                (progress, context) -> progress
+                        .then(untag -> runOnce(callbackContext, "untagResource", untag, () -> ResourceTags.untagResource(proxy, proxyClient, desiredStateModel, desiredStateModel.getUserArn(), tagDiff, untag, context, INVOKER, logger)))
+                        .then(tag -> runOnce(callbackContext, "tagResource", tag, () -> ResourceTags.tagResource(proxy, proxyClient, desiredStateModel, desiredStateModel.getUserArn(), tagDiff, tag, context, INVOKER, logger)))))
                 .then(progress -> ProgressEvent.defaultSuccessHandler(desiredStateModel));
     }
 
@@ -218,7 +216,7 @@ public class UpdateHandler extends BaseHandlerStd {
                                                                                      final ProgressEvent<ResourceModel, CallbackContext> progress,
                                                                                      final CallbackContext context,
                                                                                      final Logger logger) {
-        if (!(desiredStateModel.getSecurityProfileArns().containsAll(previousStateModel.getSecurityProfileArns()))) {
+        if (isUserSecurityProfilesUpdated(desiredStateModel.getSecurityProfileArns(), previousStateModel.getSecurityProfileArns())) {
             logger.log(String.format("Calling UpdateUserSecurityProfiles API for user:%s", desiredStateModel.getUserArn()));
             return proxy.initiate("connect::updateUserSecurityProfiles", proxyClient, desiredStateModel, context)
                     .translateToServiceRequest(UpdateHandler::translateToUpdateUserSecurityProfiles)
@@ -232,81 +230,31 @@ public class UpdateHandler extends BaseHandlerStd {
         }
     }
 
-    private static UpdateUserSecurityProfilesRequest translateToUpdateUserSecurityProfiles(final ResourceModel model) {
-        return UpdateUserSecurityProfilesRequest
-                .builder()
-                .instanceId(model.getInstanceArn())
-                .userId(model.getUserArn())
-                .securityProfileIds(model.getSecurityProfileArns())
-                .build();
+    /**
+     * Security profiles are a set, and the previous state may name a profile by the ARN the template gave or by the id
+     * {@code DescribeUser} returns, so both sides are compared as sets of ids.
+     */
+    static boolean isUserSecurityProfilesUpdated(final Collection<String> desiredSecurityProfiles, final Collection<String> previousSecurityProfiles) {
+        return !toSecurityProfileIds(desiredSecurityProfiles).equals(toSecurityProfileIds(previousSecurityProfiles));
     }
 
-    private ProgressEvent<ResourceModel, CallbackContext> unTagResource(final AmazonWebServicesClientProxy proxy,
-                                                                        final ProxyClient<ConnectClient> proxyClient,
-                                                                        final ResourceModel desiredStateModel,
-                                                                        final Set<Tag> tagsToRemove,
-                                                                        final ProgressEvent<ResourceModel, CallbackContext> progress,
-                                                                        final CallbackContext context,
-                                                                        final Logger logger) {
-        final String userArn = desiredStateModel.getUserArn();
-        if (tagsToRemove.size() > 0) {
-            logger.log(String.format("Tags have been removed in the update operation, " +
-                    "Calling UnTagResource API for user:%s", userArn));
-            return proxy.initiate("connect::untagResource", proxyClient, desiredStateModel, context)
-                    .translateToServiceRequest(desired -> translateToUntagRequest(userArn, tagsToRemove))
-                    .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::untagResource, logger))
-                    .done(response -> ProgressEvent.progress(desiredStateModel, context));
+    private static Set<String> toSecurityProfileIds(final Collection<String> securityProfiles) {
+        if (securityProfiles == null) {
+            return Collections.emptySet();
         }
-        logger.log(String.format("No removal of tags in update operation, skipping UnTagResource API call " +
-                "for User:%s", userArn));
-        return progress;
-    }
-
-    private UntagResourceRequest translateToUntagRequest(final String userArn, final Set<Tag> tags) {
-        final Set<String> tagKeys = streamOfOrEmpty(tags).map(Tag::getKey).collect(Collectors.toSet());
-
-        return UntagResourceRequest.builder()
-                .resourceArn(userArn)
-                .tagKeys(tagKeys)
-                .build();
-    }
-
-    private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
-        return Optional.ofNullable(collection)
-                .map(Collection::stream)
-                .orElseGet(Stream::empty);
-    }
-
-    private ProgressEvent<ResourceModel, CallbackContext> tagResource(final AmazonWebServicesClientProxy proxy,
-                                                                      final ProxyClient<ConnectClient> proxyClient,
-                                                                      final ResourceModel desiredStateModel,
-                                                                      final Set<Tag> tagsToAdd,
-                                                                      final ProgressEvent<ResourceModel, CallbackContext> progress,
-                                                                      final CallbackContext context,
-                                                                      final Logger logger) {
-        final String userArn = desiredStateModel.getUserArn();
-        if (tagsToAdd.size() > 0) {
-            logger.log(String.format("Tags have been modified(addition/TagValue updated) in the update operation, " +
-                    "Calling TagResource API for user:%s", userArn));
-            return proxy.initiate("connect::tagResource", proxyClient, desiredStateModel, context)
-                    .translateToServiceRequest(desired -> translateToTagRequest(userArn, tagsToAdd))
-                    .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::tagResource, logger))
-                    .done(response -> ProgressEvent.progress(desiredStateModel, context));
+        final Set<String> securityProfileIds = new HashSet<>();
+        for (final String securityProfile : securityProfiles) {
+            securityProfileIds.add(ArnHelper.getSecurityProfileId(securityProfile));
         }
-        logger.log(String.format("No new tags or change in value for existing keys in update operation," +
-                " skipping TagResource API call for user:%s", userArn));
-        return progress;
+        return securityProfileIds;
     }
 
-    private TagResourceRequest translateToTagRequest(final String userArn, final Set<Tag> tags) {
-        return TagResourceRequest.builder()
-                .resourceArn(userArn)
-                .tags(translateTagsToSdk(tags))
+    private static UpdateUserSecurityProfilesRequest translateToUpdateUserSecurityProfiles(final ResourceModel model) {
+        return UpdateUserSecurityProfilesRequest
+                .builder()
+                .instanceId(model.getInstanceArn())
+                .userId(model.getUserArn())
+                .securityProfileIds(model.getSecurityProfileArns())
                 .build();
     }
-
-    private Map<String, String> translateTagsToSdk(final Set<Tag> tags) {
-        return tags.stream().collect(Collectors.toMap(Tag::getKey,
-                Tag::getValue));
-    }
 }
@@ -22,6 +22,12 @@ public class ArnHelperTest {
         assertThat(ArnHelper.getInstanceArnFromUserArn(USER_ARN)).isEqualTo(INSTANCE_ARN);
     }
 
+    @Test
+    public void testGetInstanceArnFromUserArn_InstanceIdContainsAgent() {
+        final String instanceArn = "arn:aws:connect:us-west-2:111111111111:instance/agent-instanceId";
+        assertThat(ArnHelper.getInstanceArnFromUserArn(instanceArn + "/agent/userID")).isEqualTo(instanceArn);
+    }
+
     @Test
     public void testIsValidUserArn_ValidArn() {
         assertTrue(ArnHelper.isValidUserArn(USER_ARN));
@@ -37,6 +43,13 @@ public class ArnHelperTest {
         assertFalse(ArnHelper.isValidUserArn(null));
     }
 
+    @Test
+    public void testGetSecurityProfileId() {
+        assertThat(ArnHelper.getSecurityProfileId(SECURITY_PROFILE_ARN)).isEqualTo(SECURITY_PROFILE_ID);
+        assertThat(ArnHelper.getSecurityProfileId(SECURITY_PROFILE_ID)).isEqualTo(SECURITY_PROFILE_ID);
+        assertThat(ArnHelper.getSecurityProfileId(ROUTING_PROFILE_ARN)).isEqualTo(ROUTING_PROFILE_ARN);
+    }
+
     @Test
     public void testConstructSecurityProfileArn() {
         assertThat(ArnHelper.constructSecurityProfileArn(INSTANCE_ARN, SECURITY_PROFILE_ID)).isEqualTo(SECURITY_PROFILE_ARN);
@@ -5,6 +5,9 @@ import org.mockito.ArgumentCaptor;
 import software.amazon.awssdk.services.connect.ConnectClient;
 import software.amazon.awssdk.services.connect.model.CreateUserRequest;
 import software.amazon.awssdk.services.connect.model.CreateUserResponse;
+import software.amazon.awssdk.services.connect.model.DescribeUserRequest;
+import software.amazon.awssdk.services.connect.model.DescribeUserResponse;
+import software.amazon.awssdk.services.connect.model.ResourceNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +26,7 @@ import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -82,6 +86,7 @@ public class CreateHandlerTest {
                 .build();
 
         when(proxyClient.client().createUser(createUserRequestArgumentCaptor.capture())).thenReturn(createUserResponse);
+        when(proxyClient.client().describeUser(any(DescribeUserRequest.class))).thenReturn(DescribeUserResponse.builder().build());
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(buildUserDesiredStateResourceModel())
@@ -117,6 +122,42 @@ public class CreateHandlerTest {
         assertThat(createUserRequestArgumentCaptor.getValue().directoryUserId()).isEqualTo(DIRECTORY_USER_ID);
         assertThat(createUserRequestArgumentCaptor.getValue().hierarchyGroupId()).isEqualTo(HIERARCHY_GROUP_ARN);
         assertThat(createUserRequestArgumentCaptor.getValue().tags()).isEqualTo(TAGS_ONE);
+        verify(proxyClient.client()).describeUser(any(DescribeUserRequest.class));
+    }
+
+    @Test
+    public void testHandleRequest_WaitsUntilUserIsVisible() {
+        final CreateUserResponse createUserResponse = CreateUserResponse.builder()
+                .userId(USER_ID)
+                .userArn(USER_ARN)
+                .build();
+        when(proxyClient.client().createUser(any(CreateUserRequest.class))).thenReturn(createUserResponse);
+        final ArgumentCaptor<DescribeUserRequest> describeUserRequestArgumentCaptor = ArgumentCaptor.forClass(DescribeUserRequest.class);
+        when(proxyClient.client().describeUser(describeUserRequestArgumentCaptor.capture()))
+                .thenThrow(ResourceNotFoundException.builder().build())
+                .thenReturn(DescribeUserResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(buildUserDesiredStateResourceModel())
+                .desiredResourceTags(TAGS_ONE)
+                .build();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        final ProgressEvent<ResourceModel, CallbackContext> waiting = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(waiting.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(waiting.getCallbackDelaySeconds()).isPositive();
+        assertThat(waiting.getCallbackContext()).isSameAs(callbackContext);
+        assertThat(waiting.getResourceModel().getUserArn()).isEqualTo(USER_ARN);
+        assertThat(callbackContext.isStepCompleted("createUser")).isTrue();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), times(1)).createUser(any(CreateUserRequest.class));
+        verify(proxyClient.client(), times(2)).describeUser(describeUserRequestArgumentCaptor.capture());
+        assertThat(describeUserRequestArgumentCaptor.getValue().instanceId()).isEqualTo(INSTANCE_ARN);
+        assertThat(describeUserRequestArgumentCaptor.getValue().userId()).isEqualTo(USER_ARN);
     }
 
     @Test
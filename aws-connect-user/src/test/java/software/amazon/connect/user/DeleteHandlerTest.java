@@ -19,11 +19,13 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.common.Deadline;
 
 import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -111,6 +113,28 @@ public class DeleteHandlerTest {
         verify(connectClient, times(1)).serviceName();
     }
 
+    @Test
+    void testHandleRequest_DeadlineExceededReturnsInProgress() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(buildUserDesiredStateResourceModel())
+                .build();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response;
+        BaseHandlerStd.INVOKER.startInvocation(Deadline.after(Duration.ZERO));
+        try {
+            response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        } finally {
+            BaseHandlerStd.INVOKER.finishInvocation(logger);
+        }
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(CallbackContext.DEADLINE_CALLBACK_DELAY_SECONDS);
+        assertThat(response.getCallbackContext()).isSameAs(callbackContext);
+        verify(proxyClient.client(), never()).deleteUser(any(DeleteUserRequest.class));
+        verify(connectClient, times(1)).serviceName();
+    }
+
     @Test
     public void testHandleRequest_CfnNotFoundException_InvalidUserArn() {
         final ArgumentCaptor<DeleteUserRequest> deleteUserRequestArgumentCaptor = ArgumentCaptor.forClass(DeleteUserRequest.class);
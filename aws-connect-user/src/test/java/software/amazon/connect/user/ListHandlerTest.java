@@ -0,0 +1,160 @@
+package software.amazon.connect.user;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.awssdk.services.connect.model.ListUsersRequest;
+import software.amazon.awssdk.services.connect.model.ListUsersResponse;
+import software.amazon.awssdk.services.connect.model.UserSummary;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static software.amazon.connect.user.UserTestDataProvider.INSTANCE_ARN;
+import static software.amazon.connect.user.UserTestDataProvider.USERNAME;
+import static software.amazon.connect.user.UserTestDataProvider.USER_ARN;
+import static software.amazon.connect.user.UserTestDataProvider.USER_ID;
+
+@ExtendWith(MockitoExtension.class)
+public class ListHandlerTest {
+
+    private static final String NEXT_TOKEN = "nextToken";
+    private static final String NEXT_TOKEN_TWO = "nextTokenTwo";
+
+    private ListHandler handler;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<ConnectClient> proxyClient;
+    private LoggerProxy logger;
+
+    @Mock
+    private ConnectClient connectClient;
+
+    @BeforeEach
+    public void setup() {
+        final Credentials MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+        logger = new LoggerProxy();
+        handler = new ListHandler();
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = proxy.newProxy(() -> connectClient);
+    }
+
+    @AfterEach
+    public void post_execute() {
+        verifyNoMoreInteractions(proxyClient.client());
+    }
+
+    @Test
+    public void testHandleRequest_Success() {
+        final ArgumentCaptor<ListUsersRequest> listUsersRequestArgumentCaptor = ArgumentCaptor.forClass(ListUsersRequest.class);
+        final ListUsersResponse listUsersResponse = ListUsersResponse.builder()
+                .userSummaryList(UserSummary.builder()
+                        .arn(USER_ARN)
+                        .id(USER_ID)
+                        .username(USERNAME)
+                        .build())
+                .nextToken(NEXT_TOKEN_TWO)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().instanceArn(INSTANCE_ARN).build())
+                .nextToken(NEXT_TOKEN)
+                .build();
+
+        when(proxyClient.client().listUsers(listUsersRequestArgumentCaptor.capture())).thenReturn(listUsersResponse);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackContext()).isNull();
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel()).isNull();
+        assertThat(response.getNextToken()).isEqualTo(NEXT_TOKEN_TWO);
+        assertThat(response.getResourceModels().size()).isEqualTo(1);
+        assertThat(response.getResourceModels().get(0).getUserArn()).isEqualTo(USER_ARN);
+        assertThat(response.getResourceModels().get(0).getInstanceArn()).isEqualTo(INSTANCE_ARN);
+        assertThat(response.getResourceModels().get(0).getUsername()).isEqualTo(USERNAME);
+        assertThat(response.getMessage()).isNull();
+        assertThat(response.getErrorCode()).isNull();
+
+        verify(proxyClient.client()).listUsers(listUsersRequestArgumentCaptor.capture());
+        assertThat(listUsersRequestArgumentCaptor.getValue().instanceId()).isEqualTo(INSTANCE_ARN);
+        assertThat(listUsersRequestArgumentCaptor.getValue().nextToken()).isEqualTo(NEXT_TOKEN);
+        assertThat(listUsersRequestArgumentCaptor.getValue().maxResults()).isEqualTo(ListHandler.MAX_RESULTS);
+
+        verify(connectClient, times(1)).serviceName();
+    }
+
+    @Test
+    public void testHandleRequest_Success_LastPage() {
+        final ArgumentCaptor<ListUsersRequest> listUsersRequestArgumentCaptor = ArgumentCaptor.forClass(ListUsersRequest.class);
+        final ListUsersResponse listUsersResponse = ListUsersResponse.builder().build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().instanceArn(INSTANCE_ARN).build())
+                .build();
+
+        when(proxyClient.client().listUsers(listUsersRequestArgumentCaptor.capture())).thenReturn(listUsersResponse);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isNull();
+        assertThat(response.getResourceModels()).isEmpty();
+
+        verify(proxyClient.client()).listUsers(listUsersRequestArgumentCaptor.capture());
+        assertThat(listUsersRequestArgumentCaptor.getValue().nextToken()).isNull();
+
+        verify(connectClient, times(1)).serviceName();
+    }
+
+    @Test
+    public void testHandleRequest_CfnInvalidRequestException_InvalidInstanceArn() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().instanceArn(USER_ARN).build())
+                .build();
+
+        assertThrows(CfnInvalidRequestException.class, () ->
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+
+        verify(connectClient, never()).serviceName();
+    }
+
+    @Test
+    public void testHandleRequest_Exception() {
+        final ArgumentCaptor<ListUsersRequest> listUsersRequestArgumentCaptor = ArgumentCaptor.forClass(ListUsersRequest.class);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().instanceArn(INSTANCE_ARN).build())
+                .build();
+
+        when(proxyClient.client().listUsers(listUsersRequestArgumentCaptor.capture())).thenThrow(new RuntimeException());
+
+        assertThrows(CfnGeneralServiceException.class, () ->
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+
+        verify(proxyClient.client()).listUsers(listUsersRequestArgumentCaptor.capture());
+        assertThat(listUsersRequestArgumentCaptor.getValue().instanceId()).isEqualTo(INSTANCE_ARN);
+
+        verify(connectClient, times(1)).serviceName();
+    }
+}
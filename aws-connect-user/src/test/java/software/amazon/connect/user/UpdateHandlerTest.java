@@ -36,7 +36,9 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -44,6 +46,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import software.amazon.cloudformation.proxy.Logger;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -70,6 +73,7 @@ import static software.amazon.connect.user.UserTestDataProvider.ROUTING_PROFILE_
 import static software.amazon.connect.user.UserTestDataProvider.SECONDARY_EMAIL;
 import static software.amazon.connect.user.UserTestDataProvider.SECURITY_PROFILE_ARN;
 import static software.amazon.connect.user.UserTestDataProvider.SECURITY_PROFILE_ARN_TWO;
+import static software.amazon.connect.user.UserTestDataProvider.SECURITY_PROFILE_ID;
 import static software.amazon.connect.user.UserTestDataProvider.TAGS_ONE;
 import static software.amazon.connect.user.UserTestDataProvider.TAGS_SET_ONE;
 import static software.amazon.connect.user.UserTestDataProvider.TAGS_THREE;
@@ -645,6 +649,61 @@ public class UpdateHandlerTest {
         verify(connectClient, times(1)).serviceName();
     }
 
+    @Test
+    public void testHandleRequest_Success_AddUserSecurityProfile() {
+        final ResourceModel desiredResourceModel = buildUserDesiredStateResourceModel();
+        desiredResourceModel.setSecurityProfileArns(new HashSet<>(Arrays.asList(SECURITY_PROFILE_ARN, SECURITY_PROFILE_ARN_TWO)));
+
+        final ArgumentCaptor<UpdateUserSecurityProfilesRequest> updateUserSecurityProfilesRequestArgumentCaptor = ArgumentCaptor.forClass(UpdateUserSecurityProfilesRequest.class);
+        when(proxyClient.client().updateUserSecurityProfiles(updateUserSecurityProfilesRequestArgumentCaptor.capture())).thenReturn(UpdateUserSecurityProfilesResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desiredResourceModel)
+                .previousResourceState(buildUserDesiredStateResourceModel())
+                .desiredResourceTags(TAGS_ONE)
+                .previousResourceTags(TAGS_ONE)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client()).updateUserSecurityProfiles(updateUserSecurityProfilesRequestArgumentCaptor.capture());
+        assertThat(updateUserSecurityProfilesRequestArgumentCaptor.getValue().securityProfileIds())
+                .containsExactlyInAnyOrder(SECURITY_PROFILE_ARN, SECURITY_PROFILE_ARN_TWO);
+
+        verify(connectClient, times(1)).serviceName();
+    }
+
+    @Test
+    public void testHandleRequest_Success_SkipsSecurityProfilesGivenAsIds() {
+        final ResourceModel previousResourceModel = buildUserDesiredStateResourceModel();
+        previousResourceModel.setSecurityProfileArns(Collections.singleton(SECURITY_PROFILE_ID));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(buildUserDesiredStateResourceModel())
+                .previousResourceState(previousResourceModel)
+                .desiredResourceTags(TAGS_ONE)
+                .previousResourceTags(TAGS_ONE)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), never()).updateUserSecurityProfiles(any(UpdateUserSecurityProfilesRequest.class));
+        verify(connectClient, never()).serviceName();
+    }
+
+    @Test
+    public void testIsUserSecurityProfilesUpdated() {
+        assertThat(UpdateHandler.isUserSecurityProfilesUpdated(
+                Arrays.asList(SECURITY_PROFILE_ARN_TWO, SECURITY_PROFILE_ARN), Arrays.asList(SECURITY_PROFILE_ID, SECURITY_PROFILE_ARN_TWO))).isFalse();
+        assertThat(UpdateHandler.isUserSecurityProfilesUpdated(
+                Collections.singleton(SECURITY_PROFILE_ARN), Arrays.asList(SECURITY_PROFILE_ARN, SECURITY_PROFILE_ARN_TWO))).isTrue();
+        assertThat(UpdateHandler.isUserSecurityProfilesUpdated(
+                Arrays.asList(SECURITY_PROFILE_ARN, SECURITY_PROFILE_ARN_TWO), Collections.singleton(SECURITY_PROFILE_ARN))).isTrue();
+        assertThat(UpdateHandler.isUserSecurityProfilesUpdated(Collections.singleton(SECURITY_PROFILE_ARN), null)).isTrue();
+    }
+
     @Test
     public void testHandleRequest_Success_UpdateUserHierarchy() {
         final String updateUserHierarchy = HIERARCHY_GROUP_ARN_TWO;
@@ -1,21 +1,17 @@
 package software.amazon.connect.userhierarchygroup;
 
-import java.util.Objects;
+import software.amazon.connect.common.ConnectArn;
 
 public class ArnHelper {
 
     private static final String AGENT_GROUP = "agent-group";
-    private static final String AGENT_GROUP_ARN_PATTERN = "^arn:aws[-a-z0-9]*:connect:[-a-z0-9]*:[0-9]{12}:instance/[-a-zA-Z0-9]*/agent-group/[-a-zA-Z0-9]*$";
 
     static String getInstanceArnFromUserHierarchyGroupArn(final String userHierarchyGroupArn) {
-        return userHierarchyGroupArn.substring(0, userHierarchyGroupArn.indexOf(AGENT_GROUP) - 1);
+        return ConnectArn.getInstanceArn(userHierarchyGroupArn);
     }
 
     static boolean isValidUserHierarchyGroupArn(final String arn) {
-        if (Objects.isNull(arn)) {
-            return false;
-        }
-        return arn.matches(AGENT_GROUP_ARN_PATTERN);
+        return ConnectArn.isValidResourceArn(arn, AGENT_GROUP);
     }
 
 }
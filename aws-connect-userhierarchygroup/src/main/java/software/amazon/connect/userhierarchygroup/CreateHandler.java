@@ -3,14 +3,32 @@ package software.amazon.connect.userhierarchygroup;
 import software.amazon.awssdk.services.connect.ConnectClient;
 import software.amazon.awssdk.services.connect.model.CreateUserHierarchyGroupRequest;
 import software.amazon.awssdk.services.connect.model.CreateUserHierarchyGroupResponse;
+import software.amazon.awssdk.services.connect.model.DescribeUserHierarchyGroupRequest;
+import software.amazon.awssdk.services.connect.model.DescribeUserHierarchyStructureRequest;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.common.Stabilization;
+
+import static software.amazon.connect.common.ConnectCallbackContext.runOnce;
 
 public class CreateHandler extends BaseHandlerStd {
 
+    private final HierarchyIndex hierarchyIndex;
+
+    public CreateHandler() {
+        this(HIERARCHY_INDEX);
+    }
+
+    CreateHandler(final HierarchyIndex hierarchyIndex) {
+        this.hierarchyIndex = hierarchyIndex;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -23,10 +41,70 @@ public class CreateHandler extends BaseHandlerStd {
 
         logger.log(String.format("Invoked CreateUserHierarchyGroupHandler with InstanceArn:%s, UserHierarchyName:%s, ParentGroupArn:%s", model.getInstanceArn(), model.getName(), model.getParentGroupArn()));
 
-        return proxy.initiate("connect::createUserHierarchyGroup", proxyClient, model, callbackContext)
-                .translateToServiceRequest(resourceModel -> translateToCreateUserHierarchyGroupRequest(resourceModel))
-                .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::createUserHierarchyGroup, logger))
-                .done(response -> ProgressEvent.defaultSuccessHandler(setUserHierarchyGroupIdentifier(model, response)));
+        return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> runOnce(callbackContext, "createUserHierarchyGroup", progress, () -> {
+                    final Integer level = validateHierarchyLevel(proxyClient, model, logger);
+                    return proxy.initiate("connect::createUserHierarchyGroup", proxyClient, model, callbackContext)
+                            .translateToServiceRequest(resourceModel -> translateToCreateUserHierarchyGroupRequest(resourceModel))
+                            .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::createUserHierarchyGroup, logger))
+                            .done(response -> {
+                                if (level != null) {
+                                    hierarchyIndex.put(new HierarchyIndex.Group(response.hierarchyGroupArn(), level, model.getParentGroupArn()));
+                                }
+                                return ProgressEvent.progress(setUserHierarchyGroupIdentifier(model, response), callbackContext);
+                            });
+                }))
+                .then(progress -> runOnce(callbackContext, Stabilization.STEP, progress, () -> Stabilization.awaitVisible(callbackContext, progress, model.getUserHierarchyGroupArn(),
+                        () -> Stabilization.exists(() -> invoke(translateToDescribeUserHierarchyGroupRequest(model), proxyClient, proxyClient.client()::describeUserHierarchyGroup, logger)), logger)))
+                .then(progress -> ProgressEvent.defaultSuccessHandler(model));
+    }
+
+    /**
+     * Checks that the instance defines a level below the parent group, so a group that cannot be created fails before
+     * the create call. Both answers come from the {@link HierarchyIndex} when it has them. Only a parent missing from
+     * the index is described, and so checked to exist; an indexed parent deleted outside CloudFormation is only caught
+     * by the create call. If the hierarchy cannot be read, the check is skipped and the create call decides.
+     *
+     * @return the level of the new group, or {@code null} if the check was skipped
+     */
+    private Integer validateHierarchyLevel(final ProxyClient<ConnectClient> proxyClient, final ResourceModel model, final Logger logger) {
+        final String instanceArn = model.getInstanceArn();
+        final String parentArn = model.getParentGroupArn();
+        try {
+            final int level = parentArn == null ? 1 : parentLevel(proxyClient, instanceArn, parentArn, logger) + 1;
+            Integer levelCount = hierarchyIndex.levelCount(instanceArn);
+            if (levelCount == null || level > levelCount) {
+                levelCount = hierarchyIndex.putStructure(instanceArn, invoke(DescribeUserHierarchyStructureRequest.builder()
+                        .instanceId(instanceArn)
+                        .build(), proxyClient, proxyClient.client()::describeUserHierarchyStructure, logger).hierarchyStructure());
+            }
+            if (level > levelCount) {
+                throw new CfnInvalidRequestException(String.format("UserHierarchyGroup:%s would be at hierarchy level %d, " +
+                        "but instance:%s defines %d levels", model.getName(), level, instanceArn, levelCount));
+            }
+            return level;
+        } catch (CfnInvalidRequestException e) {
+            throw e;
+        } catch (BaseHandlerException e) {
+            logger.log(String.format("Could not read the hierarchy of instance:%s, leaving validation to CreateUserHierarchyGroup: %s",
+                    instanceArn, e.getMessage()));
+            return null;
+        }
+    }
+
+    private int parentLevel(final ProxyClient<ConnectClient> proxyClient, final String instanceArn, final String parentArn, final Logger logger) {
+        final HierarchyIndex.Group parent = hierarchyIndex.get(parentArn);
+        if (parent != null) {
+            return parent.getLevel();
+        }
+        try {
+            return hierarchyIndex.put(invoke(DescribeUserHierarchyGroupRequest.builder()
+                    .instanceId(instanceArn)
+                    .hierarchyGroupId(parentArn)
+                    .build(), proxyClient, proxyClient.client()::describeUserHierarchyGroup, logger).hierarchyGroup()).getLevel();
+        } catch (CfnNotFoundException e) {
+            throw new CfnInvalidRequestException(String.format("ParentGroupArn:%s does not exist in instance:%s", parentArn, instanceArn), e);
+        }
     }
 
     private CreateUserHierarchyGroupRequest translateToCreateUserHierarchyGroupRequest(final ResourceModel model) {
@@ -38,6 +116,14 @@ public class CreateHandler extends BaseHandlerStd {
                 .build();
     }
 
+    private static DescribeUserHierarchyGroupRequest translateToDescribeUserHierarchyGroupRequest(final ResourceModel model) {
+        return DescribeUserHierarchyGroupRequest
+                .builder()
+                .instanceId(model.getInstanceArn())
+                .hierarchyGroupId(model.getUserHierarchyGroupArn())
+                .build();
+    }
+
     private ResourceModel setUserHierarchyGroupIdentifier(final ResourceModel model, final CreateUserHierarchyGroupResponse createuserHierarchyGroupResponse) {
         model.setUserHierarchyGroupArn(createuserHierarchyGroupResponse.hierarchyGroupArn());
         return model;
@@ -10,6 +10,8 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import static software.amazon.connect.common.ConnectCallbackContext.runOnce;
+
 public class DeleteHandler extends BaseHandlerStd {
 
     @Override
@@ -30,10 +32,14 @@ public class DeleteHandler extends BaseHandlerStd {
             throw new CfnNotFoundException(new CfnInvalidRequestException(String.format("%s is not a valid UserHierarchyGroup Arn", userHierarchyGroupArn)));
         }
 
-        return proxy.initiate("connect::deleteUserHierarchyGroup", proxyClient, model, callbackContext)
-                .translateToServiceRequest(this::translateToDeleteUserHierarchyGroupRequest)
-                .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::deleteUserHierarchyGroup, logger))
-                .done(response -> ProgressEvent.defaultSuccessHandler(null));
+        return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> runOnce(callbackContext, "deleteUserHierarchyGroup", progress, () -> proxy.initiate("connect::deleteUserHierarchyGroup", proxyClient, model, callbackContext)
+                        .translateToServiceRequest(this::translateToDeleteUserHierarchyGroupRequest)
+                        .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::deleteUserHierarchyGroup, logger))
+                        .done(response -> {
+                            HIERARCHY_INDEX.remove(userHierarchyGroupArn);
+                            return ProgressEvent.defaultSuccessHandler(null);
+                        })));
     }
 
     private DeleteUserHierarchyGroupRequest translateToDeleteUserHierarchyGroupRequest(final ResourceModel model) {
@@ -0,0 +1,163 @@
+package software.amazon.connect.userhierarchygroup;
+
+import software.amazon.awssdk.services.connect.model.HierarchyGroup;
+import software.amazon.awssdk.services.connect.model.HierarchyPath;
+import software.amazon.awssdk.services.connect.model.HierarchyStructure;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * The hierarchy groups and level structures a container has seen, so a group's level and parent are looked up
+ * without a call. Groups are added from Describe responses and successful creates and removed on delete; a group's
+ * level and parent never change, so they do not expire. An instance's number of levels comes from
+ * {@code DescribeUserHierarchyStructure} and is kept for {@link #STRUCTURE_TTL_NANOS}.
+ *
+ * The index is only ever a subset of the instance. A group missing from it may still exist, so callers fall back to
+ * Connect rather than treat a miss as an answer. A hit is not checked against Connect either, so a group deleted
+ * outside CloudFormation stays indexed until this container describes or deletes it.
+ */
+final class HierarchyIndex {
+
+    static final long STRUCTURE_TTL_NANOS = TimeUnit.SECONDS.toNanos(60);
+    static final int MAX_GROUPS = 10_000;
+
+    private static final String NOT_IN_ANY_LEVEL = "The group is not contained in any hierarchy level";
+
+    private final Map<String, Group> groups = new LinkedHashMap<String, Group>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Group> eldest) {
+            return size() > MAX_GROUPS;
+        }
+    };
+    private final ConcurrentMap<String, Structure> structures = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    HierarchyIndex() {
+        this(System::nanoTime);
+    }
+
+    HierarchyIndex(final LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * A group's position in its instance's hierarchy; level 1 groups have no parent.
+     */
+    static final class Group {
+
+        private final String arn;
+        private final int level;
+        private final String parentArn;
+
+        Group(final String arn, final int level, final String parentArn) {
+            this.arn = arn;
+            this.level = level;
+            this.parentArn = parentArn;
+        }
+
+        String getArn() {
+            return arn;
+        }
+
+        int getLevel() {
+            return level;
+        }
+
+        String getParentArn() {
+            return parentArn;
+        }
+    }
+
+    synchronized Group get(final String groupArn) {
+        return groups.get(groupArn);
+    }
+
+    synchronized void put(final Group group) {
+        groups.put(group.getArn(), group);
+    }
+
+    /**
+     * Indexes a described group and returns it; its parent is the last group on its {@code HierarchyPath}.
+     */
+    Group put(final HierarchyGroup group) {
+        final int level = levelId(group.levelId());
+        final Group indexed = new Group(group.arn(), level, parentArn(level, group.hierarchyPath()));
+        put(indexed);
+        return indexed;
+    }
+
+    synchronized void remove(final String groupArn) {
+        groups.remove(groupArn);
+    }
+
+    /**
+     * @return the number of levels {@code instanceArn} defines, or {@code null} if not known or older than
+     * {@link #STRUCTURE_TTL_NANOS}
+     */
+    Integer levelCount(final String instanceArn) {
+        final Structure structure = structures.get(instanceArn);
+        return structure != null && nanoClock.getAsLong() - structure.fetchedAt < STRUCTURE_TTL_NANOS ? structure.levelCount : null;
+    }
+
+    int putStructure(final String instanceArn, final HierarchyStructure structure) {
+        final int levelCount = levelsDefined(structure);
+        structures.put(instanceArn, new Structure(levelCount, nanoClock.getAsLong()));
+        return levelCount;
+    }
+
+    /**
+     * Levels are defined top down, so the count is the number of defined levels before the first missing one.
+     */
+    static int levelsDefined(final HierarchyStructure structure) {
+        if (structure == null || structure.levelOne() == null) {
+            return 0;
+        }
+        if (structure.levelTwo() == null) {
+            return 1;
+        }
+        if (structure.levelThree() == null) {
+            return 2;
+        }
+        if (structure.levelFour() == null) {
+            return 3;
+        }
+        return structure.levelFive() == null ? 4 : 5;
+    }
+
+    private static int levelId(final String levelId) {
+        try {
+            return Integer.parseInt(levelId);
+        } catch (NumberFormatException e) {
+            throw new CfnInvalidRequestException(NOT_IN_ANY_LEVEL, e);
+        }
+    }
+
+    static String parentArn(final int levelId, final HierarchyPath path) {
+        switch (levelId) {
+            case 1: return null;
+            case 2: return path.levelOne().arn();
+            case 3: return path.levelTwo().arn();
+            case 4: return path.levelThree().arn();
+            case 5: return path.levelFour().arn();
+            default:
+                throw new CfnInvalidRequestException(NOT_IN_ANY_LEVEL);
+        }
+    }
+
+    private static final class Structure {
+
+        private final int levelCount;
+        private final long fetchedAt;
+
+        private Structure(final int levelCount, final long fetchedAt) {
+            this.levelCount = levelCount;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+}
@@ -3,7 +3,6 @@ package software.amazon.connect.userhierarchygroup;
 import software.amazon.awssdk.services.connect.ConnectClient;
 import software.amazon.awssdk.services.connect.model.DescribeUserHierarchyGroupRequest;
 import software.amazon.awssdk.services.connect.model.HierarchyGroup;
-import software.amazon.awssdk.services.connect.model.HierarchyPath;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -33,7 +32,7 @@ public class ReadHandler extends BaseHandlerStd {
 
         return proxy.initiate("connect::describeUserHierarchyGroup", proxyClient, model, callbackContext)
                 .translateToServiceRequest(this::translateToDescribeUserHierarchyGroupRequest)
-                .makeServiceCall((req, clientProxy) -> invoke(req, clientProxy, clientProxy.client()::describeUserHierarchyGroup, logger))
+                .makeServiceCall((req, clientProxy) -> INVOKER.describe(req, userHierarchyGroupArn, clientProxy, clientProxy.client()::describeUserHierarchyGroup, logger))
                 .done(response -> ProgressEvent.defaultSuccessHandler(setUserHierarchyGroup(model, response.hierarchyGroup())));
     }
 
@@ -49,24 +48,7 @@ public class ReadHandler extends BaseHandlerStd {
         final String instanceArn = ArnHelper.getInstanceArnFromUserHierarchyGroupArn(group.arn());
         model.setInstanceArn(instanceArn);
         model.setName(group.name());
-        HierarchyPath parents = group.hierarchyPath();
-        int levelId = Integer.parseInt(group.levelId());
-
-        // find the parent group arn
-        String parentArn = findParentArnWithLevelId(levelId, parents);
-        model.setParentGroupArn(parentArn);
+        model.setParentGroupArn(HIERARCHY_INDEX.put(group).getParentArn());
         return model;
     }
-
-    private String findParentArnWithLevelId(int levelId, HierarchyPath path) {
-        switch (levelId) {
-            case 1: return null;
-            case 2: return path.levelOne().arn();
-            case 3: return path.levelTwo().arn();
-            case 4: return path.levelThree().arn();
-            case 5: return path.levelFour().arn();
-            default:
-                throw new CfnInvalidRequestException("The group is not contained in any hierarchy level");
-        }
-    }
 }
@@ -10,6 +10,8 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import static software.amazon.connect.common.ConnectCallbackContext.runOnce;
+
 public class UpdateHandler extends BaseHandlerStd {
 
     @Override
@@ -30,7 +32,7 @@ public class UpdateHandler extends BaseHandlerStd {
         }
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> updateUserHierarchyGroupName(proxy, proxyClient, desiredStateModel, previousStateModel, progress, callbackContext, logger))
+                .then(progress -> runOnce(callbackContext, "updateUserHierarchyGroupName", progress, () -> updateUserHierarchyGroupName(proxy, proxyClient, desiredStateModel, previousStateModel, progress, callbackContext, logger)))
                 .then(progress -> ProgressEvent.defaultSuccessHandler(desiredStateModel));
     }
 
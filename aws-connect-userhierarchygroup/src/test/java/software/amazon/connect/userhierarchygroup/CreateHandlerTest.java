@@ -10,7 +10,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.connect.ConnectClient;
 import software.amazon.awssdk.services.connect.model.CreateUserHierarchyGroupRequest;
 import software.amazon.awssdk.services.connect.model.CreateUserHierarchyGroupResponse;
+import software.amazon.awssdk.services.connect.model.DescribeUserHierarchyGroupRequest;
+import software.amazon.awssdk.services.connect.model.DescribeUserHierarchyGroupResponse;
+import software.amazon.awssdk.services.connect.model.DescribeUserHierarchyStructureRequest;
+import software.amazon.awssdk.services.connect.model.DescribeUserHierarchyStructureResponse;
+import software.amazon.awssdk.services.connect.model.AccessDeniedException;
+import software.amazon.awssdk.services.connect.model.ResourceNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.LoggerProxy;
@@ -23,7 +30,10 @@ import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -32,12 +42,15 @@ import static software.amazon.connect.userhierarchygroup.UserHierarchyGroupTestD
 import static software.amazon.connect.userhierarchygroup.UserHierarchyGroupTestDataProvider.USER_HIERARCHY_GROUP_ARN;
 import static software.amazon.connect.userhierarchygroup.UserHierarchyGroupTestDataProvider.USER_HIERARCHY_GROUP_ID;
 import static software.amazon.connect.userhierarchygroup.UserHierarchyGroupTestDataProvider.USER_HIERARCHY_GROUP_NAME;
+import static software.amazon.connect.userhierarchygroup.UserHierarchyGroupTestDataProvider.buildHierarchyStructure;
+import static software.amazon.connect.userhierarchygroup.UserHierarchyGroupTestDataProvider.buildParentGroup;
 import static software.amazon.connect.userhierarchygroup.UserHierarchyGroupTestDataProvider.buildUserHierarchyGroupResourceModel;
 
 @ExtendWith(MockitoExtension.class)
 public class CreateHandlerTest {
 
     private CreateHandler handler;
+    private HierarchyIndex hierarchyIndex;
     private AmazonWebServicesClientProxy proxy;
     private ProxyClient<ConnectClient> proxyClient;
     private LoggerProxy logger;
@@ -49,14 +62,14 @@ public class CreateHandlerTest {
     public void setup() {
         final Credentials MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
         logger = new LoggerProxy();
-        handler = new CreateHandler();
+        hierarchyIndex = new HierarchyIndex();
+        handler = new CreateHandler(hierarchyIndex);
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         proxyClient = proxy.newProxy(() -> connectClient);
     }
 
     @AfterEach
     public void post_execute() {
-        verify(connectClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(proxyClient.client());
     }
 
@@ -64,6 +77,11 @@ public class CreateHandlerTest {
     void handleRequest_SimpleCreateSuccess() {
         final ArgumentCaptor<CreateUserHierarchyGroupRequest> createUserHierarchyGroupRequestArgumentCaptor = ArgumentCaptor.forClass(CreateUserHierarchyGroupRequest.class);
 
+        when(proxyClient.client().describeUserHierarchyGroup(any(DescribeUserHierarchyGroupRequest.class)))
+                .thenReturn(DescribeUserHierarchyGroupResponse.builder().hierarchyGroup(buildParentGroup()).build());
+        when(proxyClient.client().describeUserHierarchyStructure(any(DescribeUserHierarchyStructureRequest.class)))
+                .thenReturn(DescribeUserHierarchyStructureResponse.builder().hierarchyStructure(buildHierarchyStructure(2)).build());
+
         final CreateUserHierarchyGroupResponse createUserHierarchyGroupResponse = CreateUserHierarchyGroupResponse.builder()
                 .hierarchyGroupArn(USER_HIERARCHY_GROUP_ARN)
                 .hierarchyGroupId(USER_HIERARCHY_GROUP_ID)
@@ -86,16 +104,24 @@ public class CreateHandlerTest {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
+        verify(proxyClient.client(), times(2)).describeUserHierarchyGroup(any(DescribeUserHierarchyGroupRequest.class));
+        verify(proxyClient.client()).describeUserHierarchyStructure(any(DescribeUserHierarchyStructureRequest.class));
         verify(proxyClient.client()).createUserHierarchyGroup(createUserHierarchyGroupRequestArgumentCaptor.capture());
         assertThat(createUserHierarchyGroupRequestArgumentCaptor.getValue().instanceId()).isEqualTo(INSTANCE_ARN);
         assertThat(createUserHierarchyGroupRequestArgumentCaptor.getValue().name()).isEqualTo(USER_HIERARCHY_GROUP_NAME);
         assertThat(createUserHierarchyGroupRequestArgumentCaptor.getValue().parentGroupId()).isEqualTo(PARENT_HIERARCHY_GROUP_ARN);
+        verify(connectClient, atLeastOnce()).serviceName();
     }
 
     @Test
     void testHandleRequest_Exception_CreateUserHierarchyGroup() {
         final ArgumentCaptor<CreateUserHierarchyGroupRequest> createUserHierarchyGroupRequestArgumentCaptor = ArgumentCaptor.forClass(CreateUserHierarchyGroupRequest.class);
 
+        when(proxyClient.client().describeUserHierarchyGroup(any(DescribeUserHierarchyGroupRequest.class)))
+                .thenReturn(DescribeUserHierarchyGroupResponse.builder().hierarchyGroup(buildParentGroup()).build());
+        when(proxyClient.client().describeUserHierarchyStructure(any(DescribeUserHierarchyStructureRequest.class)))
+                .thenReturn(DescribeUserHierarchyStructureResponse.builder().hierarchyStructure(buildHierarchyStructure(2)).build());
+
         when(proxyClient.client().createUserHierarchyGroup(createUserHierarchyGroupRequestArgumentCaptor.capture())).thenThrow(new RuntimeException());
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -105,9 +131,96 @@ public class CreateHandlerTest {
         assertThrows(CfnGeneralServiceException.class, () ->
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
 
+        verify(proxyClient.client()).describeUserHierarchyGroup(any(DescribeUserHierarchyGroupRequest.class));
+        verify(proxyClient.client()).describeUserHierarchyStructure(any(DescribeUserHierarchyStructureRequest.class));
         verify(proxyClient.client()).createUserHierarchyGroup(createUserHierarchyGroupRequestArgumentCaptor.capture());
         assertThat(createUserHierarchyGroupRequestArgumentCaptor.getValue().instanceId()).isEqualTo(INSTANCE_ARN);
         assertThat(createUserHierarchyGroupRequestArgumentCaptor.getValue().name()).isEqualTo(USER_HIERARCHY_GROUP_NAME);
         assertThat(createUserHierarchyGroupRequestArgumentCaptor.getValue().parentGroupId()).isEqualTo(PARENT_HIERARCHY_GROUP_ARN);
+        verify(connectClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    void testHandleRequest_IndexedParentSkipsDescribeCalls() {
+        hierarchyIndex.put(buildParentGroup());
+        hierarchyIndex.putStructure(INSTANCE_ARN, buildHierarchyStructure(2));
+        when(proxyClient.client().createUserHierarchyGroup(any(CreateUserHierarchyGroupRequest.class))).thenReturn(CreateUserHierarchyGroupResponse.builder()
+                .hierarchyGroupArn(USER_HIERARCHY_GROUP_ARN)
+                .hierarchyGroupId(USER_HIERARCHY_GROUP_ID)
+                .build());
+        when(proxyClient.client().describeUserHierarchyGroup(any(DescribeUserHierarchyGroupRequest.class)))
+                .thenReturn(DescribeUserHierarchyGroupResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(buildUserHierarchyGroupResourceModel())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(hierarchyIndex.get(USER_HIERARCHY_GROUP_ARN).getLevel()).isEqualTo(2);
+        assertThat(hierarchyIndex.get(USER_HIERARCHY_GROUP_ARN).getParentArn()).isEqualTo(PARENT_HIERARCHY_GROUP_ARN);
+        verify(proxyClient.client()).createUserHierarchyGroup(any(CreateUserHierarchyGroupRequest.class));
+        verify(proxyClient.client()).describeUserHierarchyGroup(any(DescribeUserHierarchyGroupRequest.class));
+        verify(connectClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    void testHandleRequest_Exception_ParentDoesNotExist() {
+        when(proxyClient.client().describeUserHierarchyGroup(any(DescribeUserHierarchyGroupRequest.class)))
+                .thenThrow(ResourceNotFoundException.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(buildUserHierarchyGroupResourceModel())
+                .build();
+
+        assertThrows(CfnInvalidRequestException.class, () ->
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+
+        verify(proxyClient.client()).describeUserHierarchyGroup(any(DescribeUserHierarchyGroupRequest.class));
+        verify(connectClient, never()).serviceName();
+    }
+
+    @Test
+    void testHandleRequest_Exception_LevelNotDefined() {
+        hierarchyIndex.put(buildParentGroup());
+        hierarchyIndex.putStructure(INSTANCE_ARN, buildHierarchyStructure(1));
+        when(proxyClient.client().describeUserHierarchyStructure(any(DescribeUserHierarchyStructureRequest.class)))
+                .thenReturn(DescribeUserHierarchyStructureResponse.builder().hierarchyStructure(buildHierarchyStructure(1)).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(buildUserHierarchyGroupResourceModel())
+                .build();
+
+        assertThrows(CfnInvalidRequestException.class, () ->
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+
+        verify(proxyClient.client()).describeUserHierarchyStructure(any(DescribeUserHierarchyStructureRequest.class));
+        verify(connectClient, never()).serviceName();
+    }
+
+    @Test
+    void testHandleRequest_HierarchyUnreadableLeavesValidationToCreate() {
+        when(proxyClient.client().describeUserHierarchyGroup(any(DescribeUserHierarchyGroupRequest.class)))
+                .thenThrow(AccessDeniedException.builder().build())
+                .thenReturn(DescribeUserHierarchyGroupResponse.builder().build());
+        when(proxyClient.client().createUserHierarchyGroup(any(CreateUserHierarchyGroupRequest.class))).thenReturn(CreateUserHierarchyGroupResponse.builder()
+                .hierarchyGroupArn(USER_HIERARCHY_GROUP_ARN)
+                .hierarchyGroupId(USER_HIERARCHY_GROUP_ID)
+                .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(buildUserHierarchyGroupResourceModel())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(hierarchyIndex.get(USER_HIERARCHY_GROUP_ARN)).isNull();
+        verify(proxyClient.client(), times(2)).describeUserHierarchyGroup(any(DescribeUserHierarchyGroupRequest.class));
+        verify(proxyClient.client()).createUserHierarchyGroup(any(CreateUserHierarchyGroupRequest.class));
+        verify(connectClient, atLeastOnce()).serviceName();
     }
 }
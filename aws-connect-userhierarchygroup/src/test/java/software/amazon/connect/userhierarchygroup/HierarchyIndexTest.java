@@ -0,0 +1,76 @@
+package software.amazon.connect.userhierarchygroup;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static software.amazon.connect.userhierarchygroup.UserHierarchyGroupTestDataProvider.INSTANCE_ARN;
+import static software.amazon.connect.userhierarchygroup.UserHierarchyGroupTestDataProvider.LEVEL_ID_THREE;
+import static software.amazon.connect.userhierarchygroup.UserHierarchyGroupTestDataProvider.LEVEL_TWO_HIERARCHY_GROUP_ARN;
+import static software.amazon.connect.userhierarchygroup.UserHierarchyGroupTestDataProvider.USER_HIERARCHY_GROUP_ARN;
+import static software.amazon.connect.userhierarchygroup.UserHierarchyGroupTestDataProvider.buildHierarchyStructure;
+import static software.amazon.connect.userhierarchygroup.UserHierarchyGroupTestDataProvider.generateGroupBasedOnLevelId;
+
+public class HierarchyIndexTest {
+
+    @Test
+    public void testPut_DescribedGroup() {
+        final HierarchyIndex index = new HierarchyIndex();
+
+        index.put(generateGroupBasedOnLevelId(LEVEL_ID_THREE));
+
+        assertThat(index.get(USER_HIERARCHY_GROUP_ARN).getLevel()).isEqualTo(3);
+        assertThat(index.get(USER_HIERARCHY_GROUP_ARN).getParentArn()).isEqualTo(LEVEL_TWO_HIERARCHY_GROUP_ARN);
+
+        index.remove(USER_HIERARCHY_GROUP_ARN);
+        assertThat(index.get(USER_HIERARCHY_GROUP_ARN)).isNull();
+    }
+
+    @Test
+    public void testPut_GroupWithoutNumericLevel() {
+        final HierarchyIndex index = new HierarchyIndex();
+
+        assertThrows(CfnInvalidRequestException.class, () -> index.put(generateGroupBasedOnLevelId(LEVEL_ID_THREE).toBuilder()
+                .levelId(null)
+                .build()));
+        assertThrows(CfnInvalidRequestException.class, () -> index.put(generateGroupBasedOnLevelId(LEVEL_ID_THREE).toBuilder()
+                .levelId("six")
+                .build()));
+        assertThat(index.get(USER_HIERARCHY_GROUP_ARN)).isNull();
+    }
+
+    @Test
+    public void testLevelsDefined() {
+        assertThat(HierarchyIndex.levelsDefined(null)).isEqualTo(0);
+        for (int levels = 0; levels <= 5; levels++) {
+            assertThat(HierarchyIndex.levelsDefined(buildHierarchyStructure(levels))).isEqualTo(levels);
+        }
+    }
+
+    @Test
+    public void testLevelCount_ExpiresAfterTtl() {
+        final AtomicLong clock = new AtomicLong();
+        final HierarchyIndex index = new HierarchyIndex(clock::get);
+        assertThat(index.levelCount(INSTANCE_ARN)).isNull();
+
+        index.putStructure(INSTANCE_ARN, buildHierarchyStructure(4));
+        clock.set(HierarchyIndex.STRUCTURE_TTL_NANOS - 1);
+        assertThat(index.levelCount(INSTANCE_ARN)).isEqualTo(4);
+        clock.set(HierarchyIndex.STRUCTURE_TTL_NANOS);
+        assertThat(index.levelCount(INSTANCE_ARN)).isNull();
+    }
+
+    @Test
+    public void testPut_BoundedByMaxGroups() {
+        final HierarchyIndex index = new HierarchyIndex();
+        for (int i = 0; i <= HierarchyIndex.MAX_GROUPS; i++) {
+            index.put(new HierarchyIndex.Group(INSTANCE_ARN + "/agent-group/" + i, 1, null));
+        }
+
+        assertThat(index.get(INSTANCE_ARN + "/agent-group/0")).isNull();
+        assertThat(index.get(INSTANCE_ARN + "/agent-group/" + HierarchyIndex.MAX_GROUPS)).isNotNull();
+    }
+}
@@ -2,7 +2,9 @@ package software.amazon.connect.userhierarchygroup;
 
 import software.amazon.awssdk.services.connect.model.HierarchyGroup;
 import software.amazon.awssdk.services.connect.model.HierarchyGroupSummary;
+import software.amazon.awssdk.services.connect.model.HierarchyLevel;
 import software.amazon.awssdk.services.connect.model.HierarchyPath;
+import software.amazon.awssdk.services.connect.model.HierarchyStructure;
 
 public class UserHierarchyGroupTestDataProvider {
     protected static final String USER_HIERARCHY_GROUP_ARN = "arn:aws:connect:us-west-2:111111111111:instance/instanceId/agent-group/userhierarchygroupId";
@@ -149,4 +151,25 @@ public class UserHierarchyGroupTestDataProvider {
         }
         return null;
     }
+
+    protected static HierarchyGroup buildParentGroup() {
+        return HierarchyGroup.builder()
+                .hierarchyPath(HierarchyPath.builder()
+                        .levelOne(HierarchyGroupSummary.builder().arn(PARENT_HIERARCHY_GROUP_ARN).build())
+                        .build())
+                .arn(PARENT_HIERARCHY_GROUP_ARN)
+                .levelId(LEVEL_ID_ONE)
+                .build();
+    }
+
+    protected static HierarchyStructure buildHierarchyStructure(final int levels) {
+        final HierarchyLevel level = HierarchyLevel.builder().name("level").build();
+        return HierarchyStructure.builder()
+                .levelOne(levels >= 1 ? level : null)
+                .levelTwo(levels >= 2 ? level : null)
+                .levelThree(levels >= 3 ? level : null)
+                .levelFour(levels >= 4 ? level : null)
+                .levelFive(levels >= 5 ? level : null)
+                .build();
+    }
 }
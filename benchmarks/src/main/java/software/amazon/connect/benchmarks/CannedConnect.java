@@ -0,0 +1,49 @@
+package software.amazon.connect.benchmarks;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.connect.common.CannedResponseHttpClient;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Handler plumbing for benchmarks: a real {@link ConnectClient} whose HTTP layer answers with a canned body, a
+ * stub-only mock for suites that should not pay for marshalling, and a CloudFormation proxy with static credentials.
+ */
+public final class CannedConnect {
+
+    public static final String INSTANCE_ARN = "arn:aws:connect:us-west-2:111111111111:instance/instanceId";
+    public static final String REGION_PROPERTY = "-Daws.region=us-west-2";
+    public static final String WARMUP_PROPERTY = "-Dconnect.handler.warmup=true";
+
+    private CannedConnect() {
+    }
+
+    public static ConnectClient client(final String responseBody) {
+        return ConnectClient.builder()
+                .httpClient(new CannedResponseHttpClient(responseBody))
+                .region(Region.US_WEST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("accessKey", "secretKey")))
+                .build();
+    }
+
+    /**
+     * Stub-only, so Mockito does not record the millions of invocations a measurement iteration makes.
+     */
+    public static ConnectClient mockClient() {
+        return mock(ConnectClient.class, withSettings().stubOnly());
+    }
+
+    public static AmazonWebServicesClientProxy proxy(final LoggerProxy logger) {
+        return new AmazonWebServicesClientProxy(logger, new Credentials("accessKey", "secretKey", "token"),
+                () -> Duration.ofSeconds(600).toMillis());
+    }
+}
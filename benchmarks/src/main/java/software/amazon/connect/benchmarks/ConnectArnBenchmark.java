@@ -0,0 +1,115 @@
+package software.amazon.connect.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.connect.common.ConnectArn;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the regex based ARN validation the handlers used to do against {@link ConnectArn} over a batch of ARNs,
+ * a quarter of which are malformed in different segments, and instance ARN extraction on the well-formed ones.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ConnectArnBenchmark {
+
+    private static final int ARN_COUNT = 1_000_000;
+    private static final String AGENT = "agent";
+    private static final String USER_ARN_PATTERN = "^arn:aws[-a-z0-9]*:connect:[-a-z0-9]*:[0-9]{12}:instance/[-a-zA-Z0-9]*/agent/[-a-zA-Z0-9]*$";
+    private static final Pattern USER_ARN_COMPILED_PATTERN = Pattern.compile(USER_ARN_PATTERN);
+    private static final String[] REGIONS = {"us-east-1", "us-west-2", "eu-central-1", "ap-southeast-2", "us-gov-west-1"};
+
+    private String[] arns;
+    private String[] userArns;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        arns = new String[ARN_COUNT];
+        userArns = new String[ARN_COUNT];
+        for (int i = 0; i < ARN_COUNT; i++) {
+            final String instanceId = randomId(random);
+            final String userArn = String.format("arn:aws:connect:%s:%012d:instance/%s/agent/%s",
+                    REGIONS[random.nextInt(REGIONS.length)], (long) random.nextInt(Integer.MAX_VALUE), instanceId, randomId(random));
+            userArns[i] = userArn;
+            switch (random.nextInt(16)) {
+                case 0:
+                    arns[i] = userArn.replace("/agent/", "/agent-group/");
+                    break;
+                case 1:
+                    arns[i] = userArn.replace(":connect:", ":connects:");
+                    break;
+                case 2:
+                    arns[i] = userArn + "/extra";
+                    break;
+                case 3:
+                    arns[i] = userArn.substring(0, userArn.indexOf(instanceId) + instanceId.length());
+                    break;
+                default:
+                    arns[i] = userArn;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ARN_COUNT)
+    public void validateWithStringMatches(final Blackhole blackhole) {
+        for (final String arn : arns) {
+            blackhole.consume(arn.matches(USER_ARN_PATTERN));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ARN_COUNT)
+    public void validateWithCompiledPattern(final Blackhole blackhole) {
+        for (final String arn : arns) {
+            blackhole.consume(USER_ARN_COMPILED_PATTERN.matcher(arn).matches());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ARN_COUNT)
+    public void validateWithConnectArn(final Blackhole blackhole) {
+        for (final String arn : arns) {
+            blackhole.consume(ConnectArn.isValidResourceArn(arn, AGENT));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ARN_COUNT)
+    public void instanceArnWithIndexOf(final Blackhole blackhole) {
+        for (final String arn : userArns) {
+            blackhole.consume(arn.substring(0, arn.indexOf(AGENT) - 1));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ARN_COUNT)
+    public void instanceArnWithConnectArn(final Blackhole blackhole) {
+        for (final String arn : userArns) {
+            blackhole.consume(ConnectArn.getInstanceArn(arn));
+        }
+    }
+
+    private static String randomId(final Random random) {
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+}
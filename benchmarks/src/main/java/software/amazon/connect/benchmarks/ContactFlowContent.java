@@ -0,0 +1,43 @@
+package software.amazon.connect.benchmarks;
+
+/**
+ * Generates contact flow Content of a requested size: a chain of MessageParticipant and TransferToQueue actions
+ * ending in a DisconnectParticipant, in the shape the Connect flow designer exports.
+ */
+public final class ContactFlowContent {
+
+    public static final String QUEUE_ARN_PREFIX = CannedConnect.INSTANCE_ARN + "/queue/";
+
+    private static final String HEADER = "{\"Version\":\"2019-10-30\",\"StartAction\":\"action-0\",\"Metadata\":{\"entryPointPosition\":{\"x\":20,\"y\":20}},\"Actions\":[";
+    private static final String FOOTER = "]}";
+
+    private ContactFlowContent() {
+    }
+
+    /**
+     * @return well-formed content whose length is at most {@code maxLength} and within one action of it
+     */
+    public static String ofLength(final int maxLength) {
+        final StringBuilder content = new StringBuilder(maxLength).append(HEADER);
+        int index = 0;
+        String next = action(index);
+        while (content.length() + next.length() + 1 + disconnect(index + 1).length() + FOOTER.length() <= maxLength) {
+            content.append(next).append(',');
+            next = action(++index);
+        }
+        return content.append(disconnect(index)).append(FOOTER).toString();
+    }
+
+    private static String action(final int index) {
+        final String parameters = index % 4 == 3
+                ? String.format("{\"QueueId\":\"%s%08d-0000-0000-0000-000000000000\"}", QUEUE_ARN_PREFIX, index)
+                : String.format("{\"Text\":\"Thanks for calling, this is prompt number %d of the greeting.\"}", index);
+        return String.format("{\"Identifier\":\"action-%d\",\"Type\":\"%s\",\"Parameters\":%s,"
+                        + "\"Transitions\":{\"NextAction\":\"action-%d\",\"Errors\":[{\"NextAction\":\"action-%d\",\"ErrorType\":\"NoMatchingError\"}],\"Conditions\":[]}}",
+                index, index % 4 == 3 ? "TransferToQueue" : "MessageParticipant", parameters, index + 1, index + 1);
+    }
+
+    private static String disconnect(final int index) {
+        return String.format("{\"Identifier\":\"action-%d\",\"Type\":\"DisconnectParticipant\",\"Parameters\":{},\"Transitions\":{}}", index);
+    }
+}
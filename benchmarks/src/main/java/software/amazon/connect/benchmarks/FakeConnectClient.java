@@ -0,0 +1,1005 @@
+package software.amazon.connect.benchmarks;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.awssdk.services.connect.model.ConnectException;
+import software.amazon.awssdk.services.connect.model.ContactFlow;
+import software.amazon.awssdk.services.connect.model.ContactFlowModule;
+import software.amazon.awssdk.services.connect.model.ContactFlowModuleState;
+import software.amazon.awssdk.services.connect.model.ContactFlowModuleStatus;
+import software.amazon.awssdk.services.connect.model.ContactFlowState;
+import software.amazon.awssdk.services.connect.model.ContactFlowSummary;
+import software.amazon.awssdk.services.connect.model.CreateContactFlowModuleRequest;
+import software.amazon.awssdk.services.connect.model.CreateContactFlowModuleResponse;
+import software.amazon.awssdk.services.connect.model.CreateContactFlowRequest;
+import software.amazon.awssdk.services.connect.model.CreateContactFlowResponse;
+import software.amazon.awssdk.services.connect.model.CreateHoursOfOperationRequest;
+import software.amazon.awssdk.services.connect.model.CreateHoursOfOperationResponse;
+import software.amazon.awssdk.services.connect.model.CreateQueueRequest;
+import software.amazon.awssdk.services.connect.model.CreateQueueResponse;
+import software.amazon.awssdk.services.connect.model.CreateQuickConnectRequest;
+import software.amazon.awssdk.services.connect.model.CreateQuickConnectResponse;
+import software.amazon.awssdk.services.connect.model.CreateUserHierarchyGroupRequest;
+import software.amazon.awssdk.services.connect.model.CreateUserHierarchyGroupResponse;
+import software.amazon.awssdk.services.connect.model.CreateUserRequest;
+import software.amazon.awssdk.services.connect.model.CreateUserResponse;
+import software.amazon.awssdk.services.connect.model.DeleteContactFlowModuleRequest;
+import software.amazon.awssdk.services.connect.model.DeleteContactFlowModuleResponse;
+import software.amazon.awssdk.services.connect.model.DeleteContactFlowRequest;
+import software.amazon.awssdk.services.connect.model.DeleteContactFlowResponse;
+import software.amazon.awssdk.services.connect.model.DeleteHoursOfOperationRequest;
+import software.amazon.awssdk.services.connect.model.DeleteHoursOfOperationResponse;
+import software.amazon.awssdk.services.connect.model.DeleteQuickConnectRequest;
+import software.amazon.awssdk.services.connect.model.DeleteQuickConnectResponse;
+import software.amazon.awssdk.services.connect.model.DeleteUserHierarchyGroupRequest;
+import software.amazon.awssdk.services.connect.model.DeleteUserHierarchyGroupResponse;
+import software.amazon.awssdk.services.connect.model.DeleteUserRequest;
+import software.amazon.awssdk.services.connect.model.DeleteUserResponse;
+import software.amazon.awssdk.services.connect.model.DescribeContactFlowModuleRequest;
+import software.amazon.awssdk.services.connect.model.DescribeContactFlowModuleResponse;
+import software.amazon.awssdk.services.connect.model.DescribeContactFlowRequest;
+import software.amazon.awssdk.services.connect.model.DescribeContactFlowResponse;
+import software.amazon.awssdk.services.connect.model.DescribeHoursOfOperationRequest;
+import software.amazon.awssdk.services.connect.model.DescribeHoursOfOperationResponse;
+import software.amazon.awssdk.services.connect.model.DescribeQueueRequest;
+import software.amazon.awssdk.services.connect.model.DescribeQueueResponse;
+import software.amazon.awssdk.services.connect.model.DescribeQuickConnectRequest;
+import software.amazon.awssdk.services.connect.model.DescribeQuickConnectResponse;
+import software.amazon.awssdk.services.connect.model.DescribeUserHierarchyGroupRequest;
+import software.amazon.awssdk.services.connect.model.DescribeUserHierarchyGroupResponse;
+import software.amazon.awssdk.services.connect.model.DescribeUserRequest;
+import software.amazon.awssdk.services.connect.model.DescribeUserResponse;
+import software.amazon.awssdk.services.connect.model.HierarchyGroup;
+import software.amazon.awssdk.services.connect.model.HierarchyGroupSummary;
+import software.amazon.awssdk.services.connect.model.HierarchyPath;
+import software.amazon.awssdk.services.connect.model.HoursOfOperation;
+import software.amazon.awssdk.services.connect.model.InternalServiceException;
+import software.amazon.awssdk.services.connect.model.InvalidParameterException;
+import software.amazon.awssdk.services.connect.model.ListContactFlowsRequest;
+import software.amazon.awssdk.services.connect.model.ListContactFlowsResponse;
+import software.amazon.awssdk.services.connect.model.ListQueuesRequest;
+import software.amazon.awssdk.services.connect.model.ListQueuesResponse;
+import software.amazon.awssdk.services.connect.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.connect.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.connect.model.ListUsersRequest;
+import software.amazon.awssdk.services.connect.model.ListUsersResponse;
+import software.amazon.awssdk.services.connect.model.Queue;
+import software.amazon.awssdk.services.connect.model.QueueStatus;
+import software.amazon.awssdk.services.connect.model.QueueSummary;
+import software.amazon.awssdk.services.connect.model.QueueType;
+import software.amazon.awssdk.services.connect.model.QuickConnect;
+import software.amazon.awssdk.services.connect.model.ResourceInUseException;
+import software.amazon.awssdk.services.connect.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.connect.model.TagResourceRequest;
+import software.amazon.awssdk.services.connect.model.TagResourceResponse;
+import software.amazon.awssdk.services.connect.model.UntagResourceRequest;
+import software.amazon.awssdk.services.connect.model.UntagResourceResponse;
+import software.amazon.awssdk.services.connect.model.UpdateContactFlowContentRequest;
+import software.amazon.awssdk.services.connect.model.UpdateContactFlowContentResponse;
+import software.amazon.awssdk.services.connect.model.UpdateContactFlowMetadataRequest;
+import software.amazon.awssdk.services.connect.model.UpdateContactFlowMetadataResponse;
+import software.amazon.awssdk.services.connect.model.UpdateContactFlowModuleContentRequest;
+import software.amazon.awssdk.services.connect.model.UpdateContactFlowModuleContentResponse;
+import software.amazon.awssdk.services.connect.model.UpdateContactFlowModuleMetadataRequest;
+import software.amazon.awssdk.services.connect.model.UpdateContactFlowModuleMetadataResponse;
+import software.amazon.awssdk.services.connect.model.UpdateHoursOfOperationRequest;
+import software.amazon.awssdk.services.connect.model.UpdateHoursOfOperationResponse;
+import software.amazon.awssdk.services.connect.model.UpdateQueueNameRequest;
+import software.amazon.awssdk.services.connect.model.UpdateQueueNameResponse;
+import software.amazon.awssdk.services.connect.model.UpdateQuickConnectConfigRequest;
+import software.amazon.awssdk.services.connect.model.UpdateQuickConnectConfigResponse;
+import software.amazon.awssdk.services.connect.model.UpdateQuickConnectNameRequest;
+import software.amazon.awssdk.services.connect.model.UpdateQuickConnectNameResponse;
+import software.amazon.awssdk.services.connect.model.UpdateUserHierarchyGroupNameRequest;
+import software.amazon.awssdk.services.connect.model.UpdateUserHierarchyGroupNameResponse;
+import software.amazon.awssdk.services.connect.model.UpdateUserHierarchyRequest;
+import software.amazon.awssdk.services.connect.model.UpdateUserHierarchyResponse;
+import software.amazon.awssdk.services.connect.model.UpdateUserIdentityInfoRequest;
+import software.amazon.awssdk.services.connect.model.UpdateUserIdentityInfoResponse;
+import software.amazon.awssdk.services.connect.model.UpdateUserPhoneConfigRequest;
+import software.amazon.awssdk.services.connect.model.UpdateUserPhoneConfigResponse;
+import software.amazon.awssdk.services.connect.model.UpdateUserRoutingProfileRequest;
+import software.amazon.awssdk.services.connect.model.UpdateUserRoutingProfileResponse;
+import software.amazon.awssdk.services.connect.model.UpdateUserSecurityProfilesRequest;
+import software.amazon.awssdk.services.connect.model.UpdateUserSecurityProfilesResponse;
+import software.amazon.awssdk.services.connect.model.User;
+import software.amazon.awssdk.services.connect.model.UserSummary;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * An in-process stand-in for the Connect service behind the {@link ConnectClient} interface, for driving many
+ * concurrent handler invocations without a real instance.
+ *
+ * Users, queues, contact flows, flow modules, hours of operation, quick connects, hierarchy groups and their tags are
+ * kept in concurrent maps keyed by ARN; identifiers are accepted as either IDs or ARNs, the way the handlers pass
+ * them. Every call goes through the same gate, in this order: a per-operation token bucket that fails the call with a
+ * 429 {@code TooManyRequestsException} when empty, the configured latency, then error injection. The fake sits at
+ * the client interface, below which the SDK would apply its retry policy, so every throttle reaches the handler.
+ * Uniqueness of names is not enforced.
+ */
+public final class FakeConnectClient implements ConnectClient {
+
+    public static final String THROTTLING_ERROR_CODE = "TooManyRequestsException";
+
+    private static final String ARN_PREFIX = "arn:aws:connect:us-west-2:111111111111:instance/";
+    private static final String USER = "agent";
+    private static final String QUEUE = "queue";
+    private static final String CONTACT_FLOW = "contact-flow";
+    private static final String CONTACT_FLOW_MODULE = "flow-module";
+    private static final String HOURS_OF_OPERATION = "operating-hours";
+    private static final String QUICK_CONNECT = "transfer-destination";
+    private static final String USER_HIERARCHY_GROUP = "agent-group";
+    private static final int MAX_HIERARCHY_LEVEL = 5;
+    private static final int DEFAULT_MAX_RESULTS = 100;
+
+    private final Duration latency;
+    private final Duration latencyJitter;
+    private final double errorRate;
+    private final double throttleRate;
+    private final int throttleBurst;
+    private final Map<String, Supplier<? extends RuntimeException>> failures;
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> calls = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> throttles = new ConcurrentHashMap<>();
+    private final LongAdder injectedFailures = new LongAdder();
+
+    private final Table<User> users = new Table<>(USER, User::tags, (user, tags) -> user.toBuilder().tags(tags).build());
+    private final Table<Queue> queues = new Table<>(QUEUE, Queue::tags, (queue, tags) -> queue.toBuilder().tags(tags).build());
+    private final Table<ContactFlow> contactFlows = new Table<>(CONTACT_FLOW, ContactFlow::tags,
+            (contactFlow, tags) -> contactFlow.toBuilder().tags(tags).build());
+    private final Table<ContactFlowModule> contactFlowModules = new Table<>(CONTACT_FLOW_MODULE, ContactFlowModule::tags,
+            (contactFlowModule, tags) -> contactFlowModule.toBuilder().tags(tags).build());
+    private final Table<HoursOfOperation> hoursOfOperations = new Table<>(HOURS_OF_OPERATION, HoursOfOperation::tags,
+            (hoursOfOperation, tags) -> hoursOfOperation.toBuilder().tags(tags).build());
+    private final Table<QuickConnect> quickConnects = new Table<>(QUICK_CONNECT, QuickConnect::tags,
+            (quickConnect, tags) -> quickConnect.toBuilder().tags(tags).build());
+    private final Table<HierarchyGroup> hierarchyGroups = new Table<>(USER_HIERARCHY_GROUP, HierarchyGroup::tags,
+            (hierarchyGroup, tags) -> hierarchyGroup.toBuilder().tags(tags).build());
+    private final Map<String, Table<?>> tablesByResourceType = new HashMap<>();
+
+    private FakeConnectClient(final Builder builder) {
+        this.latency = builder.latency;
+        this.latencyJitter = builder.latencyJitter;
+        this.errorRate = builder.errorRate;
+        this.throttleRate = builder.throttleRate;
+        this.throttleBurst = builder.throttleBurst;
+        this.failures = new HashMap<>(builder.failures);
+        for (final Table<?> table : new Table<?>[]{users, queues, contactFlows, contactFlowModules, hoursOfOperations, quickConnects, hierarchyGroups}) {
+            tablesByResourceType.put(table.resourceType, table);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return calls made to {@code operation} (e.g. {@code "DescribeUser"}), including throttled and failed ones
+     */
+    public long getCallCount(final String operation) {
+        return count(calls, operation);
+    }
+
+    public long getThrottledCount(final String operation) {
+        return count(throttles, operation);
+    }
+
+    public long getThrottledCount() {
+        return throttles.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long getInjectedFailureCount() {
+        return injectedFailures.sum();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    // Users
+
+    @Override
+    public CreateUserResponse createUser(final CreateUserRequest request) {
+        return call("CreateUser", () -> {
+            final String id = newId();
+            final String arn = arn(request.instanceId(), USER, id);
+            users.put(arn, User.builder()
+                    .arn(arn)
+                    .id(id)
+                    .username(request.username())
+                    .directoryUserId(request.directoryUserId())
+                    .identityInfo(request.identityInfo())
+                    .phoneConfig(request.phoneConfig())
+                    .routingProfileId(lastSegment(request.routingProfileId()))
+                    .hierarchyGroupId(lastSegment(request.hierarchyGroupId()))
+                    .securityProfileIds(lastSegments(request.securityProfileIds()))
+                    .tags(request.tags())
+                    .build());
+            return CreateUserResponse.builder().userArn(arn).userId(id).build();
+        });
+    }
+
+    @Override
+    public DescribeUserResponse describeUser(final DescribeUserRequest request) {
+        return call("DescribeUser", () -> DescribeUserResponse.builder()
+                .user(users.get(arn(request.instanceId(), USER, request.userId())))
+                .build());
+    }
+
+    @Override
+    public DeleteUserResponse deleteUser(final DeleteUserRequest request) {
+        return call("DeleteUser", () -> {
+            users.remove(arn(request.instanceId(), USER, request.userId()));
+            return DeleteUserResponse.builder().build();
+        });
+    }
+
+    @Override
+    public UpdateUserIdentityInfoResponse updateUserIdentityInfo(final UpdateUserIdentityInfoRequest request) {
+        return call("UpdateUserIdentityInfo", () -> {
+            users.update(arn(request.instanceId(), USER, request.userId()),
+                    user -> user.toBuilder().identityInfo(request.identityInfo()).build());
+            return UpdateUserIdentityInfoResponse.builder().build();
+        });
+    }
+
+    @Override
+    public UpdateUserPhoneConfigResponse updateUserPhoneConfig(final UpdateUserPhoneConfigRequest request) {
+        return call("UpdateUserPhoneConfig", () -> {
+            users.update(arn(request.instanceId(), USER, request.userId()),
+                    user -> user.toBuilder().phoneConfig(request.phoneConfig()).build());
+            return UpdateUserPhoneConfigResponse.builder().build();
+        });
+    }
+
+    @Override
+    public UpdateUserRoutingProfileResponse updateUserRoutingProfile(final UpdateUserRoutingProfileRequest request) {
+        return call("UpdateUserRoutingProfile", () -> {
+            users.update(arn(request.instanceId(), USER, request.userId()),
+                    user -> user.toBuilder().routingProfileId(lastSegment(request.routingProfileId())).build());
+            return UpdateUserRoutingProfileResponse.builder().build();
+        });
+    }
+
+    @Override
+    public UpdateUserHierarchyResponse updateUserHierarchy(final UpdateUserHierarchyRequest request) {
+        return call("UpdateUserHierarchy", () -> {
+            users.update(arn(request.instanceId(), USER, request.userId()),
+                    user -> user.toBuilder().hierarchyGroupId(lastSegment(request.hierarchyGroupId())).build());
+            return UpdateUserHierarchyResponse.builder().build();
+        });
+    }
+
+    @Override
+    public UpdateUserSecurityProfilesResponse updateUserSecurityProfiles(final UpdateUserSecurityProfilesRequest request) {
+        return call("UpdateUserSecurityProfiles", () -> {
+            users.update(arn(request.instanceId(), USER, request.userId()),
+                    user -> user.toBuilder().securityProfileIds(lastSegments(request.securityProfileIds())).build());
+            return UpdateUserSecurityProfilesResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListUsersResponse listUsers(final ListUsersRequest request) {
+        return call("ListUsers", () -> {
+            final Page<User> page = users.page(instanceArn(request.instanceId()), request.nextToken(), request.maxResults());
+            return ListUsersResponse.builder()
+                    .userSummaryList(page.items.stream()
+                            .map(user -> UserSummary.builder().arn(user.arn()).id(user.id()).username(user.username()).build())
+                            .collect(toList()))
+                    .nextToken(page.nextToken)
+                    .build();
+        });
+    }
+
+    // Queues
+
+    @Override
+    public CreateQueueResponse createQueue(final CreateQueueRequest request) {
+        return call("CreateQueue", () -> {
+            final String id = newId();
+            final String arn = arn(request.instanceId(), QUEUE, id);
+            queues.put(arn, Queue.builder()
+                    .queueArn(arn)
+                    .queueId(id)
+                    .name(request.name())
+                    .description(request.description())
+                    .hoursOfOperationId(lastSegment(request.hoursOfOperationId()))
+                    .maxContacts(request.maxContacts())
+                    .outboundCallerConfig(request.outboundCallerConfig())
+                    .status(QueueStatus.ENABLED)
+                    .tags(request.tags())
+                    .build());
+            return CreateQueueResponse.builder().queueArn(arn).queueId(id).build();
+        });
+    }
+
+    @Override
+    public DescribeQueueResponse describeQueue(final DescribeQueueRequest request) {
+        return call("DescribeQueue", () -> DescribeQueueResponse.builder()
+                .queue(queues.get(arn(request.instanceId(), QUEUE, request.queueId())))
+                .build());
+    }
+
+    @Override
+    public UpdateQueueNameResponse updateQueueName(final UpdateQueueNameRequest request) {
+        return call("UpdateQueueName", () -> {
+            queues.update(arn(request.instanceId(), QUEUE, request.queueId()), queue -> queue.toBuilder()
+                    .name(request.name() != null ? request.name() : queue.name())
+                    .description(request.description() != null ? request.description() : queue.description())
+                    .build());
+            return UpdateQueueNameResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListQueuesResponse listQueues(final ListQueuesRequest request) {
+        return call("ListQueues", () -> {
+            final Page<Queue> page = queues.page(instanceArn(request.instanceId()), request.nextToken(), request.maxResults());
+            return ListQueuesResponse.builder()
+                    .queueSummaryList(page.items.stream()
+                            .map(queue -> QueueSummary.builder()
+                                    .arn(queue.queueArn())
+                                    .id(queue.queueId())
+                                    .name(queue.name())
+                                    .queueType(QueueType.STANDARD)
+                                    .build())
+                            .collect(toList()))
+                    .nextToken(page.nextToken)
+                    .build();
+        });
+    }
+
+    // Contact flows
+
+    @Override
+    public CreateContactFlowResponse createContactFlow(final CreateContactFlowRequest request) {
+        return call("CreateContactFlow", () -> {
+            final String id = newId();
+            final String arn = arn(request.instanceId(), CONTACT_FLOW, id);
+            contactFlows.put(arn, ContactFlow.builder()
+                    .arn(arn)
+                    .id(id)
+                    .name(request.name())
+                    .type(request.typeAsString())
+                    .state(ContactFlowState.ACTIVE)
+                    .description(request.description())
+                    .content(request.content())
+                    .tags(request.tags())
+                    .build());
+            return CreateContactFlowResponse.builder().contactFlowArn(arn).contactFlowId(id).build();
+        });
+    }
+
+    @Override
+    public DescribeContactFlowResponse describeContactFlow(final DescribeContactFlowRequest request) {
+        return call("DescribeContactFlow", () -> DescribeContactFlowResponse.builder()
+                .contactFlow(contactFlows.get(arn(request.instanceId(), CONTACT_FLOW, request.contactFlowId())))
+                .build());
+    }
+
+    @Override
+    public UpdateContactFlowMetadataResponse updateContactFlowMetadata(final UpdateContactFlowMetadataRequest request) {
+        return call("UpdateContactFlowMetadata", () -> {
+            contactFlows.update(arn(request.instanceId(), CONTACT_FLOW, request.contactFlowId()), contactFlow -> contactFlow.toBuilder()
+                    .name(request.name() != null ? request.name() : contactFlow.name())
+                    .description(request.description() != null ? request.description() : contactFlow.description())
+                    .state(request.contactFlowState() != null ? request.contactFlowStateAsString() : contactFlow.stateAsString())
+                    .build());
+            return UpdateContactFlowMetadataResponse.builder().build();
+        });
+    }
+
+    @Override
+    public UpdateContactFlowContentResponse updateContactFlowContent(final UpdateContactFlowContentRequest request) {
+        return call("UpdateContactFlowContent", () -> {
+            contactFlows.update(arn(request.instanceId(), CONTACT_FLOW, request.contactFlowId()),
+                    contactFlow -> contactFlow.toBuilder().content(request.content()).build());
+            return UpdateContactFlowContentResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DeleteContactFlowResponse deleteContactFlow(final DeleteContactFlowRequest request) {
+        return call("DeleteContactFlow", () -> {
+            contactFlows.remove(arn(request.instanceId(), CONTACT_FLOW, request.contactFlowId()));
+            return DeleteContactFlowResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListContactFlowsResponse listContactFlows(final ListContactFlowsRequest request) {
+        return call("ListContactFlows", () -> {
+            final List<String> types = request.contactFlowTypesAsStrings();
+            final Page<ContactFlow> page = contactFlows.page(instanceArn(request.instanceId()), request.nextToken(), request.maxResults(),
+                    contactFlow -> types.isEmpty() || types.contains(contactFlow.typeAsString()));
+            return ListContactFlowsResponse.builder()
+                    .contactFlowSummaryList(page.items.stream()
+                            .map(contactFlow -> ContactFlowSummary.builder()
+                                    .arn(contactFlow.arn())
+                                    .id(contactFlow.id())
+                                    .name(contactFlow.name())
+                                    .contactFlowType(contactFlow.typeAsString())
+                                    .contactFlowState(contactFlow.stateAsString())
+                                    .build())
+                            .collect(toList()))
+                    .nextToken(page.nextToken)
+                    .build();
+        });
+    }
+
+    // Contact flow modules
+
+    @Override
+    public CreateContactFlowModuleResponse createContactFlowModule(final CreateContactFlowModuleRequest request) {
+        return call("CreateContactFlowModule", () -> {
+            final String id = newId();
+            final String arn = arn(request.instanceId(), CONTACT_FLOW_MODULE, id);
+            contactFlowModules.put(arn, ContactFlowModule.builder()
+                    .arn(arn)
+                    .id(id)
+                    .name(request.name())
+                    .description(request.description())
+                    .content(request.content())
+                    .state(ContactFlowModuleState.ACTIVE)
+                    .status(ContactFlowModuleStatus.PUBLISHED)
+                    .tags(request.tags())
+                    .build());
+            return CreateContactFlowModuleResponse.builder().arn(arn).id(id).build();
+        });
+    }
+
+    @Override
+    public DescribeContactFlowModuleResponse describeContactFlowModule(final DescribeContactFlowModuleRequest request) {
+        return call("DescribeContactFlowModule", () -> DescribeContactFlowModuleResponse.builder()
+                .contactFlowModule(contactFlowModules.get(arn(request.instanceId(), CONTACT_FLOW_MODULE, request.contactFlowModuleId())))
+                .build());
+    }
+
+    @Override
+    public UpdateContactFlowModuleMetadataResponse updateContactFlowModuleMetadata(final UpdateContactFlowModuleMetadataRequest request) {
+        return call("UpdateContactFlowModuleMetadata", () -> {
+            contactFlowModules.update(arn(request.instanceId(), CONTACT_FLOW_MODULE, request.contactFlowModuleId()), contactFlowModule -> contactFlowModule.toBuilder()
+                    .name(request.name() != null ? request.name() : contactFlowModule.name())
+                    .description(request.description() != null ? request.description() : contactFlowModule.description())
+                    .state(request.state() != null ? request.stateAsString() : contactFlowModule.stateAsString())
+                    .build());
+            return UpdateContactFlowModuleMetadataResponse.builder().build();
+        });
+    }
+
+    @Override
+    public UpdateContactFlowModuleContentResponse updateContactFlowModuleContent(final UpdateContactFlowModuleContentRequest request) {
+        return call("UpdateContactFlowModuleContent", () -> {
+            contactFlowModules.update(arn(request.instanceId(), CONTACT_FLOW_MODULE, request.contactFlowModuleId()),
+                    contactFlowModule -> contactFlowModule.toBuilder().content(request.content()).build());
+            return UpdateContactFlowModuleContentResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DeleteContactFlowModuleResponse deleteContactFlowModule(final DeleteContactFlowModuleRequest request) {
+        return call("DeleteContactFlowModule", () -> {
+            contactFlowModules.remove(arn(request.instanceId(), CONTACT_FLOW_MODULE, request.contactFlowModuleId()));
+            return DeleteContactFlowModuleResponse.builder().build();
+        });
+    }
+
+    // Hours of operation
+
+    @Override
+    public CreateHoursOfOperationResponse createHoursOfOperation(final CreateHoursOfOperationRequest request) {
+        return call("CreateHoursOfOperation", () -> {
+            final String id = newId();
+            final String arn = arn(request.instanceId(), HOURS_OF_OPERATION, id);
+            hoursOfOperations.put(arn, HoursOfOperation.builder()
+                    .hoursOfOperationArn(arn)
+                    .hoursOfOperationId(id)
+                    .name(request.name())
+                    .description(request.description())
+                    .timeZone(request.timeZone())
+                    .config(request.config())
+                    .tags(request.tags())
+                    .build());
+            return CreateHoursOfOperationResponse.builder().hoursOfOperationArn(arn).hoursOfOperationId(id).build();
+        });
+    }
+
+    @Override
+    public DescribeHoursOfOperationResponse describeHoursOfOperation(final DescribeHoursOfOperationRequest request) {
+        return call("DescribeHoursOfOperation", () -> DescribeHoursOfOperationResponse.builder()
+                .hoursOfOperation(hoursOfOperations.get(arn(request.instanceId(), HOURS_OF_OPERATION, request.hoursOfOperationId())))
+                .build());
+    }
+
+    @Override
+    public UpdateHoursOfOperationResponse updateHoursOfOperation(final UpdateHoursOfOperationRequest request) {
+        return call("UpdateHoursOfOperation", () -> {
+            hoursOfOperations.update(arn(request.instanceId(), HOURS_OF_OPERATION, request.hoursOfOperationId()), hoursOfOperation -> hoursOfOperation.toBuilder()
+                    .name(request.name() != null ? request.name() : hoursOfOperation.name())
+                    .description(request.description() != null ? request.description() : hoursOfOperation.description())
+                    .timeZone(request.timeZone() != null ? request.timeZone() : hoursOfOperation.timeZone())
+                    .config(request.hasConfig() ? request.config() : hoursOfOperation.config())
+                    .build());
+            return UpdateHoursOfOperationResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DeleteHoursOfOperationResponse deleteHoursOfOperation(final DeleteHoursOfOperationRequest request) {
+        return call("DeleteHoursOfOperation", () -> {
+            hoursOfOperations.remove(arn(request.instanceId(), HOURS_OF_OPERATION, request.hoursOfOperationId()));
+            return DeleteHoursOfOperationResponse.builder().build();
+        });
+    }
+
+    // Quick connects
+
+    @Override
+    public CreateQuickConnectResponse createQuickConnect(final CreateQuickConnectRequest request) {
+        return call("CreateQuickConnect", () -> {
+            final String id = newId();
+            final String arn = arn(request.instanceId(), QUICK_CONNECT, id);
+            quickConnects.put(arn, QuickConnect.builder()
+                    .quickConnectARN(arn)
+                    .quickConnectId(id)
+                    .name(request.name())
+                    .description(request.description())
+                    .quickConnectConfig(request.quickConnectConfig())
+                    .tags(request.tags())
+                    .build());
+            return CreateQuickConnectResponse.builder().quickConnectARN(arn).quickConnectId(id).build();
+        });
+    }
+
+    @Override
+    public DescribeQuickConnectResponse describeQuickConnect(final DescribeQuickConnectRequest request) {
+        return call("DescribeQuickConnect", () -> DescribeQuickConnectResponse.builder()
+                .quickConnect(quickConnects.get(arn(request.instanceId(), QUICK_CONNECT, request.quickConnectId())))
+                .build());
+    }
+
+    @Override
+    public UpdateQuickConnectNameResponse updateQuickConnectName(final UpdateQuickConnectNameRequest request) {
+        return call("UpdateQuickConnectName", () -> {
+            quickConnects.update(arn(request.instanceId(), QUICK_CONNECT, request.quickConnectId()), quickConnect -> quickConnect.toBuilder()
+                    .name(request.name() != null ? request.name() : quickConnect.name())
+                    .description(request.description() != null ? request.description() : quickConnect.description())
+                    .build());
+            return UpdateQuickConnectNameResponse.builder().build();
+        });
+    }
+
+    @Override
+    public UpdateQuickConnectConfigResponse updateQuickConnectConfig(final UpdateQuickConnectConfigRequest request) {
+        return call("UpdateQuickConnectConfig", () -> {
+            quickConnects.update(arn(request.instanceId(), QUICK_CONNECT, request.quickConnectId()),
+                    quickConnect -> quickConnect.toBuilder().quickConnectConfig(request.quickConnectConfig()).build());
+            return UpdateQuickConnectConfigResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DeleteQuickConnectResponse deleteQuickConnect(final DeleteQuickConnectRequest request) {
+        return call("DeleteQuickConnect", () -> {
+            quickConnects.remove(arn(request.instanceId(), QUICK_CONNECT, request.quickConnectId()));
+            return DeleteQuickConnectResponse.builder().build();
+        });
+    }
+
+    // User hierarchy groups
+
+    @Override
+    public CreateUserHierarchyGroupResponse createUserHierarchyGroup(final CreateUserHierarchyGroupRequest request) {
+        return call("CreateUserHierarchyGroup", () -> {
+            final String id = newId();
+            final String arn = arn(request.instanceId(), USER_HIERARCHY_GROUP, id);
+            final HierarchyGroup parent = request.parentGroupId() == null
+                    ? null
+                    : hierarchyGroups.get(arn(request.instanceId(), USER_HIERARCHY_GROUP, request.parentGroupId()));
+            final int level = parent == null ? 1 : Integer.parseInt(parent.levelId()) + 1;
+            if (level > MAX_HIERARCHY_LEVEL) {
+                throw serviceError(InvalidParameterException.builder(), 400, "InvalidParameterException",
+                        String.format("%s is already at level %d", parent.arn(), MAX_HIERARCHY_LEVEL));
+            }
+            final HierarchyGroupSummary summary = HierarchyGroupSummary.builder().arn(arn).id(id).name(request.name()).build();
+            hierarchyGroups.put(arn, HierarchyGroup.builder()
+                    .arn(arn)
+                    .id(id)
+                    .name(request.name())
+                    .levelId(String.valueOf(level))
+                    .hierarchyPath(withLevel(parent == null ? HierarchyPath.builder() : parent.hierarchyPath().toBuilder(), level, summary).build())
+                    .tags(request.tags())
+                    .build());
+            return CreateUserHierarchyGroupResponse.builder().hierarchyGroupArn(arn).hierarchyGroupId(id).build();
+        });
+    }
+
+    @Override
+    public DescribeUserHierarchyGroupResponse describeUserHierarchyGroup(final DescribeUserHierarchyGroupRequest request) {
+        return call("DescribeUserHierarchyGroup", () -> DescribeUserHierarchyGroupResponse.builder()
+                .hierarchyGroup(hierarchyGroups.get(arn(request.instanceId(), USER_HIERARCHY_GROUP, request.hierarchyGroupId())))
+                .build());
+    }
+
+    /**
+     * Renames the group itself; the copies of its summary in descendants' hierarchy paths keep the old name.
+     */
+    @Override
+    public UpdateUserHierarchyGroupNameResponse updateUserHierarchyGroupName(final UpdateUserHierarchyGroupNameRequest request) {
+        return call("UpdateUserHierarchyGroupName", () -> {
+            hierarchyGroups.update(arn(request.instanceId(), USER_HIERARCHY_GROUP, request.hierarchyGroupId()), hierarchyGroup -> {
+                final int level = Integer.parseInt(hierarchyGroup.levelId());
+                final HierarchyGroupSummary summary = HierarchyGroupSummary.builder()
+                        .arn(hierarchyGroup.arn())
+                        .id(hierarchyGroup.id())
+                        .name(request.name())
+                        .build();
+                return hierarchyGroup.toBuilder()
+                        .name(request.name())
+                        .hierarchyPath(withLevel(hierarchyGroup.hierarchyPath().toBuilder(), level, summary).build())
+                        .build();
+            });
+            return UpdateUserHierarchyGroupNameResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DeleteUserHierarchyGroupResponse deleteUserHierarchyGroup(final DeleteUserHierarchyGroupRequest request) {
+        return call("DeleteUserHierarchyGroup", () -> {
+            final String arn = arn(request.instanceId(), USER_HIERARCHY_GROUP, request.hierarchyGroupId());
+            final HierarchyGroup hierarchyGroup = hierarchyGroups.get(arn);
+            final int level = Integer.parseInt(hierarchyGroup.levelId());
+            final boolean hasChildren = hierarchyGroups.resources.values().stream()
+                    .anyMatch(group -> Integer.parseInt(group.levelId()) == level + 1
+                            && arn.equals(atLevel(group.hierarchyPath(), level).arn()));
+            if (hasChildren) {
+                throw serviceError(ResourceInUseException.builder(), 409, "ResourceInUseException",
+                        String.format("%s has child groups", arn));
+            }
+            hierarchyGroups.remove(arn);
+            return DeleteUserHierarchyGroupResponse.builder().build();
+        });
+    }
+
+    // Tags
+
+    @Override
+    public TagResourceResponse tagResource(final TagResourceRequest request) {
+        return call("TagResource", () -> {
+            tableFor(request.resourceArn()).updateTags(request.resourceArn(), tags -> tags.putAll(request.tags()));
+            return TagResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        return call("UntagResource", () -> {
+            tableFor(request.resourceArn()).updateTags(request.resourceArn(), tags -> tags.keySet().removeAll(request.tagKeys()));
+            return UntagResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        return call("ListTagsForResource", () -> ListTagsForResourceResponse.builder()
+                .tags(tableFor(request.resourceArn()).tags(request.resourceArn()))
+                .build());
+    }
+
+    private <T> T call(final String operation, final Supplier<T> body) {
+        calls.computeIfAbsent(operation, key -> new LongAdder()).increment();
+        if (throttleRate > 0 && !buckets.computeIfAbsent(operation, key -> new TokenBucket(throttleRate, throttleBurst)).tryAcquire()) {
+            throttles.computeIfAbsent(operation, key -> new LongAdder()).increment();
+            throw serviceError(ConnectException.builder(), 429, THROTTLING_ERROR_CODE, "Rate exceeded");
+        }
+        sleep();
+        final Supplier<? extends RuntimeException> failure = failures.get(operation);
+        if (failure != null) {
+            injectedFailures.increment();
+            throw failure.get();
+        }
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            injectedFailures.increment();
+            throw serviceError(InternalServiceException.builder(), 500, "InternalServiceException", "Injected failure");
+        }
+        return body.get();
+    }
+
+    private void sleep() {
+        final long nanos = latency.toNanos() + (latencyJitter.isZero() ? 0 : ThreadLocalRandom.current().nextLong(latencyJitter.toNanos()));
+        if (nanos > 0) {
+            try {
+                Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Table<?> tableFor(final String resourceArn) {
+        final String[] parts = resourceArn == null ? new String[0] : resourceArn.split("/");
+        final Table<?> table = parts.length == 4 ? tablesByResourceType.get(parts[2]) : null;
+        if (table == null) {
+            throw notFound(resourceArn);
+        }
+        return table;
+    }
+
+    private static String instanceArn(final String instanceId) {
+        if (instanceId == null) {
+            throw serviceError(InvalidParameterException.builder(), 400, "InvalidParameterException", "InstanceId is required");
+        }
+        return instanceId.startsWith("arn:") ? instanceId : ARN_PREFIX + instanceId;
+    }
+
+    private static String arn(final String instanceId, final String resourceType, final String resourceId) {
+        final String instanceArn = instanceArn(instanceId);
+        if (resourceId == null) {
+            throw serviceError(InvalidParameterException.builder(), 400, "InvalidParameterException", "Resource id is required");
+        }
+        if (!resourceId.startsWith("arn:")) {
+            return instanceArn + "/" + resourceType + "/" + resourceId;
+        }
+        if (!resourceId.startsWith(instanceArn + "/" + resourceType + "/")) {
+            throw notFound(resourceId);
+        }
+        return resourceId;
+    }
+
+    private static String newId() {
+        return UUID.randomUUID().toString();
+    }
+
+    private static String lastSegment(final String idOrArn) {
+        return idOrArn == null ? null : idOrArn.substring(idOrArn.lastIndexOf('/') + 1);
+    }
+
+    private static List<String> lastSegments(final List<String> idsOrArns) {
+        return idsOrArns.stream().map(FakeConnectClient::lastSegment).collect(toList());
+    }
+
+    private static HierarchyPath.Builder withLevel(final HierarchyPath.Builder path, final int level, final HierarchyGroupSummary summary) {
+        switch (level) {
+            case 1:
+                return path.levelOne(summary);
+            case 2:
+                return path.levelTwo(summary);
+            case 3:
+                return path.levelThree(summary);
+            case 4:
+                return path.levelFour(summary);
+            default:
+                return path.levelFive(summary);
+        }
+    }
+
+    private static HierarchyGroupSummary atLevel(final HierarchyPath path, final int level) {
+        switch (level) {
+            case 1:
+                return path.levelOne();
+            case 2:
+                return path.levelTwo();
+            case 3:
+                return path.levelThree();
+            case 4:
+                return path.levelFour();
+            default:
+                return path.levelFive();
+        }
+    }
+
+    private static long count(final ConcurrentMap<String, LongAdder> counters, final String operation) {
+        final LongAdder counter = counters.get(operation);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    private static ConnectException notFound(final String arn) {
+        return serviceError(ResourceNotFoundException.builder(), 404, "ResourceNotFoundException", String.format("%s not found", arn));
+    }
+
+    private static ConnectException serviceError(final ConnectException.Builder builder, final int statusCode, final String errorCode, final String message) {
+        return (ConnectException) builder
+                .message(message)
+                .statusCode(statusCode)
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .errorCode(errorCode)
+                        .errorMessage(message)
+                        .serviceName(SERVICE_NAME)
+                        .build())
+                .build();
+    }
+
+    /**
+     * One resource type's records, replaced wholesale on every write so readers always see a consistent copy.
+     */
+    private static final class Table<T> {
+
+        private final String resourceType;
+        private final ConcurrentMap<String, T> resources = new ConcurrentHashMap<>();
+        private final Function<T, Map<String, String>> tagsOf;
+        private final BiFunction<T, Map<String, String>, T> withTags;
+
+        private Table(final String resourceType,
+                      final Function<T, Map<String, String>> tagsOf,
+                      final BiFunction<T, Map<String, String>, T> withTags) {
+            this.resourceType = resourceType;
+            this.tagsOf = tagsOf;
+            this.withTags = withTags;
+        }
+
+        private void put(final String arn, final T resource) {
+            resources.put(arn, resource);
+        }
+
+        private T get(final String arn) {
+            final T resource = resources.get(arn);
+            if (resource == null) {
+                throw notFound(arn);
+            }
+            return resource;
+        }
+
+        private void update(final String arn, final UnaryOperator<T> update) {
+            if (resources.computeIfPresent(arn, (key, resource) -> update.apply(resource)) == null) {
+                throw notFound(arn);
+            }
+        }
+
+        private void remove(final String arn) {
+            if (resources.remove(arn) == null) {
+                throw notFound(arn);
+            }
+        }
+
+        private Map<String, String> tags(final String arn) {
+            return tagsOf.apply(get(arn));
+        }
+
+        private void updateTags(final String arn, final Consumer<Map<String, String>> change) {
+            update(arn, resource -> {
+                final Map<String, String> tags = new HashMap<>(tagsOf.apply(resource));
+                change.accept(tags);
+                return withTags.apply(resource, tags);
+            });
+        }
+
+        private Page<T> page(final String instanceArn, final String nextToken, final Integer maxResults) {
+            return page(instanceArn, nextToken, maxResults, resource -> true);
+        }
+
+        /**
+         * Pages over a snapshot sorted by ARN; the token is the offset of the next item.
+         */
+        private Page<T> page(final String instanceArn,
+                             final String nextToken,
+                             final Integer maxResults,
+                             final Predicate<T> filter) {
+            final String prefix = instanceArn + "/" + resourceType + "/";
+            final List<T> matching = resources.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(prefix) && filter.test(entry.getValue()))
+                    .sorted(Map.Entry.comparingByKey(Comparator.naturalOrder()))
+                    .map(Map.Entry::getValue)
+                    .collect(toList());
+            final int from = nextToken == null ? 0 : Integer.parseInt(nextToken);
+            final int to = Math.min(matching.size(), from + (maxResults == null ? DEFAULT_MAX_RESULTS : maxResults));
+            return new Page<>(new ArrayList<>(matching.subList(Math.min(from, to), to)), to < matching.size() ? String.valueOf(to) : null);
+        }
+    }
+
+    private static final class Page<T> {
+
+        private final List<T> items;
+        private final String nextToken;
+
+        private Page(final List<T> items, final String nextToken) {
+            this.items = items;
+            this.nextToken = nextToken;
+        }
+    }
+
+    /**
+     * Refills continuously at {@code rate} permits per second up to {@code burst}.
+     */
+    private static final class TokenBucket {
+
+        private final double rate;
+        private final double burst;
+        private double tokens;
+        private long lastRefillNanos;
+
+        private TokenBucket(final double rate, final int burst) {
+            this.rate = rate;
+            this.burst = burst;
+            this.tokens = burst;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        private synchronized boolean tryAcquire() {
+            final long now = System.nanoTime();
+            tokens = Math.min(burst, tokens + (now - lastRefillNanos) * rate / 1_000_000_000d);
+            lastRefillNanos = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+
+    public static final class Builder {
+
+        private Duration latency = Duration.ZERO;
+        private Duration latencyJitter = Duration.ZERO;
+        private double errorRate;
+        private double throttleRate;
+        private int throttleBurst;
+        private final Map<String, Supplier<? extends RuntimeException>> failures = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Every call sleeps for {@code latency} plus a uniformly distributed extra of up to {@code jitter}.
+         */
+        public Builder latency(final Duration latency, final Duration jitter) {
+            this.latency = latency;
+            this.latencyJitter = jitter;
+            return this;
+        }
+
+        /**
+         * Limits each operation separately to {@code requestsPerSecond} with bursts of up to {@code burst}, as the
+         * service does per account; zero disables throttling.
+         */
+        public Builder throttle(final double requestsPerSecond, final int burst) {
+            this.throttleRate = requestsPerSecond;
+            this.throttleBurst = burst;
+            return this;
+        }
+
+        /**
+         * Fails this fraction of calls that were not throttled with an {@link InternalServiceException}.
+         */
+        public Builder errorRate(final double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        /**
+         * Fails every call to {@code operation} (e.g. {@code "UpdateUserPhoneConfig"}) with the supplied exception.
+         */
+        public Builder failure(final String operation, final Supplier<? extends RuntimeException> failure) {
+            failures.put(operation, failure);
+            return this;
+        }
+
+        public FakeConnectClient build() {
+            return new FakeConnectClient(this);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package software.amazon.connect.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.connect.common.ConnectWarmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to the first ReadHandler response in a fresh JVM, with the Connect HTTP layer stubbed out. {@code cold} pays
+ * for class loading and client construction on the request; {@code warm} runs the opt-in warm-up first, the way the
+ * Lambda init phase would.
+ *
+ * Each resource extends this with its canned Describe response, the loading of its handlers and its first read.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public abstract class StartupBenchmark {
+
+    private final String describeResponse;
+    private ConnectClient warmClient;
+
+    protected StartupBenchmark(final String describeResponse) {
+        this.describeResponse = describeResponse;
+    }
+
+    /**
+     * Loads the resource's handlers, whose static initializer runs the warm-up when it is enabled.
+     */
+    protected abstract void loadHandlers();
+
+    protected abstract ProgressEvent<?, ?> read(AmazonWebServicesClientProxy proxy,
+                                                ProxyClient<ConnectClient> proxyClient,
+                                                LoggerProxy logger);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if (ConnectWarmup.isEnabled()) {
+            loadHandlers();
+            warmClient = CannedConnect.client(describeResponse);
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 10, jvmArgsAppend = CannedConnect.REGION_PROPERTY)
+    public ProgressEvent<?, ?> cold() {
+        return firstRead(CannedConnect.client(describeResponse));
+    }
+
+    @Benchmark
+    @Fork(value = 10, jvmArgsAppend = {CannedConnect.REGION_PROPERTY, CannedConnect.WARMUP_PROPERTY})
+    public ProgressEvent<?, ?> warm() {
+        return firstRead(warmClient);
+    }
+
+    private ProgressEvent<?, ?> firstRead(final ConnectClient client) {
+        final LoggerProxy logger = new LoggerProxy();
+        final AmazonWebServicesClientProxy proxy = CannedConnect.proxy(logger);
+        return read(proxy, proxy.newProxy(() -> client), logger);
+    }
+}
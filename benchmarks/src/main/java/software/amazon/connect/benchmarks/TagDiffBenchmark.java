@@ -0,0 +1,80 @@
+package software.amazon.connect.benchmarks;
+
+import com.google.common.collect.Sets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.connect.common.ResourceTags;
+import software.amazon.connect.common.TagDiff;
+import software.amazon.connect.user.Tag;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Tag reconciliation on update: the {@code convertResourceTagsToSet} plus {@code Sets.difference} diff the handlers
+ * used to do, including turning the differences back into request keys and maps, against {@link TagDiff}. A tenth of
+ * the previous tags are removed, a tenth change value and a tenth are new.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TagDiffBenchmark {
+
+    @Param({"5", "50"})
+    public int tagCount;
+
+    private Map<String, String> previousTags;
+    private Map<String, String> desiredTags;
+
+    @Setup
+    public void setup() {
+        previousTags = new HashMap<>();
+        desiredTags = new HashMap<>();
+        final int changed = Math.max(1, tagCount / 10);
+        for (int i = 0; i < tagCount; i++) {
+            previousTags.put("key" + i, "value" + i);
+        }
+        for (int i = changed; i < tagCount + changed; i++) {
+            desiredTags.put("key" + i, i < 2 * changed ? "updated" + i : "value" + i);
+        }
+    }
+
+    @Benchmark
+    public void setsDifference(final Blackhole blackhole) {
+        final Set<Tag> previousResourceTags = convertResourceTagsToSet(previousTags);
+        final Set<Tag> desiredResourceTags = convertResourceTagsToSet(desiredTags);
+        final Set<Tag> tagsToRemove = Sets.difference(previousResourceTags, desiredResourceTags);
+        final Set<Tag> tagsToAdd = Sets.difference(desiredResourceTags, previousResourceTags);
+        blackhole.consume(tagsToRemove.stream().map(Tag::getKey).collect(toSet()));
+        blackhole.consume(tagsToAdd.stream().collect(toMap(Tag::getKey, Tag::getValue)));
+    }
+
+    @Benchmark
+    public void tagDiff(final Blackhole blackhole) {
+        final TagDiff tagDiff = TagDiff.between(previousTags, desiredTags);
+        blackhole.consume(tagDiff.getTagKeysToRemove());
+        blackhole.consume(tagDiff.getTagsToAdd());
+    }
+
+    private static Set<Tag> convertResourceTagsToSet(final Map<String, String> resourceTags) {
+        return ResourceTags.convertResourceTagsToSet(resourceTags, (key, value) -> Tag.builder().key(key).value(value).build());
+    }
+}
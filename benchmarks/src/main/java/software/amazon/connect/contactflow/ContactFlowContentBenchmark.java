@@ -0,0 +1,154 @@
+package software.amazon.connect.contactflow;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.awssdk.services.connect.model.ContactFlow;
+import software.amazon.awssdk.services.connect.model.CreateContactFlowRequest;
+import software.amazon.awssdk.services.connect.model.CreateContactFlowResponse;
+import software.amazon.awssdk.services.connect.model.DescribeContactFlowRequest;
+import software.amazon.awssdk.services.connect.model.DescribeContactFlowResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.connect.benchmarks.CannedConnect;
+import software.amazon.connect.benchmarks.ContactFlowContent;
+import software.amazon.connect.common.ContentFingerprint;
+import software.amazon.connect.common.ContentReferences;
+import software.amazon.connect.common.ContentValidator;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Contact flow Content moving through the handlers at 1KB, 64KB and the 256000 character service limit.
+ * {@code readHandler} and {@code createHandler} run against a mocked {@link ConnectClient}; {@code readHandlerOverHttp}
+ * adds SDK unmarshalling of a canned DescribeContactFlow body, {@code serializeModel} is the wrapper's round trip
+ * of the model through the request and response payloads, {@code fingerprint} is what an update spends deciding
+ * whether the Content changed, {@code references} is what indexing the flow's dependencies costs, and
+ * {@code validate} is the check create and update run before sending the Content.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ContactFlowContentBenchmark {
+
+    private static final String CONTACT_FLOW_ARN = CannedConnect.INSTANCE_ARN + "/contact-flow/contactFlowId";
+    private static final TypeReference<ResourceModel> MODEL_TYPE = new TypeReference<ResourceModel>() {
+    };
+
+    @Param({"1024", "65536", "256000"})
+    public int contentLength;
+
+    private final ReadHandler readHandler = new ReadHandler();
+    private final CreateHandler createHandler = new CreateHandler();
+    private final Serializer serializer = new Serializer();
+    private final LoggerProxy logger = new LoggerProxy();
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<ConnectClient> proxyClient;
+    private ProxyClient<ConnectClient> httpProxyClient;
+    private String content;
+
+    @Setup
+    public void setup() {
+        content = ContactFlowContent.ofLength(contentLength);
+        final ContactFlow contactFlow = ContactFlow.builder()
+                .arn(CONTACT_FLOW_ARN)
+                .id("contactFlowId")
+                .name("name")
+                .type("CONTACT_FLOW")
+                .state("ACTIVE")
+                .content(content)
+                .build();
+
+        final ConnectClient client = CannedConnect.mockClient();
+        when(client.describeContactFlow(any(DescribeContactFlowRequest.class)))
+                .thenReturn(DescribeContactFlowResponse.builder().contactFlow(contactFlow).build());
+        when(client.createContactFlow(any(CreateContactFlowRequest.class)))
+                .thenReturn(CreateContactFlowResponse.builder().contactFlowArn(CONTACT_FLOW_ARN).contactFlowId("contactFlowId").build());
+        proxy = CannedConnect.proxy(logger);
+        proxyClient = proxy.newProxy(() -> client);
+
+        final ConnectClient httpClient = CannedConnect.client(String.format(
+                "{\"ContactFlow\":{\"Arn\":\"%s\",\"Id\":\"contactFlowId\",\"Name\":\"name\",\"Type\":\"CONTACT_FLOW\",\"State\":\"ACTIVE\",\"Content\":\"%s\"}}",
+                CONTACT_FLOW_ARN, content.replace("\\", "\\\\").replace("\"", "\\\"")));
+        httpProxyClient = proxy.newProxy(() -> httpClient);
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> readHandler() {
+        return readHandler.handleRequest(proxy, readRequest(), new CallbackContext(), proxyClient, logger);
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> readHandlerOverHttp() {
+        return readHandler.handleRequest(proxy, readRequest(), new CallbackContext(), httpProxyClient, logger);
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> createHandler() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .instanceArn(CannedConnect.INSTANCE_ARN)
+                        .name("name")
+                        .type("CONTACT_FLOW")
+                        .content(content)
+                        .build())
+                .build();
+        return createHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    }
+
+    @Benchmark
+    public ResourceModel serializeModel() throws IOException {
+        final ResourceModel model = ResourceModel.builder()
+                .instanceArn(CannedConnect.INSTANCE_ARN)
+                .contactFlowArn(CONTACT_FLOW_ARN)
+                .name("name")
+                .type("CONTACT_FLOW")
+                .content(content)
+                .build();
+        return serializer.deserialize(serializer.serialize(model), MODEL_TYPE);
+    }
+
+    @Benchmark
+    public byte[] fingerprint() {
+        return ContentFingerprint.of(content);
+    }
+
+    @Benchmark
+    public Set<String> references() {
+        return ContentReferences.of(content);
+    }
+
+    @Benchmark
+    public String validate() {
+        ContentValidator.validate(content);
+        return content;
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> readRequest() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().contactFlowArn(CONTACT_FLOW_ARN).build())
+                .build();
+    }
+}
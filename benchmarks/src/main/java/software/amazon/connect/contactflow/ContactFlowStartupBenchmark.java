@@ -0,0 +1,37 @@
+package software.amazon.connect.contactflow;
+
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.benchmarks.StartupBenchmark;
+
+/**
+ * {@link StartupBenchmark} of the ContactFlow ReadHandler.
+ */
+public class ContactFlowStartupBenchmark extends StartupBenchmark {
+
+    private static final String CONTACT_FLOW_ARN = "arn:aws:connect:us-west-2:111111111111:instance/instanceId/contact-flow/contactFlowId";
+    private static final String DESCRIBE_RESPONSE = "{\"ContactFlow\":{\"Arn\":\"arn:aws:connect:us-west-2:111111111111:instance/instanceId/contact-flow/contactFlowId\",\"Id\":\"contactFlowId\",\"Name\":\"name\",\"Type\":\"CONTACT_FLOW\",\"State\":\"ACTIVE\",\"Description\":\"description\",\"Content\":\"{}\",\"Tags\":{\"key\":\"value\"}}}";
+
+    public ContactFlowStartupBenchmark() {
+        super(DESCRIBE_RESPONSE);
+    }
+
+    @Override
+    protected void loadHandlers() {
+        new ReadHandler();
+    }
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> read(final AmazonWebServicesClientProxy proxy,
+                                                                 final ProxyClient<ConnectClient> proxyClient,
+                                                                 final LoggerProxy logger) {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().contactFlowArn(CONTACT_FLOW_ARN).build())
+                .build();
+        return new ReadHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    }
+}
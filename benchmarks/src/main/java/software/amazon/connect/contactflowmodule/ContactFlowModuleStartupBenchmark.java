@@ -0,0 +1,37 @@
+package software.amazon.connect.contactflowmodule;
+
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.benchmarks.StartupBenchmark;
+
+/**
+ * {@link StartupBenchmark} of the ContactFlowModule ReadHandler.
+ */
+public class ContactFlowModuleStartupBenchmark extends StartupBenchmark {
+
+    private static final String CONTACT_FLOW_MODULE_ARN = "arn:aws:connect:us-west-2:111111111111:instance/instanceId/flow-module/moduleId";
+    private static final String DESCRIBE_RESPONSE = "{\"ContactFlowModule\":{\"Arn\":\"arn:aws:connect:us-west-2:111111111111:instance/instanceId/flow-module/moduleId\",\"Id\":\"moduleId\",\"Name\":\"name\",\"State\":\"ACTIVE\",\"Status\":\"PUBLISHED\",\"Description\":\"description\",\"Content\":\"{}\",\"Tags\":{\"key\":\"value\"}}}";
+
+    public ContactFlowModuleStartupBenchmark() {
+        super(DESCRIBE_RESPONSE);
+    }
+
+    @Override
+    protected void loadHandlers() {
+        new ReadHandler();
+    }
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> read(final AmazonWebServicesClientProxy proxy,
+                                                                 final ProxyClient<ConnectClient> proxyClient,
+                                                                 final LoggerProxy logger) {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().contactFlowModuleArn(CONTACT_FLOW_MODULE_ARN).build())
+                .build();
+        return new ReadHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    }
+}
@@ -0,0 +1,77 @@
+package software.amazon.connect.hoursofoperation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HoursOfOperation config translation, and the unchanged-config check an update runs before calling the service, for
+ * one, seven (a plain week) and twenty-eight (split shifts every day) slots.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HoursOfOperationHandlerBenchmark {
+
+    private static final String[] DAYS = {"MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY", "SATURDAY", "SUNDAY"};
+
+    @Param({"1", "7", "28"})
+    public int configCount;
+
+    private ResourceModel model;
+    private Set<HoursOfOperationConfig> sameConfig;
+
+    @Setup
+    public void setup() {
+        final Set<HoursOfOperationConfig> config = new HashSet<>();
+        for (int i = 0; i < configCount; i++) {
+            final int slot = i / DAYS.length;
+            config.add(HoursOfOperationConfig.builder()
+                    .day(DAYS[i % DAYS.length])
+                    .startTime(HoursOfOperationTimeSlice.builder().hours(slot * 6).minutes(0).build())
+                    .endTime(HoursOfOperationTimeSlice.builder().hours(slot * 6 + 5).minutes(30).build())
+                    .build());
+        }
+        model = ResourceModel.builder().config(config).build();
+
+        sameConfig = new LinkedHashSet<>();
+        final List<HoursOfOperationConfig> reversed = new ArrayList<>(config);
+        Collections.reverse(reversed);
+        for (final HoursOfOperationConfig slot : reversed) {
+            sameConfig.add(HoursOfOperationConfig.builder()
+                    .day(slot.getDay())
+                    .startTime(HoursOfOperationTimeSlice.builder().hours(slot.getStartTime().getHours()).minutes(slot.getStartTime().getMinutes()).build())
+                    .endTime(HoursOfOperationTimeSlice.builder().hours(slot.getEndTime().getHours()).minutes(slot.getEndTime().getMinutes()).build())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<software.amazon.awssdk.services.connect.model.HoursOfOperationConfig> translateToHoursOfOperationConfig() {
+        return BaseHandlerStd.translateToHoursOfOperationConfig(model);
+    }
+
+    @Benchmark
+    public boolean isConfigUpdated() {
+        return UpdateHandler.isConfigUpdated(model.getConfig(), sameConfig);
+    }
+}
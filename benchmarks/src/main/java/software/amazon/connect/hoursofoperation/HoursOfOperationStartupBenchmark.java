@@ -0,0 +1,37 @@
+package software.amazon.connect.hoursofoperation;
+
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.benchmarks.StartupBenchmark;
+
+/**
+ * {@link StartupBenchmark} of the HoursOfOperation ReadHandler.
+ */
+public class HoursOfOperationStartupBenchmark extends StartupBenchmark {
+
+    private static final String HOURS_OF_OPERATION_ARN = "arn:aws:connect:us-west-2:111111111111:instance/instanceId/operating-hours/hoursId";
+    private static final String DESCRIBE_RESPONSE = "{\"HoursOfOperation\":{\"HoursOfOperationArn\":\"arn:aws:connect:us-west-2:111111111111:instance/instanceId/operating-hours/hoursId\",\"HoursOfOperationId\":\"hoursId\",\"Name\":\"name\",\"TimeZone\":\"America/New_York\",\"Config\":[{\"Day\":\"MONDAY\",\"StartTime\":{\"Hours\":9,\"Minutes\":0},\"EndTime\":{\"Hours\":17,\"Minutes\":0}}],\"Tags\":{\"key\":\"value\"}}}";
+
+    public HoursOfOperationStartupBenchmark() {
+        super(DESCRIBE_RESPONSE);
+    }
+
+    @Override
+    protected void loadHandlers() {
+        new ReadHandler();
+    }
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> read(final AmazonWebServicesClientProxy proxy,
+                                                                 final ProxyClient<ConnectClient> proxyClient,
+                                                                 final LoggerProxy logger) {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().hoursOfOperationArn(HOURS_OF_OPERATION_ARN).build())
+                .build();
+        return new ReadHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    }
+}
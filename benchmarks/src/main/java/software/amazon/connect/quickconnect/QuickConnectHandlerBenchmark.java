@@ -0,0 +1,62 @@
+package software.amazon.connect.quickconnect;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.connect.benchmarks.CannedConnect;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QuickConnect config translation for each quick connect type, including the per-type null checks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class QuickConnectHandlerBenchmark {
+
+    private static final String CONTACT_FLOW_ARN = CannedConnect.INSTANCE_ARN + "/contact-flow/contactFlowId";
+
+    @Param({"USER", "QUEUE", "PHONE_NUMBER"})
+    public String quickConnectType;
+
+    private ResourceModel model;
+
+    @Setup
+    public void setup() {
+        final QuickConnectConfig.QuickConnectConfigBuilder config = QuickConnectConfig.builder().quickConnectType(quickConnectType);
+        switch (quickConnectType) {
+            case "USER":
+                config.userConfig(UserQuickConnectConfig.builder()
+                        .userArn(CannedConnect.INSTANCE_ARN + "/agent/userId")
+                        .contactFlowArn(CONTACT_FLOW_ARN)
+                        .build());
+                break;
+            case "QUEUE":
+                config.queueConfig(QueueQuickConnectConfig.builder()
+                        .queueArn(CannedConnect.INSTANCE_ARN + "/queue/queueId")
+                        .contactFlowArn(CONTACT_FLOW_ARN)
+                        .build());
+                break;
+            default:
+                config.phoneConfig(PhoneNumberQuickConnectConfig.builder().phoneNumber("+12065550100").build());
+        }
+        model = ResourceModel.builder().quickConnectConfig(config.build()).build();
+    }
+
+    @Benchmark
+    public software.amazon.awssdk.services.connect.model.QuickConnectConfig translateToQuickConnectConfig() {
+        return BaseHandlerStd.translateToQuickConnectConfig(model);
+    }
+}
@@ -0,0 +1,37 @@
+package software.amazon.connect.quickconnect;
+
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.benchmarks.StartupBenchmark;
+
+/**
+ * {@link StartupBenchmark} of the QuickConnect ReadHandler.
+ */
+public class QuickConnectStartupBenchmark extends StartupBenchmark {
+
+    private static final String QUICK_CONNECT_ARN = "arn:aws:connect:us-west-2:111111111111:instance/instanceId/transfer-destination/quickConnectId";
+    private static final String DESCRIBE_RESPONSE = "{\"QuickConnect\":{\"QuickConnectARN\":\"arn:aws:connect:us-west-2:111111111111:instance/instanceId/transfer-destination/quickConnectId\",\"QuickConnectId\":\"quickConnectId\",\"Name\":\"name\",\"QuickConnectConfig\":{\"QuickConnectType\":\"PHONE_NUMBER\",\"PhoneConfig\":{\"PhoneNumber\":\"+12065550100\"}},\"Tags\":{\"key\":\"value\"}}}";
+
+    public QuickConnectStartupBenchmark() {
+        super(DESCRIBE_RESPONSE);
+    }
+
+    @Override
+    protected void loadHandlers() {
+        new ReadHandler();
+    }
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> read(final AmazonWebServicesClientProxy proxy,
+                                                                 final ProxyClient<ConnectClient> proxyClient,
+                                                                 final LoggerProxy logger) {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().quickConnectArn(QUICK_CONNECT_ARN).build())
+                .build();
+        return new ReadHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    }
+}
@@ -0,0 +1,108 @@
+package software.amazon.connect.user;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.awssdk.services.connect.model.DescribeUserRequest;
+import software.amazon.awssdk.services.connect.model.DescribeUserResponse;
+import software.amazon.awssdk.services.connect.model.User;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.benchmarks.CannedConnect;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * The User translate hot paths: the request-side phone config translation and ReadHandler, whose time is dominated by
+ * {@code setUserProperties} rebuilding the model from a DescribeUser response with five security profiles and ten
+ * tags. The service call is answered by a mocked {@link ConnectClient}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UserHandlerBenchmark {
+
+    private static final String USER_ARN = CannedConnect.INSTANCE_ARN + "/agent/userId";
+
+    private final ReadHandler readHandler = new ReadHandler();
+    private final LoggerProxy logger = new LoggerProxy();
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<ConnectClient> proxyClient;
+    private ResourceModel model;
+
+    @Setup
+    public void setup() {
+        final List<String> securityProfileIds = IntStream.range(0, 5).mapToObj(i -> "securityProfileId" + i).collect(toList());
+        final Map<String, String> tags = new HashMap<>();
+        IntStream.range(0, 10).forEach(i -> tags.put("key" + i, "value" + i));
+        final User user = User.builder()
+                .arn(USER_ARN)
+                .id("userId")
+                .username("username")
+                .directoryUserId("directoryUserId")
+                .routingProfileId("routingProfileId")
+                .hierarchyGroupId("hierarchyGroupId")
+                .securityProfileIds(securityProfileIds)
+                .identityInfo(software.amazon.awssdk.services.connect.model.UserIdentityInfo.builder()
+                        .firstName("first")
+                        .lastName("last")
+                        .email("email@example.com")
+                        .build())
+                .phoneConfig(software.amazon.awssdk.services.connect.model.UserPhoneConfig.builder()
+                        .phoneType("DESK_PHONE")
+                        .autoAccept(true)
+                        .afterContactWorkTimeLimit(0)
+                        .deskPhoneNumber("+12065550100")
+                        .build())
+                .tags(tags)
+                .build();
+
+        final ConnectClient client = CannedConnect.mockClient();
+        when(client.describeUser(any(DescribeUserRequest.class))).thenReturn(DescribeUserResponse.builder().user(user).build());
+        proxy = CannedConnect.proxy(logger);
+        proxyClient = proxy.newProxy(() -> client);
+        model = ResourceModel.builder()
+                .phoneConfig(UserPhoneConfig.builder()
+                        .phoneType("DESK_PHONE")
+                        .autoAccept(true)
+                        .afterContactWorkTimeLimit(0)
+                        .deskPhoneNumber("+12065550100")
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public software.amazon.awssdk.services.connect.model.UserPhoneConfig translateToUserPhoneConfig() {
+        return BaseHandlerStd.translateToUserPhoneConfig(model);
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> readHandler() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().userArn(USER_ARN).build())
+                .build();
+        return readHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    }
+}
@@ -0,0 +1,188 @@
+package software.amazon.connect.user;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.benchmarks.CannedConnect;
+import software.amazon.connect.benchmarks.FakeConnectClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Create, read, update and delete of a thousand users at a time, two hundred in flight, against
+ * {@link FakeConnectClient}. A handler that fails with {@link CfnThrottlingException} is invoked again after an
+ * exponential backoff, the way CloudFormation would, up to {@value #MAX_ATTEMPTS} attempts; the retries and the
+ * lifecycles that still failed are reported as secondary results.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class UserLoadBenchmark {
+
+    private static final int LIFECYCLES = 1000;
+    private static final int CONCURRENCY = 200;
+    private static final int MAX_ATTEMPTS = 8;
+    private static final long BASE_BACKOFF_MILLIS = 10;
+
+    @Param({"0", "20"})
+    public int latencyMillis;
+
+    @Param({"0", "200"})
+    public int requestsPerSecond;
+
+    private final LoggerProxy logger = new LoggerProxy();
+    private FakeConnectClient client;
+    private ExecutorService executor;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+
+        public long handlerRetries;
+        public long failedLifecycles;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            handlerRetries = 0;
+            failedLifecycles = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = FakeConnectClient.builder()
+                .latency(Duration.ofMillis(latencyMillis), Duration.ofMillis(latencyMillis / 2))
+                .throttle(requestsPerSecond, requestsPerSecond)
+                .build();
+        executor = Executors.newFixedThreadPool(CONCURRENCY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void lifecycles(final Outcomes outcomes) throws InterruptedException {
+        final LongAdder retries = new LongAdder();
+        final List<Future<?>> futures = new ArrayList<>(LIFECYCLES);
+        for (int i = 0; i < LIFECYCLES; i++) {
+            final String username = "user" + i;
+            futures.add(executor.submit(() -> lifecycle(username, retries)));
+        }
+        for (final Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                outcomes.failedLifecycles++;
+            }
+        }
+        outcomes.handlerRetries += retries.sum();
+    }
+
+    private void lifecycle(final String username, final LongAdder retries) {
+        final AmazonWebServicesClientProxy proxy = CannedConnect.proxy(logger);
+        final ProxyClient<ConnectClient> proxyClient = proxy.newProxy(() -> client);
+        final Map<String, String> tags = Collections.singletonMap("team", "support");
+
+        final ResourceModel created = withRetries(retries, context -> new CreateHandler().handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(model(username, "first"))
+                        .desiredResourceTags(tags)
+                        .build(),
+                context, proxyClient, logger)).getResourceModel();
+
+        final ResourceModel read = withRetries(retries, context -> new ReadHandler().handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(ResourceModel.builder().userArn(created.getUserArn()).build())
+                        .build(),
+                context, proxyClient, logger)).getResourceModel();
+
+        final ResourceModel desired = model(username, "renamed");
+        desired.setUserArn(read.getUserArn());
+        withRetries(retries, context -> new UpdateHandler().handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(desired)
+                        .previousResourceState(read)
+                        .previousResourceTags(tags)
+                        .desiredResourceTags(Collections.singletonMap("team", "sales"))
+                        .build(),
+                context, proxyClient, logger));
+
+        withRetries(retries, context -> new DeleteHandler().handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(ResourceModel.builder().userArn(created.getUserArn()).build())
+                        .build(),
+                context, proxyClient, logger));
+    }
+
+    private static ProgressEvent<ResourceModel, CallbackContext> withRetries(final LongAdder retries,
+                                                                          final Function<CallbackContext, ProgressEvent<ResourceModel, CallbackContext>> handler) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return handler.apply(new CallbackContext());
+            } catch (CfnThrottlingException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+                retries.increment();
+                backOff(attempt, e);
+            }
+        }
+    }
+
+    private static void backOff(final int attempt, final BaseHandlerException cause) {
+        final long ceiling = BASE_BACKOFF_MILLIS << attempt;
+        try {
+            Thread.sleep(ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    private static ResourceModel model(final String username, final String firstName) {
+        return ResourceModel.builder()
+                .instanceArn(CannedConnect.INSTANCE_ARN)
+                .username(username)
+                .routingProfileArn(CannedConnect.INSTANCE_ARN + "/routing-profile/routingProfileId")
+                .securityProfileArns(Collections.singleton(CannedConnect.INSTANCE_ARN + "/security-profile/securityProfileId"))
+                .identityInfo(UserIdentityInfo.builder().firstName(firstName).lastName("last").build())
+                .phoneConfig(UserPhoneConfig.builder().phoneType("SOFT_PHONE").autoAccept(true).afterContactWorkTimeLimit(0).build())
+                .build();
+    }
+}
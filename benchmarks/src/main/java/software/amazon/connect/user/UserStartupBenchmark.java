@@ -0,0 +1,37 @@
+package software.amazon.connect.user;
+
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.benchmarks.StartupBenchmark;
+
+/**
+ * {@link StartupBenchmark} of the User ReadHandler.
+ */
+public class UserStartupBenchmark extends StartupBenchmark {
+
+    private static final String USER_ARN = "arn:aws:connect:us-west-2:111111111111:instance/instanceId/agent/userId";
+    private static final String DESCRIBE_RESPONSE = "{\"User\":{\"Arn\":\"arn:aws:connect:us-west-2:111111111111:instance/instanceId/agent/userId\",\"Id\":\"userId\",\"Username\":\"username\",\"IdentityInfo\":{\"FirstName\":\"first\",\"LastName\":\"last\"},\"PhoneConfig\":{\"PhoneType\":\"SOFT_PHONE\",\"AutoAccept\":true,\"AfterContactWorkTimeLimit\":0},\"SecurityProfileIds\":[\"securityProfileId\"],\"RoutingProfileId\":\"routingProfileId\",\"HierarchyGroupId\":\"hierarchyGroupId\",\"Tags\":{\"key\":\"value\"}}}";
+
+    public UserStartupBenchmark() {
+        super(DESCRIBE_RESPONSE);
+    }
+
+    @Override
+    protected void loadHandlers() {
+        new ReadHandler();
+    }
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> read(final AmazonWebServicesClientProxy proxy,
+                                                                 final ProxyClient<ConnectClient> proxyClient,
+                                                                 final LoggerProxy logger) {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().userArn(USER_ARN).build())
+                .build();
+        return new ReadHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    }
+}
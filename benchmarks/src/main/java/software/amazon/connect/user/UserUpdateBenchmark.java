@@ -0,0 +1,99 @@
+package software.amazon.connect.user;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.awssdk.services.connect.model.CreateUserRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.benchmarks.CannedConnect;
+import software.amazon.connect.benchmarks.FakeConnectClient;
+import software.amazon.connect.common.UpdateMode;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One update of a user that changes every attribute and its tags, against {@link FakeConnectClient} with a fixed
+ * latency, in each {@link UpdateMode}. The mode is read when the handler classes load, so it is set before then;
+ * every parameter combination runs in its own fork.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UserUpdateBenchmark {
+
+    @Param({"SEQUENTIAL", "PARALLEL"})
+    public String mode;
+
+    @Param({"20"})
+    public int latencyMillis;
+
+    private final LoggerProxy logger = new LoggerProxy();
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<ConnectClient> proxyClient;
+    private ResourceModel previous;
+    private ResourceModel desired;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        System.setProperty(UpdateMode.MODE_PROPERTY, mode);
+        final FakeConnectClient client = FakeConnectClient.builder()
+                .latency(Duration.ofMillis(latencyMillis), Duration.ZERO)
+                .build();
+        proxy = CannedConnect.proxy(logger);
+        proxyClient = proxy.newProxy(() -> client);
+
+        final String userArn = client.createUser(CreateUserRequest.builder()
+                .instanceId(CannedConnect.INSTANCE_ARN)
+                .username("agent")
+                .build()).userArn();
+        previous = model(userArn, "first", "routing-profile/first", "security-profile/first", "agent-group/first", "SOFT_PHONE");
+        desired = model(userArn, "second", "routing-profile/second", "security-profile/second", "agent-group/second", "DESK_PHONE");
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> updateEverything() {
+        return new UpdateHandler().handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(desired)
+                        .previousResourceState(previous)
+                        .previousResourceTags(Collections.singletonMap("team", "support"))
+                        .desiredResourceTags(Collections.singletonMap("queue", "sales"))
+                        .build(),
+                new CallbackContext(), proxyClient, logger);
+    }
+
+    private static ResourceModel model(final String userArn, final String firstName, final String routingProfile,
+                                       final String securityProfile, final String hierarchyGroup, final String phoneType) {
+        return ResourceModel.builder()
+                .instanceArn(CannedConnect.INSTANCE_ARN)
+                .userArn(userArn)
+                .username("agent")
+                .routingProfileArn(CannedConnect.INSTANCE_ARN + "/" + routingProfile)
+                .securityProfileArns(Collections.singleton(CannedConnect.INSTANCE_ARN + "/" + securityProfile))
+                .hierarchyGroupArn(CannedConnect.INSTANCE_ARN + "/" + hierarchyGroup)
+                .identityInfo(UserIdentityInfo.builder().firstName(firstName).lastName("last")
+                        .email("agent@example.com").secondaryEmail("").mobile("").build())
+                .phoneConfig(UserPhoneConfig.builder().phoneType(phoneType).autoAccept(true)
+                        .afterContactWorkTimeLimit(0).deskPhoneNumber("DESK_PHONE".equals(phoneType) ? "+15555550100" : null).build())
+                .build();
+    }
+}
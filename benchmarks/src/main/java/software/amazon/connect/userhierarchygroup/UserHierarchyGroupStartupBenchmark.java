@@ -0,0 +1,37 @@
+package software.amazon.connect.userhierarchygroup;
+
+import software.amazon.awssdk.services.connect.ConnectClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.connect.benchmarks.StartupBenchmark;
+
+/**
+ * {@link StartupBenchmark} of the UserHierarchyGroup ReadHandler.
+ */
+public class UserHierarchyGroupStartupBenchmark extends StartupBenchmark {
+
+    private static final String USER_HIERARCHY_GROUP_ARN = "arn:aws:connect:us-west-2:111111111111:instance/instanceId/agent-group/groupId";
+    private static final String DESCRIBE_RESPONSE = "{\"HierarchyGroup\":{\"Arn\":\"arn:aws:connect:us-west-2:111111111111:instance/instanceId/agent-group/groupId\",\"Id\":\"groupId\",\"Name\":\"name\",\"LevelId\":\"2\",\"HierarchyPath\":{\"LevelOne\":{\"Arn\":\"arn:aws:connect:us-west-2:111111111111:instance/instanceId/agent-group/parentId\",\"Id\":\"parentId\",\"Name\":\"parent\"}}}}";
+
+    public UserHierarchyGroupStartupBenchmark() {
+        super(DESCRIBE_RESPONSE);
+    }
+
+    @Override
+    protected void loadHandlers() {
+        new ReadHandler();
+    }
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> read(final AmazonWebServicesClientProxy proxy,
+                                                                 final ProxyClient<ConnectClient> proxyClient,
+                                                                 final LoggerProxy logger) {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().userHierarchyGroupArn(USER_HIERARCHY_GROUP_ARN).build())
+                .build();
+        return new ReadHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    }
+}